@@ -0,0 +1,8 @@
+-- primary: 레플리카가 사용할 복제 계정 (docker-entrypoint-initdb.d, 최초 기동 시 1회)
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED WITH caching_sha2_password BY 'repl_pass';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+FLUSH PRIVILEGES;
+
+-- 초기화 중 만든 DB/계정은 레플리카도 환경 변수로 직접 만든다
+-- → 초기화 이력을 binlog/GTID에서 지워 레플리카가 재생하다 충돌하지 않게 함
+RESET MASTER;
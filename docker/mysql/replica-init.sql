@@ -0,0 +1,17 @@
+-- replica: GTID 자동 위치로 primary 복제 시작 (docker-entrypoint-initdb.d, 최초 기동 시 1회)
+-- 애플리케이션 계정은 복제 지연 확인(SHOW REPLICA STATUS)에 REPLICATION CLIENT 권한이 필요
+GRANT REPLICATION CLIENT ON *.* TO 'ecommerce_user'@'%';
+
+CHANGE REPLICATION SOURCE TO
+  SOURCE_HOST = 'mysql',
+  SOURCE_PORT = 3306,
+  SOURCE_USER = 'repl',
+  SOURCE_PASSWORD = 'repl_pass',
+  SOURCE_AUTO_POSITION = 1,
+  GET_SOURCE_PUBLIC_KEY = 1,
+  SOURCE_CONNECT_RETRY = 5;
+START REPLICA;
+
+-- 초기화가 끝난 뒤부터 쓰기 차단 (초기화 중에는 DB/계정 생성이 필요해 command 옵션으로 두지 않음)
+SET PERSIST read_only = ON;
+SET PERSIST super_read_only = ON;
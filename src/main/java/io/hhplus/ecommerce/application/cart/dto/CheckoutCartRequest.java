@@ -0,0 +1,33 @@
+package io.hhplus.ecommerce.application.cart.dto;
+
+public record CheckoutCartRequest(
+    Long couponId,
+
+    /**
+     * 주문 생성 후 즉시 결제 여부
+     * - true: 주문 생성 + 결제까지 한 번에 처리
+     * - false/null: 주문(PENDING)만 생성하고 결제는 POST /api/orders/{orderId}/payment로 진행
+     */
+    Boolean pay,
+
+    /**
+     * 클라이언트가 확인한 장바구니 총액 (선택)
+     * - 값이 있으면 체크아웃 시점 가격과 비교해 가격 변동 시 실패 처리
+     */
+    Long expectedTotalAmount,
+
+    /**
+     * 멱등성 키 (클라이언트가 UUID 등으로 생성, 재시도 시 같은 값 사용)
+     * - 주문/결제 멱등성 키를 이 값에서 파생 → 타임아웃 후 재시도해도 주문/결제가 한 번만 생성됨
+     * - 본문에 없으면 Idempotency-Key 헤더 값 사용, 둘 다 없으면 요청마다 새 키 (중복 방지 안 됨)
+     */
+    String idempotencyKey
+) {
+    public boolean payNow() {
+        return Boolean.TRUE.equals(pay);
+    }
+
+    public CheckoutCartRequest withIdempotencyKey(String idempotencyKey) {
+        return new CheckoutCartRequest(couponId, pay, expectedTotalAmount, idempotencyKey);
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.ecommerce.application.cart.dto;
+
+import io.hhplus.ecommerce.application.order.dto.CreateOrderResponse;
+import io.hhplus.ecommerce.application.order.dto.PaymentResponse;
+
+public record CheckoutCartResponse(
+    CreateOrderResponse order,
+    PaymentResponse payment  // 결제를 요청하지 않은 경우 null
+) {
+}
@@ -0,0 +1,51 @@
+package io.hhplus.ecommerce.application.coupon;
+
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.coupon.Coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선착순 예약에 필요한 쿠폰 메타데이터 스냅샷 (불변)
+ *
+ * @param version 스냅샷 시점의 엔티티 버전 (@Version, 발급마다 증가) - 오래된 스냅샷이 새 스냅샷을 덮어쓰지 않도록 비교
+ */
+public record CouponMetadata(
+    Long couponId,
+    String name,
+    Integer discountRate,
+    int totalQuantity,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    long version
+) {
+
+    public static CouponMetadata from(Coupon coupon) {
+        return new CouponMetadata(
+            coupon.getId(),
+            coupon.getName(),
+            coupon.getDiscountRate(),
+            coupon.getTotalQuantity(),
+            coupon.getStartDate(),
+            coupon.getEndDate(),
+            coupon.getVersion() != null ? coupon.getVersion() : 0L
+        );
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(endDate);
+    }
+
+    /**
+     * Coupon.validateIssuable()과 동일한 규칙
+     */
+    public void validateIssuable() {
+        if (isExpired(LocalDateTime.now())) {
+            throw new BusinessException(
+                ErrorCode.EXPIRED_COUPON,
+                "만료된 쿠폰입니다. couponId: " + couponId
+            );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.ecommerce.application.coupon;
+
+import io.hhplus.ecommerce.domain.coupon.Coupon;
+import io.hhplus.ecommerce.domain.coupon.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 쿠폰 메타데이터 인메모리 캐시 (노드 로컬, 버전 관리)
+ *
+ * 선착순 예약은 총 수량/유효기간만 필요하고, 이벤트 진행 중에는 거의 바뀌지 않는다.
+ * 요청마다 MySQL에서 Coupon을 읽지 않도록 스냅샷을 메모리에 유지한다.
+ *
+ * - 사전 적재: 기동 시 + 주기적으로 진행 중/곧 시작할 쿠폰을 적재 (쿠폰 오픈 전에 캐시가 채워짐)
+ * - 갱신: 같은 주기로 다시 읽어 반영
+ *   (스냅샷 필드는 쿠폰 생성 후 바뀌는 경로가 없음, 발급은 issuedQuantity만 바꾸므로 스냅샷과 무관)
+ * - 미스: DB에서 한 번 읽어 적재 (없으면 INVALID_COUPON)
+ * - 버전: 엔티티 @Version이 더 크거나 같은 스냅샷만 반영 (동시 적재 시 역행 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponMetadataCache {
+
+    private final CouponRepository couponRepository;
+
+    private final ConcurrentMap<Long, CouponMetadata> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 사전 적재 대상: 지금부터 preloadAhead 이내에 시작하는 쿠폰까지
+     */
+    @Value("${coupon.metadata-cache.preload-ahead:PT1H}")
+    private Duration preloadAhead = Duration.ofHours(1);
+
+    /**
+     * 비활성화 시 매번 DB 조회 (테스트: 컨텍스트마다 스키마 재생성으로 쿠폰 ID가 재사용됨)
+     */
+    @Value("${coupon.metadata-cache.enabled:true}")
+    private boolean enabled = true;
+
+    public CouponMetadata get(Long couponId) {
+        if (!enabled) {
+            return CouponMetadata.from(couponRepository.findByIdOrThrow(couponId));
+        }
+
+        CouponMetadata cached = cache.get(couponId);
+        if (cached != null) {
+            return cached;
+        }
+        return put(CouponMetadata.from(couponRepository.findByIdOrThrow(couponId)));
+    }
+
+    public void evict(Long couponId) {
+        cache.remove(couponId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadOnStartup() {
+        refreshLiveCoupons();
+    }
+
+    /**
+     * 진행 중/곧 시작할 쿠폰 적재 + 이미 적재된 쿠폰 중 만료된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${coupon.metadata-cache.refresh-interval-ms:30000}")
+    public void refreshLiveCoupons() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<Coupon> coupons = couponRepository.findLiveOrUpcoming(now, now.plus(preloadAhead));
+            coupons.forEach(coupon -> put(CouponMetadata.from(coupon)));
+
+            // 만료 후 하루가 지난 쿠폰은 더 이상 요청이 없다고 보고 제거 (요청이 오면 미스로 재적재)
+            cache.values().removeIf(metadata -> metadata.isExpired(now.minusDays(1)));
+
+            log.debug("Coupon metadata cache refreshed: loaded={}, size={}", coupons.size(), cache.size());
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 스냅샷 유지
+            log.warn("Failed to refresh coupon metadata cache: {}", e.getMessage());
+        }
+    }
+
+    private CouponMetadata put(CouponMetadata loaded) {
+        return cache.merge(
+            loaded.couponId(),
+            loaded,
+            (current, candidate) -> candidate.version() >= current.version() ? candidate : current
+        );
+    }
+}
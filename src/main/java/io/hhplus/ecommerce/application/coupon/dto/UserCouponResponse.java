@@ -4,6 +4,12 @@ import io.hhplus.ecommerce.domain.coupon.UserCoupon;
 
 import java.time.LocalDateTime;
 
+/**
+ * 사용자 쿠폰 응답
+ * <p>
+ * status: 발급된 쿠폰은 CouponStatus(AVAILABLE/USED/EXPIRED),
+ * 선착순 예약 후 발급 대기 중이면 PENDING, 발급 실패 시 FAILED (Redis 읽기 모델에만 존재)
+ */
 public record UserCouponResponse(
     Long userCouponId,
     Long couponId,
@@ -14,6 +20,9 @@ public record UserCouponResponse(
     LocalDateTime usedAt,
     LocalDateTime expiresAt
 ) {
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED";
+
     public static UserCouponResponse of(
             UserCoupon userCoupon,
             String couponName,
@@ -31,4 +40,27 @@ public record UserCouponResponse(
                 expiresAt
         );
     }
+
+    /**
+     * 선착순 예약 직후 (발급 대기)
+     */
+    public static UserCouponResponse pending(
+            Long couponId,
+            String couponName,
+            Integer discountRate,
+            LocalDateTime expiresAt
+    ) {
+        return new UserCouponResponse(null, couponId, couponName, discountRate, STATUS_PENDING, null, null, expiresAt);
+    }
+
+    /**
+     * 발급 대기 항목을 실제 발급 결과로 승격
+     */
+    public UserCouponResponse issued(UserCoupon userCoupon) {
+        return of(userCoupon, couponName, discountRate, userCoupon.getExpiresAt());
+    }
+
+    public UserCouponResponse failed() {
+        return new UserCouponResponse(userCouponId, couponId, couponName, discountRate, STATUS_FAILED, issuedAt, usedAt, expiresAt);
+    }
 }
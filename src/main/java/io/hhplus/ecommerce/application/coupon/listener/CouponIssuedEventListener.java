@@ -0,0 +1,44 @@
+package io.hhplus.ecommerce.application.coupon.listener;
+
+import io.hhplus.ecommerce.domain.coupon.CouponIssuedEvent;
+import io.hhplus.ecommerce.domain.coupon.UserCoupon;
+import io.hhplus.ecommerce.infrastructure.redis.CouponIssueReservationStore;
+import io.hhplus.ecommerce.infrastructure.redis.UserCouponReadModelStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 쿠폰 동기 발급 후처리 리스너
+ *
+ * 책임:
+ * - 선착순 예약 없이 발급된 쿠폰(IssueCouponUseCase)을 비동기 발급 경로와 같은 Redis 상태로 맞춤
+ *   - 발급자 기록 (이후 예약 요청은 ALREADY_ISSUED)
+ *   - 읽기 모델 반영 (PENDING 항목이 없으므로 적재 표시 제거 → 다음 조회에서 MySQL 재적재)
+ *
+ * 주의사항:
+ * - AFTER_COMMIT: 롤백된 발급은 반영되지 않음
+ * - 실패해도 발급은 이미 커밋됨 (읽기 모델은 TTL 만료/다음 무효화로 복구)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CouponIssuedEventListener {
+
+    private final CouponIssueReservationStore couponIssueReservationStore;
+    private final UserCouponReadModelStore userCouponReadModelStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCouponIssued(CouponIssuedEvent event) {
+        UserCoupon userCoupon = event.getUserCoupon();
+        try {
+            couponIssueReservationStore.markIssued(userCoupon.getCouponId(), userCoupon.getUserId());
+        } catch (Exception e) {
+            log.warn("Failed to record issued user in Redis: couponId={}, userId={}",
+                userCoupon.getCouponId(), userCoupon.getUserId(), e);
+        }
+        userCouponReadModelStore.markIssued(userCoupon);
+    }
+}
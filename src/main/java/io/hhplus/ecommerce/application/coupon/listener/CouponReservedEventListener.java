@@ -6,6 +6,7 @@ import io.hhplus.ecommerce.common.exception.ErrorCode;
 import io.hhplus.ecommerce.domain.coupon.CouponReservedEvent;
 import io.hhplus.ecommerce.domain.coupon.UserCoupon;
 import io.hhplus.ecommerce.infrastructure.redis.CouponIssueReservationStore;
+import io.hhplus.ecommerce.infrastructure.redis.UserCouponReadModelStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,6 +20,7 @@ import java.time.Duration;
  *
  * Phase 2: 실제 쿠폰 발급 처리
  * - 예약 트랜잭션 커밋 후 실행 (AFTER_COMMIT)
+ * - 예약은 트랜잭션 없이 수행되므로 fallbackExecution으로 즉시 실행
  * - Coupon.issue() + UserCoupon INSERT (ACID)
  * - 실패 시 Redis 원복 (순번 감소, 예약자 Set에서 제거)
  */
@@ -29,6 +31,7 @@ public class CouponReservedEventListener {
 
     private final IssueCouponActualService issueCouponActualService;
     private final CouponIssueReservationStore couponIssueReservationStore;
+    private final UserCouponReadModelStore userCouponReadModelStore;
 
     private static final Duration ISSUED_TTL = Duration.ofDays(365);
 
@@ -37,7 +40,7 @@ public class CouponReservedEventListener {
      *
      * @param event CouponReservedEvent (쿠폰 ID, 사용자 ID, 순번 포함)
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleCouponReserved(CouponReservedEvent event) {
         log.info("Processing CouponReservedEvent: couponId={}, userId={}, sequence={}",
             event.getCouponId(), event.getUserId(), event.getSequenceNumber());
@@ -50,6 +53,7 @@ public class CouponReservedEventListener {
             );
 
             couponIssueReservationStore.confirmIssued(event.getCouponId(), event.getUserId(), ISSUED_TTL);
+            userCouponReadModelStore.markIssued(userCoupon);
 
             log.info("Coupon issued successfully via event: couponId={}, userId={}, userCouponId={}",
                 event.getCouponId(), event.getUserId(), userCoupon.getId());
@@ -81,6 +85,7 @@ public class CouponReservedEventListener {
                 && businessException.getErrorCode() == ErrorCode.COUPON_SOLD_OUT) {
                 // 실제 재고 소진은 remaining을 복구하지 않음
                 couponIssueReservationStore.cancelReservation(couponId, userId);
+                userCouponReadModelStore.markFailed(userId, couponId);
                 log.warn("Redis reservation cancelled without restock: couponId={}, userId={}", couponId, userId);
                 return;
             }
@@ -89,11 +94,13 @@ public class CouponReservedEventListener {
                 && businessException.getErrorCode() == ErrorCode.ALREADY_ISSUED_COUPON) {
                 // 멱등 케이스: 이미 발급된 경우 issued 확정 처리
                 couponIssueReservationStore.confirmIssued(couponId, userId, ISSUED_TTL);
+                userCouponReadModelStore.invalidate(userId);
                 log.warn("Redis reservation confirmed for idempotent issue: couponId={}, userId={}", couponId, userId);
                 return;
             }
 
             boolean compensated = couponIssueReservationStore.compensateReservation(couponId, userId);
+            userCouponReadModelStore.markFailed(userId, couponId);
             log.warn("Redis state compensated: couponId={}, userId={}, compensated={}", couponId, userId, compensated);
 
         } catch (Exception e) {
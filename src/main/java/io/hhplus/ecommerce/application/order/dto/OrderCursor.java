@@ -0,0 +1,45 @@
+package io.hhplus.ecommerce.application.order.dto;
+
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 내역 커서 (마지막으로 받은 주문의 createdAt, id)
+ * <p>
+ * 클라이언트에는 "createdAt|id"를 URL-safe Base64로 감싼 불투명 문자열로 노출한다.
+ */
+public record OrderCursor(
+    LocalDateTime createdAt,
+    Long orderId
+) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor가 비어 있으면 null (첫 페이지)
+     */
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new OrderCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다. cursor: " + cursor);
+        }
+    }
+}
@@ -2,11 +2,28 @@ package io.hhplus.ecommerce.application.order.dto;
 
 import java.util.List;
 
+/**
+ * 주문 내역 (커서 페이지)
+ *
+ * @param totalCount 이번 페이지의 주문 수
+ * @param nextCursor 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+ */
 public record OrderListResponse(
     List<CreateOrderResponse> orders,
-    Integer totalCount
+    Integer totalCount,
+    String nextCursor,
+    boolean hasNext
 ) {
     public static OrderListResponse of(List<CreateOrderResponse> orders) {
-        return new OrderListResponse(orders, orders.size());
+        return new OrderListResponse(orders, orders.size(), null, false);
+    }
+
+    public static OrderListResponse of(List<CreateOrderResponse> orders, OrderCursor nextCursor) {
+        return new OrderListResponse(
+            orders,
+            orders.size(),
+            nextCursor != null ? nextCursor.encode() : null,
+            nextCursor != null
+        );
     }
 }
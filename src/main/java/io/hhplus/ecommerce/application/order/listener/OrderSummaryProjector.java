@@ -0,0 +1,66 @@
+package io.hhplus.ecommerce.application.order.listener;
+
+import io.hhplus.ecommerce.application.usecase.order.OrderSummaryService;
+import io.hhplus.ecommerce.domain.order.OrderCreatedEvent;
+import io.hhplus.ecommerce.domain.order.PaymentCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 요약 읽기 모델 프로젝터
+ *
+ * 주문 생성/결제 완료 트랜잭션이 커밋된 뒤 order_summaries를 비동기로 갱신한다.
+ * - AFTER_COMMIT + @Async: 주문/결제 응답 시간에 반영 비용이 더해지지 않음
+ * - 반영은 UPSERT라 재시도/중복 전달에도 결과가 같음
+ * - 최종 실패 시 로그만 남김 (상세 조회는 주문 테이블 폴백, 다음 결제 완료 시 재구성)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+
+    private final OrderSummaryService orderSummaryService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Retryable(
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 200, multiplier = 2),
+        retryFor = {RuntimeException.class}
+    )
+    public void onOrderCreated(OrderCreatedEvent event) {
+        orderSummaryService.projectCreated(event.getOrderResponse());
+        log.debug("Order summary projected (created). orderId={}", event.getOrderResponse().orderId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Retryable(
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 200, multiplier = 2),
+        retryFor = {RuntimeException.class}
+    )
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        orderSummaryService.projectCompleted(event.getOrder().getId(), event.getOrder().getPaidAt());
+        log.debug("Order summary projected (completed). orderId={}", event.getOrder().getId());
+    }
+
+    @Recover
+    public void recoverCreated(RuntimeException e, OrderCreatedEvent event) {
+        log.error("주문 요약 반영 최종 실패 (생성): orderId={}, error={}",
+            event.getOrderResponse().orderId(), e.getMessage(), e);
+    }
+
+    @Recover
+    public void recoverCompleted(RuntimeException e, PaymentCompletedEvent event) {
+        log.error("주문 요약 반영 최종 실패 (결제 완료): orderId={}, error={}",
+            event.getOrder().getId(), e.getMessage(), e);
+    }
+}
@@ -4,6 +4,8 @@ import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
 import io.hhplus.ecommerce.application.order.dto.PaymentResponse;
 import io.hhplus.ecommerce.application.usecase.order.PaymentIdempotencyService;
 import io.hhplus.ecommerce.application.usecase.order.PaymentTransactionService;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
 import io.hhplus.ecommerce.domain.order.Order;
 import io.hhplus.ecommerce.domain.payment.PaymentFailedEvent;
 import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
@@ -114,6 +116,16 @@ public class PgApiEventHandler {
             }
 
         } catch (Exception e) {
+            if (e instanceof BusinessException businessException
+                && businessException.getErrorCode() == ErrorCode.PG_OUTCOME_UNKNOWN) {
+                // 승인됐을 수 있으므로 실패 이벤트(보상)를 발행하지 않음
+                // → PROCESSING 유지, PaymentReconciliationService가 PG 상태 조회로 완료/보상 확정
+                log.error("PG 승인 결과 불명, 대사 대기: orderId={}, idempotencyKey={}",
+                        event.getOrderId(), event.getIdempotencyKey());
+                idempotencyService.assignOrder(event.getIdempotencyKey(), event.getOrderId());
+                return;
+            }
+
             log.error("PG API 호출 중 오류 발생: orderId={}", event.getOrderId(), e);
 
             // 결제 실패 이벤트 발행
@@ -0,0 +1,199 @@
+package io.hhplus.ecommerce.application.product;
+
+import io.hhplus.ecommerce.application.product.dto.ProductResponse;
+import io.hhplus.ecommerce.domain.cart.CartItemRepository;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductChangedEvent;
+import io.hhplus.ecommerce.domain.product.ProductChangedEvent.ChangeType;
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 변경 → 캐시 부분 갱신 (상품별 병합 후 주기 반영)
+ * <p>
+ * 인기 상품은 결제마다 재고 이벤트가 발생하므로, flush 주기(기본 200ms) 동안 상품별로 하나로 합친 뒤
+ * DB에서 최신 값을 한 번 읽어 관련 캐시만 갱신한다.
+ * <p>
+ * 반영 규칙:
+ * - STOCK: 재고 캐시 write-through (ProductStockCache)
+ *          + 재고 충분 여부가 바뀌는 수량을 담은 장바구니만 무효화 (이전 재고 < 수량 <= 새 재고 구간)
+ * - PRICE / DETAILS: product 캐시에 있으면 새 정적 데이터로 교체,
+ *          products 목록은 해당 상품의 (현재/이전) 카테고리와 전체 목록 키만 무효화,
+ *          상품을 담은 장바구니 무효화 (금액/이름 변경)
+ * <p>
+ * 캐시는 Redis에 있으므로 커밋한 노드 하나만 반영하면 된다.
+ * 노드 종료로 큐가 유실되면 재고는 재고 캐시 TTL, 나머지는 기존 캐시 TTL로 수렴한다.
+ * <p>
+ * 메트릭: product_cache_sync_total{cache} (갱신/무효화한 캐시 항목 수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheSynchronizer {
+
+    private final ProductRepository productRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductStockCache productStockCache;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Long, PendingChange> pending = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 비활성화 시 이벤트를 무시 (테스트: 비동기 반영이 쿼리 수 측정 등에 섞이지 않도록)
+     */
+    @Value("${product.cache-sync.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 상품별 변경 종류/이전 카테고리를 모아 둔다
+     */
+    public void enqueue(ProductChangedEvent event) {
+        if (!enabled || event.productId() == null) {
+            return;
+        }
+        pending.compute(event.productId(), (productId, change) -> {
+            PendingChange merged = change != null ? change : new PendingChange();
+            merged.types.add(event.type());
+            if (event.previousCategory() != null) {
+                merged.previousCategories.add(event.previousCategory());
+            }
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${product.cache-sync.flush-interval-ms:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> stockChanged = new ArrayList<>();
+        Map<Long, Set<String>> staticChanged = new HashMap<>();
+        for (Long productId : List.copyOf(pending.keySet())) {
+            PendingChange change = pending.remove(productId);
+            if (change == null) {
+                continue;
+            }
+            if (change.types.contains(ChangeType.STOCK)) {
+                stockChanged.add(productId);
+            }
+            if (change.types.contains(ChangeType.PRICE) || change.types.contains(ChangeType.DETAILS)) {
+                staticChanged.put(productId, change.previousCategories);
+            }
+        }
+
+        try {
+            if (!stockChanged.isEmpty()) {
+                syncStocks(stockChanged);
+            }
+            if (!staticChanged.isEmpty()) {
+                syncStaticData(staticChanged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Product cache sync failed (caches converge by TTL): stock={}, static={}",
+                stockChanged, staticChanged.keySet(), e);
+        }
+    }
+
+    private void syncStocks(List<Long> productIds) {
+        Map<Long, Integer> previous = new HashMap<>();
+        for (Long productId : productIds) {
+            Integer stock = productStockCache.peek(productId);
+            if (stock != null) {
+                previous.put(productId, stock);
+            }
+        }
+
+        Map<Long, Integer> current = new HashMap<>();
+        productRepository.findStocksByIdIn(productIds)
+            .forEach(projection -> current.put(projection.getProductId(), projection.getStock()));
+        productStockCache.putAll(current);
+        count("product_stock", current.size());
+
+        // 재고 충분 여부(stockAvailable = 재고 >= 수량)가 바뀐 장바구니만 무효화
+        current.forEach((productId, stock) -> {
+            Integer before = previous.get(productId);
+            if (before != null && before.equals(stock)) {
+                return;
+            }
+            int low = before != null ? Math.min(before, stock) : 0;
+            int high = before != null ? Math.max(before, stock) : Integer.MAX_VALUE;
+            evictCarts(cartItemRepository.findCartUserIdsByProductId(productId, low, high));
+        });
+    }
+
+    private void syncStaticData(Map<Long, Set<String>> changes) {
+        Cache productCache = cacheManager.getCache("product");
+        Cache listCache = cacheManager.getCache("products");
+
+        Set<String> categories = new HashSet<>();
+        categories.add(ProductCatalogReader.ALL_CATEGORIES);
+        changes.values().forEach(categories::addAll);
+
+        for (Product product : productRepository.findAllById(changes.keySet())) {
+            if (product.getCategory() != null) {
+                categories.add(product.getCategory());
+            }
+            if (productCache != null && productCache.get(product.getId()) != null) {
+                productCache.put(product.getId(), ProductResponse.from(product));
+                count("product", 1);
+            }
+            evictCarts(cartItemRepository.findCartUserIdsByProductId(product.getId(), 0, Integer.MAX_VALUE));
+        }
+
+        if (listCache != null) {
+            for (String category : categories) {
+                for (String sort : ProductCatalogReader.SORTS) {
+                    listCache.evict(category + ":" + sort);
+                }
+            }
+            count("products", categories.size() * ProductCatalogReader.SORTS.size());
+        }
+    }
+
+    private void evictCarts(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Cache cartCache = cacheManager.getCache("carts");
+        if (cartCache == null) {
+            return;
+        }
+        userIds.forEach(cartCache::evict);
+        count("carts", userIds.size());
+    }
+
+    private void count(String cache, int amount) {
+        counters.computeIfAbsent(cache, name ->
+            Counter.builder("product_cache_sync_total")
+                .tag("cache", name)
+                .description("Cache entries updated or evicted by product change events")
+                .register(meterRegistry)
+        ).increment(amount);
+    }
+
+    private static final class PendingChange {
+        private final Set<ChangeType> types = EnumSet.noneOf(ChangeType.class);
+        private final Set<String> previousCategories = new HashSet<>();
+    }
+}
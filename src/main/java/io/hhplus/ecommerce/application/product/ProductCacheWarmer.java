@@ -0,0 +1,97 @@
+package io.hhplus.ecommerce.application.product;
+
+import io.hhplus.ecommerce.application.product.dto.TopProductItem;
+import io.hhplus.ecommerce.application.usecase.product.GetProductUseCase;
+import io.hhplus.ecommerce.application.usecase.product.GetProductsUseCase;
+import io.hhplus.ecommerce.application.usecase.product.GetTopProductsUseCase;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.domain.product.ProductRanking;
+import io.hhplus.ecommerce.infrastructure.init.DeferredDataInitializer;
+import io.hhplus.ecommerce.infrastructure.redis.ProductRankingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 상품 캐시 기동 워밍업
+ * <p>
+ * 배포 직후/Redis flush 후 첫 요청들이 product, products, topProducts를 모두 미스하면서
+ * 여러 노드가 동시에 MySQL을 조회하는 것을 막기 위해, 트래픽을 받기 전에 미리 적재한다.
+ * - topProducts: 고정 키 1개
+ * - products: 기본 목록 (category/sort 없음)
+ * - product: 오늘/어제 랭킹 ZSET 상위 N개 상품 (부족하면 인기 상품으로 보충)
+ * <p>
+ * 유스케이스를 그대로 호출하므로 캐시 키 규칙이 조회 경로와 같다.
+ * 이미 다른 노드가 채운 키는 캐시 히트로 끝난다.
+ * DeferredDataInitializer에 등록해 워밍업이 끝날 때까지 readiness(dataInit)가 OUT_OF_SERVICE로 유지된다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)  // 데이터 초기화/시드 이후 실행
+@RequiredArgsConstructor
+public class ProductCacheWarmer implements ApplicationRunner {
+
+    private final ProductRankingRepository productRankingRepository;
+    private final GetProductUseCase getProductUseCase;
+    private final GetProductsUseCase getProductsUseCase;
+    private final GetTopProductsUseCase getTopProductsUseCase;
+    private final DeferredDataInitializer deferredDataInitializer;
+
+    /**
+     * 비활성화 시 워밍업 생략 (테스트: 캐시 자체가 꺼져 있음)
+     */
+    @Value("${cache.warm-up.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${cache.warm-up.top-n:100}")
+    private int topN = 100;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        deferredDataInitializer.submit("cache-warm-up", this::warmUp);
+    }
+
+    public void warmUp() {
+        long startMillis = System.currentTimeMillis();
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        LocalDate today = LocalDate.now();
+        for (LocalDate date : new LocalDate[]{today, today.minusDays(1)}) {
+            productRankingRepository.getTopN(date, topN).stream()
+                .map(ProductRanking::getProductId)
+                .forEach(productIds::add);
+        }
+        getTopProductsUseCase.execute().products().stream()
+            .map(TopProductItem::productId)
+            .forEach(productIds::add);
+        getProductsUseCase.execute(null, null);
+
+        int warmed = 0;
+        for (Long productId : productIds) {
+            if (warmed >= topN) {
+                break;
+            }
+            try {
+                getProductUseCase.execute(productId);
+                warmed++;
+            } catch (BusinessException e) {
+                log.debug("Skip warm-up for missing product: {}", productId);
+            }
+        }
+
+        log.info("Product cache warmed: {} products + topProducts + products list in {} ms",
+            warmed, System.currentTimeMillis() - startMillis);
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.ecommerce.application.product;
+
+import io.hhplus.ecommerce.application.product.dto.ProductListResponse;
+import io.hhplus.ecommerce.application.product.dto.ProductResponse;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 상품 정적 데이터 조회 (캐시 적용)
+ * <p>
+ * product / products 캐시는 이름·가격·카테고리 등 정적 데이터를 1시간 보관한다.
+ * 응답의 재고는 캐시 시점 값이므로 유스케이스가 ProductStockCache 값으로 덮어쓴다.
+ * 가격/상세 변경은 ProductCacheSynchronizer가 해당 키만 갱신·무효화한다.
+ * <p>
+ * sync=true: 노드 내 Thundering Herd 방지 (노드 간은 refresh-ahead 리스로 조정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductCatalogReader {
+
+    public static final String DEFAULT_SORT = "default";
+
+    /**
+     * 목록 캐시 키에 쓰이는 정렬 값 (그 외 값은 DEFAULT_SORT로 정규화 → 무효화 대상 키가 유한)
+     */
+    public static final List<String> SORTS = List.of(DEFAULT_SORT, "price", "price_asc", "price_desc", "newest");
+
+    public static final String ALL_CATEGORIES = "all";
+
+    private final ProductRepository productRepository;
+
+    public static String normalizeSort(String sort) {
+        return sort != null && SORTS.contains(sort) ? sort : DEFAULT_SORT;
+    }
+
+    public static String listKey(String category, String sort) {
+        return (category != null && !category.isEmpty() ? category : ALL_CATEGORIES) + ":" + normalizeSort(sort);
+    }
+
+    /**
+     * 캐시 키: "product::{productId}"
+     */
+    @Cacheable(value = "product", key = "#productId", sync = true)
+    public ProductResponse getProduct(Long productId) {
+        log.info("Loading product detail for productId: {}", productId);
+
+        Product product = productRepository.findByIdOrThrow(productId);
+        return ProductResponse.from(product);
+    }
+
+    /**
+     * 캐시 키: "products::{category|all}:{sort}" (sort는 normalizeSort 적용)
+     */
+    @Cacheable(
+            value = "products",
+            key = "T(io.hhplus.ecommerce.application.product.ProductCatalogReader).listKey(#category, #sort)",
+            sync = true
+    )
+    public ProductListResponse getProducts(String category, String sort) {
+        log.info("Loading products - category: {}, sort: {}", category, sort);
+
+        // 1. 전체 상품 조회
+        List<Product> products = productRepository.findAll();
+
+        // 2. 카테고리 필터링
+        Stream<Product> productStream = products.stream();
+        if (category != null && !category.isEmpty()) {
+            productStream = productStream.filter(p -> p.getCategory().equals(category));
+        }
+
+        // 3. 정렬
+        productStream = switch (normalizeSort(sort)) {
+            case "price", "price_asc" -> productStream.sorted(Comparator.comparing(Product::getPrice));
+            case "price_desc" -> productStream.sorted(Comparator.comparing(Product::getPrice).reversed());
+            case "newest" -> productStream.sorted(Comparator.comparing(Product::getCreatedAt).reversed());
+            default -> productStream;
+        };
+
+        List<ProductResponse> productResponses = productStream
+            .map(ProductResponse::from)
+            .toList();
+
+        log.debug("Found {} products", productResponses.size());
+        return ProductListResponse.of(productResponses);
+    }
+}
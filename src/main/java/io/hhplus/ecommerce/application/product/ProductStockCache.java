@@ -0,0 +1,139 @@
+package io.hhplus.ecommerce.application.product;
+
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.domain.product.ProductStockProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 재고 캐시 (Redis, 짧은 TTL)
+ * <p>
+ * 상품 상세/목록 캐시(product, products)는 정적 데이터만 오래 보관하고,
+ * 자주 바뀌는 재고는 이 캐시에서 읽어 응답에 덮어쓴다.
+ * <p>
+ * 구조: product:{productId}:stock → 재고 수량 (TTL 기본 5초)
+ * - 갱신: 재고 변경 커밋 후 ProductCacheSynchronizer가 DB 값으로 write-through
+ * - 미스: DB에서 재고만 일괄 조회 후 적재
+ * - 짧은 TTL: 변경 이벤트가 유실돼도(노드 종료 등) TTL 이내에 DB 값으로 수렴
+ * <p>
+ * Redis 오류 시 DB 값으로 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStockCache {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+
+    /**
+     * 비활성화 시 매번 DB 조회 (테스트: 컨텍스트마다 상품 ID가 재사용됨)
+     */
+    @Value("${product.stock-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${product.stock-cache.ttl:PT5S}")
+    private Duration ttl = Duration.ofSeconds(5);
+
+    /**
+     * 상품별 재고 일괄 조회 (MGET 1회 + 미스만 DB 조회)
+     */
+    public Map<Long, Integer> getStocks(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        if (!enabled) {
+            return loadFromDb(productIds);
+        }
+
+        List<Long> ids = new ArrayList<>(productIds);
+        Map<Long, Integer> stocks = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::key).toList());
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                if (value != null) {
+                    stocks.put(ids.get(i), Integer.parseInt(value));
+                } else {
+                    misses.add(ids.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Stock cache read failed, falling back to DB: {} products", ids.size(), e);
+            return loadFromDb(productIds);
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, Integer> loaded = loadFromDb(misses);
+            putAll(loaded);
+            stocks.putAll(loaded);
+        }
+        return stocks;
+    }
+
+    /**
+     * 캐시에 남아 있는 재고 (없으면 null, DB 조회 없음)
+     */
+    public Integer peek(Long productId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(key(productId));
+            return value != null ? Integer.parseInt(value) : null;
+        } catch (RuntimeException e) {
+            log.warn("Stock cache peek failed: productId={}", productId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 재고 write-through (SET PX 파이프라인 1회)
+     */
+    public void putAll(Map<Long, Integer> stocks) {
+        if (!enabled || stocks.isEmpty()) {
+            return;
+        }
+        try {
+            Expiration expiration = Expiration.from(ttl);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                stocks.forEach((productId, stock) -> connection.stringCommands().set(
+                    key(productId).getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(stock).getBytes(StandardCharsets.UTF_8),
+                    expiration,
+                    SetOption.upsert()
+                ));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Stock cache write failed: {} products (expires within {})", stocks.size(), ttl, e);
+        }
+    }
+
+    private Map<Long, Integer> loadFromDb(Collection<Long> productIds) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (ProductStockProjection projection : productRepository.findStocksByIdIn(productIds)) {
+            stocks.put(projection.getProductId(), projection.getStock());
+        }
+        return stocks;
+    }
+
+    private String key(Long productId) {
+        return "product:" + productId + ":stock";
+    }
+}
@@ -20,4 +20,11 @@ public record ProductResponse(
             product.getCategory()
         );
     }
+
+    /**
+     * 재고만 교체 (정적 데이터 캐시 + 재고 캐시 조합)
+     */
+    public ProductResponse withStock(Integer stock) {
+        return new ProductResponse(productId, name, description, price, stock, category);
+    }
 }
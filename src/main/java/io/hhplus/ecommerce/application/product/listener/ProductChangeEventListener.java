@@ -0,0 +1,27 @@
+package io.hhplus.ecommerce.application.product.listener;
+
+import io.hhplus.ecommerce.application.product.ProductCacheSynchronizer;
+import io.hhplus.ecommerce.domain.product.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 변경 이벤트 리스너
+ *
+ * 커밋된 변경만 캐시에 반영하도록 AFTER_COMMIT에서 받는다.
+ * 메모리 큐에 넣기만 하므로 @Async 없이 커밋 스레드에서 처리한다.
+ * (실제 캐시 반영은 ProductCacheSynchronizer가 상품별로 모아 주기적으로 수행)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangeEventListener {
+
+    private final ProductCacheSynchronizer productCacheSynchronizer;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        productCacheSynchronizer.enqueue(event);
+    }
+}
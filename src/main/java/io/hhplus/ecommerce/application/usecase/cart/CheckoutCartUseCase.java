@@ -0,0 +1,172 @@
+package io.hhplus.ecommerce.application.usecase.cart;
+
+import io.hhplus.ecommerce.application.cart.CartLockManager;
+import io.hhplus.ecommerce.application.cart.dto.CheckoutCartRequest;
+import io.hhplus.ecommerce.application.cart.dto.CheckoutCartResponse;
+import io.hhplus.ecommerce.application.order.dto.CreateOrderRequest;
+import io.hhplus.ecommerce.application.order.dto.CreateOrderResponse;
+import io.hhplus.ecommerce.application.order.dto.OrderItemRequest;
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import io.hhplus.ecommerce.application.order.dto.PaymentResponse;
+import io.hhplus.ecommerce.application.usecase.UseCase;
+import io.hhplus.ecommerce.application.usecase.order.CreateOrderUseCase;
+import io.hhplus.ecommerce.application.usecase.order.ProcessPaymentUseCase;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.cart.Cart;
+import io.hhplus.ecommerce.domain.cart.CartItem;
+import io.hhplus.ecommerce.domain.cart.CartRepository;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.infrastructure.persistence.cart.JpaCartItemRepository;
+import io.hhplus.ecommerce.infrastructure.redis.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 장바구니 체크아웃 UseCase (장바구니 → 주문 → 결제)
+ * <p>
+ * 기존 흐름: 장바구니 조회 → POST /api/orders → POST /api/orders/{id}/payment
+ * - 단계마다 락을 따로 잡고, 주문 생성 시 상품을 하나씩 다시 조회
+ * <p>
+ * 체크아웃 흐름 (한 번의 호출):
+ * 1. 사용자 단위 분산락 1회 획득 ("checkout:user:{userId}")
+ * 2. 장바구니 스냅샷: CartItem + Product를 Fetch Join 한 번으로 로드
+ * 3. 로드한 상품으로 재고/가격 일괄 검증 (상품 재조회 없음)
+ * 4. 주문 생성 (CreateOrderUseCase, 주문 단계 분산락 생략)
+ * 5. 장바구니 비우기 (deleteByCartId 단일 DELETE, 주문 생성과 같은 트랜잭션)
+ * 6. (선택) 결제 (ProcessPaymentUseCase)
+ * <p>
+ * 체크아웃 분산락은 같은 장바구니로 주문이 두 번 생성되는 것을 막는다.
+ * 잔액은 결제 단계의 조건부 UPDATE가 원자적으로 차감하므로 충전/결제를 막지 않는다.
+ * <p>
+ * 재고 검증은 사전 검증이며, 실제 차감은 결제 단계의 비관적 락에서 수행한다.
+ * <p>
+ * 재시도 (클라이언트 멱등성 키):
+ * - 주문 키 "CHECKOUT_{userId}_{key}", 결제 키 "CHECKOUT_PAY_{userId}_{key}"로 파생
+ * - 완료된 주문이 있으면 장바구니(이미 비워짐)를 보지 않고 그 주문을 재사용하고,
+ *   결제는 ProcessPaymentUseCase의 멱등성 처리로 기존 결과를 반환한다.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class CheckoutCartUseCase {
+
+    private final CartRepository cartRepository;
+    private final JpaCartItemRepository cartItemRepository;  // Fetch Join 메서드 사용
+    private final CreateOrderUseCase createOrderUseCase;
+    private final ProcessPaymentUseCase processPaymentUseCase;
+    private final CartLockManager cartLockManager;
+
+    /**
+     * 장바구니 체크아웃
+     *
+     * @CacheEvict: 체크아웃 후 장바구니가 비워지므로 캐시 무효화
+     *
+     * @param userId 사용자 ID
+     * @param request 체크아웃 요청 (쿠폰, 결제 여부, 확인 금액)
+     * @return 주문 응답 (+ 결제 응답)
+     */
+    @DistributedLock(
+            key = "'checkout:user:' + #userId",
+            waitTime = 10,
+            leaseTime = 60,
+            name = "checkout:user"
+    )
+    @CacheEvict(value = "carts", key = "#userId")
+    public CheckoutCartResponse execute(Long userId, CheckoutCartRequest request) {
+        log.info("Checking out cart for user: {}, couponId: {}, pay: {}",
+            userId, request.couponId(), request.payNow());
+
+        // 1~5. 장바구니 스냅샷 → 검증 → 주문 생성 → 장바구니 비우기
+        //      (동일 사용자의 장바구니 변경과 직렬화)
+        String idempotencyKey = request.idempotencyKey() != null
+            ? request.idempotencyKey()
+            : UUID.randomUUID().toString();
+        String orderIdempotencyKey = "CHECKOUT_" + userId + "_" + idempotencyKey;
+        CreateOrderResponse order = createOrderUseCase.findCompletedResponse(orderIdempotencyKey)
+            .orElseGet(() -> cartLockManager.withLock(userId,
+                () -> createOrderFromCart(userId, request, orderIdempotencyKey)));
+
+        if (!request.payNow()) {
+            return new CheckoutCartResponse(order, null);
+        }
+
+        // 6. 결제 (reservePayment의 분산락은 재진입)
+        String paymentIdempotencyKey = "CHECKOUT_PAY_" + userId + "_" + idempotencyKey;
+        PaymentResponse payment = processPaymentUseCase.execute(
+            order.orderId(),
+            PaymentRequest.of(userId, paymentIdempotencyKey)
+        );
+
+        log.info("Cart checkout completed. userId: {}, orderId: {}, paymentStatus: {}",
+            userId, order.orderId(), payment.status());
+        return new CheckoutCartResponse(order, payment);
+    }
+
+    private CreateOrderResponse createOrderFromCart(Long userId, CheckoutCartRequest request, String orderIdempotencyKey) {
+        // 1. 장바구니 스냅샷 (CartItem + Product Fetch Join, 쿼리 1번)
+        Cart cart = cartRepository.findByUserId(userId)
+            .orElseThrow(() -> new BusinessException(
+                ErrorCode.CART_NOT_FOUND,
+                "장바구니를 찾을 수 없습니다. userId: " + userId
+            ));
+
+        List<CartItem> cartItems = cartItemRepository.findByCartIdWithProduct(cart.getId());
+        if (cartItems.isEmpty()) {
+            throw new BusinessException(
+                ErrorCode.CART_ITEM_NOT_FOUND,
+                "장바구니가 비어 있습니다. userId: " + userId
+            );
+        }
+
+        // 2. 로드한 상품으로 재고/가격 일괄 검증
+        Map<Long, Product> productById = new HashMap<>();
+        List<OrderItemRequest> items = new ArrayList<>();
+        List<String> shortages = new ArrayList<>();
+        long subtotalAmount = 0L;
+
+        for (CartItem cartItem : cartItems) {
+            Product product = cartItem.getProduct();  // Fetch Join으로 이미 로딩됨
+            productById.put(product.getId(), product);
+            items.add(new OrderItemRequest(product.getId(), cartItem.getQuantity()));
+            subtotalAmount += product.getPrice() * cartItem.getQuantity();
+
+            if (!product.hasEnoughStock(cartItem.getQuantity())) {
+                shortages.add(String.format("%s (요청: %d개, 재고: %d개)",
+                    product.getName(), cartItem.getQuantity(), product.getStock()));
+            }
+        }
+
+        if (!shortages.isEmpty()) {
+            throw new BusinessException(
+                ErrorCode.INSUFFICIENT_STOCK,
+                "재고가 부족합니다. 상품: " + String.join(", ", shortages)
+            );
+        }
+
+        if (request.expectedTotalAmount() != null && request.expectedTotalAmount() != subtotalAmount) {
+            throw new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                String.format("장바구니 상품 가격이 변경되었습니다. (확인 금액: %d원, 현재 금액: %d원)",
+                    request.expectedTotalAmount(), subtotalAmount)
+            );
+        }
+
+        // 3. 주문 생성 + 장바구니 비우기 (한 트랜잭션, 주문 단계 분산락 생략, 상품 재사용)
+        CreateOrderResponse order = createOrderUseCase.executeWithProducts(
+            new CreateOrderRequest(userId, items, request.couponId(), orderIdempotencyKey),
+            productById,
+            cart.getId()
+        );
+        log.debug("Cart cleared after checkout. cartId: {}, orderId: {}", cart.getId(), order.orderId());
+
+        return order;
+    }
+}
@@ -5,34 +5,82 @@ import io.hhplus.ecommerce.application.coupon.dto.UserCouponResponse;
 import io.hhplus.ecommerce.application.usecase.UseCase;
 import io.hhplus.ecommerce.domain.coupon.UserCouponRepository;
 import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.redis.UserCouponReadModelStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * 사용자 쿠폰 목록 조회
+ *
+ * 1. Redis 읽기 모델 조회 (PENDING/FAILED 포함) - 쿠폰 이벤트 직후 폴링 트래픽은 여기서 종료
+ * 2. 미스 시 MySQL 조회 후 읽기 모델 적재
+ *
+ * 읽기 모델 히트 경로는 커넥션을 잡지 않도록 클래스 단위 트랜잭션을 두지 않는다.
+ */
 @Slf4j
 @UseCase
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class GetUserCouponsUseCase {
 
+    /**
+     * 최근 항목 우선 (발급 대기/실패 항목은 발급일시가 없으므로 맨 앞)
+     */
+    private static final Comparator<UserCouponResponse> RECENT_FIRST = Comparator.comparing(
+        UserCouponResponse::issuedAt,
+        Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder())
+    );
+
     private final UserCouponRepository userCouponRepository;
     private final UserRepository userRepository;
+    private final UserCouponReadModelStore userCouponReadModelStore;
 
     public UserCouponListResponse execute(Long userId, String status) {
         log.info("Getting coupons for user: {} with status: {}", userId, status);
 
-        // 1. 사용자 검증
+        String statusParam = (status == null || status.isEmpty()) ? null : status.toUpperCase();
+
+        // 1. 읽기 모델 (적재된 사용자만 존재하므로 사용자 검증 불필요)
+        Optional<List<UserCouponResponse>> cached = userCouponReadModelStore.find(userId);
+        if (cached.isPresent()) {
+            List<UserCouponResponse> couponResponses = filterAndSort(cached.get(), statusParam);
+            log.debug("Served {} coupons from read model for user: {}", couponResponses.size(), userId);
+            return UserCouponListResponse.of(userId, couponResponses);
+        }
+
+        // 2. 사용자 검증
         userRepository.findByIdOrThrow(userId);
 
-        // 2. Repository에서 DTO로 변환된 데이터 조회
+        // 3. Repository에서 DTO로 변환된 데이터 조회
         // 코치 피드백 반영: Projection → DTO 변환을 Repository에서 수행
-        String statusParam = (status == null || status.isEmpty()) ? null : status.toUpperCase();
-        List<UserCouponResponse> couponResponses =
-            userCouponRepository.findUserCouponsAsDto(userId, statusParam);
+        if (!userCouponReadModelStore.isEnabled()) {
+            List<UserCouponResponse> couponResponses = userCouponRepository.findUserCouponsAsDto(userId, statusParam);
+            log.info("Found {} coupons for user: {}", couponResponses.size(), userId);
+            return UserCouponListResponse.of(userId, couponResponses);
+        }
+
+        // 읽기 모델 적재를 위해 전체 상태를 조회한 뒤 메모리에서 필터링
+        List<UserCouponResponse> allCoupons = userCouponRepository.findUserCouponsAsDto(userId, null);
+        userCouponReadModelStore.load(userId, allCoupons);
+
+        // 적재 직후 다시 읽어 아직 MySQL에 없는 PENDING/FAILED 항목까지 포함
+        List<UserCouponResponse> couponResponses = filterAndSort(
+            userCouponReadModelStore.find(userId).orElse(allCoupons),
+            statusParam
+        );
 
         log.info("Found {} coupons for user: {}", couponResponses.size(), userId);
         return UserCouponListResponse.of(userId, couponResponses);
     }
+
+    private List<UserCouponResponse> filterAndSort(List<UserCouponResponse> coupons, String statusParam) {
+        return coupons.stream()
+            .filter(coupon -> statusParam == null || statusParam.equals(coupon.status()))
+            .sorted(RECENT_FIRST)
+            .toList();
+    }
 }
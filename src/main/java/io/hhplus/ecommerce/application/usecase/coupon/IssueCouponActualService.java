@@ -7,10 +7,10 @@ import io.hhplus.ecommerce.domain.coupon.CouponRepository;
 import io.hhplus.ecommerce.domain.coupon.UserCoupon;
 import io.hhplus.ecommerce.domain.coupon.UserCouponRepository;
 import io.hhplus.ecommerce.infrastructure.metrics.MetricsCollector;
+import io.hhplus.ecommerce.infrastructure.redis.CouponIssueReservationStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,7 +39,7 @@ public class IssueCouponActualService {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponIssueReservationStore couponIssueReservationStore;
     private final MetricsCollector metricsCollector;
 
     /**
@@ -78,9 +78,8 @@ public class IssueCouponActualService {
             log.debug("UserCoupon created: id={}, userId={}, couponId={}",
                 userCoupon.getId(), userId, couponId);
 
-            // 3. Redis 발급 기록 (중복 방지용)
-            String issuedKey = buildIssuedKey(couponId);
-            redisTemplate.opsForSet().add(issuedKey, String.valueOf(userId));
+            // 3. Redis 발급 기록 (중복 방지용, 예약과 같은 issued 키: 샤딩 모드에서는 홈 샤드)
+            couponIssueReservationStore.markIssued(couponId, userId);
 
             log.info("Coupon issued successfully: couponId={}, userId={}, userCouponId={}",
                 couponId, userId, userCoupon.getId());
@@ -115,12 +114,4 @@ public class IssueCouponActualService {
             );
         }
     }
-
-    /**
-     * Redis 발급자 Set 키 생성
-     * 패턴: coupon:{couponId}:issued
-     */
-    private String buildIssuedKey(Long couponId) {
-        return String.format("coupon:%d:issued", couponId);
-    }
 }
@@ -6,6 +6,7 @@ import io.hhplus.ecommerce.application.usecase.UseCase;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 import io.hhplus.ecommerce.domain.coupon.Coupon;
+import io.hhplus.ecommerce.domain.coupon.CouponIssuedEvent;
 import io.hhplus.ecommerce.domain.coupon.CouponRepository;
 import io.hhplus.ecommerce.domain.coupon.UserCoupon;
 import io.hhplus.ecommerce.domain.coupon.UserCouponRepository;
@@ -14,6 +15,7 @@ import io.hhplus.ecommerce.infrastructure.metrics.MetricsCollector;
 import io.hhplus.ecommerce.infrastructure.redis.DistributedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class IssueCouponUseCase {
     private final UserCouponRepository userCouponRepository;
     private final UserRepository userRepository;
     private final MetricsCollector metricsCollector;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 쿠폰 발급 (선착순)
@@ -40,11 +43,14 @@ public class IssueCouponUseCase {
      * 1차: 애플리케이션 체크 (existsByUserIdAndCouponId)
      * 2차: DB Unique Constraint (uk_user_coupon)
      * 3차: DataIntegrityViolationException 처리
+     * <p>
+     * 커밋 후 Redis 발급자 기록/읽기 모델 반영 (CouponIssuedEvent → CouponIssuedEventListener)
      */
     @DistributedLock(
             key = "'coupon:issue:' + #couponId",
             waitTime = 5,
-            leaseTime = 10
+            leaseTime = 10,
+            name = "coupon:issue"
     )
     @Transactional
     public IssueCouponResponse execute(Long couponId, IssueCouponRequest request) {
@@ -90,6 +96,7 @@ public class IssueCouponUseCase {
                 );
             }
             couponRepository.save(coupon);
+            eventPublisher.publishEvent(new CouponIssuedEvent(userCoupon));
 
             log.debug("Coupon issued successfully. userCouponId: {}, remaining quantity: {}",
                 userCoupon.getId(), coupon.getRemainingQuantity());
@@ -1,22 +1,24 @@
 package io.hhplus.ecommerce.application.usecase.coupon;
 
+import io.hhplus.ecommerce.application.coupon.CouponMetadata;
+import io.hhplus.ecommerce.application.coupon.CouponMetadataCache;
 import io.hhplus.ecommerce.application.coupon.dto.ReserveCouponResponse;
+import io.hhplus.ecommerce.application.coupon.dto.UserCouponResponse;
+import io.hhplus.ecommerce.application.user.UserIdMembership;
 import io.hhplus.ecommerce.application.usecase.UseCase;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
-import io.hhplus.ecommerce.domain.coupon.Coupon;
-import io.hhplus.ecommerce.domain.coupon.CouponRepository;
 import io.hhplus.ecommerce.domain.coupon.CouponReservedEvent;
-import io.hhplus.ecommerce.domain.user.UserRepository;
 import io.hhplus.ecommerce.infrastructure.kafka.producer.CouponIssueRequestedProducer;
 import io.hhplus.ecommerce.infrastructure.redis.CouponIssueReservationStore;
+import io.hhplus.ecommerce.infrastructure.redis.CouponSoldOutGate;
+import io.hhplus.ecommerce.infrastructure.redis.UserCouponReadModelStore;
 import io.hhplus.ecommerce.infrastructure.kafka.message.CouponIssueRequestedMessage;
 import io.hhplus.ecommerce.infrastructure.metrics.MetricsCollector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.UUID;
@@ -24,10 +26,14 @@ import java.util.UUID;
 /**
  * 선착순 쿠폰 예약 UseCase
  *
+ * Phase 0: 매진 게이트 (노드 메모리)
+ * - 매진된 쿠폰은 Redis/MySQL 접근 없이 즉시 거절
+ *
  * Phase 1: 선착순 판정 (Redis가 Single Source of Truth)
  * - Redis INCR로 순번 획득 (원자적, 락 불필요)
  * - Redis SADD로 중복 발급 방지 (원자적)
- * - Event 발행 (AFTER_COMMIT)
+ * - 사용자/쿠폰 검증은 메모리 인덱스로 처리 (DB 조회, 트랜잭션 없음)
+ * - Event 발행 (트랜잭션 없이 즉시 처리)
  *
  * Phase 2: 쿠폰 발급 (Event Listener에서 처리)
  * - Coupon.issue() (재고 차감)
@@ -39,9 +45,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ReserveCouponUseCase {
 
-    private final CouponRepository couponRepository;
-    private final UserRepository userRepository;
+    private final CouponMetadataCache couponMetadataCache;
+    private final UserIdMembership userIdMembership;
     private final CouponIssueReservationStore couponIssueReservationStore;
+    private final CouponSoldOutGate couponSoldOutGate;
+    private final UserCouponReadModelStore userCouponReadModelStore;
     private final ApplicationEventPublisher eventPublisher;
     private final CouponIssueRequestedProducer couponIssueRequestedProducer;
     private final MetricsCollector metricsCollector;
@@ -54,6 +62,7 @@ public class ReserveCouponUseCase {
     /**
      * 선착순 쿠폰 예약
      *
+     * 0. 매진 게이트 확인 (매진이면 즉시 실패)
      * 1. 중복 예약 체크 (Redis SISMEMBER)
      * 2. Redis INCR로 순번 획득
      * 3. 수량 체크
@@ -64,19 +73,32 @@ public class ReserveCouponUseCase {
      * @param userId 사용자 ID
      * @return 예약 결과 (순번 포함)
      */
-    @Transactional
     public ReserveCouponResponse execute(Long couponId, Long userId) {
+        // 0. 매진 게이트 - 트랜잭션/커넥션/Redis 호출 없이 거절 (매진 이후 트래픽 대부분이 여기서 종료)
+        if (couponSoldOutGate.isSoldOut(couponId)) {
+            metricsCollector.recordCouponReservationFailure();
+            throw new BusinessException(
+                ErrorCode.COUPON_SOLD_OUT,
+                "쿠폰이 모두 소진되었습니다."
+            );
+        }
+
         log.info("Reserving coupon for user: {}, coupon: {}", userId, couponId);
 
         try {
-            // 1. 사용자 검증
-            userRepository.findByIdOrThrow(userId);
+            // 1. 사용자 검증 (멤버십 비트맵, 미스일 때만 DB)
+            if (!userIdMembership.exists(userId)) {
+                throw new BusinessException(
+                    ErrorCode.USER_NOT_FOUND,
+                    "사용자를 찾을 수 없습니다. userId: " + userId
+                );
+            }
 
-            // 2. 쿠폰 조회 및 유효성 검증
-            Coupon coupon = couponRepository.findByIdOrThrow(couponId);
+            // 2. 쿠폰 유효성 검증 (메타데이터 캐시, 미스일 때만 DB)
+            CouponMetadata coupon = couponMetadataCache.get(couponId);
             coupon.validateIssuable();
 
-            long totalQuantity = coupon.getTotalQuantity();
+            long totalQuantity = coupon.totalQuantity();
             CouponIssueReservationStore.ReserveResponse reserved = couponIssueReservationStore.reserve(
                 couponId,
                 userId,
@@ -102,8 +124,22 @@ public class ReserveCouponUseCase {
                     String.format("이미 발급받은 쿠폰입니다. userId: %d, couponId: %d", userId, couponId)
                 );
             }
+            if (reserved.result() == CouponIssueReservationStore.ReserveResult.BUSY) {
+                throw new BusinessException(
+                    ErrorCode.COUPON_RESERVATION_BUSY,
+                    "쿠폰 예약 요청이 몰리고 있습니다. 잠시 후 다시 시도해주세요."
+                );
+            }
+
+            long sequence = reserved.sequence();
 
-            long sequence = totalQuantity - reserved.remainingAfter();
+            // 읽기 모델에 발급 대기 표시 (발급 처리보다 먼저 기록해야 이벤트 모드에서 순서가 뒤집히지 않음)
+            userCouponReadModelStore.markPending(userId, UserCouponResponse.pending(
+                couponId,
+                coupon.name(),
+                coupon.discountRate(),
+                coupon.endDate()
+            ));
 
             publishIssueRequest(couponId, userId, sequence);
 
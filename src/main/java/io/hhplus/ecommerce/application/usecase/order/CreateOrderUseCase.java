@@ -10,6 +10,7 @@ import io.hhplus.ecommerce.application.order.dto.OrderItemResponse;
 import io.hhplus.ecommerce.application.usecase.UseCase;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.cart.CartItemRepository;
 import io.hhplus.ecommerce.domain.coupon.Coupon;
 import io.hhplus.ecommerce.domain.coupon.CouponRepository;
 import io.hhplus.ecommerce.domain.coupon.UserCouponRepository;
@@ -23,6 +24,8 @@ import io.hhplus.ecommerce.domain.product.Product;
 import io.hhplus.ecommerce.domain.product.ProductRepository;
 import io.hhplus.ecommerce.domain.user.User;
 import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown;
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown.Phase;
 import io.hhplus.ecommerce.infrastructure.metrics.MetricsCollector;
 import io.hhplus.ecommerce.infrastructure.redis.DistributedLock;
 import lombok.RequiredArgsConstructor;
@@ -72,8 +75,10 @@ public class CreateOrderUseCase {
     private final UserRepository userRepository;
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final CartItemRepository cartItemRepository;
     private final OrderIdempotencyRepository idempotencyRepository;
     private final MetricsCollector metricsCollector;
+    private final LatencyBreakdown latencyBreakdown;
     private final IdempotencySaveService idempotencySaveService;
     private final org.springframework.context.ApplicationEventPublisher eventPublisher;
 
@@ -88,41 +93,74 @@ public class CreateOrderUseCase {
     @DistributedLock(
             key = "(#request.idempotencyKey() != null ? 'order:create:idem:' + #request.idempotencyKey() : 'order:create:user:' + #request.userId())",
             waitTime = 10,
-            leaseTime = 60
+            leaseTime = 60,
+            name = "order:create"
     )
     public CreateOrderResponse execute(CreateOrderRequest request) {
-        long startTime = System.currentTimeMillis();
-        log.info("Creating order for user: {}, idempotencyKey: {}",
-            request.userId(), request.idempotencyKey());
-
-        // 1. 멱등성 키 조회
-        Optional<OrderIdempotency> existingIdempotency =
-                idempotencyRepository.findByIdempotencyKey(request.idempotencyKey());
+        return createOrder(request, Map.of());
+    }
 
-        if (existingIdempotency.isPresent()) {
-            OrderIdempotency idempotency = existingIdempotency.get();
+    /**
+     * 장바구니 체크아웃용 주문 생성 (분산락 없음)
+     * <p>
+     * 호출자(CheckoutCartUseCase)가 이미 사용자 단위 분산락을 보유하고,
+     * 장바구니 Fetch Join으로 상품을 한 번에 로드한 경우에 사용한다.
+     * - 주문 생성 단계의 분산락 획득을 생략 (락 획득 횟수 감소)
+     * - 전달받은 상품을 재사용해 상품별 재조회를 생략
+     * - 장바구니 비우기를 주문 생성과 같은 트랜잭션에서 수행
+     *   (주문만 커밋되면 재시도가 완료된 주문을 재사용하면서 장바구니가 남는다)
+     *
+     * @param request 주문 생성 요청
+     * @param preloadedProducts 상품 ID → 미리 로드된 상품
+     * @param cartId 비울 장바구니 ID
+     * @return 주문 생성 응답
+     */
+    @Transactional
+    public CreateOrderResponse executeWithProducts(CreateOrderRequest request, Map<Long, Product> preloadedProducts,
+                                                   Long cartId) {
+        // 영속성 컨텍스트를 비우는 벌크 DELETE이므로 주문 엔티티를 만들기 전에 실행 (주문 실패 시 함께 롤백)
+        cartItemRepository.deleteByCartId(cartId);
+        return createOrder(request, preloadedProducts);
+    }
 
-            // 1-1. 이미 완료된 요청 → 캐시된 응답 반환
-            if (idempotency.isCompleted()) {
-                log.info("Returning cached response for idempotencyKey: {}", request.idempotencyKey());
-                metricsCollector.recordOrderSuccess();
-                return deserializeResponse(idempotency.getResponsePayload());
-            }
+    /**
+     * 멱등성 키로 이전 주문 결과 조회
+     * <p>
+     * 주문 입력을 다시 만들 수 없는 호출자(체크아웃 재시도: 장바구니가 이미 비워짐)가
+     * 주문 생성 전에 먼저 확인하는 용도
+     *
+     * @param idempotencyKey 멱등성 키
+     * @return 완료된 요청의 캐시된 응답 (없거나 실패/만료된 요청이면 empty)
+     * @throws BusinessException 같은 키의 요청이 처리 중인 경우
+     */
+    @Transactional(readOnly = true)
+    public Optional<CreateOrderResponse> findCompletedResponse(String idempotencyKey) {
+        return replay(idempotencyKey);
+    }
 
-            // 1-2. 처리 중인 요청 → 에러 (다른 요청이 처리 중)
-            if (idempotency.isProcessing()) {
-                throw new BusinessException(
-                    ErrorCode.INVALID_INPUT,
-                    "이미 처리 중인 요청입니다. idempotencyKey: " + request.idempotencyKey()
-                );
-            }
+    private CreateOrderResponse createOrder(CreateOrderRequest request, Map<Long, Product> preloadedProducts) {
+        long startTime = System.nanoTime();
+        log.info("Creating order for user: {}, idempotencyKey: {}",
+            request.userId(), request.idempotencyKey());
+        latencyBreakdown.timeCommit(LatencyBreakdown.FLOW_ORDER);
 
-            // 1-3. 실패했거나 만료된 요청 → 재처리 가능
-            log.info("Retrying expired/failed request. idempotencyKey: {}", request.idempotencyKey());
+        // 1. 멱등성 키 조회 (완료 → 캐시된 응답, 처리 중 → 에러, 실패/만료 → 재처리)
+        Optional<CreateOrderResponse> cachedResponse = latencyBreakdown.time(
+                LatencyBreakdown.FLOW_ORDER,
+                Phase.IDEMPOTENCY,
+                () -> replay(request.idempotencyKey())
+        );
+        if (cachedResponse.isPresent()) {
+            metricsCollector.recordOrderSuccess();
+            return cachedResponse.get();
         }
 
         // 1-4. 상품을 락과 함께 미리 로드해 중복 조회·락 승급을 방지
-        OrderPreparationContext preparationContext = prepareOrderContext(request);
+        OrderPreparationContext preparationContext = latencyBreakdown.time(
+                LatencyBreakdown.FLOW_ORDER,
+                Phase.PRODUCT_LOAD,
+                () -> prepareOrderContext(request, preloadedProducts)
+        );
 
         // 2. 총 금액 미리 계산 (멱등성 키 생성용)
         long totalAmount = preparationContext.subtotalAmount();
@@ -133,7 +171,11 @@ public class CreateOrderUseCase {
                 request.userId(),
                 totalAmount
         );
-        idempotency = idempotencySaveService.saveProcessing(idempotency);
+        latencyBreakdown.time(
+                LatencyBreakdown.FLOW_ORDER,
+                Phase.IDEMPOTENCY,
+                () -> idempotencySaveService.saveProcessing(idempotency)
+        );
 
         try {
             // 4. 주문 생성 처리
@@ -256,8 +298,10 @@ public class CreateOrderUseCase {
     /**
      * 주문에 필요한 상품들을 비관적 락으로 미리 불러와 정렬된 상태와 총액을 준비한다.
      * 이후 단계에서는 동일 엔티티를 재사용해 추가 조회나 락 승급을 방지한다.
+     * 미리 로드된 상품이 있으면 재조회하지 않고 그대로 사용한다.
      */
-    private OrderPreparationContext prepareOrderContext(CreateOrderRequest request) {
+    private OrderPreparationContext prepareOrderContext(CreateOrderRequest request,
+                                                        Map<Long, Product> preloadedProducts) {
         List<OrderItemRequest> sortedItems = request.items().stream()
                 .sorted(Comparator.comparing(OrderItemRequest::productId))
                 .collect(Collectors.toList());
@@ -268,7 +312,9 @@ public class CreateOrderUseCase {
         for (OrderItemRequest itemReq : sortedItems) {
             // 재고 차감은 결제 단계에서 비관적 락으로 수행하므로,
             // 주문 생성 단계에서는 불필요한 PESSIMISTIC_WRITE를 피하고 단순 조회만 수행한다.
-            Product product = productRepository.findByIdOrThrow(itemReq.productId());
+            Product product = preloadedProducts.containsKey(itemReq.productId())
+                    ? preloadedProducts.get(itemReq.productId())
+                    : productRepository.findByIdOrThrow(itemReq.productId());
             productById.put(product.getId(), product);
             subtotalAmount += product.getPrice() * itemReq.quantity();
         }
@@ -296,6 +342,35 @@ public class CreateOrderUseCase {
         }
     }
 
+    /**
+     * 멱등성 키로 이전 요청 확인 (완료 → 캐시된 응답, 처리 중 → 에러, 없음/실패/만료 → empty)
+     */
+    private Optional<CreateOrderResponse> replay(String idempotencyKey) {
+        Optional<OrderIdempotency> existingIdempotency = idempotencyRepository.findByIdempotencyKey(idempotencyKey);
+        if (existingIdempotency.isEmpty()) {
+            return Optional.empty();
+        }
+        OrderIdempotency idempotency = existingIdempotency.get();
+
+        // 이미 완료된 요청 → 캐시된 응답 반환
+        if (idempotency.isCompleted()) {
+            log.info("Returning cached response for idempotencyKey: {}", idempotencyKey);
+            return Optional.of(deserializeResponse(idempotency.getResponsePayload()));
+        }
+
+        // 처리 중인 요청 → 에러 (다른 요청이 처리 중)
+        if (idempotency.isProcessing()) {
+            throw new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                "이미 처리 중인 요청입니다. idempotencyKey: " + idempotencyKey
+            );
+        }
+
+        // 실패했거나 만료된 요청 → 재처리 가능
+        log.info("Retrying expired/failed request. idempotencyKey: {}", idempotencyKey);
+        return Optional.empty();
+    }
+
     /**
      * JSON 역직렬화 (JSON → 응답)
      */
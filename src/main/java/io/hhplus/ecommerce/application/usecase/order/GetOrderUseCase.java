@@ -0,0 +1,76 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import io.hhplus.ecommerce.application.order.dto.CreateOrderResponse;
+import io.hhplus.ecommerce.application.order.dto.OrderItemResponse;
+import io.hhplus.ecommerce.application.usecase.UseCase;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.order.OrderSummaryRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 상세 조회
+ *
+ * 1. order_summaries PK 조회 1회 (조인 없음)
+ * 2. 미스 시 (비동기 반영 전 / 읽기 모델 비활성화) 주문 + 항목 + 상품 Fetch Join 조회
+ *
+ * 읽기 모델 히트 경로는 커넥션을 오래 잡지 않도록 클래스 단위 트랜잭션을 두지 않는다.
+ * 다른 사용자의 주문은 존재 여부를 드러내지 않도록 ORDER_NOT_FOUND로 거절한다.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class GetOrderUseCase {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryService orderSummaryService;
+    private final JpaOrderRepository orderRepository;  // 폴백 시 Fetch Join 메서드 사용
+
+    @Value("${order.read-model.enabled:true}")
+    private boolean readModelEnabled = true;
+
+    /**
+     * @param orderId 주문 ID
+     * @param userId 요청 사용자 ID (주문 소유자여야 함)
+     */
+    public CreateOrderResponse execute(Long orderId, Long userId) {
+        CreateOrderResponse response = find(orderId);
+        if (!response.userId().equals(userId)) {
+            log.warn("Order access denied. orderId: {}, userId: {}", orderId, userId);
+            throw notFound(orderId);
+        }
+        return response;
+    }
+
+    private CreateOrderResponse find(Long orderId) {
+        if (readModelEnabled) {
+            Optional<CreateOrderResponse> summary = orderSummaryRepository.findByOrderId(orderId)
+                .map(orderSummaryService::toResponse);
+            if (summary.isPresent()) {
+                return summary.get();
+            }
+            log.debug("Order summary miss, falling back to orders. orderId: {}", orderId);
+        }
+
+        Order order = orderRepository.findByIdWithItems(orderId)
+            .orElseThrow(() -> notFound(orderId));
+        List<OrderItemResponse> items = order.getOrderItems().stream()
+            .map(item -> OrderItemResponse.of(item, item.getProduct().getName()))
+            .toList();
+        return CreateOrderResponse.of(order, items);
+    }
+
+    private BusinessException notFound(Long orderId) {
+        return new BusinessException(
+            ErrorCode.ORDER_NOT_FOUND,
+            "주문을 찾을 수 없습니다. orderId: " + orderId
+        );
+    }
+}
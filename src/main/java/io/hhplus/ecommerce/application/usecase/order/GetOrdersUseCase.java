@@ -1,89 +1,187 @@
 package io.hhplus.ecommerce.application.usecase.order;
 
 import io.hhplus.ecommerce.application.order.dto.CreateOrderResponse;
+import io.hhplus.ecommerce.application.order.dto.OrderCursor;
 import io.hhplus.ecommerce.application.order.dto.OrderItemResponse;
 import io.hhplus.ecommerce.application.order.dto.OrderListResponse;
 import io.hhplus.ecommerce.application.usecase.UseCase;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
-import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.order.OrderHistoryItemRow;
+import io.hhplus.ecommerce.domain.order.OrderHistoryRow;
+import io.hhplus.ecommerce.domain.order.OrderItemRepository;
+import io.hhplus.ecommerce.domain.order.OrderRepository;
 import io.hhplus.ecommerce.domain.order.OrderStatus;
+import io.hhplus.ecommerce.domain.order.OrderSummary;
+import io.hhplus.ecommerce.domain.order.OrderSummaryRepository;
 import io.hhplus.ecommerce.domain.user.UserRepository;
-import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * 주문 내역 조회 (커서 기반 페이지)
+ *
+ * 기존: 사용자의 모든 주문 + 항목 + 상품을 엔티티로 Fetch Join 후 메모리에서 상태 필터링
+ * → 주문이 많은 사용자일수록 조회량/메모리가 무한정 증가
+ *
+ * 변경: 2단계 프로젝션 조회 (영속성 컨텍스트에 엔티티를 올리지 않음)
+ * 1. 주문 ID 페이지: (createdAt, id) 커서 이후 size + 1건 (상태 조건은 SQL WHERE)
+ * 2. 해당 주문 ID들의 항목 + 상품명 IN 조회
+ * → 쿼리 2회, 응답 크기/메모리는 페이지 크기에 비례
+ *
+ * 읽기 모델 사용 시 (order.read-model.enabled):
+ * - order_summaries 단일 인덱스 조회 1회 (조인 없음, 항목은 구매 시점 JSON)
+ * - 이벤트 반영은 비동기이므로 방금 생성된 주문은 잠시 후 목록에 나타날 수 있음
+ */
 @Slf4j
 @UseCase
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GetOrdersUseCase {
 
-    private final JpaOrderRepository orderRepository;  // Fetch Join 메서드 사용을 위해 JpaOrderRepository 직접 주입
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryService orderSummaryService;
     private final UserRepository userRepository;
 
+    @Value("${order.read-model.enabled:true}")
+    private boolean readModelEnabled = true;
+
     public OrderListResponse execute(Long userId, String status) {
-        log.info("Getting orders for user: {} with status: {} using Fetch Join", userId, status);
-
-        // 1. 사용자 존재 확인
-        userRepository.findByIdOrThrow(userId);
-
-        // 2. Fetch Join으로 Order + OrderItem + Product 한 번에 조회
-        //    한 번의 JOIN 쿼리로 모든 데이터 로딩, N+1 문제 완전 해결
-        List<Order> orders = orderRepository.findByUserIdWithItems(userId);
-
-        // 3. 상태 필터링 (메모리에서)
-        if (status != null && !status.isEmpty()) {
-            try {
-                OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
-                orders = orders.stream()
-                    .filter(order -> order.getStatus() == orderStatus)
-                    .toList();
-            } catch (IllegalArgumentException e) {
-                throw new BusinessException(
-                        ErrorCode.INVALID_INPUT,
-                        "유효하지 않은 주문 상태입니다. status: " + status
-                );
-            }
+        return execute(userId, status, null, DEFAULT_PAGE_SIZE);
+    }
+
+    public OrderListResponse execute(Long userId, String status, String cursor, int size) {
+        log.debug("Getting orders for user: {} with status: {}, cursor: {}, size: {}", userId, status, cursor, size);
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(
+                    ErrorCode.INVALID_INPUT,
+                    "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다. size: " + size
+            );
+        }
+        OrderStatus orderStatus = parseStatus(status);
+        OrderCursor orderCursor = OrderCursor.decode(cursor);
+
+        if (readModelEnabled) {
+            return fromReadModel(userId, orderStatus, orderCursor, size);
         }
 
-        if (orders.isEmpty()) {
+        // 1. 사용자 존재 확인 (엔티티 로딩 없이)
+        validateUserExists(userId);
+
+        // 2. 주문 페이지 조회 (다음 페이지 존재 여부 확인용으로 1건 더)
+        List<OrderHistoryRow> rows = orderRepository.findHistoryPage(
+            userId,
+            orderStatus,
+            orderCursor != null ? orderCursor.createdAt() : null,
+            orderCursor != null ? orderCursor.orderId() : null,
+            size + 1
+        );
+        boolean hasNext = rows.size() > size;
+        List<OrderHistoryRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        if (page.isEmpty()) {
             log.debug("No orders found for user: {} with status: {}", userId, status);
             return OrderListResponse.of(List.of());
         }
 
-        // 4. Order Entity → DTO 변환
-        List<CreateOrderResponse> responses = orders.stream()
-            .map(order -> {
-                // OrderItem Entity → OrderItemResponse DTO 변환
-                List<OrderItemResponse> items = order.getOrderItems().stream()
-                    .map(item -> new OrderItemResponse(
-                        item.getProductId(),
-                        item.getProduct().getName(),  // Fetch Join으로 이미 로딩됨 (추가 쿼리 X)
-                        item.getQuantity(),
-                        item.getUnitPrice(),
-                        item.getSubtotal()
-                    ))
-                    .toList();
-
-                return new CreateOrderResponse(
-                    order.getId(),
-                    order.getUserId(),
-                    order.getOrderNumber(),
-                    items,
-                    order.getSubtotalAmount(),
-                    order.getDiscountAmount(),
-                    order.getTotalAmount(),
-                    order.getStatus().name(),
-                    order.getCreatedAt()
-                );
-            })
+        // 3. 페이지 주문들의 항목만 IN 조회
+        List<Long> orderIds = page.stream().map(OrderHistoryRow::orderId).toList();
+        Map<Long, List<OrderItemResponse>> itemsByOrderId = orderItemRepository.findHistoryItemsByOrderIds(orderIds)
+            .stream()
+            .collect(Collectors.groupingBy(
+                OrderHistoryItemRow::orderId,
+                Collectors.mapping(this::toItemResponse, Collectors.toList())
+            ));
+
+        // 4. 프로젝션 → 응답 DTO
+        List<CreateOrderResponse> responses = page.stream()
+            .map(row -> new CreateOrderResponse(
+                row.orderId(),
+                row.userId(),
+                row.orderNumber(),
+                itemsByOrderId.getOrDefault(row.orderId(), List.of()),
+                row.subtotalAmount(),
+                row.discountAmount(),
+                row.totalAmount(),
+                row.status().name(),
+                row.createdAt()
+            ))
             .toList();
 
-        log.info("Found {} orders for user: {} using Fetch Join (single query)", responses.size(), userId);
-        return OrderListResponse.of(responses);
+        OrderHistoryRow last = page.get(page.size() - 1);
+        OrderCursor nextCursor = hasNext ? new OrderCursor(last.createdAt(), last.orderId()) : null;
+
+        log.debug("Found {} orders for user: {} (hasNext: {})", responses.size(), userId, hasNext);
+        return OrderListResponse.of(responses, nextCursor);
+    }
+
+    private OrderListResponse fromReadModel(Long userId, OrderStatus status, OrderCursor cursor, int size) {
+        List<OrderSummary> summaries = orderSummaryRepository.findPage(
+            userId,
+            status,
+            cursor != null ? cursor.createdAt() : null,
+            cursor != null ? cursor.orderId() : null,
+            size + 1
+        );
+        boolean hasNext = summaries.size() > size;
+        List<OrderSummary> page = hasNext ? summaries.subList(0, size) : summaries;
+
+        // 요약이 있으면 사용자가 존재하는 것이므로 빈 결과일 때만 검증
+        if (page.isEmpty()) {
+            validateUserExists(userId);
+            return OrderListResponse.of(List.of());
+        }
+
+        List<CreateOrderResponse> responses = page.stream()
+            .map(orderSummaryService::toResponse)
+            .toList();
+
+        OrderSummary last = page.get(page.size() - 1);
+        OrderCursor nextCursor = hasNext ? new OrderCursor(last.getCreatedAt(), last.getOrderId()) : null;
+
+        log.debug("Served {} orders from read model for user: {} (hasNext: {})", responses.size(), userId, hasNext);
+        return OrderListResponse.of(responses, nextCursor);
+    }
+
+    private void validateUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다. userId: " + userId);
+        }
+    }
+
+    private OrderStatus parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return OrderStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(
+                    ErrorCode.INVALID_INPUT,
+                    "유효하지 않은 주문 상태입니다. status: " + status
+            );
+        }
+    }
+
+    private OrderItemResponse toItemResponse(OrderHistoryItemRow item) {
+        return OrderItemResponse.of(
+            item.productId(),
+            item.productName(),
+            item.quantity(),
+            item.unitPrice(),
+            item.subtotal()
+        );
     }
 }
@@ -2,6 +2,7 @@ package io.hhplus.ecommerce.application.usecase.order;
 
 import io.hhplus.ecommerce.domain.order.OrderIdempotency;
 import io.hhplus.ecommerce.domain.order.OrderIdempotencyRepository;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @RequiredArgsConstructor
+@ConnectionPool(value = "side", queryTimeoutSeconds = 3)  // REQUIRES_NEW: 바깥 트랜잭션의 커넥션과 다른 풀
 public class IdempotencySaveService {
 
     private final OrderIdempotencyRepository idempotencyRepository;
@@ -0,0 +1,115 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ecommerce.application.order.dto.CreateOrderResponse;
+import io.hhplus.ecommerce.application.order.dto.OrderItemResponse;
+import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.order.OrderStatus;
+import io.hhplus.ecommerce.domain.order.OrderSummary;
+import io.hhplus.ecommerce.domain.order.OrderSummaryRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 요약 읽기 모델(order_summaries) 반영/변환 서비스
+ *
+ * 반영 (OrderSummaryProjector가 커밋 이후 비동기로 호출):
+ * - 주문 생성: 응답 DTO(구매 시점 상품명/단가 포함)를 그대로 UPSERT
+ * - 결제 완료: 상태/결제 시각만 UPDATE
+ *   → 주문 생성 반영 전이라 행이 없으면 주문 테이블에서 재구성해 COMPLETED로 INSERT
+ *
+ * 각 반영은 단일 UPSERT/UPDATE 문이므로 별도 트랜잭션 경계를 두지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private static final TypeReference<List<OrderItemResponse>> ITEMS_TYPE = new TypeReference<>() {};
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final JpaOrderRepository orderRepository;  // 재구성 시 Fetch Join 메서드 사용
+    private final ObjectMapper objectMapper;
+
+    public void projectCreated(CreateOrderResponse order) {
+        orderSummaryRepository.upsertCreated(OrderSummary.of(
+            order.orderId(),
+            order.userId(),
+            order.orderNumber(),
+            OrderStatus.valueOf(order.status()),
+            order.subtotalAmount(),
+            order.discountAmount(),
+            order.totalAmount(),
+            writeItems(order.items()),
+            order.createdAt(),
+            null
+        ));
+    }
+
+    public void projectCompleted(Long orderId, LocalDateTime paidAt) {
+        if (orderSummaryRepository.markCompleted(orderId, paidAt) > 0) {
+            return;
+        }
+
+        // 주문 생성 반영이 아직 안 됐거나 유실된 경우: 주문 테이블에서 재구성
+        log.debug("Order summary not found, rebuilding from orders. orderId: {}", orderId);
+        Order order = orderRepository.findByIdWithItems(orderId).orElse(null);
+        if (order == null) {
+            log.warn("Order not found while rebuilding summary. orderId: {}", orderId);
+            return;
+        }
+
+        List<OrderItemResponse> items = order.getOrderItems().stream()
+            .map(item -> OrderItemResponse.of(item, item.getProduct().getName()))
+            .toList();
+        orderSummaryRepository.upsertCompleted(OrderSummary.of(
+            order.getId(),
+            order.getUserId(),
+            order.getOrderNumber(),
+            OrderStatus.COMPLETED,
+            order.getSubtotalAmount(),
+            order.getDiscountAmount(),
+            order.getTotalAmount(),
+            writeItems(items),
+            order.getCreatedAt(),
+            paidAt
+        ));
+    }
+
+    public CreateOrderResponse toResponse(OrderSummary summary) {
+        return new CreateOrderResponse(
+            summary.getOrderId(),
+            summary.getUserId(),
+            summary.getOrderNumber(),
+            readItems(summary.getItemsJson()),
+            summary.getSubtotalAmount(),
+            summary.getDiscountAmount(),
+            summary.getTotalAmount(),
+            summary.getStatus().name(),
+            summary.getCreatedAt()
+        );
+    }
+
+    private String writeItems(List<OrderItemResponse> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 항목 직렬화 실패", e);
+        }
+    }
+
+    private List<OrderItemResponse> readItems(String json) {
+        try {
+            return objectMapper.readValue(json, ITEMS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 항목 역직렬화 실패", e);
+        }
+    }
+}
@@ -123,6 +123,33 @@ public class PaymentIdempotencyService {
         entityManager.flush();  // 다음 요청에서 즉시 조회될 수 있도록 강제 반영
     }
 
+    /**
+     * 멱등성 키 완료 처리 (호출 트랜잭션에 참여, 조건부 UPDATE)
+     * <p>
+     * 결제 완료 UPDATE와 같은 트랜잭션에서 호출되어 둘이 함께 커밋/롤백된다.
+     * 엔티티는 변경하지 않는다 (롤백 시 호출 측이 PROCESSING 기준으로 실패 처리할 수 있도록).
+     */
+    @Transactional
+    public void markCompleted(PaymentIdempotency idempotency, Long orderId, PaymentResponse response) {
+        int updated = paymentIdempotencyRepository.markCompleted(
+            idempotency.getId(), orderId, serializeResponse(response)
+        );
+        if (updated == 0) {
+            throw new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                "PROCESSING 상태가 아닌 요청은 완료할 수 없습니다. idempotencyKey: " + idempotency.getIdempotencyKey()
+            );
+        }
+    }
+
+    /**
+     * 멱등성 키에 주문 ID 기록 (PROCESSING일 때만, 대사 대상 식별용)
+     */
+    @Transactional
+    public void assignOrder(String idempotencyKey, Long orderId) {
+        paymentIdempotencyRepository.assignOrder(idempotencyKey, orderId);
+    }
+
     /**
      * 멱등성 키 실패 처리 (트랜잭션)
      */
@@ -0,0 +1,104 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotencyRepository;
+import io.hhplus.ecommerce.infrastructure.external.PGResponse;
+import io.hhplus.ecommerce.infrastructure.external.PGService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 대사 서비스 (PaymentReconciliationScheduler)
+ * <p>
+ * PG 승인 결과를 알 수 없어(PG_OUTCOME_UNKNOWN) 보상하지 않고 남긴 결제, 또는 PG 호출 중 프로세스가 죽은 결제는
+ * 잔액/재고가 차감된 채 멱등성 키가 PROCESSING으로 남는다. 이 서비스가 그 키를 PG 상태 조회로 확정한다.
+ * - 승인됨: 주문 완료 + 멱등성 키 COMPLETED (같은 키 재요청은 완료 응답)
+ * - 승인 없음: 멱등성 키 FAILED + 잔액/재고 복구 (같은 키로 재시도 가능)
+ * - 조회 실패: PROCESSING 유지, 다음 실행에서 다시 조회
+ * <p>
+ * stale-after는 PG 호출 타임아웃(pg.timeout.*)보다 충분히 길게 둔다 → 진행 중인 결제는 대상이 아니다.
+ * 진행 중인 결제와 겹쳐도 완료/실패는 PROCESSING 조건부 UPDATE라 한쪽만 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+    private final PaymentTransactionService transactionService;
+    private final PGService pgService;
+
+    @Value("${payment.reconciliation.stale-after:PT1M}")
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    /**
+     * stale-after 이전에 생성되어 아직 PROCESSING인 결제 대사
+     *
+     * @return 완료 또는 보상으로 확정한 건수
+     */
+    public int reconcile() {
+        return reconcile(LocalDateTime.now().minus(staleAfter));
+    }
+
+    int reconcile(LocalDateTime staleBefore) {
+        int resolved = 0;
+        long afterId = 0L;
+        List<PaymentIdempotency> page;
+        do {
+            page = paymentIdempotencyRepository.findStaleProcessing(staleBefore, afterId, PAGE_SIZE);
+            for (PaymentIdempotency idempotency : page) {
+                afterId = idempotency.getId();
+                if (reconcileOne(idempotency)) {
+                    resolved++;
+                }
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        if (resolved > 0) {
+            log.info("Payment reconciliation resolved {} payments", resolved);
+        }
+        return resolved;
+    }
+
+    private boolean reconcileOne(PaymentIdempotency idempotency) {
+        String idempotencyKey = idempotency.getIdempotencyKey();
+        if (idempotency.getOrderId() == null) {
+            // 주문 예약 전에 중단된 키 (차감 없음) 또는 주문 ID 기록 이전 키 → 확정할 주문이 없음
+            log.warn("Skipping PROCESSING payment without order. idempotencyKey: {}", idempotencyKey);
+            return false;
+        }
+
+        try {
+            PGResponse status = pgService.getPaymentStatus(idempotencyKey);
+            if (status.isSuccess()) {
+                transactionService.completeReconciled(idempotency, status.getTransactionId());
+                log.info("Reconciled payment as COMPLETED. orderId: {}, txId: {}",
+                    idempotency.getOrderId(), status.getTransactionId());
+                return true;
+            }
+
+            boolean compensated = transactionService.compensateReconciled(
+                idempotency,
+                "대사: PG 승인 내역 없음 (" + status.getMessage() + ")"
+            );
+            if (compensated) {
+                log.warn("Reconciled payment as FAILED and compensated. orderId: {}, idempotencyKey: {}",
+                    idempotency.getOrderId(), idempotencyKey);
+            }
+            return compensated;
+        } catch (Exception e) {
+            // 상태 조회 실패/경합 → PROCESSING 유지, 다음 실행에서 재시도
+            log.error("Payment reconciliation failed. orderId: {}, idempotencyKey: {}",
+                idempotency.getOrderId(), idempotencyKey, e);
+            return false;
+        }
+    }
+}
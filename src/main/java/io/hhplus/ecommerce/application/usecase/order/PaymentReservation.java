@@ -0,0 +1,18 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
+
+/**
+ * 결제 예약 결과 (예약 트랜잭션에서 로딩한 상태를 완료 단계에서 재사용)
+ *
+ * @param order 주문 (orderItems, product 초기화됨)
+ * @param idempotency 예약과 함께 생성된 멱등성 키 (PROCESSING)
+ * @param balanceAfter 차감 후 잔액
+ */
+public record PaymentReservation(
+    Order order,
+    PaymentIdempotency idempotency,
+    long balanceAfter
+) {
+}
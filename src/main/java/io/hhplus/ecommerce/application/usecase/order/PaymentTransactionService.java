@@ -2,19 +2,26 @@ package io.hhplus.ecommerce.application.usecase.order;
 
 import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
 import io.hhplus.ecommerce.application.order.dto.PaymentResponse;
+import io.hhplus.ecommerce.application.usecase.user.BalanceLedgerService;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 import io.hhplus.ecommerce.domain.order.Order;
 import io.hhplus.ecommerce.domain.order.OrderItem;
 import io.hhplus.ecommerce.domain.order.OrderItemRepository;
+import io.hhplus.ecommerce.domain.order.OrderPaymentContext;
 import io.hhplus.ecommerce.domain.order.OrderRepository;
 import io.hhplus.ecommerce.domain.order.PaymentCompletedEvent;
 import io.hhplus.ecommerce.application.usecase.order.PaymentEventPublisher;
+import io.hhplus.ecommerce.application.usecase.product.ProductEventPublisher;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotencyRepository;
 import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductChangedEvent;
 import io.hhplus.ecommerce.domain.product.ProductRepository;
-import io.hhplus.ecommerce.domain.user.User;
 import io.hhplus.ecommerce.domain.user.UserRepository;
-import io.hhplus.ecommerce.infrastructure.redis.DistributedLock;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown;
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown.Phase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.persistence.LockTimeoutException;
@@ -22,6 +29,8 @@ import jakarta.persistence.PessimisticLockException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -33,32 +42,152 @@ import java.util.List;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConnectionPool(queryTimeoutSeconds = 10)  // 비관적 락 대기(3초)보다 길게
 public class PaymentTransactionService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+    private final PaymentIdempotencyService idempotencyService;
     private final PaymentEventPublisher eventPublisher;
+    private final ProductEventPublisher productEventPublisher;
+    private final LatencyBreakdown latencyBreakdown;
+
+    /**
+     * 결제 예약 (멱등성 키 생성 + 잔액/재고 차감, 단일 트랜잭션)
+     * <p>
+     * 기존 흐름은 멱등성 키 생성 / 예약 / 완료 / 멱등성 키 완료가 각각 트랜잭션이었고,
+     * 예약에서 주문·항목·상품을 따로 조회하고 완료에서 주문·잔액·항목을 다시 조회했다.
+     * <p>
+     * 이 메서드는 한 트랜잭션에서:
+     * - 멱등성 키 INSERT (UNIQUE 위반 시 DataIntegrityViolationException → 호출 측이 기존 키 경로로 처리)
+     * - 주문 + 항목 + 상품 + 주문자 잔액/버전 조회 1회 (주문 행 잠금)
+     * - 잔액: 읽은 버전 조건부 UPDATE (차감 후 잔액 재조회 없음)
+     * - 재고: 상품 ID 오름차순 조건부 UPDATE (상품 행 잠금 조회 없음)
+     * <p>
+     * 실패 시 멱등성 키도 함께 롤백되므로 같은 키로 바로 재시도할 수 있다.
+     *
+     * @return 완료 단계에서 재사용할 예약 결과
+     */
+    @Transactional
+    public PaymentReservation reserveWithIdempotency(Long orderId, PaymentRequest request) {
+        log.debug("Reserving payment with idempotency. orderId: {}, key: {}", orderId, request.idempotencyKey());
+        latencyBreakdown.timeCommit(LatencyBreakdown.FLOW_PAYMENT);
+
+        // 1. 멱등성 키 생성 (예약과 같은 트랜잭션)
+        PaymentIdempotency idempotency = latencyBreakdown.time(
+            LatencyBreakdown.FLOW_PAYMENT,
+            Phase.IDEMPOTENCY,
+            () -> paymentIdempotencyRepository.save(
+                PaymentIdempotency.create(request.idempotencyKey(), request.userId(), orderId)
+            )
+        );
+
+        // 2. 주문/항목/상품/잔액 한 번에 조회 (Pessimistic Lock)
+        OrderPaymentContext context = latencyBreakdown.time(
+                LatencyBreakdown.FLOW_PAYMENT,
+                Phase.PRODUCT_LOAD,
+                () -> orderRepository.findPaymentContextWithLock(orderId)
+            )
+            .orElseThrow(() -> new BusinessException(
+                ErrorCode.ORDER_NOT_FOUND,
+                "주문을 찾을 수 없습니다. orderId: " + orderId
+            ));
+        Order order = context.order();
+        validatePayable(order, request);
+
+        if (context.balance() == null) {
+            throw new BusinessException(
+                ErrorCode.USER_NOT_FOUND,
+                "사용자를 찾을 수 없습니다. userId: " + request.userId()
+            );
+        }
+
+        // 3. 잔액 차감 (재고보다 먼저 → 잔액 부족 판정 우선)
+        long balanceAfter = balanceLedgerService.deductFrom(context.balance(), order.getTotalAmount(), orderId);
+
+        // 4. 재고 차감 (상품 ID 오름차순, 데드락 방지)
+        List<OrderItem> orderItems = order.getOrderItems().stream()
+            .sorted(Comparator.comparing(OrderItem::getProductId))
+            .toList();
+        latencyBreakdown.time(LatencyBreakdown.FLOW_PAYMENT, Phase.STOCK_LOCK, () -> {
+            for (OrderItem item : orderItems) {
+                if (productRepository.decreaseStock(item.getProductId(), item.getQuantity()) == 0) {
+                    throw new BusinessException(
+                        ErrorCode.INSUFFICIENT_STOCK,
+                        "재고가 부족합니다. productId: " + item.getProductId()
+                    );
+                }
+                // 엔티티를 거치지 않으므로 직접 발행 (커밋 후 재고 캐시 갱신)
+                productEventPublisher.publish(ProductChangedEvent.stock(item.getProductId()));
+            }
+        });
+
+        log.debug("Payment reserved. orderId: {}, amount: {}", orderId, order.getTotalAmount());
+        return new PaymentReservation(order, idempotency, balanceAfter);
+    }
+
+    /**
+     * 결제 완료 (주문 완료 + 멱등성 키 완료, 단일 트랜잭션)
+     * <p>
+     * 예약에서 로딩한 주문/잔액을 재사용하므로 조회 없이 조건부 UPDATE 2회로 끝난다.
+     * 응답의 잔액은 예약 시점의 차감 후 잔액이다.
+     *
+     * @param reservation 예약 결과
+     * @param pgTransactionId PG사 트랜잭션 ID
+     * @return PaymentResponse
+     */
+    @Transactional
+    public PaymentResponse completeReservation(PaymentReservation reservation, String pgTransactionId) {
+        Order order = reservation.order();
+        LocalDateTime paidAt = LocalDateTime.now();
+        latencyBreakdown.timeCommit(LatencyBreakdown.FLOW_PAYMENT);
+
+        if (orderRepository.markCompleted(order.getId(), paidAt) == 0) {
+            throw new BusinessException(
+                ErrorCode.INVALID_ORDER_STATUS,
+                "결제 대기 중인 주문만 완료할 수 있습니다. orderId: " + order.getId()
+            );
+        }
+        order.complete(paidAt);  // 로딩된 주문에도 반영 (응답/이벤트용)
+
+        PaymentResponse response = PaymentResponse.of(
+            order.getId(),
+            order.getTotalAmount(),
+            reservation.balanceAfter(),
+            "SUCCESS",
+            "PG_APPROVED: " + pgTransactionId,
+            paidAt
+        );
+        latencyBreakdown.time(
+            LatencyBreakdown.FLOW_PAYMENT,
+            Phase.IDEMPOTENCY,
+            () -> idempotencyService.markCompleted(reservation.idempotency(), order.getId(), response)
+        );
+
+        // orderItems/product는 예약 조회에서 이미 초기화됨
+        eventPublisher.publish(new PaymentCompletedEvent(order));
+
+        log.info("Payment status updated to COMPLETED. orderId: {}, txId: {}", order.getId(), pgTransactionId);
+        return response;
+    }
 
     /**
      * Step 1: 잔액 차감 (트랜잭션)
      * <p>
      * DB 트랜잭션 내에서 수행:
-     * - 주문 조회 및 검증
-     * - 잔액 차감 (Pessimistic Lock + 분산락)
-     * - 재고 차감 (Pessimistic Lock + 분산락)
+     * - 주문 조회 및 검증 (Pessimistic Lock - 같은 주문의 동시 결제 직렬화)
+     * - 잔액 차감 (BalanceLedgerService 조건부 단일 UPDATE)
+     * - 재고 차감 (Pessimistic Lock)
      * - 주문 상태 PENDING 유지 (결제 대기)
      * <p>
-     * 분산락 적용:
-     * - 락 키: "balance:user:{userId}" (충전과 동일한 키 사용!)
-     * - 여러 상품의 재고를 동시에 차감할 때 데드락 방지
-     * - 상품 ID를 오름차순 정렬하여 처리 순서 통일
-     * <p>
-     * ⚠️ 중요: 잔액 충전/차감은 동일한 락 키 사용 필수!
-     * - 충전: "balance:user:{userId}" (ChargeBalanceUseCase.chargeBalance)
-     * - 차감: "balance:user:{userId}" (이 메서드)
-     * - 서로 다른 키 사용 시 Lost Update 발생 위험
+     * 사용자 단위 분산락 / 사용자 SELECT FOR UPDATE 제거:
+     * - 잔액은 "balance >= 금액" 조건부 UPDATE로 DB가 원자적으로 차감 → Lost Update 불가
+     * - 중복 결제 방지는 주문 행 잠금으로 충분 (사용자 전체를 직렬화할 필요 없음)
+     * - 상품 ID를 오름차순 정렬하여 처리 순서 통일 (데드락 방지)
      * <p>
      * 트랜잭션 보유 시간: 약 50ms (외부 API 제외)
      *
@@ -66,47 +195,24 @@ public class PaymentTransactionService {
      * @param request 결제 요청
      * @return 주문 엔티티
      */
-    @DistributedLock(
-            key = "'balance:user:' + #request.userId()",
-            waitTime = 10,
-            leaseTime = 30
-    )
     @Transactional
     public Order reservePayment(Long orderId, PaymentRequest request) {
         log.debug("Reserving payment for order: {}", orderId);
+        latencyBreakdown.timeCommit(LatencyBreakdown.FLOW_PAYMENT);
 
-        // 1. 주문 조회 및 사용자 조회 (Pessimistic Lock)
-        Order order = orderRepository.findByIdOrThrow(orderId);
-        User user = userRepository.findByIdWithLockOrThrow(request.userId());
+        // 1. 주문 조회 (Pessimistic Lock)
+        Order order = orderRepository.findByIdWithLockOrThrow(orderId);
 
-        // 2. 주문 소유자 검증
-        if (!order.getUserId().equals(user.getId())) {
-            throw new BusinessException(
-                ErrorCode.INVALID_INPUT,
-                "주문한 사용자와 결제 요청 사용자가 다릅니다."
-            );
-        }
-
-        // 3. 주문 상태 검증
-        if (order.getStatus() != io.hhplus.ecommerce.domain.order.OrderStatus.PENDING) {
-            throw new BusinessException(
-                ErrorCode.INVALID_ORDER_STATUS,
-                "결제할 수 없는 주문 상태입니다. 현재 상태: " + order.getStatus()
-            );
-        }
+        // 2~3. 주문 소유자 / 상태 검증
+        validatePayable(order, request);
 
-        // 4. 잔액 검증
-        if (user.getBalance() < order.getTotalAmount()) {
-            throw new BusinessException(
-                ErrorCode.INSUFFICIENT_BALANCE,
-                String.format("잔액이 부족합니다. (필요: %d원, 보유: %d원)",
-                    order.getTotalAmount(), user.getBalance())
-            );
-        }
+        // 4. 잔액 차감 (조건부 UPDATE, 잔액 부족 시 INSUFFICIENT_BALANCE)
+        // 재고보다 먼저 차감하여 잔액 부족 판정이 재고 부족보다 우선하도록 유지
+        balanceLedgerService.deduct(request.userId(), order.getTotalAmount(), orderId);
 
         // 5. 재고 차감 (결제 시점, Pessimistic Lock)
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
-        try {
+        try (LatencyBreakdown.ActivePhase ignored = latencyBreakdown.start(LatencyBreakdown.FLOW_PAYMENT, Phase.STOCK_LOCK)) {
             for (OrderItem item : orderItems) {
                 Product product = productRepository.findByIdWithLockOrThrow(item.getProductId());
                 product.decreaseStock(item.getQuantity());
@@ -119,10 +225,6 @@ public class PaymentTransactionService {
             );
         }
 
-        // 6. 잔액 차감
-        user.deduct(order.getTotalAmount());
-        userRepository.save(user);
-
         log.debug("Payment reserved. orderId: {}, amount: {}", orderId, order.getTotalAmount());
         return order;
     }
@@ -156,8 +258,12 @@ public class PaymentTransactionService {
         order.complete();
         orderRepository.save(order);
 
-        // 사용자 잔액 조회
-        User user = userRepository.findByIdOrThrow(userId);
+        // 사용자 잔액 조회 (엔티티 로딩 없이 스칼라 조회)
+        Long balance = userRepository.findBalanceById(userId)
+            .orElseThrow(() -> new BusinessException(
+                ErrorCode.USER_NOT_FOUND,
+                "사용자를 찾을 수 없습니다. userId: " + userId
+            ));
 
         log.info("Payment status updated to COMPLETED. orderId: {}, txId: {}", orderId, pgTransactionId);
 
@@ -176,7 +282,7 @@ public class PaymentTransactionService {
         return PaymentResponse.of(
             order.getId(),
             order.getTotalAmount(),
-            user.getBalance(),  // 결제 후 잔액
+            balance,  // 결제 후 잔액
             "SUCCESS",
             "PG_APPROVED: " + pgTransactionId,
             order.getPaidAt()
@@ -187,7 +293,7 @@ public class PaymentTransactionService {
      * Step 4: 결제 실패 시 보상 트랜잭션 (트랜잭션)
      * <p>
      * 잔액 차감은 성공했지만 PG 승인 실패 시:
-     * - 잔액 복구 (user.charge)
+     * - 잔액 복구 (BalanceLedgerService.refund)
      * - 재고 복구 (product.increaseStock)
      * <p>
      * 트랜잭션 보유 시간: 약 50ms
@@ -213,10 +319,8 @@ public class PaymentTransactionService {
                 productRepository.save(product);
             }
 
-            // 3. 잔액 복구
-            User user = userRepository.findByIdOrThrow(userId);
-            user.charge(order.getTotalAmount());
-            userRepository.save(user);
+            // 3. 잔액 복구 (원자적 UPDATE)
+            balanceLedgerService.refund(userId, order.getTotalAmount(), orderId);
 
             log.info("Payment compensation completed. orderId: {}, refundedAmount: {}",
                 orderId, order.getTotalAmount());
@@ -228,6 +332,41 @@ public class PaymentTransactionService {
         }
     }
 
+    /**
+     * 대사: PG 승인이 확인된 PROCESSING 결제 완료 (주문 완료 + 멱등성 키 완료, 단일 트랜잭션)
+     * <p>
+     * 멱등성 키가 이미 완료/실패로 전이되었으면 예외 → 전체 롤백
+     *
+     * @param idempotency PROCESSING 상태 멱등성 키 (orderId 기록됨)
+     * @param pgTransactionId 상태 조회로 확인한 PG사 트랜잭션 ID
+     */
+    @Transactional
+    public PaymentResponse completeReconciled(PaymentIdempotency idempotency, String pgTransactionId) {
+        PaymentResponse response = updatePaymentSuccessAndCreateResponse(
+            idempotency.getOrderId(),
+            idempotency.getUserId(),
+            pgTransactionId
+        );
+        idempotencyService.markCompleted(idempotency, idempotency.getOrderId(), response);
+        return response;
+    }
+
+    /**
+     * 대사: PG 승인이 없는 PROCESSING 결제 보상 (멱등성 키 실패 + 잔액/재고 복구, 단일 트랜잭션)
+     * <p>
+     * 멱등성 키를 먼저 조건부로 FAILED 전이 → 완료 처리/다른 대사와 경합해도 보상은 한 번만 실행
+     *
+     * @return 보상했으면 true, 이미 완료/실패 처리된 키면 false
+     */
+    @Transactional
+    public boolean compensateReconciled(PaymentIdempotency idempotency, String reason) {
+        if (paymentIdempotencyRepository.markFailed(idempotency.getId(), reason) == 0) {
+            return false;
+        }
+        compensatePayment(idempotency.getOrderId(), idempotency.getUserId());
+        return true;
+    }
+
     /**
      * 주문 조회 (Phase 3용)
      *
@@ -238,4 +377,22 @@ public class PaymentTransactionService {
     public Order getOrder(Long orderId) {
         return orderRepository.findByIdOrThrow(orderId);
     }
+
+    private void validatePayable(Order order, PaymentRequest request) {
+        // 주문 소유자 검증
+        if (!order.getUserId().equals(request.userId())) {
+            throw new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                "주문한 사용자와 결제 요청 사용자가 다릅니다."
+            );
+        }
+
+        // 주문 상태 검증
+        if (order.getStatus() != io.hhplus.ecommerce.domain.order.OrderStatus.PENDING) {
+            throw new BusinessException(
+                ErrorCode.INVALID_ORDER_STATUS,
+                "결제할 수 없는 주문 상태입니다. 현재 상태: " + order.getStatus()
+            );
+        }
+    }
 }
@@ -9,17 +9,22 @@ import io.hhplus.ecommerce.domain.order.Order;
 import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
 import io.hhplus.ecommerce.infrastructure.external.PGResponse;
 import io.hhplus.ecommerce.infrastructure.external.PGService;
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown;
 import io.hhplus.ecommerce.infrastructure.metrics.MetricsCollector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.function.Function;
 
 /**
  * 결제 처리 UseCase
  * <p>
- * 동시성 제어: Pessimistic Lock (SELECT FOR UPDATE)
- * - 잔액 차감: Pessimistic Lock (Lost Update 절대 불가, 돈 손실 방지)
- * - 재고 차감: Pessimistic Lock (충돌 빈번, 크리티컬)
- * - 결제는 한 번 실패하면 재시도가 불가능하므로 정확성 최우선
+ * 동시성 제어: 주문 행 잠금 + 조건부 UPDATE
+ * - 주문: 결제 예약 조회에서 주문 행만 SELECT FOR UPDATE (같은 주문의 중복 결제 직렬화)
+ * - 잔액 차감: 조건부 UPDATE (balance >= 금액일 때만 차감, BalanceLedgerService)
+ * - 재고 차감: 조건부 UPDATE (stock >= 수량일 때만 차감, 0행이면 재고 부족)
+ * - 차감 조건을 DB가 행 잠금 안에서 판정하므로 Lost Update/음수 잔액·재고가 생기지 않는다
  * <p>
  * 멱등성 제어: Idempotency Key (중복 결제 방지)
  * - 클라이언트 제공 idempotencyKey로 중복 요청 탐지
@@ -28,11 +33,16 @@ import lombok.extern.slf4j.Slf4j;
  * - FAILED: 재시도 가능하므로 재처리
  * <p>
  * 외부 API 트랜잭션 분리: 보상 트랜잭션 패턴 (Compensation Transaction)
- * - reservePayment(): 잔액 차감만 (트랜잭션, 50ms)
+ * - reserveWithIdempotency(): 멱등성 키 생성 + 잔액/재고 차감 (트랜잭션 1회)
  * - execute(): 외부 PG API 호출 (트랜잭션 밖, 5초)
- * - updatePaymentSuccess(): 성공 시 상태 업데이트 (트랜잭션, 50ms)
+ * - completeReservation(): 성공 시 주문 완료 + 멱등성 키 완료 (트랜잭션 1회)
  * - compensatePayment(): 실패 시 보상 (트랜잭션, 50ms)
  * <p>
+ * 결제 1건당 DB 왕복 축소:
+ * - 기존: 멱등성 키 생성 / 예약 / 완료 / 멱등성 키 완료 = 트랜잭션 4회, 조회 다수 (상품 1개 기준 SQL 14개)
+ * - 변경: 예약 / 완료 = 트랜잭션 2회, 예약의 조회 1회를 완료 단계에서 재사용 (상품 1개 기준 SQL 7개)
+ * - 이미 존재하는 멱등성 키(완료 응답 반환, 동시 요청, 실패 후 재시도)는 기존 흐름으로 처리
+ * <p>
  * 제이 코치 멘토링 (docs/week5/MENTOR_QNA.md:530-667):
  * "외부 API 호출은 트랜잭션 밖으로 빼야 합니다. 레이턴시가 길어져서
  * 커넥션 풀도 고갈되고, 메모리 버퍼풀 캐시가 증가하고, Undo Log가 쌓입니다."
@@ -49,9 +59,18 @@ import lombok.extern.slf4j.Slf4j;
  * 실패 시나리오 2: 네트워크 타임아웃
  * 잔액 차감 (✅ 완료) → PG 승인 (⏰ 타임아웃)
  * → 보상: 잔액 복구 필요!
+ *
+ * 실패 시나리오 3: PG 장애 감지 (ResilientPGService 서킷 OPEN / 동시 호출 한도 초과)
+ * 잔액 차감 (✅ 완료) → PG 호출 없이 PG_UNAVAILABLE
+ * → 보상: 잔액 복구 (PG 응답을 기다리지 않고 즉시)
+ *
+ * 예외 시나리오: 승인 결과 불명 (타임아웃 후 상태 조회도 실패)
+ * 잔액 차감 (✅ 완료) → PG 승인 (❓ 알 수 없음) → PG_OUTCOME_UNKNOWN
+ * → 보상하지 않음: 멱등성 키 PROCESSING 유지 (같은 키 재요청은 DUPLICATE_REQUEST)
+ * → PaymentReconciliationScheduler가 PG 상태 조회로 주문 완료 또는 보상 확정
  * </pre>
  * <p>
- * 참고: 잔액 충전은 Optimistic Lock 사용 (ChargeBalanceUseCase)
+ * 참고: 잔액 충전도 같은 원장 서비스의 원자적 UPDATE 사용 (ChargeBalanceUseCase)
  */
 @Slf4j
 @UseCase
@@ -62,26 +81,78 @@ public class ProcessPaymentUseCase {
     private final PaymentIdempotencyService idempotencyService;
     private final PGService pgService;
     private final MetricsCollector metricsCollector;
+    private final LatencyBreakdown latencyBreakdown;
 
     /**
      * 결제 처리 (보상 트랜잭션 패턴)
      * <p>
-     * 1. 멱등성 체크 (중복 결제 방지)
-     * 2. reservePayment(): 잔액 차감 (트랜잭션)
-     * 3. PG API 호출 (트랜잭션 밖)
-     * 4. 성공 시: updatePaymentSuccess()
-     * 5. 실패 시: compensatePayment()
+     * 1. 멱등성 키 생성 + 잔액/재고 차감 (트랜잭션 1회)
+     *    - 키가 이미 있으면 기존 멱등성 흐름으로 전환
+     * 2. PG API 호출 (트랜잭션 밖)
+     * 3. 성공 시: completeReservation()
+     * 4. 실패 시: compensatePayment()
      *
      * @param orderId 주문 ID
      * @param request 결제 요청
      * @return 결제 응답
      */
     public PaymentResponse execute(Long orderId, PaymentRequest request) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         log.info("Processing payment for order: {}, user: {}, idempotencyKey: {}",
             orderId, request.userId(), request.idempotencyKey());
 
-        // 0. 멱등성 키 조회 또는 생성 (트랜잭션)
+        PaymentReservation reservation;
+        try {
+            // Step 1: 멱등성 키 생성 + 잔액/재고 차감 (트랜잭션)
+            reservation = transactionService.reserveWithIdempotency(orderId, request);
+        } catch (DataIntegrityViolationException e) {
+            if (!idempotencyKeyExists(request.idempotencyKey())) {
+                // 멱등성 키 충돌이 아닌 무결성 위반 (예약 트랜잭션 롤백)
+                log.error("Data integrity violation during payment for orderId: {}", orderId, e);
+                metricsCollector.recordPaymentFailure();
+                throw e;
+            }
+            // 같은 멱등성 키가 이미 존재 → 기존 흐름 (완료 응답 반환 / 동시 요청 / 실패 후 재시도)
+            log.debug("Idempotency key already exists, falling back: {}", request.idempotencyKey());
+            return executeWithExistingKey(orderId, request, startTime);
+        } catch (BusinessException e) {
+            // 예약 트랜잭션 롤백 → 멱등성 키도 남지 않으므로 같은 키로 재시도 가능
+            log.error("Payment failed for orderId: {}, error: {}", orderId, e.getMessage());
+            metricsCollector.recordPaymentFailure();
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error during payment for orderId: {}", orderId, e);
+            metricsCollector.recordPaymentFailure();
+            throw new BusinessException(
+                ErrorCode.INTERNAL_SERVER_ERROR,
+                "결제 처리 중 오류가 발생했습니다."
+            );
+        }
+        log.info("Payment reserved successfully. orderId: {}, amount: {}",
+            orderId, reservation.order().getTotalAmount());
+
+        return chargeAndComplete(
+            orderId,
+            request,
+            reservation.idempotency(),
+            pgTransactionId -> transactionService.completeReservation(reservation, pgTransactionId),
+            startTime
+        );
+    }
+
+    /**
+     * 예약 INSERT의 무결성 위반이 멱등성 키 UNIQUE(uk_idempotency_key) 충돌인지 확인
+     * (예약 트랜잭션은 롤백됐으므로 키가 있으면 다른 요청이 커밋한 것)
+     */
+    private boolean idempotencyKeyExists(String idempotencyKey) {
+        return idempotencyService.findByKey(idempotencyKey) != null;
+    }
+
+    /**
+     * 이미 존재하는 멱등성 키로 들어온 요청 처리 (기존 흐름)
+     */
+    private PaymentResponse executeWithExistingKey(Long orderId, PaymentRequest request, long startTime) {
+        // 멱등성 키 조회 (트랜잭션)
         PaymentIdempotencyService.PaymentIdempotencyResult idempotencyResult = idempotencyService.getOrCreate(request);
 
         // COMPLETED: 기존 결과 반환 (캐시된 응답)
@@ -92,27 +163,79 @@ public class ProcessPaymentUseCase {
 
         PaymentIdempotency idempotency = idempotencyResult.getIdempotency();
 
-        boolean reserveSucceeded = false;
         try {
-            // Step 1: 잔액 차감 (트랜잭션, 50ms)
+            // 잔액/재고 차감 (트랜잭션, 50ms)
             Order order = transactionService.reservePayment(orderId, request);
-            reserveSucceeded = true;  // Reserve transaction committed successfully
             log.info("Payment reserved successfully. orderId: {}, amount: {}", orderId, order.getTotalAmount());
+        } catch (BusinessException e) {
+            // reservePayment() 실패 시 @Transactional이 자동 롤백 처리 → 보상 불필요
+            log.error("Payment failed for orderId: {}, error: {}", orderId, e.getMessage());
+            metricsCollector.recordPaymentFailure();
+            if (!idempotency.isFailed() && !idempotency.isCompleted()) {
+                idempotencyService.saveFailure(idempotency, e.getMessage());
+            }
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error during payment for orderId: {}", orderId, e);
+            metricsCollector.recordPaymentFailure();
+            if (!idempotency.isFailed() && !idempotency.isCompleted()) {
+                idempotencyService.saveFailure(idempotency, "시스템 오류: " + e.getMessage());
+            }
+            throw new BusinessException(
+                ErrorCode.INTERNAL_SERVER_ERROR,
+                "결제 처리 중 오류가 발생했습니다."
+            );
+        }
 
-            // Step 2: 외부 PG API 호출 (트랜잭션 밖, 5초)
-            log.info("Calling external PG API...");
-            PGResponse pgResponse = pgService.charge(request);
+        // 결과 불명으로 PROCESSING이 남으면 대사가 주문을 찾을 수 있도록 기록 (예약은 이미 커밋됨 → 실패해도 진행)
+        try {
+            idempotencyService.assignOrder(request.idempotencyKey(), orderId);
+        } catch (Exception e) {
+            log.warn("Failed to record order on idempotency key. orderId: {}, idempotencyKey: {}",
+                orderId, request.idempotencyKey(), e);
+        }
 
-            if (pgResponse.isSuccess()) {
-                // Step 3: 성공 시 상태 업데이트 및 응답 생성 (트랜잭션, 50ms)
+        return chargeAndComplete(
+            orderId,
+            request,
+            idempotency,
+            pgTransactionId -> {
                 PaymentResponse response = transactionService.updatePaymentSuccessAndCreateResponse(
                     orderId,
                     request.userId(),
-                    pgResponse.getTransactionId()
+                    pgTransactionId
                 );
-
                 // 멱등성 키 완료 처리
                 idempotencyService.saveCompletion(idempotency, orderId, response);
+                return response;
+            },
+            startTime
+        );
+    }
+
+    /**
+     * 예약 이후 단계: PG 승인 → 성공 시 완료 처리, 실패 시 보상
+     *
+     * @param completion PG 트랜잭션 ID를 받아 완료 처리 후 응답을 만드는 함수
+     */
+    private PaymentResponse chargeAndComplete(
+            Long orderId,
+            PaymentRequest request,
+            PaymentIdempotency idempotency,
+            Function<String, PaymentResponse> completion,
+            long startTime) {
+        try {
+            // Step 2: 외부 PG API 호출 (트랜잭션 밖, 5초)
+            log.info("Calling external PG API...");
+            PGResponse pgResponse = latencyBreakdown.time(
+                LatencyBreakdown.FLOW_PAYMENT,
+                LatencyBreakdown.Phase.PG_CALL,
+                () -> pgService.charge(request)
+            );
+
+            if (pgResponse.isSuccess()) {
+                // Step 3: 성공 시 상태 업데이트 및 응답 생성 (트랜잭션, 50ms)
+                PaymentResponse response = completion.apply(pgResponse.getTransactionId());
 
                 // 메트릭 기록: 결제 성공
                 metricsCollector.recordPaymentSuccess();
@@ -140,21 +263,22 @@ public class ProcessPaymentUseCase {
             }
 
         } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.PG_OUTCOME_UNKNOWN) {
+                // PG에서 승인됐을 수 있으므로 보상/실패 처리하지 않음 (PROCESSING 유지 → PaymentReconciliationService가 확정)
+                log.error("Payment outcome unknown, left PROCESSING for reconciliation. orderId: {}, idempotencyKey: {}",
+                    orderId, request.idempotencyKey());
+                throw e;
+            }
+
             // 비즈니스 예외 발생 시 보상 트랜잭션
             log.error("Payment failed for orderId: {}, error: {}", orderId, e.getMessage());
 
             // 메트릭 기록: 결제 실패
             metricsCollector.recordPaymentFailure();
 
-            // reservePayment() 성공 후 실패한 경우에만 보상 필요
-            // (reservePayment() 실패 시 @Transactional이 자동 롤백 처리)
-            if (reserveSucceeded && !idempotency.isFailed()) {
-                try {
-                    transactionService.compensatePayment(orderId, request.userId());
-                } catch (Exception compensateError) {
-                    log.error("Compensation failed for orderId: {}. Manual intervention required!",
-                        orderId, compensateError);
-                }
+            // 예약은 커밋된 상태이므로 PG 실패 보상이 끝나지 않았다면 보상
+            if (!idempotency.isFailed()) {
+                compensateQuietly(orderId, request.userId());
             }
 
             // idempotency가 아직 PROCESSING 상태일 때만 fail() 호출
@@ -171,15 +295,8 @@ public class ProcessPaymentUseCase {
             // 메트릭 기록: 결제 실패
             metricsCollector.recordPaymentFailure();
 
-            // reservePayment() 성공 후 실패한 경우에만 보상 필요
-            // (reservePayment() 실패 시 @Transactional이 자동 롤백 처리)
-            if (reserveSucceeded && !idempotency.isFailed()) {
-                try {
-                    transactionService.compensatePayment(orderId, request.userId());
-                } catch (Exception compensateError) {
-                    log.error("Compensation failed for orderId: {}. Manual intervention required!",
-                        orderId, compensateError);
-                }
+            if (!idempotency.isFailed()) {
+                compensateQuietly(orderId, request.userId());
             }
 
             // idempotency가 아직 PROCESSING 상태일 때만 fail() 호출
@@ -192,4 +309,13 @@ public class ProcessPaymentUseCase {
             );
         }
     }
+
+    private void compensateQuietly(Long orderId, Long userId) {
+        try {
+            transactionService.compensatePayment(orderId, userId);
+        } catch (Exception compensateError) {
+            log.error("Compensation failed for orderId: {}. Manual intervention required!",
+                orderId, compensateError);
+        }
+    }
 }
@@ -1,39 +1,40 @@
 package io.hhplus.ecommerce.application.usecase.product;
 
+import io.hhplus.ecommerce.application.product.ProductCatalogReader;
+import io.hhplus.ecommerce.application.product.ProductStockCache;
 import io.hhplus.ecommerce.application.product.dto.ProductResponse;
 import io.hhplus.ecommerce.application.usecase.UseCase;
-import io.hhplus.ecommerce.domain.product.Product;
-import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @UseCase
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@ConnectionPool(value = "read", queryTimeoutSeconds = 2)
 public class GetProductUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductCatalogReader productCatalogReader;
+    private final ProductStockCache productStockCache;
 
     /**
-     * 상품 상세 조회 (캐시 적용)
-     *
-     * 캐시 키: "product::{productId}"
-     * - 상품 ID별로 개별 캐시
+     * 상품 상세 조회 (정적 데이터 캐시 + 재고 캐시)
      *
-     * TTL: 1시간 (CacheConfig 설정)
-     * - 상품 상세 정보는 자주 변경되지 않음
+     * 정적 데이터: "product::{productId}" (TTL 1시간, ProductCatalogReader)
+     * - 가격/상세 변경 시 ProductCacheSynchronizer가 해당 키만 갱신
      *
-     * sync=true: Thundering Herd 방지
-     * - 동일 상품에 대한 동시 요청 시 첫 요청만 DB 조회
+     * 재고: "product:{productId}:stock" (TTL 5초, ProductStockCache)
+     * - 결제/보상으로 재고가 바뀌면 커밋 후 write-through
      */
-    @Cacheable(value = "product", key = "#productId", sync = true)
     public ProductResponse execute(Long productId) {
-        log.info("Getting product detail for productId: {}", productId);
+        log.debug("Getting product detail for productId: {}", productId);
 
-        Product product = productRepository.findByIdOrThrow(productId);
-        return ProductResponse.from(product);
+        ProductResponse product = productCatalogReader.getProduct(productId);
+        Integer stock = productStockCache.getStocks(List.of(productId)).get(productId);
+        return stock != null ? product.withStock(stock) : product;
     }
 }
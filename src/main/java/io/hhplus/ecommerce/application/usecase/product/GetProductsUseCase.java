@@ -1,74 +1,54 @@
 package io.hhplus.ecommerce.application.usecase.product;
 
+import io.hhplus.ecommerce.application.product.ProductCatalogReader;
+import io.hhplus.ecommerce.application.product.ProductStockCache;
 import io.hhplus.ecommerce.application.product.dto.ProductListResponse;
 import io.hhplus.ecommerce.application.product.dto.ProductResponse;
 import io.hhplus.ecommerce.application.usecase.UseCase;
-import io.hhplus.ecommerce.domain.product.Product;
-import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
 
 @Slf4j
 @UseCase
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@ConnectionPool(value = "read", queryTimeoutSeconds = 2)
 public class GetProductsUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductCatalogReader productCatalogReader;
+    private final ProductStockCache productStockCache;
 
     /**
-     * 상품 목록 조회 (캐시 적용)
+     * 상품 목록 조회 (정적 데이터 캐시 + 재고 캐시)
      *
-     * 캐시 키: "products::{category}:{sort}"
-     * - category와 sort 파라미터 조합으로 캐시 키 생성
-     * - null 값은 "all", "default"로 치환
+     * 정적 데이터: "products::{category}:{sort}" (TTL 1시간, ProductCatalogReader)
+     * - category가 null이면 "all", 알 수 없는 sort는 "default"로 정규화
+     * - 가격/상세 변경 시 ProductCacheSynchronizer가 관련 카테고리 키만 무효화
      *
-     * TTL: 1시간 (CacheConfig 설정)
-     * - 상품 정보는 자주 변경되지 않음
-     *
-     * sync=true: Thundering Herd 방지
-     * - 동일 키에 대한 동시 요청 시 첫 요청만 DB 조회
-     * - 나머지 요청은 결과를 기다림
+     * 재고: 목록 상품의 재고를 MGET 1회로 덮어씀 (ProductStockCache)
      */
-    @Cacheable(
-            value = "products",
-            // category와 sort를 모두 포함하도록 키를 구성해 캐시 충돌을 방지
-            key = "(#category != null ? #category : 'all') + ':' + (#sort != null ? #sort : 'default')",
-            sync = true
-    )
     public ProductListResponse execute(String category, String sort) {
-        log.info("Getting products - category: {}, sort: {}", category, sort);
-
-        // 1. 전체 상품 조회
-        List<Product> products = productRepository.findAll();
-
-        // 2. 카테고리 필터링
-        Stream<Product> productStream = products.stream();
-        if (category != null && !category.isEmpty()) {
-            productStream = productStream.filter(p -> p.getCategory().equals(category));
-        }
-
-        // 3. 정렬
-        if (sort != null) {
-            productStream = switch (sort) {
-                case "price", "price_asc" -> productStream.sorted(Comparator.comparing(Product::getPrice));
-                case "price_desc" -> productStream.sorted(Comparator.comparing(Product::getPrice).reversed());
-                case "newest" -> productStream.sorted(Comparator.comparing(Product::getCreatedAt).reversed());
-                default -> productStream;
-            };
-        }
-
-        List<ProductResponse> productResponses = productStream
-            .map(ProductResponse::from)
+        log.debug("Getting products - category: {}, sort: {}", category, sort);
+
+        ProductListResponse cached = productCatalogReader.getProducts(
+            category != null && !category.isEmpty() ? category : null,
+            ProductCatalogReader.normalizeSort(sort)
+        );
+
+        Map<Long, Integer> stocks = productStockCache.getStocks(
+            cached.products().stream().map(ProductResponse::productId).toList()
+        );
+        List<ProductResponse> products = cached.products().stream()
+            .map(product -> {
+                Integer stock = stocks.get(product.productId());
+                return stock != null ? product.withStock(stock) : product;
+            })
             .toList();
-
-        log.debug("Found {} products", productResponses.size());
-        return ProductListResponse.of(productResponses);
+        return ProductListResponse.of(products);
     }
 }
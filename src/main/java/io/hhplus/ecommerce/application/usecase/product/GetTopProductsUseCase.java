@@ -4,6 +4,7 @@ import io.hhplus.ecommerce.application.product.dto.TopProductItem;
 import io.hhplus.ecommerce.application.product.dto.TopProductResponse;
 import io.hhplus.ecommerce.application.usecase.UseCase;
 import io.hhplus.ecommerce.domain.product.ProductSalesAggregateRepository;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -16,6 +17,7 @@ import java.util.List;
 @UseCase
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@ConnectionPool(value = "read", queryTimeoutSeconds = 2)
 public class GetTopProductsUseCase {
 
     private final ProductSalesAggregateRepository aggregateRepository;
@@ -0,0 +1,13 @@
+package io.hhplus.ecommerce.application.usecase.product;
+
+import io.hhplus.ecommerce.domain.product.ProductChangedEvent;
+
+/**
+ * 상품 변경 이벤트 퍼블리셔 추상화
+ * - 엔티티를 거치지 않는 변경(조건부 UPDATE 재고 차감)에서 직접 발행
+ * - 엔티티 변경은 save() 시 Product.@DomainEvents로 발행됨
+ */
+public interface ProductEventPublisher {
+
+    void publish(ProductChangedEvent event);
+}
@@ -0,0 +1,163 @@
+package io.hhplus.ecommerce.application.usecase.user;
+
+import io.hhplus.ecommerce.application.user.dto.ChargeBalanceRequest;
+import io.hhplus.ecommerce.application.user.dto.ChargeBalanceResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 충전 요청 결합기 (flat combining)
+ * <p>
+ * 같은 사용자에게 충전이 몰리면 요청마다 트랜잭션을 열고 users 행 잠금을 차례로 넘겨받는다.
+ * 결합기는 요청을 사용자별 대기열에 넣고, 잠금을 먼저 잡은 스레드(combiner)가 대기열을 비워
+ * 한 트랜잭션(멱등성 saveAll + 합계 UPDATE 1회)으로 처리한 뒤 각 요청의 future를 완료한다.
+ * → N번의 행 잠금 인계가 1번으로 줄어든다.
+ * <p>
+ * 실패 격리: 묶음 트랜잭션이 실패하면(잘못된 요청 1건, 중복 키 등) 묶음의 요청을 하나씩 다시 처리해
+ * 실패한 요청만 예외를 받도록 한다.
+ * <p>
+ * 노드 로컬 결합이며, 노드 간 동시 충전은 기존처럼 DB 행 잠금으로 직렬화된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceChargeCombiner {
+
+    /**
+     * 대기 중인 스레드가 잠금을 다시 시도하는 주기 (그 사이 다른 combiner가 처리했는지 확인)
+     */
+    private static final long LOCK_POLL_MILLIS = 5L;
+
+    private final ChargeBalanceBatchService chargeBalanceBatchService;
+
+    private final ConcurrentMap<Long, UserChargeQueue> queues = new ConcurrentHashMap<>();
+
+    @Value("${balance.charge-combiner.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${balance.charge-combiner.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    /**
+     * 충전 요청 제출 후 결과 대기
+     */
+    public ChargeBalanceResponse charge(Long userId, ChargeBalanceRequest request) {
+        if (!enabled) {
+            return chargeBalanceBatchService.charge(userId, List.of(request)).get(0);
+        }
+
+        PendingCharge pending = new PendingCharge(request, new CompletableFuture<>());
+        UserChargeQueue queue = queues.computeIfAbsent(userId, id -> new UserChargeQueue());
+        queue.pending.add(pending);
+
+        while (!pending.result.isDone()) {
+            if (!tryLock(queue)) {
+                continue;
+            }
+            try {
+                if (!pending.result.isDone()) {
+                    combine(userId, queue);
+                }
+                if (queue.pending.isEmpty()) {
+                    // 제거 직후 다른 스레드가 이 대기열에 넣더라도 그 스레드가 직접 잠금을 잡고 처리한다
+                    queues.remove(userId, queue);
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+
+        return await(pending.result);
+    }
+
+    /**
+     * 대기열에서 최대 maxBatchSize건을 꺼내 한 번에 처리
+     */
+    private void combine(Long userId, UserChargeQueue queue) {
+        List<PendingCharge> batch = new ArrayList<>();
+        PendingCharge next;
+        while (batch.size() < maxBatchSize && (next = queue.pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ChargeBalanceResponse> responses = chargeBalanceBatchService.charge(
+                userId,
+                batch.stream().map(PendingCharge::request).toList()
+            );
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(responses.get(i));
+            }
+            if (batch.size() > 1) {
+                log.debug("Combined charges applied. userId: {}, requests: {}", userId, batch.size());
+            }
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+
+            log.warn("Combined charge failed, retrying individually. userId: {}, requests: {}, error: {}",
+                userId, batch.size(), e.getMessage());
+            for (PendingCharge charge : batch) {
+                try {
+                    charge.result.complete(
+                        chargeBalanceBatchService.charge(userId, List.of(charge.request)).get(0)
+                    );
+                } catch (Exception individualFailure) {
+                    charge.result.completeExceptionally(individualFailure);
+                }
+            }
+        }
+    }
+
+    private boolean tryLock(UserChargeQueue queue) {
+        try {
+            return queue.lock.tryLock(LOCK_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("충전 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private ChargeBalanceResponse await(CompletableFuture<ChargeBalanceResponse> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("충전 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("충전 처리 실패", e.getCause());
+        }
+    }
+
+    private static final class UserChargeQueue {
+        private final Queue<PendingCharge> pending = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock lock = new ReentrantLock();
+    }
+
+    private record PendingCharge(
+        ChargeBalanceRequest request,
+        CompletableFuture<ChargeBalanceResponse> result
+    ) {
+    }
+}
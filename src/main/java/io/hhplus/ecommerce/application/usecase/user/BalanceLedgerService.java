@@ -0,0 +1,212 @@
+package io.hhplus.ecommerce.application.usecase.user;
+
+import io.hhplus.ecommerce.application.user.dto.ChargeBalanceRequest;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.user.BalanceChangedEvent;
+import io.hhplus.ecommerce.domain.user.BalanceLedgerEntry;
+import io.hhplus.ecommerce.domain.user.BalanceLedgerRepository;
+import io.hhplus.ecommerce.domain.user.UserBalance;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 잔액 원장 서비스 (충전/차감 단일 진입점)
+ * <p>
+ * 잔액 변경을 조건부 단일 UPDATE로 처리한다.
+ * - 충전: UPDATE users SET balance = balance + ? WHERE id = ?
+ * - 차감: UPDATE users SET balance = balance - ? WHERE id = ? AND balance >= ?
+ * <p>
+ * DB가 행 잠금 안에서 계산하므로 분산락, SELECT FOR UPDATE, 낙관적 락 재시도가 모두 필요 없다.
+ * 같은 사용자에 대한 동시 충전은 행 잠금 대기만 발생하고 각각 한 번의 UPDATE로 끝난다.
+ * <p>
+ * 변경 후 잔액은 같은 트랜잭션에서 PK 스칼라 조회로 읽는다 (MySQL에는 RETURNING이 없음).
+ * 해당 행은 커밋까지 이 트랜잭션이 잠그고 있으므로 읽은 값이 곧 이 변경의 결과다.
+ * 결제 예약 경로는 이미 읽은 잔액/버전을 조건으로 차감해 이 재조회도 생략한다.
+ * <p>
+ * 모든 변경은 같은 트랜잭션에서 balance_ledger에 한 줄씩 추가된다 (append-only).
+ * users.balance는 원장을 누적한 스냅샷 역할을 하며, 원장과의 대사는 BalanceSnapshotService가 담당한다.
+ * 변경 후 잔액/버전으로 BalanceChangedEvent를 발행하고, 커밋 후 잔액 조회 캐시에 write-through 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceLedgerService {
+
+    private final UserRepository userRepository;
+    private final BalanceLedgerRepository balanceLedgerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 잔액 충전
+     *
+     * @param idempotencyKey 충전 요청 멱등성 키 (원장 추적용, null 허용)
+     * @return 충전 후 잔액
+     */
+    @Transactional
+    public long charge(Long userId, Long amount, String idempotencyKey) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(
+                ErrorCode.INVALID_CHARGE_AMOUNT,
+                "충전 금액은 0보다 커야 합니다"
+            );
+        }
+
+        long balance = increase(userId, amount);
+        balanceLedgerRepository.save(BalanceLedgerEntry.charge(userId, amount, idempotencyKey, balance));
+        log.debug("Balance charged. userId: {}, amount: {}, balance: {}", userId, amount, balance);
+        return balance;
+    }
+
+    /**
+     * 결합된 충전 요청 일괄 처리 (BalanceChargeCombiner)
+     * <p>
+     * 합계 금액으로 UPDATE 1회 → 요청 순서대로 누적한 잔액을 각 요청의 결과로 원장에 기록한다.
+     * 같은 트랜잭션 안이므로 요청을 하나씩 처리한 것과 결과가 같다.
+     *
+     * @return 요청 순서별 충전 후 잔액
+     */
+    @Transactional
+    public List<Long> chargeAll(Long userId, List<ChargeBalanceRequest> requests) {
+        long total = 0L;
+        for (ChargeBalanceRequest request : requests) {
+            if (request.amount() == null || request.amount() <= 0) {
+                throw new BusinessException(
+                    ErrorCode.INVALID_CHARGE_AMOUNT,
+                    "충전 금액은 0보다 커야 합니다"
+                );
+            }
+            total += request.amount();
+        }
+
+        long running = increase(userId, total) - total;
+        List<Long> balances = new ArrayList<>(requests.size());
+        for (ChargeBalanceRequest request : requests) {
+            running += request.amount();
+            balances.add(running);
+            balanceLedgerRepository.save(
+                BalanceLedgerEntry.charge(userId, request.amount(), request.idempotencyKey(), running)
+            );
+        }
+
+        log.debug("Balance charged in batch. userId: {}, requests: {}, total: {}, balance: {}",
+            userId, requests.size(), total, running);
+        return balances;
+    }
+
+    /**
+     * 결제 실패 보상 환불
+     *
+     * @return 환불 후 잔액
+     */
+    @Transactional
+    public long refund(Long userId, Long amount, Long orderId) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                "환불 금액은 0보다 커야 합니다"
+            );
+        }
+
+        long balance = increase(userId, amount);
+        balanceLedgerRepository.save(BalanceLedgerEntry.refund(userId, amount, orderId, balance));
+        log.debug("Balance refunded. userId: {}, orderId: {}, amount: {}, balance: {}",
+            userId, orderId, amount, balance);
+        return balance;
+    }
+
+    /**
+     * 주문 결제 차감
+     *
+     * @return 차감 후 잔액
+     */
+    @Transactional
+    public long deduct(Long userId, Long amount, Long orderId) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                "차감 금액은 0보다 커야 합니다"
+            );
+        }
+
+        if (userRepository.decreaseBalance(userId, amount) == 0) {
+            // 실패 사유 구분 (사용자 없음 / 잔액 부족) - 실패 경로에서만 추가 조회
+            long balance = userRepository.findBalanceById(userId)
+                .orElseThrow(() -> userNotFound(userId));
+            throw new BusinessException(
+                ErrorCode.INSUFFICIENT_BALANCE,
+                String.format("잔액이 부족합니다. (필요: %d원, 보유: %d원)", amount, balance)
+            );
+        }
+
+        long balance = changedBalance(userId);
+        balanceLedgerRepository.save(BalanceLedgerEntry.payment(userId, amount, orderId, balance));
+        log.debug("Balance deducted. userId: {}, orderId: {}, amount: {}, balance: {}",
+            userId, orderId, amount, balance);
+        return balance;
+    }
+
+    /**
+     * 주문 결제 차감 (이미 읽은 잔액/버전 기준)
+     * <p>
+     * 결제 예약 조회에서 함께 읽은 잔액으로 버전 조건부 UPDATE를 시도한다.
+     * 성공하면 변경 후 잔액/버전을 계산으로 얻으므로 PK 재조회가 없다.
+     * 그 사이 다른 변경이 있었거나 잔액이 부족하면 기존 조건부 차감으로 처리한다.
+     *
+     * @param expected 같은 트랜잭션에서 읽은 잔액/버전
+     * @return 차감 후 잔액
+     */
+    @Transactional
+    public long deductFrom(UserBalance expected, Long amount, Long orderId) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                "차감 금액은 0보다 커야 합니다"
+            );
+        }
+
+        Long userId = expected.userId();
+        if (expected.balance() < amount
+            || userRepository.decreaseBalanceIfVersion(userId, amount, expected.version()) == 0) {
+            return deduct(userId, amount, orderId);
+        }
+
+        UserBalance changed = new UserBalance(userId, expected.balance() - amount, expected.version() + 1);
+        eventPublisher.publishEvent(new BalanceChangedEvent(changed));
+        balanceLedgerRepository.save(BalanceLedgerEntry.payment(userId, amount, orderId, changed.balance()));
+        log.debug("Balance deducted. userId: {}, orderId: {}, amount: {}, balance: {}",
+            userId, orderId, amount, changed.balance());
+        return changed.balance();
+    }
+
+    private long increase(Long userId, Long amount) {
+        if (userRepository.increaseBalance(userId, amount) == 0) {
+            throw userNotFound(userId);
+        }
+        return changedBalance(userId);
+    }
+
+    /**
+     * 변경 직후 잔액 조회 + 잔액 변경 이벤트 발행
+     */
+    private long changedBalance(Long userId) {
+        UserBalance balance = userRepository.findUserBalanceById(userId)
+            .orElseThrow(() -> userNotFound(userId));
+        eventPublisher.publishEvent(new BalanceChangedEvent(balance));
+        return balance.balance();
+    }
+
+    private BusinessException userNotFound(Long userId) {
+        return new BusinessException(
+            ErrorCode.USER_NOT_FOUND,
+            "사용자를 찾을 수 없습니다. userId: " + userId
+        );
+    }
+}
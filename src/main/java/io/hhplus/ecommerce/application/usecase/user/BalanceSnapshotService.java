@@ -0,0 +1,84 @@
+package io.hhplus.ecommerce.application.usecase.user;
+
+import io.hhplus.ecommerce.domain.user.BalanceLedgerRepository;
+import io.hhplus.ecommerce.domain.user.BalanceSnapshot;
+import io.hhplus.ecommerce.domain.user.BalanceSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 잔액 원장 스냅샷 서비스
+ * <p>
+ * 원장 기준 잔액 = 마지막 스냅샷 + 이후 원장 꼬리 합계.
+ * 스냅샷을 주기적으로 전진시켜 재계산 시 읽어야 하는 꼬리 구간을 한 주기 분량으로 제한한다.
+ * <p>
+ * 안전 지연(safety-lag):
+ * IDENTITY ID는 INSERT 시점에 할당되고 커밋 순서와는 다를 수 있다.
+ * 아직 커밋되지 않은 작은 ID를 건너뛰지 않도록 safety-lag 이전에 기록된 원장까지만 스냅샷에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSnapshotService {
+
+    private final BalanceLedgerRepository balanceLedgerRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Value("${balance.snapshot.safety-lag:PT1M}")
+    private Duration safetyLag = Duration.ofMinutes(1);
+
+    /**
+     * (afterLedgerId, 상한] 구간에 원장이 생긴 사용자들의 스냅샷 전진
+     *
+     * @param afterLedgerId 직전 실행에서 반영한 원장 ID
+     * @return 이번 실행에서 반영한 원장 ID 상한 (다음 실행의 afterLedgerId)
+     */
+    @Transactional
+    public long takeSnapshots(long afterLedgerId) {
+        long uptoLedgerId = balanceLedgerRepository
+            .findMaxIdCreatedBefore(afterLedgerId, LocalDateTime.now().minus(safetyLag))
+            .orElse(afterLedgerId);
+        if (uptoLedgerId <= afterLedgerId) {
+            return afterLedgerId;
+        }
+
+        List<Long> userIds = balanceLedgerRepository.findUserIdsBetween(afterLedgerId, uptoLedgerId);
+        Map<Long, BalanceSnapshot> snapshots = balanceSnapshotRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(BalanceSnapshot::getUserId, Function.identity()));
+
+        for (Long userId : userIds) {
+            BalanceSnapshot snapshot = snapshots.getOrDefault(userId, BalanceSnapshot.empty(userId));
+            // 사용자별 lastLedgerId 기준으로 합산하므로 재실행/재시작 시에도 중복 반영되지 않음
+            long tail = balanceLedgerRepository.sumDeltaBetween(userId, snapshot.getLastLedgerId(), uptoLedgerId);
+            snapshot.advance(tail, uptoLedgerId);
+            balanceSnapshotRepository.save(snapshot);
+        }
+
+        log.info("Balance snapshots advanced. users: {}, ledgerId: {} -> {}",
+            userIds.size(), afterLedgerId, uptoLedgerId);
+        return uptoLedgerId;
+    }
+
+    /**
+     * 원장 기준 잔액 재계산 (마지막 스냅샷 + 꼬리 합계)
+     * <p>
+     * users.balance와의 대사 및 장애 복구용. 조회 API는 users.balance를 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public long reconstructBalance(Long userId) {
+        BalanceSnapshot snapshot = balanceSnapshotRepository.findById(userId)
+            .orElseGet(() -> BalanceSnapshot.empty(userId));
+        return snapshot.getBalance()
+            + balanceLedgerRepository.sumDeltaBetween(userId, snapshot.getLastLedgerId(), Long.MAX_VALUE);
+    }
+}
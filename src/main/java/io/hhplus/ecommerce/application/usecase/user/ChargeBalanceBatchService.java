@@ -0,0 +1,64 @@
+package io.hhplus.ecommerce.application.usecase.user;
+
+import io.hhplus.ecommerce.application.user.dto.ChargeBalanceRequest;
+import io.hhplus.ecommerce.application.user.dto.ChargeBalanceResponse;
+import io.hhplus.ecommerce.domain.user.BalanceChargedEvent;
+import io.hhplus.ecommerce.domain.user.ChargeBalanceIdempotency;
+import io.hhplus.ecommerce.domain.user.ChargeBalanceIdempotencyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 같은 사용자의 충전 요청 묶음을 한 트랜잭션으로 처리
+ * <p>
+ * 트랜잭션 내 쿼리: 멱등성 INSERT(요청 수만큼, 한 번의 saveAll) → 잔액 UPDATE 1회 → 잔액 조회 → 원장 INSERT
+ * <p>
+ * 묶음 중 하나라도 실패하면 전체가 롤백된다 (실패 격리는 BalanceChargeCombiner가 개별 재처리로 담당).
+ * 요청이 1건이면 기존 단건 충전과 동일하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChargeBalanceBatchService {
+
+    private final BalanceLedgerService balanceLedgerService;
+    private final ChargeBalanceIdempotencyRepository idempotencyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 요청 순서별 충전 응답
+     */
+    @Transactional
+    public List<ChargeBalanceResponse> charge(Long userId, List<ChargeBalanceRequest> requests) {
+        // 1. 멱등성 키 생성 (PROCESSING 상태)
+        List<ChargeBalanceIdempotency> idempotencies = new ArrayList<>(requests.size());
+        for (ChargeBalanceRequest request : requests) {
+            idempotencies.add(ChargeBalanceIdempotency.create(request.idempotencyKey(), userId, request.amount()));
+        }
+        idempotencyRepository.saveAll(idempotencies);
+
+        // 2. 합계 충전 (UPDATE 1회, 사용자가 없으면 USER_NOT_FOUND)
+        List<Long> balances = balanceLedgerService.chargeAll(userId, requests);
+
+        // 3. 요청별 응답 + 이벤트 발행 (커밋 후 멱등성 완료 처리)
+        LocalDateTime chargedAt = LocalDateTime.now();
+        List<ChargeBalanceResponse> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ChargeBalanceRequest request = requests.get(i);
+            ChargeBalanceResponse response = ChargeBalanceResponse.of(
+                userId,
+                balances.get(i),
+                request.amount(),
+                chargedAt
+            );
+            eventPublisher.publishEvent(new BalanceChargedEvent(request.idempotencyKey(), response));
+            responses.add(response);
+        }
+        return responses;
+    }
+}
@@ -2,6 +2,7 @@ package io.hhplus.ecommerce.application.usecase.user;
 
 import io.hhplus.ecommerce.domain.user.ChargeBalanceIdempotency;
 import io.hhplus.ecommerce.domain.user.ChargeBalanceIdempotencyRepository;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @RequiredArgsConstructor
+@ConnectionPool(value = "side", queryTimeoutSeconds = 3)  // REQUIRES_NEW: 바깥 트랜잭션의 커넥션과 다른 풀
 public class ChargeBalanceIdempotencySaveService {
 
     private final ChargeBalanceIdempotencyRepository idempotencyRepository;
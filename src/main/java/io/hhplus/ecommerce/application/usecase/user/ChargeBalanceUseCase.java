@@ -10,78 +10,50 @@ import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 import io.hhplus.ecommerce.domain.user.ChargeBalanceIdempotency;
 import io.hhplus.ecommerce.domain.user.ChargeBalanceIdempotencyRepository;
-import io.hhplus.ecommerce.domain.user.User;
-import io.hhplus.ecommerce.domain.user.UserRepository;
-import io.hhplus.ecommerce.infrastructure.redis.DistributedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * 잔액 충전 UseCase
  * <p>
- * 동시성 제어: 분산락 + Optimistic Lock + 자동 재시도 (3중 방어)
- * - 1차 방어: 분산락 (인스턴스 간 동시성 제어)
- * - 2차 방어: Optimistic Lock (@Version, DB 레벨)
- * - 3차 방어: 자동 재시도 (일시적 충돌 해결)
+ * 동시성 제어: 원자적 단일 UPDATE (BalanceLedgerService)
+ * - UPDATE users SET balance = balance + ? WHERE id = ?
+ * - DB가 행 잠금 안에서 계산하므로 Lost Update 불가
+ * - 분산락, Optimistic Lock 재시도(최대 10회, Exponential Backoff)가 더 이상 필요 없음
  * <p>
- * 충전은 충돌 가능성이 낮고, 충돌 시 재시도 가능하므로 성능을 우선
- * - OptimisticLockingFailureException 발생 시 자동 재시도 (최대 10회)
- * - Exponential Backoff 전략: 50ms → 100ms → 200ms → 400ms ...
+ * 같은 사용자에 대한 동시 충전은 BalanceChargeCombiner가 묶어서 처리
+ * - 먼저 잠금을 잡은 요청이 대기 중인 요청까지 한 트랜잭션(합계 UPDATE 1회)으로 처리
+ * - 행 잠금 인계가 요청 수만큼이 아니라 묶음당 1번
  * <p>
- * 제이 코치 피드백 반영:
- * "낙관적 락 충돌 시 자동 재시도 로직을 추가하면 더 안정적입니다."
+ * 멱등성: Idempotency Key + DB Unique Constraint
  * <p>
- * ⚠️ Self-Invocation 문제 해결:
- * - @DistributedLock을 외부 메서드(execute)에 적용
- * - 내부 메서드(chargeBalanceInternal)는 @Transactional만 적용
- * - 재시도 로직은 분산락 획득 후 실행
- * <p>
- * 참고: 잔액 차감(결제)은 Pessimistic Lock 사용 (ProcessPaymentUseCase)
+ * 참고: 잔액 차감(결제)도 같은 원장 서비스의 조건부 UPDATE 사용 (PaymentTransactionService)
  */
 @Slf4j
 @UseCase
 @RequiredArgsConstructor
 public class ChargeBalanceUseCase {
 
-    private final UserRepository userRepository;
-    private final OptimisticLockRetryService retryService;
+    private final BalanceChargeCombiner balanceChargeCombiner;
     private final ChargeBalanceIdempotencyRepository idempotencyRepository;
-    private final org.springframework.context.ApplicationEventPublisher eventPublisher;
 
     /**
      * 잔액 충전 (멱등성 보장)
      * <p>
-     * 동시성 제어: 분산락 (1차 방어)
-     * - 락 키: "balance:user:{userId}" (충전/차감/조회 모두 동일!)
-     * - 여러 인스턴스 간 동시성 제어
-     * - 락 획득 후 멱등성 체크 및 재시도 로직 실행
-     * <p>
-     * ⚠️ 중요: 잔액 충전/차감/조회는 동일한 락 키 사용 필수!
-     * - 충전: "balance:user:{userId}" (이 메서드)
-     * - 차감: "balance:user:{userId}" (PaymentTransactionService.reservePayment)
-     * - 조회: "balance:user:{userId}" (GetBalanceUseCase)
-     * - 서로 다른 키 사용 시 Lost Update 발생 위험!
-     * <p>
      * 멱등성 보장: Idempotency Key + DB Unique Constraint
      * - 중복 요청 방지: 동일 키로 재시도 시 캐시된 응답 반환
      * - DB Unique Constraint로 동시 요청 차단
      * - 상태 관리: PROCESSING → COMPLETED
+     * <p>
+     * 멱등성 조회와 요청 검증은 결합 대기열에 넣기 전에 수행하고,
+     * 충전 트랜잭션(멱등성 INSERT → 잔액 UPDATE → 이벤트 발행)은 ChargeBalanceBatchService가 담당한다.
+     * 대기 중에는 트랜잭션/커넥션을 잡지 않는다.
      */
-    @Transactional
-    @DistributedLock(
-            key = "'balance:user:' + #userId",
-            waitTime = 10,
-            leaseTime = 30
-    )
     public ChargeBalanceResponse execute(Long userId, ChargeBalanceRequest request) {
         log.info("Charging balance for userId: {}, amount: {}, idempotencyKey: {}",
                 userId, request.amount(), request.idempotencyKey());
-        
-        User user = userRepository.findByIdOrThrow(userId);
 
         // 1. 멱등성 키 조회
         Optional<ChargeBalanceIdempotency> existingIdempotency =
@@ -108,69 +80,13 @@ public class ChargeBalanceUseCase {
             log.info("Retrying expired/failed request. idempotencyKey: {}", request.idempotencyKey());
         }
 
-        // 2. 멱등성 키 생성 (PROCESSING 상태)
-        ChargeBalanceIdempotency idempotency =
-                ChargeBalanceIdempotency.create(request.idempotencyKey(), user, request.amount());
-        idempotencyRepository.save(idempotency);
-
-        try {
-            // 3. 충전 처리 (재시도 로직 포함)
-            ChargeBalanceResponse response =
-                    retryService.executeWithRetry(() -> chargeBalanceInternal(userId, request.idempotencyKey(), request), 10);
-
-            log.info("Charge completed successfully. idempotencyKey: {}", request.idempotencyKey());
-            return response;
-
-        } catch (Exception e) {
-            // 4. 실패 처리
-            idempotency.fail(e.getMessage());
-            idempotencyRepository.save(idempotency);
-            throw e;
-        }
-    }
-
-    /**
-     * 잔액 충전 실행 (트랜잭션 단위)
-     * <p>
-     * 동시성 제어: Optimistic Lock (2차 방어) + 자동 재시도 (3차 방어)
-     * - Optimistic Lock: 충돌 가능성 낮음 (사용자별 데이터)
-     * - 자동 재시도: 충돌 시 재시도로 해결 (최대 10회)
-     * <p>
-     * 차감과 대조: 차감(결제)은 Pessimistic Lock (ProcessPaymentUseCase 참고)
-     * <p>
-     * Phase 2: 이벤트 발행을 트랜잭션 내부로 이동
-     * - @TransactionalEventListener(AFTER_COMMIT)가 작동하려면 이벤트가 트랜잭션 내에서 발행되어야 함
-     */
-    @Transactional
-    protected ChargeBalanceResponse chargeBalanceInternal(Long userId, String idempotencyKey, ChargeBalanceRequest request) {
-        // 1. 사용자 조회 (Optimistic Lock)
-        User user = userRepository.findByIdOrThrow(userId);
-
-        // 2. 잔액 충전
-        user.charge(request.amount());
-        userRepository.save(user);
-
-        log.debug("Balance charged successfully. userId: {}, new balance: {}", userId, user.getBalance());
-
-        // 3. 충전 결과 생성
-        ChargeBalanceResponse response = ChargeBalanceResponse.of(
-            user.getId(),
-            user.getBalance(),
-            request.amount(),
-            LocalDateTime.now()
-        );
+        // 2. 요청 검증 (잘못된 요청은 대기열에 넣지 않음)
+        ChargeBalanceIdempotency.validate(request.idempotencyKey(), userId, request.amount());
 
-        // 4. 이벤트 발행 (Phase 2: 멱등성 완료 처리를 이벤트로 분리)
-        // 트랜잭션 내부에서 발행해야 @TransactionalEventListener(AFTER_COMMIT)이 작동함
-        log.info("이벤트 발행 중: idempotencyKey={}", idempotencyKey);
-        eventPublisher.publishEvent(
-            new io.hhplus.ecommerce.domain.user.BalanceChargedEvent(
-                idempotencyKey,
-                response
-            )
-        );
-        log.info("이벤트 발행 완료: idempotencyKey={}", idempotencyKey);
+        // 3. 충전 처리 (사용자별 결합, 사용자가 없으면 USER_NOT_FOUND)
+        ChargeBalanceResponse response = balanceChargeCombiner.charge(userId, request);
 
+        log.info("Charge completed successfully. idempotencyKey: {}", request.idempotencyKey());
         return response;
     }
 
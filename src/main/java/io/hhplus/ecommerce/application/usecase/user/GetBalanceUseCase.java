@@ -2,24 +2,46 @@ package io.hhplus.ecommerce.application.usecase.user;
 
 import io.hhplus.ecommerce.application.usecase.UseCase;
 import io.hhplus.ecommerce.application.user.dto.BalanceResponse;
-import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.user.UserBalance;
 import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.redis.BalanceCacheStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 잔액 조회
+ * <p>
+ * users.balance는 잔액 원장(balance_ledger)을 누적한 스냅샷이므로 원장을 합산하지 않고 스냅샷 값만 읽는다.
+ * <p>
+ * 조회 순서: near-cache → Redis → DB
+ * - 잔액 변경은 커밋 후 캐시에 write-through 되므로 정상 상태에서는 DB 커넥션을 사용하지 않는다
+ * - 캐시 미스 시에만 PK 스칼라 조회 (영속성 컨텍스트/트랜잭션 불필요) 후 버전 규칙으로 적재
+ */
 @Slf4j
 @UseCase
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class GetBalanceUseCase {
 
     private final UserRepository userRepository;
+    private final BalanceCacheStore balanceCacheStore;
 
     public BalanceResponse execute(Long userId) {
         log.info("Getting balance for userId: {}", userId);
 
-        User user = userRepository.findByIdOrThrow(userId);
-        return BalanceResponse.of(user.getId(), user.getBalance());
+        UserBalance balance = balanceCacheStore.find(userId)
+            .orElseGet(() -> loadBalance(userId));
+        return BalanceResponse.of(userId, balance.balance());
+    }
+
+    private UserBalance loadBalance(Long userId) {
+        UserBalance balance = userRepository.findUserBalanceById(userId)
+            .orElseThrow(() -> new BusinessException(
+                ErrorCode.USER_NOT_FOUND,
+                "사용자를 찾을 수 없습니다. userId: " + userId
+            ));
+        balanceCacheStore.fill(balance);
+        return balance;
     }
 }
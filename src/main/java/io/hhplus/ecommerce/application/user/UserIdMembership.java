@@ -0,0 +1,95 @@
+package io.hhplus.ecommerce.application.user;
+
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자 ID 멤버십 인덱스 (노드 로컬 비트맵)
+ *
+ * 예약 요청마다 users 테이블을 조회하지 않고 사용자 존재 여부를 판정한다.
+ * - 사용자 ID(AUTO_INCREMENT, 조밀함)를 65,536비트 단위 페이지로 나눈 비트맵 (Roaring 비트맵의 단순화 버전)
+ * - 사용자 100만 명 ≈ 125KB
+ * - 기동 후 백그라운드로 전체 ID를 키셋 페이지 단위로 적재
+ * - 비트가 없으면 DB에서 한 번 확인 후 등록 → 적재 전/이후 가입자도 정확히 판정 (오탐 없음)
+ *
+ * 사용자는 삭제되지 않는다는 전제 (삭제 기능이 생기면 remove 경로 필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdMembership {
+
+    private static final int PAGE_BITS = 1 << 16;
+    private static final int WORDS_PER_PAGE = PAGE_BITS / Long.SIZE;
+    private static final int PRELOAD_CHUNK_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentMap<Long, AtomicLongArray> pages = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 존재 여부 (비트맵 → DB 순)
+     */
+    public boolean exists(Long userId) {
+        if (userId == null || userId <= 0) {
+            return false;
+        }
+        if (contains(userId)) {
+            return true;
+        }
+        if (userRepository.existsById(userId)) {
+            add(userId);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean contains(long userId) {
+        AtomicLongArray page = pages.get(userId / PAGE_BITS);
+        if (page == null) {
+            return false;
+        }
+        int bit = (int) (userId % PAGE_BITS);
+        return (page.get(bit / Long.SIZE) & (1L << (bit % Long.SIZE))) != 0;
+    }
+
+    public void add(long userId) {
+        AtomicLongArray page = pages.computeIfAbsent(userId / PAGE_BITS, key -> new AtomicLongArray(WORDS_PER_PAGE));
+        int bit = (int) (userId % PAGE_BITS);
+        long mask = 1L << (bit % Long.SIZE);
+        page.getAndUpdate(bit / Long.SIZE, word -> word | mask);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        long lastId = 0L;
+        long loaded = 0L;
+        try {
+            List<Long> ids;
+            do {
+                ids = userRepository.findIdsAfter(lastId, PRELOAD_CHUNK_SIZE);
+                ids.forEach(this::add);
+                loaded += ids.size();
+                if (!ids.isEmpty()) {
+                    lastId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == PRELOAD_CHUNK_SIZE);
+
+            log.info("User id membership preloaded: users={}, pages={}", loaded, pages.size());
+        } catch (Exception e) {
+            // 적재 실패해도 exists()가 DB로 확인하므로 정확성에는 영향 없음
+            log.warn("Failed to preload user id membership: loaded={}, error={}", loaded, e.getMessage());
+        }
+    }
+}
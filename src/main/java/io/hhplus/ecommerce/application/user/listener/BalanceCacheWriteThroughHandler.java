@@ -0,0 +1,39 @@
+package io.hhplus.ecommerce.application.user.listener;
+
+import io.hhplus.ecommerce.domain.user.BalanceChangedEvent;
+import io.hhplus.ecommerce.infrastructure.redis.BalanceCacheStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 잔액 조회 캐시 write-through 핸들러
+ *
+ * 책임:
+ * - 충전(ChargeBalanceUseCase), 결제 차감(reservePayment), 보상 환불(compensatePayment)로
+ *   커밋된 잔액을 캐시에 반영
+ *
+ * 주의사항:
+ * - AFTER_COMMIT: 롤백된 변경은 캐시에 반영되지 않음
+ * - 동기 실행: 응답 직후 잔액 조회가 새 값을 보도록 응답 전에 반영 (Redis 스크립트 1회)
+ * - 같은 사용자의 커밋이 역순으로 도착해도 버전 비교로 최신 값만 남음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BalanceCacheWriteThroughHandler {
+
+    private final BalanceCacheStore balanceCacheStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBalanceChanged(BalanceChangedEvent event) {
+        try {
+            balanceCacheStore.writeThrough(event.getBalance());
+        } catch (Exception e) {
+            // 잔액 변경은 이미 커밋됨 - 캐시 반영 실패는 다음 조회의 DB 폴백으로 복구
+            log.warn("Balance cache write-through failed: userId={}", event.getBalance().userId(), e);
+        }
+    }
+}
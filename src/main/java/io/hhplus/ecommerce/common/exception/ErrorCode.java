@@ -27,6 +27,8 @@ public enum ErrorCode {
     INSUFFICIENT_BALANCE("PAY001", "잔액이 부족합니다"),
     PAYMENT_FAILED("PAY002", "결제 처리에 실패했습니다"),
     DUPLICATE_REQUEST("PAY003", "중복 요청입니다"),
+    PG_UNAVAILABLE("PAY004", "결제 대행사 연결이 원활하지 않습니다. 잠시 후 다시 시도해주세요"),
+    PG_OUTCOME_UNKNOWN("PAY005", "결제 승인 결과를 확인 중입니다. 잠시 후 주문 상태를 확인해주세요"),
 
     // ====================================
     // 쿠폰 관련 (C)
@@ -35,6 +37,7 @@ public enum ErrorCode {
     INVALID_COUPON("C002", "유효하지 않은 쿠폰입니다"),
     EXPIRED_COUPON("C003", "만료된 쿠폰입니다"),
     ALREADY_ISSUED_COUPON("C004", "이미 발급받은 쿠폰입니다"),
+    COUPON_RESERVATION_BUSY("C005", "쿠폰 예약 요청이 몰리고 있습니다. 잠시 후 다시 시도해주세요"),
 
     // ====================================
     // 사용자 관련 (U)
@@ -3,6 +3,17 @@ package io.hhplus.ecommerce.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.hhplus.ecommerce.application.cart.dto.CartResponse;
+import io.hhplus.ecommerce.application.product.dto.ProductListResponse;
+import io.hhplus.ecommerce.application.product.dto.ProductResponse;
+import io.hhplus.ecommerce.application.product.dto.TopProductResponse;
+import io.hhplus.ecommerce.infrastructure.cache.CacheRefreshAhead;
+import io.hhplus.ecommerce.infrastructure.cache.CacheValueSerializer;
+import io.hhplus.ecommerce.infrastructure.cache.JsonCacheValueSerializer;
+import io.hhplus.ecommerce.infrastructure.cache.RefreshAheadCacheManager;
+import io.hhplus.ecommerce.infrastructure.cache.SmileCacheCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.CacheErrorHandler;
@@ -10,16 +21,19 @@ import org.springframework.cache.interceptor.SimpleCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,18 +47,43 @@ import java.util.Map;
  * - products: 1시간 (상품 정보는 자주 변경되지 않음)
  * - topProducts: 5분 (인기 상품은 자주 갱신, 배치 주기와 동일)
  * - carts: 1일 (장바구니는 사용자별 격리, 긴 TTL)
+ * - 재고는 product/products와 분리해 5초 TTL 키로 보관 (ProductStockCache)
+ *
+ * 상품 변경 반영: ProductChangedEvent → ProductCacheSynchronizer가 관련 키만 갱신/무효화
  *
  * Thundering Herd 방지:
- * - sync=true: 동일 키에 대한 동시 요청 시 첫 요청만 DB 조회, 나머지는 대기
- * - 확률적 조기 만료(Probabilistic Early Expiration): 만료 직전 무작위 갱신
+ * - sync=true: 동일 키에 대한 동시 요청 시 첫 요청만 DB 조회, 나머지는 대기 (노드 단위)
+ * - refresh-ahead (product, products, topProducts): 만료 직전 구간의 히트에서 한 노드만 백그라운드 재계산,
+ *   그동안 기존 값 반환 → 만료 순간 클러스터 전체가 동시에 미스하지 않음 (CacheRefreshAhead)
+ * - 기동 워밍업: ProductCacheWarmer가 랭킹 상위 상품/인기 상품/기본 목록을 미리 적재
+ *
+ * 값 코덱 (캐시별 선택: cache.codec.caches.{cacheName}, 기본 cache.codec.default):
+ * - json: 기존 JSON 직렬화 (헤더 없음, 헤더가 붙은 smile 엔트리는 미스로 처리 - JsonCacheValueSerializer)
+ * - smile: 타입 고정 Smile 바이너리 + 스키마 버전 헤더 + 임계값 이상 LZ4 압축 (CacheValueSerializer)
+ * - 코덱/스키마 버전이 다른 엔트리는 미스로 처리 → 전 노드 배포 후 코덱을 바꾸거나 버전을 올리면 안전
  *
  * Note: 테스트 환경에서는 비활성화 (@Profile("!test"))
  */
 @Configuration
 @EnableCaching
 @Profile("!test")
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    private final Environment environment;
+
+    @Value("${cache.codec.default:json}")
+    private String defaultCodec = "json";
+
+    /**
+     * DTO 구조가 바뀌는 배포에서 올린다 (다른 버전 엔트리는 미스)
+     */
+    @Value("${cache.codec.schema-version:1}")
+    private int schemaVersion = 1;
+
+    @Value("${cache.codec.compress-threshold-bytes:1024}")
+    private int compressThreshold = 1024;
+
     /**
      * 기본 Redis 캐시 설정
      */
@@ -77,10 +116,26 @@ public class CacheConfig {
     private Jackson2JsonRedisSerializer<?> cartValueSerializer() {
         return new Jackson2JsonRedisSerializer<>(
             cartObjectMapper(),
-            io.hhplus.ecommerce.application.cart.dto.CartResponse.class
+            CartResponse.class
         );
     }
 
+    /**
+     * 캐시별 값 코덱 적용
+     *
+     * @param jsonSerializer json 코덱일 때 사용할 기존 JSON 직렬화기
+     */
+    private RedisCacheConfiguration withCodec(RedisCacheConfiguration config, String cacheName, Class<?> type,
+                                              RedisSerializer<?> jsonSerializer) {
+        String codec = environment.getProperty("cache.codec.caches." + cacheName, defaultCodec);
+        RedisSerializer<Object> serializer = switch (codec) {
+            case "json" -> new JsonCacheValueSerializer(jsonSerializer);
+            case "smile" -> new CacheValueSerializer(new SmileCacheCodec(type), schemaVersion, compressThreshold);
+            default -> throw new IllegalArgumentException("Unknown cache codec: " + codec + " (cache: " + cacheName + ")");
+        };
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
+
     /**
      * RedisCacheManager 설정
      *
@@ -91,44 +146,51 @@ public class CacheConfig {
      * - carts: 1일 (장바구니, 사용자별 격리)
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheRefreshAhead cacheRefreshAhead) {
         // 캐시별 설정
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
         // 상품 목록 캐시: 1시간
-        cacheConfigurations.put("products",
+        cacheConfigurations.put("products", withCodec(
                 defaultCacheConfig()
-                        .entryTtl(Duration.ofHours(1))
-        );
+                        .entryTtl(Duration.ofHours(1)),
+                "products", ProductListResponse.class, new GenericJackson2JsonRedisSerializer()
+        ));
 
         // 상품 상세 캐시: 1시간
-        cacheConfigurations.put("product",
+        cacheConfigurations.put("product", withCodec(
                 defaultCacheConfig()
-                        .entryTtl(Duration.ofHours(1))
-        );
+                        .entryTtl(Duration.ofHours(1)),
+                "product", ProductResponse.class, new GenericJackson2JsonRedisSerializer()
+        ));
 
         // 인기 상품 캐시: 5분 (배치 주기와 동일)
-        cacheConfigurations.put("topProducts",
+        cacheConfigurations.put("topProducts", withCodec(
                 defaultCacheConfig()
-                        .entryTtl(Duration.ofMinutes(5))
-        );
+                        .entryTtl(Duration.ofMinutes(5)),
+                "topProducts", TopProductResponse.class, new GenericJackson2JsonRedisSerializer()
+        ));
 
         // 장바구니 캐시: 1일
-        cacheConfigurations.put("carts",
+        cacheConfigurations.put("carts", withCodec(
                 defaultCacheConfig()
-                        .entryTtl(Duration.ofDays(1))
-                        .serializeValuesWith(
-                                RedisSerializationContext.SerializationPair.fromSerializer(
-                                        cartValueSerializer()
-                                )
-                        )
-        );
+                        .entryTtl(Duration.ofDays(1)),
+                "carts", CartResponse.class, cartValueSerializer()
+        ));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfig())
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .transactionAware()  // 트랜잭션 커밋 후 캐시 갱신
                 .build();
+        redisCacheManager.initializeCaches();
+
+        // 상품 캐시만 refresh-ahead 적용 (장바구니는 변경 시 무효화되는 사용자별 캐시라 제외)
+        Map<String, RedisCacheConfiguration> refreshAheadCaches = new HashMap<>();
+        for (String name : List.of("products", "product", "topProducts")) {
+            refreshAheadCaches.put(name, cacheConfigurations.get(name));
+        }
+        return new RefreshAheadCacheManager(redisCacheManager, refreshAheadCaches, cacheRefreshAhead);
     }
 
     /**
@@ -0,0 +1,192 @@
+package io.hhplus.ecommerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.hhplus.ecommerce.infrastructure.datasource.NamedPoolDataSource;
+import io.hhplus.ecommerce.infrastructure.datasource.ReadWriteRoutingDataSource;
+import io.hhplus.ecommerce.infrastructure.datasource.ReadYourWritesFilter;
+import io.hhplus.ecommerce.infrastructure.datasource.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataSource 구성 (datasource.routing.enabled 또는 datasource.pools.enabled 일 때만)
+ * <p>
+ * 읽기/쓰기 분리 (datasource.routing.*):
+ * - replicas: datasource.routing.replicas[i].* 레플리카마다 별도 Hikari 풀 (풀 크기 따로 지정)
+ * - @Transactional(readOnly = true) → 지연 허용 범위의 레플리카, 없으면 primary
+ * - 쓰기 요청 이후 read-your-writes 창 동안은 같은 클라이언트의 읽기도 primary
+ * <p>
+ * 용도별 풀 분리 (datasource.pools.*):
+ * - primary: spring.datasource.* + spring.datasource.hikari.* (핵심 쓰기 경로)
+ * - datasource.pools.names의 각 풀(side, read, batch ...): 같은 primary 인스턴스에 대한 별도 Hikari 풀
+ * - 풀 선택/queryTimeout은 @ConnectionPool, 읽기 전용 트랜잭션은 read 풀
+ * <p>
+ * 둘 다 비활성화면 기존과 같이 Spring Boot 자동 설정의 단일 DataSource를 사용한다.
+ * 풀 메트릭은 hikaricp_connections{pool=primary|side|read|batch|replica-N}으로 풀별로 노출된다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnExpression("${datasource.routing.enabled:false} or ${datasource.pools.enabled:false}")
+public class DataSourceRoutingConfig {
+
+    private static final String REPLICA_PREFIX = "datasource.routing.replicas";
+    private static final String POOL_PREFIX = "datasource.pools.";
+
+    private final Environment environment;
+
+    @Value("${datasource.routing.enabled:false}")
+    private boolean routingEnabled;
+
+    @Value("${datasource.pools.enabled:false}")
+    private boolean poolsEnabled;
+
+    @Value("${datasource.pools.names:side,read,batch}")
+    private String[] poolNames = {"side", "read", "batch"};
+
+    @Value("${datasource.routing.max-lag-seconds:2}")
+    private long maxLagSeconds = 2;
+
+    @Value("${datasource.routing.lag-check.enabled:true}")
+    private boolean lagCheckEnabled = true;
+
+    @Value("${datasource.routing.read-your-writes-window:PT3S}")
+    private Duration readYourWritesWindow = Duration.ofSeconds(3);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(NamedPoolDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public NamedPools namedPools(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        if (poolsEnabled) {
+            for (String name : poolNames) {
+                String prefix = POOL_PREFIX + name.trim() + ".";
+                pools.put(name.trim(), hikari(name.trim(), prefix, properties.determineUrl(), properties, meterRegistry));
+            }
+            log.info("Named connection pools enabled: {}", pools.keySet());
+        }
+        return new NamedPools(Collections.unmodifiableMap(pools));
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        if (routingEnabled) {
+            for (int i = 0; environment.containsProperty(REPLICA_PREFIX + "[" + i + "].url"); i++) {
+                String prefix = REPLICA_PREFIX + "[" + i + "].";
+                HikariDataSource replica = hikari("replica-" + i, prefix, environment.getProperty(prefix + "url"), properties, meterRegistry);
+                replica.setReadOnly(true);
+                replicas.put(replica.getPoolName(), replica);
+            }
+            log.info("Read/write routing enabled: replicas={}, maxLag={}s, readYourWritesWindow={}",
+                replicas.keySet(), maxLagSeconds, readYourWritesWindow);
+        }
+        return new ReplicaDataSources(Collections.unmodifiableMap(replicas));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSources replicaDataSources, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSources.replicas(), maxLagSeconds, lagCheckEnabled, meterRegistry);
+    }
+
+    /**
+     * primary(+ 용도별 풀) → (읽기/쓰기 분리) 순서로 감싼다.
+     * 항상 LazyConnectionDataSourceProxy를 거쳐 트랜잭션의 readOnly 플래그가 정해진 뒤 커넥션을 가져온다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 NamedPools namedPools,
+                                 ReplicaDataSources replicaDataSources,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        DataSource primary = primaryDataSource;
+        if (poolsEnabled) {
+            Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+            Map<String, Integer> queryTimeouts = new LinkedHashMap<>();
+            pools.put(NamedPoolDataSource.PRIMARY, primaryDataSource);
+            pools.putAll(namedPools.pools());
+            pools.keySet().forEach(name -> queryTimeouts.put(name,
+                environment.getProperty(POOL_PREFIX + name + ".query-timeout-seconds", Integer.class, 0)));
+            primary = new NamedPoolDataSource(pools, queryTimeouts, meterRegistry);
+        }
+        if (routingEnabled) {
+            return ReadWriteRoutingDataSource.create(primary, replicaDataSources.replicas(), replicaLagMonitor, meterRegistry);
+        }
+        return new LazyConnectionDataSourceProxy(primary);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+            new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesWindow));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * url 외에는 {prefix}username/password/maximum-pool-size/minimum-idle/connection-timeout, 없으면 primary 계정과 기본값
+     */
+    private HikariDataSource hikari(String poolName, String prefix, String url,
+                                    DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(environment.getProperty(prefix + "username", properties.determineUsername()));
+        dataSource.setPassword(environment.getProperty(prefix + "password", properties.determinePassword()));
+        dataSource.setMaximumPoolSize(environment.getProperty(prefix + "maximum-pool-size", Integer.class, 30));
+        dataSource.setMinimumIdle(environment.getProperty(prefix + "minimum-idle", Integer.class, 10));
+        dataSource.setConnectionTimeout(environment.getProperty(prefix + "connection-timeout", Long.class, 3000L));
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+    /**
+     * 레플리카 풀 묶음 (개수가 설정에 따라 달라 빈 하나로 관리, 종료 시 풀 정리)
+     */
+    public record ReplicaDataSources(Map<String, DataSource> replicas) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            replicas.values().forEach(dataSource -> ((HikariDataSource) dataSource).close());
+        }
+    }
+
+    /**
+     * 용도별 풀 묶음 (primary 제외, 종료 시 풀 정리)
+     */
+    public record NamedPools(Map<String, HikariDataSource> pools) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            pools.values().forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -37,6 +38,15 @@ public class RedisConfig {
     @Value("${spring.data.redis.port:6379}")
     private int redisPort;
 
+    @Value("${redisson.connection-pool-size:50}")
+    private int redissonPoolSize = 50;
+
+    /**
+     * 기동 시 미리 여는 커넥션 수 (fast-startup 프로필에서는 1로 줄여 필요할 때 확장)
+     */
+    @Value("${redisson.connection-minimum-idle-size:10}")
+    private int redissonMinimumIdleSize = 10;
+
     /**
      * Redis Connection Factory 설정
      *
@@ -76,6 +86,19 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Redis Pub/Sub 리스너 컨테이너
+     *
+     * 사용처:
+     * - CouponSoldOutGate (쿠폰 매진 플래그 노드 간 전파)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     /**
      * Redisson 클라이언트 설정
      *
@@ -99,8 +122,8 @@ public class RedisConfig {
         // Redis 서버 설정
         config.useSingleServer()
                 .setAddress("redis://" + redisHost + ":" + redisPort)
-                .setConnectionPoolSize(50)          // 커넥션 풀 크기
-                .setConnectionMinimumIdleSize(10)   // 최소 유휴 커넥션
+                .setConnectionPoolSize(redissonPoolSize)                // 커넥션 풀 크기
+                .setConnectionMinimumIdleSize(redissonMinimumIdleSize)  // 최소 유휴 커넥션
                 .setRetryAttempts(3)                // 재시도 횟수
                 .setRetryInterval(1500)             // 재시도 간격 (ms)
                 .setTimeout(3000)                   // 응답 타임아웃 (ms)
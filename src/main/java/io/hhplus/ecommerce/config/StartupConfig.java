@@ -0,0 +1,39 @@
+package io.hhplus.ecommerce.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * 지연 초기화(spring.main.lazy-initialization, fast-startup 프로필) 예외 설정
+ *
+ * @Scheduled / @KafkaListener는 빈이 생성될 때 빈 후처리기가 등록하므로,
+ * 지연 초기화되면 아무도 참조하지 않는 스케줄러/컨슈머가 영영 시작되지 않는다.
+ * → 해당 애노테이션이 붙은 빈만 즉시 생성한다. (지연 초기화가 꺼져 있으면 영향 없음)
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledAndListenerBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+            AnnotatedElementUtils.hasAnnotation(beanType, KafkaListener.class)
+                || hasAnnotatedMethod(beanType);
+    }
+
+    private static boolean hasAnnotatedMethod(Class<?> beanType) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType, ReflectionUtils.USER_DECLARED_METHODS)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                || AnnotatedElementUtils.hasAnnotation(method, KafkaListener.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -26,6 +26,12 @@ public interface CartItemRepository {
 
     boolean existsById(Long id);
 
+    /**
+     * 상품을 담은 장바구니의 사용자 ID (minQuantityExclusive < 수량 <= maxQuantityInclusive)
+     * - 상품 변경 시 영향받는 장바구니 캐시만 무효화하기 위한 조회
+     */
+    List<Long> findCartUserIdsByProductId(Long productId, int minQuantityExclusive, int maxQuantityInclusive);
+
     default CartItem findByIdOrThrow(Long id) {
         return findById(id)
             .orElseThrow(() -> new BusinessException(
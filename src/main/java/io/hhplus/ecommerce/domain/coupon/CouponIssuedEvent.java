@@ -0,0 +1,18 @@
+package io.hhplus.ecommerce.domain.coupon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 쿠폰 동기 발급 완료 이벤트
+ *
+ * 발행 시점: IssueCouponUseCase에서 UserCoupon 저장 직후 (처리는 커밋 후)
+ *
+ * 처리:
+ * - Redis 발급자 기록 + 사용자 쿠폰 읽기 모델 반영 (CouponIssuedEventListener)
+ */
+@Getter
+@AllArgsConstructor
+public class CouponIssuedEvent {
+    private final UserCoupon userCoupon;
+}
@@ -3,6 +3,8 @@ package io.hhplus.ecommerce.domain.coupon;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository {
@@ -13,6 +15,12 @@ public interface CouponRepository {
 
     Coupon save(Coupon coupon);
 
+    /**
+     * 유효기간이 [now, until] 구간과 겹치는 쿠폰 조회 (진행 중 + 곧 시작할 쿠폰)
+     * - 쿠폰 메타데이터 캐시 사전 적재용
+     */
+    List<Coupon> findLiveOrUpcoming(LocalDateTime now, LocalDateTime until);
+
     default Coupon findByIdOrThrow(Long id) {
         return findById(id)
             .orElseThrow(() -> new BusinessException(
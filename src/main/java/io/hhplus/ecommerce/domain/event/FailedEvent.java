@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "failed_events", indexes = {
     @Index(name = "idx_failed_events_status", columnList = "status"),
-    @Index(name = "idx_failed_events_created_at", columnList = "createdAt")
+    @Index(name = "idx_failed_events_created_at", columnList = "createdAt"),
+    @Index(name = "idx_failed_events_status_next_retry", columnList = "status, nextRetryAt")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
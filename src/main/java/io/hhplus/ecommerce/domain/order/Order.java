@@ -83,10 +83,17 @@ public class Order extends BaseEntity {
     }
 
     public void complete() {
+        complete(LocalDateTime.now());
+    }
+
+    /**
+     * 결제 완료 (DB에 조건부 UPDATE로 반영한 시각과 맞출 때 사용)
+     */
+    public void complete(LocalDateTime paidAt) {
         validateStatusForComplete();
 
         this.status = OrderStatus.COMPLETED;
-        this.paidAt = LocalDateTime.now();
+        this.paidAt = paidAt;
     }
 
     public void cancel() {
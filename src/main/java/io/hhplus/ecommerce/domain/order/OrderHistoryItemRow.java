@@ -0,0 +1,14 @@
+package io.hhplus.ecommerce.domain.order;
+
+/**
+ * 주문 내역 목록의 주문 항목 1건 (DTO 프로젝션, 상품명만 조인)
+ */
+public record OrderHistoryItemRow(
+    Long orderId,
+    Long productId,
+    String productName,
+    Integer quantity,
+    Long unitPrice,
+    Long subtotal
+) {
+}
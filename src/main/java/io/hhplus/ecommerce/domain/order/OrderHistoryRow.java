@@ -0,0 +1,18 @@
+package io.hhplus.ecommerce.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 목록의 주문 1건 (DTO 프로젝션, 영속성 컨텍스트에 올라가지 않음)
+ */
+public record OrderHistoryRow(
+    Long orderId,
+    Long userId,
+    String orderNumber,
+    Long subtotalAmount,
+    Long discountAmount,
+    Long totalAmount,
+    OrderStatus status,
+    LocalDateTime createdAt
+) {
+}
@@ -6,6 +6,11 @@ public interface OrderItemRepository {
 
     List<OrderItem> findByOrderId(Long orderId);
 
+    /**
+     * 주문 내역 페이지의 항목 조회 (주문 ID IN 조회, 상품명 프로젝션)
+     */
+    List<OrderHistoryItemRow> findHistoryItemsByOrderIds(List<Long> orderIds);
+
     List<OrderItem> findAll();
 
     OrderItem save(OrderItem orderItem);
@@ -0,0 +1,18 @@
+package io.hhplus.ecommerce.domain.order;
+
+import io.hhplus.ecommerce.domain.user.UserBalance;
+
+/**
+ * 결제 예약에 필요한 상태를 한 번에 읽은 결과
+ * <p>
+ * - order: 주문 항목과 상품까지 fetch join으로 초기화된 주문
+ * - balance: 같은 조회에서 읽은 주문자의 잔액/버전 (사용자가 없으면 null)
+ *
+ * @param order 주문 (orderItems, orderItems.product 초기화됨)
+ * @param balance 주문자 잔액 스냅샷
+ */
+public record OrderPaymentContext(
+    Order order,
+    UserBalance balance
+) {
+}
@@ -3,6 +3,7 @@ package io.hhplus.ecommerce.domain.order;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,49 @@ public interface OrderRepository {
 
     Order save(Order order);
 
+    /**
+     * Pessimistic Lock을 사용한 주문 조회 (SELECT FOR UPDATE)
+     * - 같은 주문에 대한 동시 결제 직렬화
+     */
+    Optional<Order> findByIdWithLock(Long id);
+
+    /**
+     * 결제 예약용 조회 (SELECT FOR UPDATE)
+     * - 주문 + 주문 항목 + 상품 + 주문자 잔액/버전을 한 번의 조회로 로딩
+     */
+    Optional<OrderPaymentContext> findPaymentContextWithLock(Long id);
+
+    /**
+     * 결제 완료 처리 (status = PENDING 조건부 단일 UPDATE)
+     *
+     * @return 갱신된 행 수 (0이면 이미 완료/취소된 주문)
+     */
+    int markCompleted(Long id, LocalDateTime paidAt);
+
+    /**
+     * 주문 내역 한 페이지 조회 (커서 기반, 최신순)
+     * - (createdAt, id) 커서보다 오래된 주문만 limit건 조회 → OFFSET 없이 인덱스 범위 스캔
+     * - status가 null이면 전체 상태
+     *
+     * @param cursorCreatedAt 이전 페이지 마지막 주문의 생성 시각 (첫 페이지는 null)
+     * @param cursorId        이전 페이지 마지막 주문 ID (첫 페이지는 null)
+     */
+    List<OrderHistoryRow> findHistoryPage(
+        Long userId,
+        OrderStatus status,
+        LocalDateTime cursorCreatedAt,
+        Long cursorId,
+        int limit
+    );
+
+    default Order findByIdWithLockOrThrow(Long id) {
+        return findByIdWithLock(id)
+            .orElseThrow(() -> new BusinessException(
+                ErrorCode.ORDER_NOT_FOUND,
+                "주문을 찾을 수 없습니다. orderId: " + id
+            ));
+    }
+
     default Order findByIdOrThrow(Long id) {
         return findById(id)
             .orElseThrow(() -> new BusinessException(
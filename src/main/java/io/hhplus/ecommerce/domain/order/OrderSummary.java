@@ -0,0 +1,99 @@
+package io.hhplus.ecommerce.domain.order;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 요약 읽기 모델 (order_summaries)
+ * <p>
+ * 주문 목록/상세 조회용 비정규화 테이블. 주문 1건 = 1행이며
+ * 주문 항목(상품명, 단가, 수량)은 구매 시점 값 그대로 itemsJson에 담는다.
+ * → 조회 시 orders / order_items / products 조인 없이 PK 또는 (user_id, created_at) 인덱스 1회 조회
+ * <p>
+ * 쓰기는 OrderCreatedEvent / PaymentCompletedEvent를 받은 OrderSummaryProjector가
+ * 커밋 이후 비동기로 UPSERT한다. 두 이벤트 모두 주문 전체 정보를 담고 있으므로
+ * 어느 쪽이 먼저 도착해도 행이 완성되며, 상태는 PENDING → COMPLETED 방향으로만 바뀐다.
+ */
+@Entity
+@Table(
+    name = "order_summaries",
+    indexes = {
+        @Index(name = "idx_summary_user_created", columnList = "user_id, created_at, order_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_number", length = 30, nullable = false)
+    private String orderNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "subtotal_amount", nullable = false)
+    private Long subtotalAmount;
+
+    @Column(name = "discount_amount", nullable = false)
+    private Long discountAmount;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    /**
+     * 구매 시점 주문 항목 JSON 배열 (OrderItemResponse 목록)
+     */
+    @Column(name = "items_json", nullable = false, columnDefinition = "TEXT")
+    private String itemsJson;
+
+    /**
+     * 주문 생성 시각 (orders.created_at과 동일, 목록 정렬/커서 기준)
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "paid_at")
+    private LocalDateTime paidAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static OrderSummary of(
+        Long orderId,
+        Long userId,
+        String orderNumber,
+        OrderStatus status,
+        Long subtotalAmount,
+        Long discountAmount,
+        Long totalAmount,
+        String itemsJson,
+        LocalDateTime createdAt,
+        LocalDateTime paidAt
+    ) {
+        OrderSummary summary = new OrderSummary();
+        summary.orderId = orderId;
+        summary.userId = userId;
+        summary.orderNumber = orderNumber;
+        summary.status = status;
+        summary.subtotalAmount = subtotalAmount;
+        summary.discountAmount = discountAmount;
+        summary.totalAmount = totalAmount;
+        summary.itemsJson = itemsJson;
+        summary.createdAt = createdAt;
+        summary.paidAt = paidAt;
+        summary.updatedAt = LocalDateTime.now();
+        return summary;
+    }
+}
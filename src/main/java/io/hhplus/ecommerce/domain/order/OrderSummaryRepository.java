@@ -0,0 +1,41 @@
+package io.hhplus.ecommerce.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderSummaryRepository {
+
+    /**
+     * 주문 생성 반영 (INSERT, 이미 있으면 상태는 유지하고 나머지 컬럼만 갱신)
+     */
+    void upsertCreated(OrderSummary summary);
+
+    /**
+     * 결제 완료 반영 (이미 있는 행만 갱신)
+     *
+     * @return 갱신된 행 수 (0이면 주문 생성 반영 전 → upsertCompleted로 재구성)
+     */
+    int markCompleted(Long orderId, LocalDateTime paidAt);
+
+    /**
+     * 결제 완료 상태로 행 전체 반영 (INSERT, 이미 있으면 COMPLETED + paidAt으로 갱신)
+     */
+    void upsertCompleted(OrderSummary summary);
+
+    Optional<OrderSummary> findByOrderId(Long orderId);
+
+    /**
+     * 사용자 주문 요약 한 페이지 (커서 기반, 최신순) - idx_summary_user_created 범위 스캔
+     *
+     * @param cursorCreatedAt 이전 페이지 마지막 주문의 생성 시각 (첫 페이지는 null)
+     * @param cursorId        이전 페이지 마지막 주문 ID (첫 페이지는 null)
+     */
+    List<OrderSummary> findPage(
+        Long userId,
+        OrderStatus status,
+        LocalDateTime cursorCreatedAt,
+        Long cursorId,
+        int limit
+    );
+}
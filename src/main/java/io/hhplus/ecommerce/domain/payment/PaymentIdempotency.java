@@ -54,7 +54,8 @@ public class PaymentIdempotency {
     private String idempotencyKey;
 
     /**
-     * 처리된 주문 ID (COMPLETED 시에만 저장)
+     * 처리된 주문 ID
+     * 결제 예약 시점에 기록 (PROCESSING으로 남은 키를 대사할 때 주문을 찾는 데 사용)
      */
     @Column(name = "order_id")
     private Long orderId;
@@ -112,6 +113,15 @@ public class PaymentIdempotency {
         return entity;
     }
 
+    /**
+     * 주문에 대한 멱등성 키 생성 (결제 예약과 같은 트랜잭션에서 사용)
+     */
+    public static PaymentIdempotency create(String idempotencyKey, Long userId, Long orderId) {
+        PaymentIdempotency entity = create(idempotencyKey, userId);
+        entity.orderId = orderId;
+        return entity;
+    }
+
     /**
      * 결제 완료 처리
      */
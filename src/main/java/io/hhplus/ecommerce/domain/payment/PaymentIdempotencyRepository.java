@@ -3,6 +3,8 @@ package io.hhplus.ecommerce.domain.payment;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,6 +32,32 @@ public interface PaymentIdempotencyRepository {
      */
     PaymentIdempotency save(PaymentIdempotency paymentIdempotency);
 
+    /**
+     * 결제 완료 처리 (status = PROCESSING 조건부 단일 UPDATE)
+     *
+     * @return 갱신된 행 수 (0이면 이미 완료/실패 처리된 키)
+     */
+    int markCompleted(Long id, Long orderId, String responsePayload);
+
+    /**
+     * 결제 실패 처리 (status = PROCESSING 조건부 단일 UPDATE)
+     *
+     * @return 갱신된 행 수 (0이면 이미 완료/실패 처리된 키)
+     */
+    int markFailed(Long id, String errorMessage);
+
+    /**
+     * 주문 ID 기록 (status = PROCESSING 조건부 단일 UPDATE)
+     *
+     * @return 갱신된 행 수
+     */
+    int assignOrder(String idempotencyKey, Long orderId);
+
+    /**
+     * before 이전에 생성되어 아직 PROCESSING인 키 (id 오름차순, afterId 이후부터 limit건)
+     */
+    List<PaymentIdempotency> findStaleProcessing(LocalDateTime before, Long afterId, int limit);
+
     /**
      * 멱등성 키로 조회 (없으면 예외)
      */
@@ -5,8 +5,11 @@ import io.hhplus.ecommerce.common.exception.ErrorCode;
 import io.hhplus.ecommerce.domain.common.BaseTimeEntity;
 import io.hhplus.ecommerce.domain.order.OrderItem;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -73,6 +76,14 @@ public class Product extends BaseTimeEntity {
     @OneToMany(mappedBy = "product", fetch = FetchType.LAZY)
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    /**
+     * 커밋 전 변경 이벤트 (save() 시 Spring Data가 발행 후 비움)
+     * - 캐시 부분 갱신용 (ProductChangedEvent)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<ProductChangedEvent> changes = new ArrayList<>();
+
     public static Product create(String productCode, String name, String description, Long price, String category, Integer stock) {
         validateProductCode(productCode);
         validatePrice(price);
@@ -95,6 +106,7 @@ public class Product extends BaseTimeEntity {
         validateSufficientStock(quantity);
 
         this.stock -= quantity;
+        changes.add(ProductChangedEvent.stock(id));
         // updatedAt은 JPA Auditing이 자동 처리
     }
 
@@ -102,6 +114,7 @@ public class Product extends BaseTimeEntity {
         validateQuantity(quantity);
 
         this.stock += quantity;
+        changes.add(ProductChangedEvent.stock(id));
         // updatedAt은 JPA Auditing이 자동 처리
     }
 
@@ -110,22 +123,45 @@ public class Product extends BaseTimeEntity {
     }
 
     public void update(String name, String description, Long price, String category) {
+        String previousCategory = this.category;
+        boolean detailsChanged = false;
+
         if (name != null) {
             this.name = name;
+            detailsChanged = true;
         }
         if (description != null) {
             this.description = description;
+            detailsChanged = true;
         }
         if (price != null) {
             validatePrice(price);
             this.price = price;
+            changes.add(ProductChangedEvent.price(id));
         }
         if (category != null) {
             this.category = category;
+            detailsChanged = true;
+        }
+        if (detailsChanged) {
+            String categoryBefore = previousCategory != null && !previousCategory.equals(this.category)
+                ? previousCategory
+                : null;
+            changes.add(ProductChangedEvent.details(id, categoryBefore));
         }
         // updatedAt은 JPA Auditing이 자동 처리
     }
 
+    @DomainEvents
+    List<ProductChangedEvent> domainEvents() {
+        return List.copyOf(changes);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        changes.clear();
+    }
+
     // ====================================
     // Validation Methods
     // ====================================
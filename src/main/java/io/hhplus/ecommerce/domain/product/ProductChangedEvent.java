@@ -0,0 +1,42 @@
+package io.hhplus.ecommerce.domain.product;
+
+/**
+ * 상품 변경 도메인 이벤트
+ *
+ * 용도:
+ * - 재고/가격/상세 변경 시 캐시(상품 상세, 상품 목록, 장바구니, 재고)를 부분 갱신
+ *
+ * 발행:
+ * - Product.decreaseStock / increaseStock / update → save() 시 @DomainEvents로 발행
+ * - 조건부 UPDATE 재고 차감(ProductRepository.decreaseStock)은 호출 측이 직접 발행
+ *
+ * 처리:
+ * - ProductChangeEventListener가 커밋 후(AFTER_COMMIT) ProductCacheSynchronizer에 모아
+ *   짧은 주기로 상품별 1회씩 반영
+ *
+ * @param previousCategory 카테고리가 바뀐 경우 이전 카테고리 (이전 목록 캐시 무효화용), 아니면 null
+ */
+public record ProductChangedEvent(
+    Long productId,
+    ChangeType type,
+    String previousCategory
+) {
+
+    public enum ChangeType {
+        STOCK,    // 재고만 변경 (정적 데이터 캐시는 그대로)
+        PRICE,    // 가격 변경 (상세/목록/장바구니 금액)
+        DETAILS   // 이름/설명/카테고리 변경
+    }
+
+    public static ProductChangedEvent stock(Long productId) {
+        return new ProductChangedEvent(productId, ChangeType.STOCK, null);
+    }
+
+    public static ProductChangedEvent price(Long productId) {
+        return new ProductChangedEvent(productId, ChangeType.PRICE, null);
+    }
+
+    public static ProductChangedEvent details(Long productId, String previousCategory) {
+        return new ProductChangedEvent(productId, ChangeType.DETAILS, previousCategory);
+    }
+}
@@ -8,7 +8,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "product_ranking_backup")
+@Table(
+    name = "product_ranking_backup",
+    indexes = {
+        @Index(name = "idx_ranking_backup_date_ranking", columnList = "aggregated_date, ranking")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductRankingBackup {
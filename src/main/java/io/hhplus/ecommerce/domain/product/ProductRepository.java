@@ -3,6 +3,7 @@ package io.hhplus.ecommerce.domain.product;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,10 +15,26 @@ public interface ProductRepository {
 
     List<Product> findAll();
 
+    List<Product> findAllById(Iterable<Long> ids);
+
+    long count();
+
     Product save(Product product);
 
     List<TopProductProjection> findTopProductsByPeriod();
 
+    /**
+     * 재고 조건부 차감 (stock >= quantity 조건부 단일 UPDATE)
+     *
+     * @return 갱신된 행 수 (0이면 상품 없음 또는 재고 부족)
+     */
+    int decreaseStock(Long id, int quantity);
+
+    /**
+     * 재고만 조회 (재고 캐시 미스/갱신용, 엔티티 로딩 없음)
+     */
+    List<ProductStockProjection> findStocksByIdIn(Collection<Long> ids);
+
     default Product findByIdOrThrow(Long id) {
         return findById(id)
             .orElseThrow(() -> new BusinessException(
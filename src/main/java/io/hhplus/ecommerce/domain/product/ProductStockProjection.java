@@ -0,0 +1,8 @@
+package io.hhplus.ecommerce.domain.product;
+
+public interface ProductStockProjection {
+
+    Long getProductId();
+
+    Integer getStock();
+}
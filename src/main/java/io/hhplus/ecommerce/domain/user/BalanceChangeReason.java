@@ -0,0 +1,10 @@
+package io.hhplus.ecommerce.domain.user;
+
+/**
+ * 잔액 변경 사유 (원장 기록용)
+ */
+public enum BalanceChangeReason {
+    CHARGE,   // 포인트 충전 (+)
+    PAYMENT,  // 주문 결제 차감 (-)
+    REFUND    // 결제 실패 보상 환불 (+)
+}
@@ -0,0 +1,18 @@
+package io.hhplus.ecommerce.domain.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 잔액 변경 이벤트 (충전/결제 차감/환불)
+ *
+ * 발행 시점: BalanceLedgerService에서 잔액 UPDATE 직후 (처리는 커밋 후)
+ *
+ * 처리:
+ * - 잔액 조회 캐시 write-through (BalanceCacheWriteThroughHandler)
+ */
+@Getter
+@AllArgsConstructor
+public class BalanceChangedEvent {
+    private final UserBalance balance;
+}
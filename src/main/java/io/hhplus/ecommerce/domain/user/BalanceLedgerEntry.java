@@ -0,0 +1,94 @@
+package io.hhplus.ecommerce.domain.user;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 원장 엔트리 (append-only)
+ * <p>
+ * 잔액 변경 1건 = INSERT 1건. 기존 행은 수정/삭제하지 않는다.
+ * - id: 전역 증가 시퀀스 (사용자별 순서는 (user_id, id) 인덱스로 조회)
+ * - delta: 부호 있는 변경량 (충전/환불 +, 결제 -)
+ * - balanceAfter: 이 변경 직후의 잔액 (감사/대사용)
+ * <p>
+ * 서로 다른 주문의 INSERT는 각자 새 행을 만들 뿐이므로 같은 행을 두고 경합하지 않는다.
+ */
+@Entity
+@Table(
+    name = "balance_ledger",
+    indexes = {
+        @Index(name = "idx_ledger_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_ledger_order_id", columnList = "order_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BalanceChangeReason reason;
+
+    /**
+     * 결제/환불 대상 주문 ID (충전은 null)
+     */
+    @Column(name = "order_id")
+    private Long orderId;
+
+    /**
+     * 충전 요청 멱등성 키 (결제/환불은 null)
+     */
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static BalanceLedgerEntry charge(Long userId, Long amount, String idempotencyKey, long balanceAfter) {
+        return of(userId, amount, BalanceChangeReason.CHARGE, null, idempotencyKey, balanceAfter);
+    }
+
+    public static BalanceLedgerEntry payment(Long userId, Long amount, Long orderId, long balanceAfter) {
+        return of(userId, -amount, BalanceChangeReason.PAYMENT, orderId, null, balanceAfter);
+    }
+
+    public static BalanceLedgerEntry refund(Long userId, Long amount, Long orderId, long balanceAfter) {
+        return of(userId, amount, BalanceChangeReason.REFUND, orderId, null, balanceAfter);
+    }
+
+    private static BalanceLedgerEntry of(
+        Long userId,
+        Long delta,
+        BalanceChangeReason reason,
+        Long orderId,
+        String idempotencyKey,
+        long balanceAfter
+    ) {
+        BalanceLedgerEntry entry = new BalanceLedgerEntry();
+        entry.userId = userId;
+        entry.delta = delta;
+        entry.reason = reason;
+        entry.orderId = orderId;
+        entry.idempotencyKey = idempotencyKey;
+        entry.balanceAfter = balanceAfter;
+        entry.createdAt = LocalDateTime.now();
+        return entry;
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.ecommerce.domain.user;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 잔액 원장 Repository 인터페이스
+ */
+public interface BalanceLedgerRepository {
+
+    BalanceLedgerEntry save(BalanceLedgerEntry entry);
+
+    List<BalanceLedgerEntry> findByUserIdOrderByIdAsc(Long userId);
+
+    /**
+     * afterId 이후 원장 중 지정 시각 이전에 기록된 최대 ID (스냅샷 상한)
+     * - afterId로 PK 범위를 제한해 직전 스냅샷 이후 구간만 읽음
+     */
+    Optional<Long> findMaxIdCreatedBefore(Long afterId, LocalDateTime before);
+
+    /**
+     * (afterId, uptoId] 구간에 원장이 있는 사용자 ID 목록
+     */
+    List<Long> findUserIdsBetween(Long afterId, Long uptoId);
+
+    /**
+     * 사용자의 (afterId, uptoId] 구간 변경량 합계
+     */
+    long sumDeltaBetween(Long userId, Long afterId, Long uptoId);
+}
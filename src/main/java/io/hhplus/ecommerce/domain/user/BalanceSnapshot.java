@@ -0,0 +1,61 @@
+package io.hhplus.ecommerce.domain.user;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 스냅샷 (원장 체크포인트)
+ * <p>
+ * 사용자별로 "lastLedgerId까지의 원장을 모두 반영한 잔액"을 보관한다.
+ * 원장 기준 잔액 = balance + SUM(delta WHERE id > lastLedgerId)
+ * <p>
+ * 스냅샷은 주기적으로 전진하므로(BalanceSnapshotService) 재계산에 필요한 꼬리 구간은
+ * 스냅샷 주기 동안 쌓인 원장으로 한정된다.
+ */
+@Entity
+@Table(name = "balance_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    /**
+     * 원장 도입 이전 잔액이 없는 신규 사용자용 빈 스냅샷
+     */
+    public static BalanceSnapshot empty(Long userId) {
+        BalanceSnapshot snapshot = new BalanceSnapshot();
+        snapshot.userId = userId;
+        snapshot.balance = 0L;
+        snapshot.lastLedgerId = 0L;
+        snapshot.snapshotAt = LocalDateTime.now();
+        return snapshot;
+    }
+
+    /**
+     * (lastLedgerId, uptoLedgerId] 구간의 변경량을 반영하여 전진
+     */
+    public void advance(long tailDelta, long uptoLedgerId) {
+        if (uptoLedgerId <= lastLedgerId) {
+            return;
+        }
+        this.balance += tailDelta;
+        this.lastLedgerId = uptoLedgerId;
+        this.snapshotAt = LocalDateTime.now();
+    }
+}
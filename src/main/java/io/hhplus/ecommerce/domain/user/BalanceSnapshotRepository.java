@@ -0,0 +1,16 @@
+package io.hhplus.ecommerce.domain.user;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 잔액 스냅샷 Repository 인터페이스
+ */
+public interface BalanceSnapshotRepository {
+
+    Optional<BalanceSnapshot> findById(Long userId);
+
+    List<BalanceSnapshot> findAllById(Iterable<Long> userIds);
+
+    BalanceSnapshot save(BalanceSnapshot snapshot);
+}
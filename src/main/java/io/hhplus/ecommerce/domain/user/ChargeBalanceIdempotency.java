@@ -95,13 +95,27 @@ public class ChargeBalanceIdempotency {
      * 멱등성 키 생성 (PROCESSING 상태로 시작)
      */
     public static ChargeBalanceIdempotency create(String idempotencyKey, User user, Long amount) {
+        return create(idempotencyKey, user.getId(), amount);
+    }
+
+    /**
+     * 생성 전 요청 검증 (충전 결합 대기열에 넣기 전 빠른 실패용)
+     */
+    public static void validate(String idempotencyKey, Long userId, Long amount) {
         validateIdempotencyKey(idempotencyKey);
-        validateUserId(user.getId());
+        validateUserId(userId);
         validateAmount(amount);
+    }
+
+    /**
+     * 사용자 엔티티 로딩 없이 생성 (원자적 UPDATE 충전 경로)
+     */
+    public static ChargeBalanceIdempotency create(String idempotencyKey, Long userId, Long amount) {
+        validate(idempotencyKey, userId, amount);
 
         ChargeBalanceIdempotency entity = new ChargeBalanceIdempotency();
         entity.idempotencyKey = idempotencyKey;
-        entity.userId = user.getId();
+        entity.userId = userId;
         entity.amount = amount;
         entity.status = IdempotencyStatus.PROCESSING;
         entity.createdAt = LocalDateTime.now();
@@ -1,5 +1,6 @@
 package io.hhplus.ecommerce.domain.user;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,4 +22,9 @@ public interface ChargeBalanceIdempotencyRepository {
      * 저장
      */
     ChargeBalanceIdempotency save(ChargeBalanceIdempotency chargeBalanceIdempotency);
+
+    /**
+     * 일괄 저장 (결합된 충전 요청)
+     */
+    List<ChargeBalanceIdempotency> saveAll(List<ChargeBalanceIdempotency> idempotencies);
 }
@@ -0,0 +1,13 @@
+package io.hhplus.ecommerce.domain.user;
+
+/**
+ * 잔액 + 버전 스칼라 조회 결과
+ * <p>
+ * version은 users.version(잔액 UPDATE마다 +1)으로, 캐시 갱신 순서 판단에 사용한다.
+ */
+public record UserBalance(
+    Long userId,
+    Long balance,
+    Long version
+) {
+}
@@ -3,6 +3,7 @@ package io.hhplus.ecommerce.domain.user;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -13,6 +14,46 @@ public interface UserRepository {
 
     User save(User user);
 
+    boolean existsById(Long id);
+
+    /**
+     * ID 오름차순 키셋 조회 (afterId 초과, 최대 limit건)
+     * - 사용자 ID 멤버십 인덱스 적재용
+     */
+    List<Long> findIdsAfter(Long afterId, int limit);
+
+    /**
+     * 잔액 원자적 증가 (단일 UPDATE, 락/재시도 불필요)
+     *
+     * @return 갱신된 행 수 (0이면 사용자 없음)
+     */
+    int increaseBalance(Long id, Long amount);
+
+    /**
+     * 잔액 원자적 차감 (balance >= amount 조건부 단일 UPDATE)
+     *
+     * @return 갱신된 행 수 (0이면 사용자 없음 또는 잔액 부족)
+     */
+    int decreaseBalance(Long id, Long amount);
+
+    /**
+     * 이미 읽은 버전 기준 잔액 차감 (version = expectedVersion AND balance >= amount 조건부 UPDATE)
+     * - 성공 시 차감 후 잔액/버전을 다시 조회하지 않고 계산할 수 있다
+     *
+     * @return 갱신된 행 수 (0이면 그 사이 잔액이 바뀌었거나 잔액 부족)
+     */
+    int decreaseBalanceIfVersion(Long id, Long amount, Long expectedVersion);
+
+    /**
+     * 잔액만 조회 (엔티티 로딩 없이 스칼라 조회)
+     */
+    Optional<Long> findBalanceById(Long id);
+
+    /**
+     * 잔액과 버전을 함께 조회 (캐시 write-through / 적재용)
+     */
+    Optional<UserBalance> findUserBalanceById(Long id);
+
     default User findByIdOrThrow(Long id) {
         return findById(id)
             .orElseThrow(() -> new BusinessException(
@@ -0,0 +1,35 @@
+package io.hhplus.ecommerce.infrastructure.batch;
+
+import io.hhplus.ecommerce.application.usecase.user.BalanceSnapshotService;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 스냅샷 주기 실행
+ * <p>
+ * 반영한 원장 ID 상한을 메모리에 보관해 다음 실행은 그 이후 원장이 있는 사용자만 처리한다.
+ * 재시작 시 0부터 다시 훑지만 사용자별 lastLedgerId로 합산하므로 결과는 동일하다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@org.springframework.context.annotation.Profile("!test")  // 테스트 프로파일에서는 비활성화
+public class BalanceSnapshotScheduler {
+
+    private final BalanceSnapshotService balanceSnapshotService;
+
+    private volatile long lastLedgerId = 0L;
+
+    @Scheduled(fixedDelayString = "${balance.snapshot.interval-ms:300000}")
+    @ConnectionPool(value = "batch", queryTimeoutSeconds = 60)
+    public void snapshot() {
+        try {
+            lastLedgerId = balanceSnapshotService.takeSnapshots(lastLedgerId);
+        } catch (Exception e) {
+            log.error("Balance snapshot failed. lastLedgerId: {}", lastLedgerId, e);
+        }
+    }
+}
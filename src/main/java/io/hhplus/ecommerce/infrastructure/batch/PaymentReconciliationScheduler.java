@@ -0,0 +1,30 @@
+package io.hhplus.ecommerce.infrastructure.batch;
+
+import io.hhplus.ecommerce.application.usecase.order.PaymentReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결과 불명 결제 대사 주기 실행
+ * <p>
+ * PROCESSING으로 남은 결제 멱등성 키를 PG 상태 조회로 완료/보상 확정한다 (PaymentReconciliationService).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@org.springframework.context.annotation.Profile("!test")  // 테스트 프로파일에서는 비활성화
+public class PaymentReconciliationScheduler {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    @Scheduled(fixedDelayString = "${payment.reconciliation.interval-ms:60000}")
+    public void reconcile() {
+        try {
+            paymentReconciliationService.reconcile();
+        } catch (Exception e) {
+            log.error("Payment reconciliation run failed", e);
+        }
+    }
+}
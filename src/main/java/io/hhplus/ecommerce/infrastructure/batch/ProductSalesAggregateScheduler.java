@@ -1,5 +1,6 @@
 package io.hhplus.ecommerce.infrastructure.batch;
 
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -46,6 +47,7 @@ public class ProductSalesAggregateScheduler {
      */
     @Scheduled(cron = "*/30 * * * * *")  // 30초마다 (개발용)
     // @Scheduled(cron = "0 */15 * * * *")  // 15분마다 (운영 권장)
+    @ConnectionPool(value = "batch", queryTimeoutSeconds = 60)
     public void aggregateProductSales() {
         LocalDate targetDate = LocalDate.now().minusDays(1);
         log.info("=== Product Sales Aggregation Batch START (target date: {}) ===", targetDate);
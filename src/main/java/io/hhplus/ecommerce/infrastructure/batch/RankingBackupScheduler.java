@@ -5,6 +5,7 @@ import io.hhplus.ecommerce.domain.product.ProductRanking;
 import io.hhplus.ecommerce.domain.product.ProductRankingBackup;
 import io.hhplus.ecommerce.domain.product.ProductRankingBackupRepository;
 import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool;
 import io.hhplus.ecommerce.infrastructure.redis.ProductRankingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +30,7 @@ public class RankingBackupScheduler {
     private final ProductRepository productRepository;
 
     @Scheduled(fixedRateString = "${ranking.backup.schedule.rate:600000}")
+    @ConnectionPool(value = "batch", queryTimeoutSeconds = 60)
     @Transactional
     public void backupRanking() {
         LocalDate today = LocalDate.now();
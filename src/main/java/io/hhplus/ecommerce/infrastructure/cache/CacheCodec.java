@@ -0,0 +1,18 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+/**
+ * 캐시 값 인코딩 방식 (CacheValueSerializer가 헤더/압축을 덧씌움)
+ */
+public interface CacheCodec {
+
+    /**
+     * 헤더에 기록되는 코덱 식별자 (값이 바뀌면 기존 엔트리는 미스로 처리됨)
+     */
+    byte id();
+
+    String name();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+}
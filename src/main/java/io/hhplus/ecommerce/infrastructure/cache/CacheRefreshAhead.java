@@ -0,0 +1,154 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 refresh-ahead 조정자 (RefreshAheadCache가 히트 시 호출)
+ * <p>
+ * 문제: sync=true는 노드 안에서만 같은 키 요청을 직렬화 → TTL 만료 순간 모든 노드가 동시에 DB 조회
+ * 해결: 만료 전 마지막 구간(refresh window)에 들어온 히트 중 한 노드만 백그라운드에서 재계산
+ * - 재계산 중에도 기존 값을 그대로 반환 (stale 허용, 미스 없음)
+ * - 노드 간 조정: cache:refresh-lease:{redisKey} SET NX PX (짧은 리스, 만료로 해제)
+ * - 노드 내 조정: in-flight 집합
+ * <p>
+ * PTTL 조회 비용: 키별 "다음 확인 시각"을 노드 로컬에 기억해 window 밖의 히트는 Redis 왕복 없이 통과한다.
+ * <p>
+ * 메트릭: cache_refresh_ahead_total{cache, result}
+ * - refreshed / failed / lease_busy / rejected
+ */
+@Slf4j
+@Component
+public class CacheRefreshAhead {
+
+    private static final String LEASE_KEY_PREFIX = "cache:refresh-lease:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, Long> nextCheckAt = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${cache.refresh-ahead.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * TTL 중 마지막 이 비율 구간에서 재계산 (0.2 → 1시간 TTL이면 만료 12분 전부터)
+     */
+    @Value("${cache.refresh-ahead.window-ratio:0.2}")
+    private double windowRatio = 0.2;
+
+    @Value("${cache.refresh-ahead.lease:PT10S}")
+    private Duration lease = Duration.ofSeconds(10);
+
+    @Value("${cache.refresh-ahead.max-tracked-keys:100000}")
+    private int maxTrackedKeys = 100_000;
+
+    public CacheRefreshAhead(RedisTemplate<String, String> redisTemplate,
+                             @Qualifier("cacheRefreshExecutor") Executor executor,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 히트한 키가 만료 직전이면 백그라운드 재계산 예약
+     * (Redis 오류는 조회 결과에 영향을 주지 않도록 로그만 남김)
+     */
+    <T> void onHit(RefreshAheadCache cache, Object key, Callable<T> valueLoader) {
+        if (!enabled) {
+            return;
+        }
+        String redisKey = cache.redisKey(key);
+        long now = System.currentTimeMillis();
+        Long checkAt = nextCheckAt.get(redisKey);
+        if (checkAt != null && now < checkAt) {
+            return;
+        }
+
+        try {
+            long window = (long) (cache.getTtl().toMillis() * windowRatio);
+            Long remaining = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+            if (remaining == null || remaining < 0) {
+                return;  // 키 없음(-2) 또는 만료 없음(-1)
+            }
+            if (remaining > window) {
+                remember(redisKey, now + remaining - window);
+                return;
+            }
+            if (!inFlight.add(redisKey)) {
+                return;
+            }
+
+            Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY_PREFIX + redisKey, nodeId, lease);
+            if (!Boolean.TRUE.equals(acquired)) {
+                inFlight.remove(redisKey);
+                remember(redisKey, now + lease.toMillis());  // 다른 노드가 재계산 중
+                count(cache.getName(), "lease_busy");
+                return;
+            }
+
+            executor.execute(() -> refresh(cache, key, redisKey, valueLoader));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(redisKey);
+            count(cache.getName(), "rejected");
+        } catch (RuntimeException e) {
+            inFlight.remove(redisKey);
+            log.warn("Refresh-ahead check failed: key={}", redisKey, e);
+        }
+    }
+
+    private <T> void refresh(RefreshAheadCache cache, Object key, String redisKey, Callable<T> valueLoader) {
+        try {
+            T value = valueLoader.call();
+            cache.put(key, value);
+            remember(redisKey, System.currentTimeMillis()
+                + (long) (cache.getTtl().toMillis() * (1 - windowRatio)));
+            count(cache.getName(), "refreshed");
+            log.debug("Cache refreshed ahead of expiry: key={}", redisKey);
+        } catch (Exception e) {
+            count(cache.getName(), "failed");
+            log.warn("Refresh-ahead failed, stale value kept until expiry: key={}", redisKey, e);
+        } finally {
+            inFlight.remove(redisKey);
+        }
+    }
+
+    private void remember(String redisKey, long checkAtMillis) {
+        if (nextCheckAt.size() >= maxTrackedKeys) {
+            nextCheckAt.clear();
+        }
+        nextCheckAt.put(redisKey, checkAtMillis);
+    }
+
+    private void count(String cacheName, String result) {
+        counters.computeIfAbsent(cacheName + ":" + result, ignored ->
+            Counter.builder("cache_refresh_ahead_total")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .description("Refresh-ahead attempts by outcome")
+                .register(meterRegistry)
+        ).increment();
+    }
+}
@@ -0,0 +1,107 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 헤더 + (선택) LZ4 압축을 붙이는 캐시 값 직렬화기
+ * <p>
+ * 형식: [magic 1B][codec id 1B][flags 1B][schema version 2B] ([원본 길이 4B] 압축 시) [payload]
+ * - flags bit0: LZ4 압축 여부 (payload가 compressThreshold 바이트 이상일 때만)
+ * - schema version: DTO 구조가 바뀌는 배포에서 올림
+ * <p>
+ * 롤링 배포 안전성: magic/코덱/스키마 버전이 다르면 예외 대신 null(캐시 미스)을 반환한다.
+ * → 신·구 버전 노드가 섞여 있어도 상대 엔트리를 미스로 보고 다시 적재할 뿐 오류가 나지 않는다.
+ * (헤더가 없는 기존 JSON 엔트리도 미스로 처리)
+ */
+@Slf4j
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 5;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final CacheCodec codec;
+    private final short schemaVersion;
+    private final int compressThreshold;
+
+    /**
+     * @param compressThreshold 이 크기(바이트) 이상이면 LZ4 압축, 0 이하면 압축 안 함
+     */
+    public CacheValueSerializer(CacheCodec codec, int schemaVersion, int compressThreshold) {
+        this.codec = codec;
+        this.schemaVersion = (short) schemaVersion;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] payload = codec.encode(value);
+        boolean compress = compressThreshold > 0 && payload.length >= compressThreshold;
+
+        if (!compress) {
+            return header(payload.length, (byte) 0).put(payload).array();
+        }
+
+        LZ4Compressor compressor = LZ4.fastCompressor();
+        byte[] compressed = new byte[compressor.maxCompressedLength(payload.length)];
+        int compressedLength = compressor.compress(payload, 0, payload.length, compressed, 0, compressed.length);
+        return header(Integer.BYTES + compressedLength, FLAG_LZ4)
+            .putInt(payload.length)
+            .put(compressed, 0, compressedLength)
+            .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC) {
+            log.debug("Cache entry without codec header treated as miss ({} bytes)", bytes.length);
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();  // magic
+        byte codecId = buffer.get();
+        byte flags = buffer.get();
+        short version = buffer.getShort();
+        if (codecId != codec.id() || version != schemaVersion) {
+            log.debug("Cache entry codec/schema mismatch treated as miss: codec={}, schema={} (expected {}/{})",
+                codecId, version, codec.id(), schemaVersion);
+            return null;
+        }
+
+        if ((flags & FLAG_LZ4) == 0) {
+            byte[] payload = new byte[buffer.remaining()];
+            buffer.get(payload);
+            return codec.decode(payload);
+        }
+
+        int originalLength = buffer.getInt();
+        LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+        byte[] payload = new byte[originalLength];
+        decompressor.decompress(bytes, buffer.position(), payload, 0, originalLength);
+        return codec.decode(payload);
+    }
+
+    private ByteBuffer header(int bodyLength, byte flags) {
+        return ByteBuffer.allocate(HEADER_SIZE + bodyLength)
+            .put(MAGIC)
+            .put(codec.id())
+            .put(flags)
+            .putShort(schemaVersion);
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * json 코덱 캐시의 값 직렬화기 (헤더 없는 기존 JSON 형식 유지)
+ * <p>
+ * 쓰기는 기존 JSON 직렬화 그대로, 읽기만 CacheValueSerializer 헤더(magic)로 시작하는 엔트리를 미스(null)로 처리한다.
+ * → smile → json 으로 코덱을 되돌리는 롤링 배포 중에도 smile 엔트리를 JSON으로 파싱하다 예외가 나지 않는다.
+ * (JSON 문서는 magic 바이트 0xC5로 시작할 수 없으므로 기존 엔트리와 구분된다)
+ */
+@Slf4j
+public class JsonCacheValueSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+
+    @SuppressWarnings("unchecked")
+    public JsonCacheValueSerializer(RedisSerializer<?> delegate) {
+        this.delegate = (RedisSerializer<Object>) delegate;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        return delegate.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null && bytes.length > 0 && bytes[0] == CacheValueSerializer.MAGIC) {
+            log.debug("Cache entry with codec header treated as miss by json codec ({} bytes)", bytes.length);
+            return null;
+        }
+        return delegate.deserialize(bytes);
+    }
+}
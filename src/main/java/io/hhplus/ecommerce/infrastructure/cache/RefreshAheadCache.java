@@ -0,0 +1,103 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * refresh-ahead 캐시 데코레이터 (Redis 캐시 위임)
+ * <p>
+ * 재계산에 원래 메서드 호출이 필요하므로 valueLoader를 받는 get(key, loader) 경로,
+ * 즉 @Cacheable(sync = true)에만 적용된다. 나머지 연산은 그대로 위임한다.
+ */
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final CacheRefreshAhead refreshAhead;
+
+    /**
+     * @param keyPrefix RedisCacheConfiguration.getKeyPrefixFor(name) (예: "product::")
+     * @param ttl       이 캐시의 entryTtl (refresh window 계산용)
+     */
+    public RefreshAheadCache(Cache delegate, String keyPrefix, Duration ttl, CacheRefreshAhead refreshAhead) {
+        this.delegate = delegate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            refreshAhead.onHit(this, key, valueLoader);
+            return (T) cached.get();
+        }
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * RedisCache 기본 키 규칙 (prefix + key.toString())
+     */
+    String redisKey(Object key) {
+        return keyPrefix + key;
+    }
+}
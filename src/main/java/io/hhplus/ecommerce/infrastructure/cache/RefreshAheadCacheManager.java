@@ -0,0 +1,51 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지정한 캐시만 RefreshAheadCache로 감싸는 CacheManager (나머지는 위임)
+ */
+public class RefreshAheadCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, RedisCacheConfiguration> refreshAheadCaches;
+    private final CacheRefreshAhead refreshAhead;
+
+    private final Map<String, Cache> decorated = new ConcurrentHashMap<>();
+
+    /**
+     * @param refreshAheadCaches 캐시 이름 → 해당 캐시 설정 (키 prefix, TTL)
+     */
+    public RefreshAheadCacheManager(CacheManager delegate,
+                                    Map<String, RedisCacheConfiguration> refreshAheadCaches,
+                                    CacheRefreshAhead refreshAhead) {
+        this.delegate = delegate;
+        this.refreshAheadCaches = Map.copyOf(refreshAheadCaches);
+        this.refreshAhead = refreshAhead;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        RedisCacheConfiguration configuration = refreshAheadCaches.get(name);
+        if (configuration == null) {
+            return delegate.getCache(name);
+        }
+        return decorated.computeIfAbsent(name, ignored -> {
+            Cache target = delegate.getCache(name);
+            Duration ttl = configuration.getTtlFunction().getTimeToLive(name, null);
+            return new RefreshAheadCache(target, configuration.getKeyPrefixFor(name), ttl, refreshAhead);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Smile(바이너리 JSON) 코덱, 캐시별 타입 고정
+ * <p>
+ * GenericJackson2JsonRedisSerializer 대비:
+ * - 클래스명(@class)을 값마다 넣지 않음 (타입은 캐시 설정에서 고정)
+ * - 반복되는 필드명/짧은 문자열을 back-reference로 한 번만 기록 → 대형 목록에서 크기 감소
+ * <p>
+ * 알 수 없는 필드는 무시 (필드가 추가된 새 버전 엔트리를 구버전이 읽어도 실패하지 않음).
+ * 필드 의미가 바뀌는 변경은 cache.codec.schema-version을 올린다.
+ */
+public class SmileCacheCodec implements CacheCodec {
+
+    public static final byte ID = 2;
+
+    private final ObjectMapper mapper;
+    private final Class<?> type;
+
+    public SmileCacheCodec(Class<?> type) {
+        SmileFactory factory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        this.mapper = new ObjectMapper(factory)
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.type = type;
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return "smile";
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Smile encode failed: " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new SerializationException("Smile decode failed: " + type.getSimpleName(), e);
+        }
+    }
+}
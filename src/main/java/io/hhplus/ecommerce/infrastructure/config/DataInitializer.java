@@ -17,13 +17,17 @@ import io.hhplus.ecommerce.domain.order.OrderItem;
 import io.hhplus.ecommerce.domain.order.OrderRepository;
 import io.hhplus.ecommerce.domain.user.User;
 import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.init.DeferredDataInitializer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,6 +35,7 @@ import java.time.LocalDateTime;
 @Slf4j
 @Component
 @Profile("!test")  // 테스트 환경에서는 비활성화
+@Order(Ordered.LOWEST_PRECEDENCE - 2)  // 대량 시드(BulkDataSeeder)보다 먼저 실행
 @RequiredArgsConstructor
 public class DataInitializer implements ApplicationRunner {
 
@@ -42,10 +47,20 @@ public class DataInitializer implements ApplicationRunner {
     private final CartItemRepository cartItemRepository;
     private final OrderRepository orderRepository;
     private final ProductSalesAggregateRepository aggregateRepository;
+    private final DeferredDataInitializer deferredDataInitializer;
+    private final PlatformTransactionManager transactionManager;
 
+    /**
+     * 적재는 백그라운드에서 단일 트랜잭션으로 실행 (끝날 때까지 readiness OUT_OF_SERVICE)
+     */
     @Override
-    @Transactional
     public void run(ApplicationArguments args) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        deferredDataInitializer.submit("data-initializer",
+            () -> transactionTemplate.executeWithoutResult(status -> initialize()));
+    }
+
+    private void initialize() {
         log.info("🚀 Starting initial data loading...");
 
         // 중복 방지: 이미 데이터가 존재하면 건너뜀
@@ -72,7 +87,8 @@ public class DataInitializer implements ApplicationRunner {
 
     private boolean isDataAlreadyLoaded() {
         // Product 테이블에 데이터가 있으면 이미 초기화된 것으로 판단
-        return !productRepository.findAll().isEmpty();
+        // (대량 시드 이후에도 재시작이 느려지지 않도록 전체 조회 대신 COUNT)
+        return productRepository.count() > 0;
     }
 
     private void initUsers() {
@@ -0,0 +1,51 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 커넥션 풀 / 쿼리 타임아웃 지정 어노테이션
+ *
+ * 유스케이스(클래스 또는 메서드)가 사용할 이름 있는 풀과 statement queryTimeout을 지정합니다.
+ * datasource.pools.enabled=true 일 때만 동작합니다 (비활성화 시 무시).
+ *
+ * 사용 예시:
+ * <pre>
+ * {@code
+ * @ConnectionPool(value = "side", queryTimeoutSeconds = 3)
+ * @Transactional(propagation = Propagation.REQUIRES_NEW)
+ * public void saveCompletion(...) { ... }
+ * }
+ * </pre>
+ *
+ * 주의사항:
+ * - 풀은 커넥션을 처음 가져오는 시점에 정해집니다. 이미 시작된 트랜잭션(REQUIRED)에 참여하면
+ *   바깥 트랜잭션의 커넥션을 그대로 쓰고, queryTimeout만 이후 생성되는 statement에 적용됩니다.
+ * - REQUIRES_NEW처럼 바깥 커넥션을 잡은 채 두 번째 커넥션이 필요한 경로는 별도 풀(side)을 지정해
+ *   같은 풀 안에서 서로를 기다리는 교착을 피합니다.
+ * - JPA 쿼리 힌트나 트랜잭션 timeout으로 지정한 값이 있으면 그 값이 우선합니다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConnectionPool {
+
+    /**
+     * 풀 이름 (datasource.pools.names 중 하나)
+     *
+     * 비어 있으면 기본 규칙을 따릅니다: 읽기 전용 트랜잭션 → read, 그 외 → primary
+     *
+     * @return 풀 이름
+     */
+    String value() default "";
+
+    /**
+     * statement queryTimeout (초)
+     *
+     * 0 이하이면 풀 기본값(datasource.pools.{name}.query-timeout-seconds)을 사용합니다.
+     *
+     * @return 쿼리 타임아웃
+     */
+    int queryTimeoutSeconds() default 0;
+}
@@ -0,0 +1,42 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ConnectionPool AOP
+ *
+ * 트랜잭션 AOP보다 바깥에서 실행되어, 트랜잭션이 커넥션을 가져오기 전에 풀 지정이 보이도록 합니다.
+ * (메서드 어노테이션이 클래스 어노테이션보다 우선)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionPoolAspect {
+
+    @Around("@annotation(io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool) "
+        + "|| @within(io.hhplus.ecommerce.infrastructure.datasource.ConnectionPool)")
+    public Object withPool(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        ConnectionPool pool = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), ConnectionPool.class);
+        if (pool == null) {
+            pool = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), ConnectionPool.class);
+        }
+        if (pool == null) {
+            return joinPoint.proceed();
+        }
+
+        ConnectionPoolContext.push(pool);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ConnectionPoolContext.pop();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드의 @ConnectionPool 지정 (중첩 호출 시 가장 안쪽 지정이 우선)
+ */
+public final class ConnectionPoolContext {
+
+    private static final ThreadLocal<Deque<ConnectionPool>> STACK = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private ConnectionPoolContext() {
+    }
+
+    static void push(ConnectionPool pool) {
+        STACK.get().push(pool);
+    }
+
+    static void pop() {
+        Deque<ConnectionPool> stack = STACK.get();
+        stack.pop();
+        if (stack.isEmpty()) {
+            STACK.remove();
+        }
+    }
+
+    /**
+     * @return 지정된 풀 이름 (없으면 null)
+     */
+    static String pool() {
+        for (ConnectionPool pool : STACK.get()) {
+            if (!pool.value().isBlank()) {
+                return pool.value();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 지정된 queryTimeout (없으면 풀 기본값)
+     */
+    static int queryTimeoutSeconds(int poolDefault) {
+        for (ConnectionPool pool : STACK.get()) {
+            if (pool.queryTimeoutSeconds() > 0) {
+                return pool.queryTimeoutSeconds();
+            }
+        }
+        return poolDefault;
+    }
+}
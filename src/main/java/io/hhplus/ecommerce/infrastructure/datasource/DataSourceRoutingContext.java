@@ -0,0 +1,57 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+/**
+ * 요청 단위 라우팅 상태 (read-your-writes)
+ * <p>
+ * ReadYourWritesFilter가 요청 시작 시 begin(), 끝날 때 end()를 호출한다.
+ * - 요청 안에서 primary 커넥션을 한 번 쓰면 이후 읽기 전용 트랜잭션도 primary로 고정
+ * - 직전 쓰기 요청의 쿠키가 유효하면 요청 전체를 primary로 고정
+ * <p>
+ * 요청 스코프 밖(스케줄러, Kafka 리스너 스레드)에서는 고정하지 않는다 (스레드 풀 재사용 시 누수 방지).
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    private static final class Scope {
+        private boolean primaryPinned;
+        private boolean wrote;
+    }
+
+    public static void begin(boolean pinPrimary) {
+        Scope scope = new Scope();
+        scope.primaryPinned = pinPrimary;
+        SCOPE.set(scope);
+    }
+
+    public static void end() {
+        SCOPE.remove();
+    }
+
+    /**
+     * primary 커넥션 획득 시 호출 (요청 스코프 안이면 이후 읽기를 primary로 고정)
+     */
+    static void markPrimaryUsed() {
+        Scope scope = SCOPE.get();
+        if (scope != null) {
+            scope.primaryPinned = true;
+            scope.wrote = true;
+        }
+    }
+
+    static boolean isPrimaryPinned() {
+        Scope scope = SCOPE.get();
+        return scope != null && scope.primaryPinned;
+    }
+
+    /**
+     * 이번 요청에서 primary 커넥션을 사용했는지 (쓰기 요청의 쿠키 발급 판단)
+     */
+    public static boolean wrote() {
+        Scope scope = SCOPE.get();
+        return scope != null && scope.wrote;
+    }
+}
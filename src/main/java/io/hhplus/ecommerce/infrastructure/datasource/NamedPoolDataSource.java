@@ -0,0 +1,125 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 용도별 커넥션 풀 분리 (primary 인스턴스 안에서)
+ * <p>
+ * 풀 선택 (커넥션을 처음 가져오는 시점):
+ * 1. @ConnectionPool로 지정한 풀
+ * 2. 읽기 전용 트랜잭션 → read 풀 (정의된 경우)
+ * 3. 그 외 → primary 풀 (핵심 쓰기 경로)
+ * <p>
+ * 반환 커넥션은 statement 생성 시 queryTimeout(@ConnectionPool 지정 > 풀 기본값)을 설정한다.
+ * 결제 급증으로 primary 풀이 고갈돼도 read/side/batch 풀은 영향을 받지 않는다.
+ * <p>
+ * 메트릭:
+ * - db_pool_route_total{pool}: 풀별 커넥션 요청 수
+ * - db_pool_saturation_ratio{pool}: (활성 + 대기) / 최대 크기 (1 이상이면 대기 발생)
+ * - hikaricp_connections_*{pool}: Hikari 기본 지표 (풀마다 metricRegistry 설정)
+ */
+public class NamedPoolDataSource extends AbstractDataSource {
+
+    public static final String PRIMARY = "primary";
+    static final String READ = "read";
+
+    private final Map<String, HikariDataSource> pools;
+    private final Map<String, Integer> queryTimeouts;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param pools         풀 이름 → 풀 (primary 포함)
+     * @param queryTimeouts 풀 이름 → 기본 queryTimeout(초), 0이면 설정 안 함
+     */
+    public NamedPoolDataSource(Map<String, HikariDataSource> pools, Map<String, Integer> queryTimeouts, MeterRegistry meterRegistry) {
+        if (!pools.containsKey(PRIMARY)) {
+            throw new IllegalArgumentException("primary pool is required: " + pools.keySet());
+        }
+        this.pools = new LinkedHashMap<>(pools);
+        this.queryTimeouts = Map.copyOf(queryTimeouts);
+        this.meterRegistry = meterRegistry;
+
+        pools.forEach((name, pool) -> Gauge.builder("db_pool_saturation_ratio", pool, NamedPoolDataSource::saturation)
+            .tag("pool", name)
+            .description("(active + pending) / maximum pool size")
+            .register(meterRegistry));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String name = select();
+        counters.computeIfAbsent(name, key -> Counter.builder("db_pool_route_total")
+            .tag("pool", key)
+            .description("Connection requests by named pool")
+            .register(meterRegistry)
+        ).increment();
+        return withQueryTimeout(pools.get(name).getConnection(), queryTimeouts.getOrDefault(name, 0));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Named pools use their configured credentials");
+    }
+
+    private String select() {
+        String requested = ConnectionPoolContext.pool();
+        if (requested != null && pools.containsKey(requested)) {
+            return requested;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && pools.containsKey(READ)) {
+            return READ;
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * createStatement / prepareStatement / prepareCall 결과에 queryTimeout 적용
+     * (이미 값이 설정된 statement는 건드리지 않음, Hibernate 힌트는 이후에 덮어씀)
+     */
+    private static Connection withQueryTimeout(Connection target, int poolDefault) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+                if (result instanceof Statement statement) {
+                    int seconds = ConnectionPoolContext.queryTimeoutSeconds(poolDefault);
+                    if (seconds > 0 && statement.getQueryTimeout() == 0) {
+                        statement.setQueryTimeout(seconds);
+                    }
+                }
+                return result;
+            }
+        );
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null || pool.getMaximumPoolSize() == 0) {
+            return 0;
+        }
+        return (double) (mxBean.getActiveConnections() + mxBean.getThreadsAwaitingConnection()) / pool.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션의 대상 선택 (레플리카 라운드로빈 + primary 폴백)
+ * <p>
+ * 연결 구조: LazyConnectionDataSourceProxy
+ * - 쓰기/일반 커넥션 → primary (PrimaryTrackingDataSource)
+ * - readOnly 커넥션(@Transactional(readOnly = true)) → 이 라우터
+ * 프록시가 실제 커넥션을 첫 쿼리 시점에 가져오므로 트랜잭션의 readOnly 플래그가 이미 설정되어 있다.
+ * <p>
+ * 이 라우터의 선택 규칙:
+ * 1. 요청이 primary로 고정됨(read-your-writes) → primary
+ * 2. 지연 허용 범위의 레플리카가 없음 → primary (폴백)
+ * 3. 그 외 → 건강한 레플리카 라운드로빈
+ * <p>
+ * 메트릭: db_read_route_total{target} (primary 폴백 비율 확인용)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private ReadWriteRoutingDataSource(DataSource primary,
+                                       Map<String, DataSource> replicas,
+                                       ReplicaLagMonitor lagMonitor,
+                                       MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.meterRegistry = meterRegistry;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @return 애플리케이션이 사용할 DataSource (쓰기 → primary, 읽기 전용 → 레플리카 라우팅)
+     */
+    public static DataSource create(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        // 읽기 폴백은 기록 없이 primary를 그대로 사용
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(new PrimaryTrackingDataSource(primary));
+        proxy.setReadOnlyDataSource(new ReadWriteRoutingDataSource(primary, replicas, lagMonitor, meterRegistry));
+        return proxy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = select();
+        counters.computeIfAbsent(target, key -> Counter.builder("db_read_route_total")
+            .tag("target", key)
+            .description("Read-only connections by routing target")
+            .register(meterRegistry)
+        ).increment();
+        return target;
+    }
+
+    private String select() {
+        if (DataSourceRoutingContext.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        List<String> healthy = lagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(sequence.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * primary 커넥션 사용을 요청 스코프에 기록 (이후 읽기를 primary로 고정)
+     */
+    private static class PrimaryTrackingDataSource extends DelegatingDataSource {
+
+        PrimaryTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            DataSourceRoutingContext.markPrimaryUsed();
+            return connection;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+
+/**
+ * read-your-writes 창 (요청 단위)
+ * <p>
+ * 쓰기 요청(GET/HEAD 외)이 primary를 사용하면 응답에 쿠키를 붙인다.
+ * (본문을 쓰기 직전에 붙여야 하므로 응답을 감싸 getOutputStream/getWriter 시점에 추가)
+ * - 쿠키 값: primary 고정 만료 시각(epoch ms), Max-Age: window
+ * - 이후 같은 클라이언트의 요청은 만료 전까지 읽기도 primary에서 수행
+ *   → 방금 충전한 잔액/주문이 복제 지연 때문에 안 보이는 문제 방지
+ * <p>
+ * 쿠키 없이도 같은 요청 안에서는 primary 사용 이후의 읽기가 primary로 고정된다 (DataSourceRoutingContext).
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "rw-primary-until";
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        DataSourceRoutingContext.begin(withinWindow(request));
+        try {
+            if (!isWrite(request)) {
+                chain.doFilter(request, response);
+                return;
+            }
+            PinningResponse pinning = new PinningResponse(response);
+            chain.doFilter(request, pinning);
+            pinning.pinIfWrote();
+        } finally {
+            DataSourceRoutingContext.end();
+        }
+    }
+
+    private boolean withinWindow(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method);
+    }
+
+    /**
+     * 본문 쓰기 직전(= 유스케이스 트랜잭션 종료 후)에 쿠키 추가
+     */
+    private class PinningResponse extends HttpServletResponseWrapper {
+
+        private boolean pinned;
+
+        PinningResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            pinIfWrote();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            pinIfWrote();
+            return super.getWriter();
+        }
+
+        void pinIfWrote() {
+            if (pinned || isCommitted() || !DataSourceRoutingContext.wrote()) {
+                return;
+            }
+            pinned = true;
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(System.currentTimeMillis() + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            addCookie(cookie);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레플리카 복제 지연 감시
+ * <p>
+ * 주기적으로 SHOW REPLICA STATUS의 Seconds_Behind_Source를 읽어
+ * - 지연이 max-lag-seconds 이하인 레플리카만 읽기 대상으로 사용
+ * - 복제가 멈췄거나(NULL) 조회에 실패하면 제외 → 읽기는 primary로 폴백
+ * <p>
+ * 조회 계정에 REPLICATION CLIENT 권한이 필요하다.
+ * lag-check가 꺼져 있으면 모든 레플리카를 항상 사용 (복제 없이 라우팅만 확인하는 환경용)
+ * <p>
+ * 메트릭: db_replica_lag_seconds{replica} (복제 중단/조회 실패 시 -1)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final boolean enabled;
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+    private volatile List<String> healthyReplicas;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxLagSeconds, boolean enabled, MeterRegistry meterRegistry) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagSeconds = maxLagSeconds;
+        this.enabled = enabled;
+        this.healthyReplicas = enabled ? List.of() : List.copyOf(replicas.keySet());
+
+        replicas.keySet().forEach(name -> Gauge.builder("db_replica_lag_seconds", lagSeconds, lags -> lags.getOrDefault(name, -1L))
+            .tag("replica", name)
+            .description("Replica lag (Seconds_Behind_Source), -1 when replication is stopped or unknown")
+            .register(meterRegistry));
+        check();
+    }
+
+    /**
+     * 지연이 허용 범위인 레플리카 (조회 순서 유지)
+     */
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+        List<String> healthy = replicas.entrySet().stream()
+            .filter(entry -> {
+                long lag = readLag(entry.getKey(), entry.getValue());
+                lagSeconds.put(entry.getKey(), lag);
+                return lag >= 0 && lag <= maxLagSeconds;
+            })
+            .map(Map.Entry::getKey)
+            .toList();
+
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Replica routing targets changed: {} -> {} (max lag {}s)", healthyReplicas, healthy, maxLagSeconds);
+        }
+        healthyReplicas = healthy;
+    }
+
+    private long readLag(String name, DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                log.warn("Replica {} is not replicating (empty SHOW REPLICA STATUS)", name);
+                return -1;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? -1 : lag;
+        } catch (SQLException e) {
+            log.warn("Replica lag check failed: {}", name, e);
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.ecommerce.infrastructure.event;
+
+import io.hhplus.ecommerce.application.usecase.product.ProductEventPublisher;
+import io.hhplus.ecommerce.domain.product.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring ApplicationEventPublisher 기반 구현체
+ */
+@Component
+@RequiredArgsConstructor
+public class SpringProductEventPublisher implements ProductEventPublisher {
+
+    private final ApplicationEventPublisher delegate;
+
+    @Override
+    public void publish(ProductChangedEvent event) {
+        delegate.publishEvent(event);
+    }
+}
@@ -2,10 +2,18 @@ package io.hhplus.ecommerce.infrastructure.external;
 
 import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Mock PG 서비스 구현
@@ -16,6 +24,12 @@ import java.util.UUID;
  * - Idempotency Key에 "FAIL" 포함: 실패 응답 (테스트용)
  * - 그 외: 성공 응답
  * <p>
+ * 부하 테스트용 분포 (pg.mock.*, 기본값은 모두 0 → 즉시 응답):
+ * - 지연: base-ms + 지수분포(평균 jitter-mean-ms) + slow-rate 확률로 slow-ms 추가 (꼬리 지연)
+ * - 실패: error-rate 확률로 예외 (네트워크 오류/5xx), decline-rate 확률로 승인 거절 응답
+ * - 승인은 지연 전에 기록된다 → 응답이 타임아웃되어도 상태 조회로 승인 여부를 확인할 수 있음
+ * - 승인 기록은 approval-retention 동안만, 최대 approval-max-size건 보관 (오래된 것부터 제거, 부하 테스트 중 힙 고정)
+ * <p>
  * 실제 PG 연동 시:
  * - TossPaymentsServiceImpl로 교체
  * - RestTemplate 또는 WebClient로 HTTP API 호출
@@ -27,8 +41,46 @@ import java.util.UUID;
 @Slf4j
 @Service
 @Profile("!prod")  // 운영 환경에서는 실제 PG Service 사용
+@Qualifier(PGService.CLIENT)
 public class MockPGServiceImpl implements PGService {
 
+    /**
+     * 승인된 결제 (멱등성 키 → 승인 기록), 상태 조회용
+     */
+    private final Map<String, Approval> approvals = new ConcurrentHashMap<>();
+
+    /**
+     * 승인 기록 순서 (오래된 것부터 제거)
+     */
+    private final Queue<Approval> approvalOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 대사(payment.reconciliation.stale-after)가 조회할 시간보다 길게 유지
+     */
+    @Value("${pg.mock.approval-retention:PT1H}")
+    private Duration approvalRetention = Duration.ofHours(1);
+
+    @Value("${pg.mock.approval-max-size:100000}")
+    private int approvalMaxSize = 100_000;
+
+    @Value("${pg.mock.latency.base-ms:0}")
+    private long baseLatencyMs = 0L;
+
+    @Value("${pg.mock.latency.jitter-mean-ms:0}")
+    private long jitterMeanMs = 0L;
+
+    @Value("${pg.mock.latency.slow-rate:0.0}")
+    private double slowRate = 0.0;
+
+    @Value("${pg.mock.latency.slow-ms:3000}")
+    private long slowLatencyMs = 3_000L;
+
+    @Value("${pg.mock.failure.error-rate:0.0}")
+    private double errorRate = 0.0;
+
+    @Value("${pg.mock.failure.decline-rate:0.0}")
+    private double declineRate = 0.0;
+
     /**
      * Mock 결제 승인
      * <p>
@@ -83,11 +135,90 @@ public class MockPGServiceImpl implements PGService {
             return PGResponse.failure("PG 승인 실패: 잔액 부족 (Mock)");
         }
 
-        // 성공 시나리오
+        // 분포 기반 실패 시나리오 (부하 테스트용)
+        simulateError();
+        if (roll(declineRate)) {
+            simulateLatency();
+            return PGResponse.failure("PG 승인 거절 (Mock)");
+        }
+
+        // 성공 시나리오 (승인 기록 후 응답 지연)
         String mockTransactionId = "MOCK_TX_" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        PGResponse response = PGResponse.success(mockTransactionId);
+        recordApproval(request.idempotencyKey(), response);
+        simulateLatency();
+
         log.info("Mock PG: Approval SUCCESS - txId={}", mockTransactionId);
         log.info("=== Mock PG Service: Charge Response ===");
 
-        return PGResponse.success(mockTransactionId);
+        return response;
+    }
+
+    /**
+     * Mock 결제 상태 조회 (승인 기록 기준)
+     */
+    @Override
+    public PGResponse getPaymentStatus(String idempotencyKey) {
+        simulateError();
+        simulateLatency();
+
+        Approval approval = approvals.get(idempotencyKey);
+        return approval != null && !approval.isExpired(System.nanoTime())
+            ? approval.response()
+            : PGResponse.failure("승인 내역 없음 (Mock)");
+    }
+
+    private void recordApproval(String idempotencyKey, PGResponse response) {
+        long now = System.nanoTime();
+        Approval approval = new Approval(idempotencyKey, response, now + approvalRetention.toNanos());
+        approvals.put(idempotencyKey, approval);
+        approvalOrder.offer(approval);
+
+        // 만료되었거나 상한을 넘은 가장 오래된 기록 제거 (승인당 상수 시간)
+        Approval oldest;
+        while ((oldest = approvalOrder.peek()) != null
+            && (oldest.isExpired(now) || approvals.size() > approvalMaxSize)) {
+            Approval evicted = approvalOrder.poll();
+            if (evicted != null) {
+                approvals.remove(evicted.idempotencyKey(), evicted);
+            }
+        }
+    }
+
+    private record Approval(String idempotencyKey, PGResponse response, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    private void simulateError() {
+        if (roll(errorRate)) {
+            throw new IllegalStateException("Mock PG: 일시적인 통신 오류");
+        }
+    }
+
+    private void simulateLatency() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latencyMs = baseLatencyMs;
+        if (jitterMeanMs > 0) {
+            latencyMs += (long) (-jitterMeanMs * Math.log(1.0 - random.nextDouble()));
+        }
+        if (roll(slowRate)) {
+            latencyMs += slowLatencyMs;
+        }
+        if (latencyMs <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Mock PG: 응답 대기 중 인터럽트", e);
+        }
+    }
+
+    private boolean roll(double rate) {
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
     }
 }
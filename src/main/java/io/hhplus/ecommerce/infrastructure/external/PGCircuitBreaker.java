@@ -0,0 +1,156 @@
+package io.hhplus.ecommerce.infrastructure.external;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * PG 호출 서킷 브레이커 (최근 N건 슬라이딩 윈도우)
+ * <p>
+ * 상태 전이:
+ * - CLOSED: 모든 호출 통과. 최근 slidingWindowSize건 중 실패율이 임계치 이상이면 OPEN
+ *   (minimumCalls건이 쌓이기 전에는 판단하지 않음)
+ * - OPEN: openWait 동안 즉시 거절 → 이후 첫 요청에서 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls건만 시험 호출. 하나라도 실패하면 다시 OPEN, 모두 성공하면 CLOSED
+ * <p>
+ * 실패 판정(예외, 타임아웃, 느린 호출)은 호출 측(ResilientPGService)이 결정한다.
+ * 승인 거절 응답은 PG가 정상 동작한 것이므로 성공으로 기록한다.
+ */
+public class PGCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openWaitNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final Consumer<State> transitionListener;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    public PGCircuitBreaker(
+            int slidingWindowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            Duration openWait,
+            int halfOpenCalls,
+            LongSupplier nanoClock,
+            Consumer<State> transitionListener) {
+        if (slidingWindowSize <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("서킷 브레이커 윈도우/호출 수는 0보다 커야 합니다");
+        }
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openWaitNanos = openWait.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+        this.transitionListener = transitionListener;
+        this.window = new boolean[slidingWindowSize];
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 결과를 onSuccess/onFailure/release 중 하나로 반드시 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openWaitNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenIssued++;
+        }
+        return true;
+    }
+
+    /**
+     * 허용됐지만 실제로 호출하지 않은 경우 (벌크헤드 거절 등) 시험 호출 슬롯 반환
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenIssued > 0) {
+            halfOpenIssued--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        record(true);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 현재 윈도우의 실패율 (%)
+     */
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0.0 : windowFailures * 100.0 / windowCount;
+    }
+
+    private void record(boolean failure) {
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failure) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                if (windowCount == slidingWindowSize) {
+                    if (window[windowIndex]) {
+                        windowFailures--;
+                    }
+                } else {
+                    windowCount++;
+                }
+                window[windowIndex] = failure;
+                if (failure) {
+                    windowFailures++;
+                }
+                windowIndex = (windowIndex + 1) % slidingWindowSize;
+
+                if (windowCount >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case OPEN -> {
+                // OPEN 전환 전에 허용된 호출의 늦은 결과는 무시
+            }
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        halfOpenIssued = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        transitionListener.accept(next);
+    }
+}
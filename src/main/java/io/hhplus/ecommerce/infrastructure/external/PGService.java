@@ -13,7 +13,8 @@ import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
  * - KG이니시스: https://www.inicis.com/
  * <p>
  * 현재 구현:
- * - MockPGServiceImpl: Mock 구현 (실제 API 없음)
+ * - MockPGServiceImpl: Mock 구현 (실제 API 없음), @Qualifier(CLIENT)
+ * - ResilientPGService: 위 구현을 감싸는 @Primary 데코레이터 (벌크헤드, 서킷 브레이커, 헤지 조회)
  * <p>
  * 향후 확장:
  * - TossPaymentsServiceImpl: 토스페이먼츠 실제 API 연동
@@ -21,6 +22,11 @@ import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
  */
 public interface PGService {
 
+    /**
+     * 실제 PG 연동 구현체의 Qualifier (ResilientPGService가 감싸는 대상)
+     */
+    String CLIENT = "pgClient";
+
     /**
      * 결제 승인 요청
      * <p>
@@ -33,4 +39,15 @@ public interface PGService {
      * @throws RuntimeException 네트워크 오류, 타임아웃 등
      */
     PGResponse charge(PaymentRequest request);
+
+    /**
+     * 결제 상태 조회 (멱등성 키 기준)
+     * <p>
+     * 승인 요청이 타임아웃되어 결과를 알 수 없을 때 승인 여부를 확정하는 데 사용합니다.
+     * 조회는 부작용이 없으므로 재시도/헤지 요청이 안전합니다.
+     *
+     * @param idempotencyKey 승인 요청에 사용한 멱등성 키
+     * @return 승인된 건이면 success(transactionId), 없거나 거절된 건이면 failure
+     */
+    PGResponse getPaymentStatus(String idempotencyKey);
 }
@@ -0,0 +1,383 @@
+package io.hhplus.ecommerce.infrastructure.external;
+
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PG 호출 보호 계층 (PGService 데코레이터)
+ * <p>
+ * 결제는 잔액/재고를 차감(예약)한 뒤 PG를 호출하므로, PG가 느려지면 예약만 된 결제와 보상 트랜잭션이 쌓인다.
+ * 이 계층은 PG 호출을 다음으로 감싼다.
+ * <p>
+ * 1. 벌크헤드: 동시 호출 수 상한 (Semaphore). max-wait 안에 자리가 없으면 즉시 PG_UNAVAILABLE
+ * 2. 타임아웃: 호출은 가상 스레드에서 실행하고 호출 측은 timeout까지만 대기
+ *    - 타임아웃된 호출도 실제로 끝날 때까지 벌크헤드 자리를 차지한다 (실제 in-flight 수 기준)
+ * 3. 서킷 브레이커: 예외/타임아웃/느린 호출 비율이 임계치를 넘으면 OPEN → 호출 없이 PG_UNAVAILABLE
+ *    → ProcessPaymentUseCase가 곧바로 보상 트랜잭션으로 넘어간다
+ * 4. 승인 타임아웃 시 상태 조회로 승인 여부 확정 (승인됐으면 성공 처리, 아니면 실패 응답 → 보상)
+ *    - 상태 조회마저 실패하면 승인 여부를 모르므로 PG_OUTCOME_UNKNOWN (보상하지 않고 PROCESSING 유지 → 대사)
+ * 5. 상태 조회 헤지: 조회는 부작용이 없으므로 hedge.delay 안에 응답이 없으면 같은 조회를 한 번 더 보내
+ *    먼저 온 응답을 사용한다 (서킷이 CLOSED일 때만, 장애 시 부하를 키우지 않도록)
+ * <p>
+ * 메트릭:
+ * - pg_calls_total{operation, outcome}: success, declined, error, timeout, slow, rejected_circuit, rejected_bulkhead,
+ *   outcome_unknown (승인 타임아웃 후 상태 조회 실패, 대사 대상)
+ * - pg_call_duration_seconds{operation}
+ * - pg_circuit_state{state}: 현재 상태만 1, pg_circuit_failure_rate, pg_circuit_transitions_total{state}
+ * - pg_bulkhead_in_flight, pg_hedged_requests_total
+ */
+@Slf4j
+@Primary
+@Service
+public class ResilientPGService implements PGService {
+
+    private static final String CHARGE = "charge";
+    private static final String STATUS = "status";
+
+    private final PGService delegate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${pg.resilience.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${pg.bulkhead.max-concurrent-calls:100}")
+    private int maxConcurrentCalls = 100;
+
+    @Value("${pg.bulkhead.max-wait:PT0.1S}")
+    private Duration maxWait = Duration.ofMillis(100);
+
+    @Value("${pg.timeout.charge:PT5S}")
+    private Duration chargeTimeout = Duration.ofSeconds(5);
+
+    @Value("${pg.timeout.status:PT2S}")
+    private Duration statusTimeout = Duration.ofSeconds(2);
+
+    @Value("${pg.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize = 50;
+
+    @Value("${pg.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls = 20;
+
+    @Value("${pg.circuit-breaker.failure-rate-threshold:50}")
+    private double failureRateThreshold = 50.0;
+
+    @Value("${pg.circuit-breaker.slow-call-threshold:PT3S}")
+    private Duration slowCallThreshold = Duration.ofSeconds(3);
+
+    @Value("${pg.circuit-breaker.open-wait:PT10S}")
+    private Duration openWait = Duration.ofSeconds(10);
+
+    @Value("${pg.circuit-breaker.half-open-calls:5}")
+    private int halfOpenCalls = 5;
+
+    @Value("${pg.hedge.enabled:true}")
+    private boolean hedgeEnabled = true;
+
+    @Value("${pg.hedge.delay:PT0.2S}")
+    private Duration hedgeDelay = Duration.ofMillis(200);
+
+    @Value("${pg.hedge.max-attempts:2}")
+    private int hedgeMaxAttempts = 2;
+
+    private Semaphore bulkhead;
+    private PGCircuitBreaker circuitBreaker;
+    private Counter hedgedRequests;
+
+    public ResilientPGService(@Qualifier(PGService.CLIENT) PGService delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        bulkhead = new Semaphore(maxConcurrentCalls);
+        circuitBreaker = new PGCircuitBreaker(
+            slidingWindowSize,
+            minimumCalls,
+            failureRateThreshold,
+            openWait,
+            halfOpenCalls,
+            System::nanoTime,
+            this::onTransition
+        );
+
+        Gauge.builder("pg_bulkhead_in_flight", bulkhead, permits -> maxConcurrentCalls - permits.availablePermits())
+            .description("PG calls currently in flight")
+            .register(meterRegistry);
+        for (PGCircuitBreaker.State state : PGCircuitBreaker.State.values()) {
+            Gauge.builder("pg_circuit_state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                .tag("state", state.name().toLowerCase())
+                .description("PG circuit breaker state (1 = current)")
+                .register(meterRegistry);
+        }
+        Gauge.builder("pg_circuit_failure_rate", circuitBreaker, PGCircuitBreaker::getFailureRate)
+            .description("PG failure rate in the current sliding window (%)")
+            .register(meterRegistry);
+        hedgedRequests = Counter.builder("pg_hedged_requests_total")
+            .description("Hedged PG status queries sent")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public PGCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public PGResponse charge(PaymentRequest request) {
+        if (!enabled) {
+            return delegate.charge(request);
+        }
+
+        PendingCall call = submit(CHARGE, () -> delegate.charge(request));
+        try {
+            return await(call.future, chargeTimeout);
+        } catch (TimeoutException e) {
+            call.onTimeout();
+            return resolveTimedOutCharge(request);
+        }
+    }
+
+    @Override
+    public PGResponse getPaymentStatus(String idempotencyKey) {
+        if (!enabled) {
+            return delegate.getPaymentStatus(idempotencyKey);
+        }
+
+        boolean hedge = hedgeEnabled && circuitBreaker.getState() == PGCircuitBreaker.State.CLOSED;
+        int attempts = hedge ? Math.max(1, hedgeMaxAttempts) : 1;
+        long deadline = System.nanoTime() + statusTimeout.toNanos();
+
+        CompletableFuture<PGResponse> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(attempts);
+        List<PendingCall> calls = new ArrayList<>(attempts);
+
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            if (attempt > 1) {
+                if (awaitQuietly(winner, hedgeDelay)) {
+                    break;
+                }
+                hedgedRequests.increment();
+            }
+
+            try {
+                PendingCall call = submit(STATUS, () -> delegate.getPaymentStatus(idempotencyKey));
+                calls.add(call);
+                call.future.whenComplete((response, error) -> {
+                    if (error == null) {
+                        winner.complete(response);
+                    } else if (remaining.decrementAndGet() == 0) {
+                        winner.completeExceptionally(error);
+                    }
+                });
+            } catch (BusinessException rejected) {
+                if (remaining.decrementAndGet() == 0) {
+                    winner.completeExceptionally(rejected);
+                }
+            }
+        }
+
+        try {
+            return await(winner, Duration.ofNanos(Math.max(0L, deadline - System.nanoTime())));
+        } catch (TimeoutException e) {
+            calls.forEach(PendingCall::onTimeout);
+            throw new BusinessException(ErrorCode.PG_UNAVAILABLE, "PG 결제 상태 조회 시간이 초과되었습니다.");
+        }
+    }
+
+    /**
+     * 승인 응답이 타임아웃된 경우: 승인됐을 수 있으므로 상태 조회로 확정
+     */
+    private PGResponse resolveTimedOutCharge(PaymentRequest request) {
+        log.warn("PG charge timed out, resolving by status query. idempotencyKey: {}", request.idempotencyKey());
+
+        PGResponse status;
+        try {
+            status = getPaymentStatus(request.idempotencyKey());
+        } catch (RuntimeException e) {
+            // PG에서는 승인됐을 수 있음 → 실패로 보고 보상하면 승인된 결제의 잔액/재고가 복구된다
+            log.error("PG charge outcome unknown, reconciliation required. idempotencyKey: {}, error: {}",
+                request.idempotencyKey(), e.getMessage());
+            count(CHARGE, "outcome_unknown");
+            throw new BusinessException(
+                ErrorCode.PG_OUTCOME_UNKNOWN,
+                "PG 응답 시간이 초과되어 승인 여부를 확인하지 못했습니다."
+            );
+        }
+
+        if (status.isSuccess()) {
+            log.info("Timed-out PG charge was approved. idempotencyKey: {}, txId: {}",
+                request.idempotencyKey(), status.getTransactionId());
+            return status;
+        }
+        return PGResponse.failure("PG 응답 시간 초과");
+    }
+
+    /**
+     * 서킷/벌크헤드 확인 후 가상 스레드에서 호출 시작
+     */
+    private PendingCall submit(String operation, Supplier<PGResponse> supplier) {
+        if (!circuitBreaker.tryAcquire()) {
+            count(operation, "rejected_circuit");
+            throw new BusinessException(ErrorCode.PG_UNAVAILABLE, "PG 장애가 감지되어 요청을 차단했습니다.");
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.release();
+            count(operation, "rejected_bulkhead");
+            throw new BusinessException(ErrorCode.PG_UNAVAILABLE, "PG 동시 호출 한도를 초과했습니다.");
+        }
+
+        PendingCall call = new PendingCall(operation, System.nanoTime());
+        try {
+            call.future = CompletableFuture.supplyAsync(supplier, executor)
+                .whenComplete((response, error) -> {
+                    bulkhead.release();
+                    call.onComplete(response, error);
+                });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.release();
+            throw new BusinessException(ErrorCode.PG_UNAVAILABLE, "PG 호출을 시작할 수 없습니다.");
+        }
+        return call;
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private PGResponse await(CompletableFuture<PGResponse> future, Duration timeout) throws TimeoutException {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PG 응답 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * @return 대기 중 완료되었으면 true
+     */
+    private boolean awaitQuietly(CompletableFuture<PGResponse> future, Duration timeout) {
+        try {
+            future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException ignored) {
+            // 실패도 완료로 본다 (최종 결과는 호출 측에서 다시 확인)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+    private RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("PG 호출 실패", cause);
+    }
+
+    private void onTransition(PGCircuitBreaker.State state) {
+        log.warn("PG circuit breaker transitioned to {}", state);
+        Counter.builder("pg_circuit_transitions_total")
+            .tag("state", state.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private void count(String operation, String outcome) {
+        Counter.builder("pg_calls_total")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * 진행 중인 PG 호출 1건 (서킷 기록은 완료/타임아웃 중 먼저 일어난 쪽에서 한 번만)
+     */
+    private final class PendingCall {
+
+        private final String operation;
+        private final long startedAtNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private CompletableFuture<PGResponse> future;
+
+        private PendingCall(String operation, long startedAtNanos) {
+            this.operation = operation;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        private void onComplete(PGResponse response, Throwable error) {
+            long elapsed = System.nanoTime() - startedAtNanos;
+            Timer.builder("pg_call_duration_seconds")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            if (error != null) {
+                circuitBreaker.onFailure();
+                count(operation, "error");
+            } else if (elapsed >= slowCallThreshold.toNanos()) {
+                circuitBreaker.onFailure();
+                count(operation, "slow");
+            } else {
+                circuitBreaker.onSuccess();
+                count(operation, response.isSuccess() ? "success" : "declined");
+            }
+        }
+
+        private void onTimeout() {
+            if (recorded.compareAndSet(false, true)) {
+                circuitBreaker.onFailure();
+                count(operation, "timeout");
+            }
+        }
+    }
+}
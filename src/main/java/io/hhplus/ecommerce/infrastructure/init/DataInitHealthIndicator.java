@@ -0,0 +1,25 @@
+package io.hhplus.ecommerce.infrastructure.init;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 데이터 초기화 상태 (health 이름: dataInit)
+ * <p>
+ * readiness 그룹에 포함되어 초기화 작업이 끝날 때까지 OUT_OF_SERVICE를 반환한다.
+ * (management.endpoint.health.group.readiness.include)
+ */
+@Component
+@RequiredArgsConstructor
+public class DataInitHealthIndicator implements HealthIndicator {
+
+    private final DeferredDataInitializer deferredDataInitializer;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = deferredDataInitializer.isComplete() ? Health.up() : Health.outOfService();
+        return builder.withDetail("tasks", deferredDataInitializer.tasks()).build();
+    }
+}
@@ -0,0 +1,137 @@
+package io.hhplus.ecommerce.infrastructure.init;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 데이터 초기화 지연 실행 + 준비 완료 시간 측정
+ * <p>
+ * 기존: DataInitializer 등이 ApplicationRunner 안에서 동기 실행 → 데이터 적재가 끝날 때까지 기동(리스닝) 지연
+ * 변경: 러너는 작업을 등록만 하고 단일 백그라운드 스레드가 등록 순서대로 실행
+ * - 실행 중에는 DataInitHealthIndicator가 OUT_OF_SERVICE → readiness 프로브가 트래픽을 받지 않음
+ * - 등록 순서 = 러너 순서 (DataInitializer → LoadTestDataInitializer → BulkDataSeeder → ProductCacheWarmer)
+ * - startup.deferred-data-init=false면 기존처럼 러너 스레드에서 바로 실행
+ * <p>
+ * 메트릭:
+ * - startup_data_init_seconds{task, result}: 작업별 소요 시간
+ * - startup_time_to_ready_seconds: JVM 시작 → (ApplicationReady + 초기화 작업 완료) 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredDataInitializer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${startup.deferred-data-init:true}")
+    private boolean deferred = true;
+
+    private final Map<String, TaskState> tasks = new LinkedHashMap<>();
+    private final AtomicBoolean applicationReady = new AtomicBoolean();
+    private final AtomicBoolean readyRecorded = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deferred-data-init");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public enum TaskState {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 초기화 작업 등록 (지연 모드면 백그라운드, 아니면 즉시 실행)
+     */
+    public void submit(String name, Runnable task) {
+        setState(name, TaskState.PENDING);
+        if (!deferred) {
+            execute(name, task);
+            return;
+        }
+        log.info("Data init task deferred to background: {}", name);
+        executor.execute(() -> execute(name, task));
+    }
+
+    /**
+     * 등록된 작업이 모두 끝났는지 (실패도 끝난 것으로 봄 - 시드 실패로 영구 미준비가 되지 않도록)
+     */
+    public synchronized boolean isComplete() {
+        return tasks.values().stream()
+            .allMatch(state -> state == TaskState.COMPLETED || state == TaskState.FAILED);
+    }
+
+    public synchronized Map<String, TaskState> tasks() {
+        return Map.copyOf(tasks);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        applicationReady.set(true);
+        recordReadyIfComplete();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void execute(String name, Runnable task) {
+        setState(name, TaskState.RUNNING);
+        long startNanos = System.nanoTime();
+        TaskState result = TaskState.COMPLETED;
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            result = TaskState.FAILED;
+            log.error("Data init task failed: {}", name, e);
+            if (!deferred) {
+                throw e;
+            }
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            Timer.builder("startup_data_init_seconds")
+                .tag("task", name)
+                .tag("result", result.name().toLowerCase())
+                .description("Startup data initialization duration")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            setState(name, result);
+            log.info("Data init task {}: {} ({} ms)", result, name, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            recordReadyIfComplete();
+        }
+    }
+
+    private synchronized void setState(String name, TaskState state) {
+        tasks.put(name, state);
+    }
+
+    private void recordReadyIfComplete() {
+        if (!applicationReady.get() || !isComplete() || !readyRecorded.compareAndSet(false, true)) {
+            return;
+        }
+        double seconds = ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0;
+        Gauge.builder("startup_time_to_ready_seconds", () -> seconds)
+            .description("JVM start to ready (application ready and data initialization done)")
+            .register(meterRegistry);
+        log.info("Application ready to serve traffic in {} s (data init tasks: {})", seconds, tasks());
+    }
+}
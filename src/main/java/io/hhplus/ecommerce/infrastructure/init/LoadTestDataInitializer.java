@@ -1,13 +1,17 @@
 package io.hhplus.ecommerce.infrastructure.init;
 
-import io.hhplus.ecommerce.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * K6 부하 테스트를 위한 테스트 데이터 자동 생성
@@ -22,19 +26,28 @@ import org.springframework.transaction.annotation.Transactional;
  * - rampUpTest: 10,000명 (userId 300000-309999)
  * <p>
  * 총 20,101명
+ * <p>
+ * 1,000명 단위 다중 행 INSERT IGNORE로 적재한다 (행마다 존재 확인 + 단건 INSERT 하던 방식 대비 왕복 수 1/1000).
+ * 대량(수백만 건) 데이터가 필요하면 seed 프로필의 BulkDataSeeder를 사용한다.
  */
 @Slf4j
 @Component
 @Profile("local")  // test 프로필 제거 - 통합 테스트와 충돌 방지
+@Order(Ordered.LOWEST_PRECEDENCE - 2)  // 대량 시드(BulkDataSeeder)보다 먼저 실행
 @RequiredArgsConstructor
 public class LoadTestDataInitializer implements CommandLineRunner {
 
-    private final UserRepository userRepository;
+    private static final int ROWS_PER_STATEMENT = 1000;
+
     private final JdbcTemplate jdbcTemplate;
+    private final DeferredDataInitializer deferredDataInitializer;
 
     @Override
-    @Transactional
     public void run(String... args) {
+        deferredDataInitializer.submit("k6-test-users", this::createK6TestUsers);
+    }
+
+    private void createK6TestUsers() {
         log.info("=== K6 Load Test Data Initializer START ===");
 
         long startTime = System.currentTimeMillis();
@@ -67,6 +80,9 @@ public class LoadTestDataInitializer implements CommandLineRunner {
      * <p>
      * JPA 대신 JDBC Template을 사용하여 직접 SQL INSERT를 실행합니다.
      * 이유: @GeneratedValue(IDENTITY) 전략에서 ID를 직접 설정하면 JPA가 detached 상태로 인식하기 때문
+     * <p>
+     * 존재 여부는 INSERT IGNORE로 판단하므로 별도 조회가 없고, 재실행해도 결과가 같습니다.
+     * 원장 기준 잔액 재계산이 users.balance와 맞도록 balance_snapshots도 함께 적재합니다.
      *
      * @param startId   시작 ID
      * @param endId     종료 ID (포함)
@@ -77,33 +93,41 @@ public class LoadTestDataInitializer implements CommandLineRunner {
         log.info("Creating test users: {} - {} ({})", startId, endId, namePrefix);
 
         int created = 0;
-        String insertSql = "INSERT INTO users (id, email, username, balance, version, created_at, updated_at) " +
-                           "VALUES (?, ?, ?, ?, ?, NOW(), NOW())";
-
-        for (long id = startId; id <= endId; id++) {
-            // 이미 존재하는지 확인
-            if (userRepository.findById(id).isPresent()) {
-                continue; // 이미 존재하면 skip
+        for (long from = startId; from <= endId; from += ROWS_PER_STATEMENT) {
+            long to = Math.min(endId, from + ROWS_PER_STATEMENT - 1);
+            int rowCount = (int) (to - from + 1);
+
+            List<Object> userArgs = new ArrayList<>(rowCount * 4);
+            List<Object> snapshotArgs = new ArrayList<>(rowCount * 2);
+            for (long id = from; id <= to; id++) {
+                // userId 1은 ranking 테스트의 기본 사용자로 충분한 잔액 제공
+                // K6 테스트: 3.5분 동안 ~10,000회 주문 × 평균 1,350,000원 = 13,500,000,000원 필요
+                long balance = (id == 1) ? 20_000_000_000L : 10_000L;  // 200억원 (여유 확보)
+                userArgs.add(id);
+                userArgs.add(String.format("k6test%d@loadtest.com", id));
+                userArgs.add(String.format("%s-%d", namePrefix, id));
+                userArgs.add(balance);
+                snapshotArgs.add(id);
+                snapshotArgs.add(balance);
             }
 
-            // 네이티브 SQL INSERT로 사용자 생성
-            String email = String.format("k6test%d@loadtest.com", id);
-            String username = String.format("%s-%d", namePrefix, id);
-            // userId 1은 ranking 테스트의 기본 사용자로 충분한 잔액 제공
-            // K6 테스트: 3.5분 동안 ~10,000회 주문 × 평균 1,350,000원 = 13,500,000,000원 필요
-            long balance = (id == 1) ? 20_000_000_000L : 10_000L;  // 200억원 (여유 확보)
-            long version = 0L;
-
-            jdbcTemplate.update(insertSql, id, email, username, balance, version);
-            created++;
-
-            // 진행 상황 로깅 (매 1000명마다)
-            if (created % 1000 == 0) {
-                log.info("Progress: {} users created so far...", created);
-            }
+            created += jdbcTemplate.update(
+                "INSERT IGNORE INTO users (id, email, username, balance, version, created_at, updated_at) VALUES "
+                    + repeat("(?, ?, ?, ?, 0, NOW(), NOW())", rowCount),
+                userArgs.toArray()
+            );
+            jdbcTemplate.update(
+                "INSERT IGNORE INTO balance_snapshots (user_id, balance, last_ledger_id, snapshot_at) VALUES "
+                    + repeat("(?, ?, 0, NOW(6))", rowCount),
+                snapshotArgs.toArray()
+            );
         }
 
         log.info("Created {} users for range {} - {}", created, startId, endId);
         return created;
     }
+
+    private String repeat(String valuesClause, int count) {
+        return String.join(", ", Collections.nCopies(count, valuesClause));
+    }
 }
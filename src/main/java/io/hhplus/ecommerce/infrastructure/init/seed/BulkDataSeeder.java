@@ -0,0 +1,476 @@
+package io.hhplus.ecommerce.infrastructure.init.seed;
+
+import io.hhplus.ecommerce.infrastructure.init.DeferredDataInitializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 시드 데이터 생성기 (seed 프로필)
+ * <p>
+ * 사용자/상품/쿠폰/장바구니/과거 주문을 설정한 규모로 생성한다. 예: SPRING_PROFILES_ACTIVE=local,seed
+ * <p>
+ * 처리 방식:
+ * - ID는 테이블별 현재 MAX(id) 이후로 직접 부여 → 청크끼리 조율 없이 병렬 생성, 부모-자식 참조 계산 가능
+ * - 청크(chunk-size 행) 단위로 행을 만들어 SeedWriter로 적재 (다중 행 INSERT 또는 LOAD DATA)
+ * - 청크별 난수는 (random-seed, 단계, 청크 번호)로 고정 → 같은 설정이면 같은 데이터
+ * - 부모 테이블 단계가 모두 끝난 뒤 자식 단계를 시작 (FK 순서 보장)
+ * <p>
+ * 분포:
+ * - 상품 인기도: Zipf(zipf-exponent) → 주문/장바구니 상품이 소수 상품에 편중
+ * - 주문 시각: 최근 history-days 일에 균등 분포, 상태는 completed-ratio 비율로 COMPLETED
+ * <p>
+ * 부가 데이터:
+ * - balance_snapshots: 원장 기준 잔액 재계산이 users.balance와 맞도록 시작 스냅샷 적재
+ * - order_summaries: 읽기 모델 사용 시 시드 주문 구간을 V006과 같은 SQL로 적재
+ * <p>
+ * 진행률은 로그와 seed_rows_written{table} 카운터로 확인한다.
+ * 적재는 DeferredDataInitializer 백그라운드 스레드에서 실행되며 끝날 때까지 readiness가 OUT_OF_SERVICE다.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@Order(Ordered.LOWEST_PRECEDENCE - 1)  // 기본 데이터(DataInitializer) 이후, 캐시 워밍업 이전 실행
+@RequiredArgsConstructor
+public class BulkDataSeeder implements ApplicationRunner {
+
+    private static final String[] CATEGORIES = {"전자제품", "가구", "도서", "의류", "잡화", "식품", "스포츠", "뷰티"};
+    private static final String[] COUPON_STATUSES = {"AVAILABLE", "USED"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<SeedWriter> writers;
+    private final MeterRegistry meterRegistry;
+    private final DeferredDataInitializer deferredDataInitializer;
+    private final Map<SeedTable, Counter> rowCounters = new ConcurrentHashMap<>();
+
+    @Value("${seed.writer:insert}")
+    private String writerMode = "insert";
+
+    @Value("${seed.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${seed.chunk-size:10000}")
+    private int chunkSize = 10_000;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed = 42L;
+
+    @Value("${seed.users:0}")
+    private long users;
+
+    @Value("${seed.user-balance:100000000}")
+    private long userBalance = 100_000_000L;
+
+    @Value("${seed.products:0}")
+    private long products;
+
+    @Value("${seed.product-stock:1000000}")
+    private int productStock = 1_000_000;
+
+    @Value("${seed.zipf-exponent:1.1}")
+    private double zipfExponent = 1.1;
+
+    @Value("${seed.coupons:0}")
+    private long coupons;
+
+    @Value("${seed.user-coupons:0}")
+    private long userCoupons;
+
+    @Value("${seed.carts:0}")
+    private long carts;
+
+    @Value("${seed.orders:0}")
+    private long orders;
+
+    @Value("${seed.max-items-per-order:5}")
+    private int maxItemsPerOrder = 5;
+
+    @Value("${seed.history-days:365}")
+    private int historyDays = 365;
+
+    @Value("${seed.completed-ratio:0.8}")
+    private double completedRatio = 0.8;
+
+    @Value("${seed.read-model:true}")
+    private boolean readModel = true;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        validatePlan();  // 설정 오류는 기동 시점에 바로 실패
+        deferredDataInitializer.submit("bulk-seed", this::seed);
+    }
+
+    /**
+     * 계획 전체 적재 (readiness는 끝날 때까지 OUT_OF_SERVICE)
+     */
+    public void seed() {
+        validatePlan();
+        SeedWriter writer = writers.stream()
+            .filter(candidate -> candidate.mode().equals(writerMode))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("지원하지 않는 seed.writer: " + writerMode));
+
+        log.info("=== Bulk seed START (writer: {}, parallelism: {}, chunk: {}) ===", writerMode, parallelism, chunkSize);
+        log.info("Plan: users={}, products={}, coupons={}, userCoupons={}, carts={}, orders={}",
+            users, products, coupons, userCoupons, carts, orders);
+
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        SeedIds ids = new SeedIds(maxId("users"), maxId("products"), maxId("coupons"), maxId("carts"), maxId("orders"));
+        ZipfSampler popularity = products > 0 ? new ZipfSampler(Math.toIntExact(products), zipfExponent) : null;
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            // 부모 → 자식 순서
+            runStage(executor, writer, "users", users,
+                (from, to, random, rows) -> users(ids, now, from, to, random, rows));
+            runStage(executor, writer, "products", products,
+                (from, to, random, rows) -> products(ids, now, from, to, random, rows));
+            runStage(executor, writer, "coupons", coupons,
+                (from, to, random, rows) -> coupons(ids, now, from, to, random, rows));
+            runStage(executor, writer, "user-coupons", userCoupons,
+                (from, to, random, rows) -> userCoupons(ids, now, from, to, random, rows));
+            runStage(executor, writer, "carts", carts,
+                (from, to, random, rows) -> carts(ids, popularity, now, from, to, random, rows));
+            runStage(executor, writer, "orders", orders,
+                (from, to, random, rows) -> orders(ids, popularity, now, from, to, random, rows));
+
+            if (readModel && orders > 0) {
+                projectOrderSummaries(executor, ids.orders() + 1, ids.orders() + orders);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("=== Bulk seed END ({} ms) ===", elapsedMs);
+    }
+
+    private void validatePlan() {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalStateException("seed.parallelism, seed.chunk-size는 1 이상이어야 합니다.");
+        }
+        if ((carts > 0 || orders > 0) && (users == 0 || products == 0)) {
+            throw new IllegalStateException("장바구니/주문 시드에는 seed.users, seed.products가 필요합니다.");
+        }
+        if (carts > users) {
+            throw new IllegalStateException("사용자당 장바구니는 1개입니다. seed.carts <= seed.users");
+        }
+        if (userCoupons > 0 && (users == 0 || coupons == 0 || userCoupons > users * coupons)) {
+            throw new IllegalStateException("seed.user-coupons는 1 이상 users × coupons 이하여야 합니다.");
+        }
+        if (maxItemsPerOrder < 1) {
+            throw new IllegalStateException("seed.max-items-per-order는 1 이상이어야 합니다.");
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // 단계 실행
+    // ---------------------------------------------------------------------
+
+    @FunctionalInterface
+    private interface ChunkGenerator {
+        void generate(long from, long to, SplittableRandom random, ChunkRows rows);
+    }
+
+    /**
+     * 한 청크에서 만든 테이블별 행 (추가 순서 = 적재 순서, 부모 먼저)
+     */
+    private static final class ChunkRows {
+
+        private final Map<SeedTable, List<Object[]>> rows = new LinkedHashMap<>();
+
+        void add(SeedTable table, Object... values) {
+            rows.computeIfAbsent(table, key -> new ArrayList<>()).add(values);
+        }
+    }
+
+    private void runStage(ExecutorService executor, SeedWriter writer, String stage, long count, ChunkGenerator generator) {
+        if (count <= 0) {
+            return;
+        }
+        long chunks = (count + chunkSize - 1) / chunkSize;
+        long progressStep = Math.max(1, chunks / 10);
+        AtomicLong completedChunks = new AtomicLong();
+        long startNanos = System.nanoTime();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (long chunk = 0; chunk < chunks; chunk++) {
+            long from = chunk * chunkSize;
+            long to = Math.min(count, from + chunkSize);
+            SplittableRandom random = new SplittableRandom(randomSeed * 1_000_003L + stage.hashCode() * 7_919L + chunk);
+
+            futures.add(executor.submit(() -> {
+                ChunkRows rows = new ChunkRows();
+                generator.generate(from, to, random, rows);
+                rows.rows.forEach((table, tableRows) -> {
+                    writer.write(table, tableRows);
+                    rowCounter(table).increment(tableRows.size());
+                });
+
+                long done = completedChunks.incrementAndGet();
+                if (done % progressStep == 0 || done == chunks) {
+                    long elapsedMs = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+                    long seeded = Math.min(count, done * chunkSize);
+                    log.info("Seed progress [{}]: {}/{} ({}%, {} rows/s)",
+                        stage, seeded, count, seeded * 100 / count, seeded * 1000 / elapsedMs);
+                }
+            }));
+        }
+        awaitAll(stage, futures);
+    }
+
+    private void projectOrderSummaries(ExecutorService executor, long fromOrderId, long toOrderId) {
+        // V006 백필과 같은 변환 (구매 시점 상품명 = 시드 상품명)
+        String sql = """
+            INSERT IGNORE INTO order_summaries
+                (order_id, user_id, order_number, status, subtotal_amount, discount_amount, total_amount,
+                 items_json, created_at, paid_at, updated_at)
+            SELECT o.id, o.user_id, o.order_number, o.status, o.subtotal_amount, o.discount_amount, o.total_amount,
+                   COALESCE(JSON_ARRAYAGG(JSON_OBJECT(
+                       'productId', oi.product_id,
+                       'productName', p.name,
+                       'quantity', oi.quantity,
+                       'unitPrice', oi.unit_price,
+                       'subtotal', oi.subtotal
+                   )), JSON_ARRAY()),
+                   o.created_at, o.paid_at, NOW(6)
+            FROM orders o
+            JOIN order_items oi ON oi.order_id = o.id
+            JOIN products p ON p.id = oi.product_id
+            WHERE o.id BETWEEN ? AND ?
+            GROUP BY o.id
+            """;
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = fromOrderId; from <= toOrderId; from += chunkSize) {
+            long start = from;
+            long end = Math.min(toOrderId, from + chunkSize - 1);
+            futures.add(executor.submit(() -> {
+                int projected = jdbcTemplate.update(sql, start, end);
+                meterRegistry.counter("seed_rows_written", "table", "order_summaries").increment(projected);
+            }));
+        }
+        awaitAll("order-summaries", futures);
+        log.info("Seed order summaries projected: orderId {} - {}", fromOrderId, toOrderId);
+    }
+
+    private void awaitAll(String stage, List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시드 중단: " + stage, e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("시드 실패: " + stage, e.getCause());
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // 행 생성 (index는 0부터, ID = 기준 MAX(id) + index + 1)
+    // ---------------------------------------------------------------------
+
+    private void users(SeedIds ids, LocalDateTime now, long from, long to, SplittableRandom random, ChunkRows rows) {
+        for (long index = from; index < to; index++) {
+            long id = ids.users() + index + 1;
+            LocalDateTime createdAt = pastTime(now, random);
+            rows.add(SeedTable.USERS, id, "seed" + id + "@seed.local", "seed-" + id, userBalance, 0L, createdAt, createdAt);
+            rows.add(SeedTable.BALANCE_SNAPSHOTS, id, userBalance, 0L, now);
+        }
+    }
+
+    private void products(SeedIds ids, LocalDateTime now, long from, long to, SplittableRandom random, ChunkRows rows) {
+        for (long index = from; index < to; index++) {
+            long id = ids.products() + index + 1;
+            LocalDateTime createdAt = pastTime(now, random);
+            rows.add(SeedTable.PRODUCTS,
+                id,
+                "SP" + id,
+                "시드상품 " + id,
+                "인기 순위 " + (index + 1),
+                priceOf(index),
+                CATEGORIES[(int) (index % CATEGORIES.length)],
+                productStock,
+                0L,
+                createdAt,
+                createdAt
+            );
+        }
+    }
+
+    private void coupons(SeedIds ids, LocalDateTime now, long from, long to, SplittableRandom random, ChunkRows rows) {
+        for (long index = from; index < to; index++) {
+            long id = ids.coupons() + index + 1;
+            int issued = (int) issuedCountOf(index);
+            rows.add(SeedTable.COUPONS,
+                id,
+                "SC" + id,
+                "시드쿠폰 " + id,
+                5 + random.nextInt(10) * 5,
+                Math.max(issued, (int) Math.min(Integer.MAX_VALUE, users)) + 100,
+                issued,
+                now.minusDays(historyDays),
+                now.plusDays(30 + random.nextInt(335)),
+                0L
+            );
+        }
+    }
+
+    /**
+     * (사용자, 쿠폰) 쌍: index = 쿠폰 순번 × users + 사용자 순번 → 중복 없이 쿠폰마다 앞에서부터 채움
+     */
+    private void userCoupons(SeedIds ids, LocalDateTime now, long from, long to, SplittableRandom random, ChunkRows rows) {
+        for (long index = from; index < to; index++) {
+            long userId = ids.users() + index % users + 1;
+            long couponId = ids.coupons() + index / users + 1;
+            LocalDateTime issuedAt = pastTime(now, random);
+            boolean used = random.nextInt(10) < 3;
+            rows.add(SeedTable.USER_COUPONS,
+                userId,
+                couponId,
+                used ? COUPON_STATUSES[1] : COUPON_STATUSES[0],
+                issuedAt,
+                used ? issuedAt.plusHours(1 + random.nextInt(72)) : null,
+                now.plusDays(30)
+            );
+        }
+    }
+
+    private long issuedCountOf(long couponIndex) {
+        if (users == 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min(users, userCoupons - couponIndex * users));
+    }
+
+    private void carts(SeedIds ids, ZipfSampler popularity, LocalDateTime now,
+                       long from, long to, SplittableRandom random, ChunkRows rows) {
+        for (long index = from; index < to; index++) {
+            long cartId = ids.carts() + index + 1;
+            long userId = ids.users() + index + 1;
+            LocalDateTime createdAt = pastTime(now, random);
+            rows.add(SeedTable.CARTS, cartId, userId, createdAt, createdAt);
+
+            for (int rank : distinctRanks(popularity, 1 + random.nextInt(3), random)) {
+                rows.add(SeedTable.CART_ITEMS, cartId, ids.products() + rank + 1, 1 + random.nextInt(3), 0L, createdAt);
+            }
+        }
+    }
+
+    private void orders(SeedIds ids, ZipfSampler popularity, LocalDateTime now,
+                        long from, long to, SplittableRandom random, ChunkRows rows) {
+        List<Object[]> items = new ArrayList<>(maxItemsPerOrder);
+        for (long index = from; index < to; index++) {
+            long orderId = ids.orders() + index + 1;
+            long userId = ids.users() + random.nextLong(users) + 1;
+            LocalDateTime createdAt = pastTime(now, random);
+
+            items.clear();
+            long subtotal = 0;
+            for (int rank : distinctRanks(popularity, 1 + random.nextInt(maxItemsPerOrder), random)) {
+                int quantity = 1 + random.nextInt(3);
+                long unitPrice = priceOf(rank);
+                subtotal += unitPrice * quantity;
+                items.add(new Object[]{orderId, ids.products() + rank + 1, quantity, unitPrice, unitPrice * quantity});
+            }
+            long discount = random.nextInt(10) == 0 ? subtotal / 10 : 0L;
+
+            double status = random.nextDouble();
+            boolean completed = status < completedRatio;
+            String orderStatus = completed ? "COMPLETED" : status < completedRatio + (1 - completedRatio) / 2 ? "PENDING" : "CANCELLED";
+            rows.add(SeedTable.ORDERS,
+                orderId,
+                "SEED-" + orderId,
+                userId,
+                subtotal,
+                discount,
+                subtotal - discount,
+                orderStatus,
+                completed ? createdAt.plusSeconds(1 + random.nextInt(60)) : null,
+                0L,
+                createdAt
+            );
+            items.forEach(item -> rows.add(SeedTable.ORDER_ITEMS, item));
+        }
+    }
+
+    /**
+     * Zipf 분포로 서로 다른 상품 순위를 count개까지 뽑음 (인기 상품끼리 겹치면 개수가 줄어듦)
+     */
+    private int[] distinctRanks(ZipfSampler popularity, int count, SplittableRandom random) {
+        int[] ranks = new int[Math.min(count, popularity.size())];
+        int size = 0;
+        for (int attempt = 0; attempt < count * 3 && size < ranks.length; attempt++) {
+            int rank = popularity.sample(random);
+            boolean duplicate = false;
+            for (int i = 0; i < size; i++) {
+                if (ranks[i] == rank) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                ranks[size++] = rank;
+            }
+        }
+        return size == ranks.length ? ranks : Arrays.copyOf(ranks, size);
+    }
+
+    /**
+     * 상품 순번 → 가격 (주문 항목 단가 계산 시 상품 행을 다시 읽지 않도록 결정적으로 계산)
+     * 1,000원 ~ 1,000,000원, 100원 단위
+     */
+    static long priceOf(long productIndex) {
+        long mixed = (productIndex + 1) * 0x9E3779B97F4A7C15L;
+        mixed ^= mixed >>> 31;
+        return 1_000L + Math.floorMod(mixed, 9_991L) * 100L;
+    }
+
+    private LocalDateTime pastTime(LocalDateTime now, SplittableRandom random) {
+        return now.minusSeconds(random.nextLong(Math.max(1, historyDays) * 86_400L));
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private Counter rowCounter(SeedTable table) {
+        return rowCounters.computeIfAbsent(table, key -> Counter.builder("seed_rows_written")
+            .tag("table", table.tableName())
+            .description("Rows written by the bulk data seeder")
+            .register(meterRegistry));
+    }
+
+    /**
+     * 테이블별 기준 ID (시드 시작 시점의 MAX(id))
+     */
+    private record SeedIds(long users, long products, long coupons, long carts, long orders) {
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.ecommerce.infrastructure.init.seed;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다중 행 INSERT 적재
+ * <p>
+ * 단건 INSERT는 행마다 네트워크 왕복 + 파싱 + 커밋이 발생한다.
+ * INSERT INTO t (...) VALUES (...), (...), ... 한 문장에 rows-per-statement 행을 묶어 왕복 수를 1/N로 줄인다.
+ * (PreparedStatement 플레이스홀더 상한 65,535개를 넘지 않도록 컬럼 수에 맞춰 행 수를 제한)
+ */
+@Component
+@RequiredArgsConstructor
+public class MultiRowInsertSeedWriter implements SeedWriter {
+
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, String> statements = new ConcurrentHashMap<>();
+
+    @Value("${seed.insert.rows-per-statement:1000}")
+    private int rowsPerStatement = 1000;
+
+    @Override
+    public String mode() {
+        return "insert";
+    }
+
+    @Override
+    public void write(SeedTable table, List<Object[]> rows) {
+        int columnCount = table.columns().size();
+        int batchRows = Math.min(rowsPerStatement, MAX_PLACEHOLDERS / columnCount);
+
+        for (int from = 0; from < rows.size(); from += batchRows) {
+            List<Object[]> batch = rows.subList(from, Math.min(rows.size(), from + batchRows));
+            Object[] args = new Object[batch.size() * columnCount];
+            for (int i = 0; i < batch.size(); i++) {
+                System.arraycopy(batch.get(i), 0, args, i * columnCount, columnCount);
+            }
+            jdbcTemplate.update(insertSql(table, batch.size()), args);
+        }
+    }
+
+    private String insertSql(SeedTable table, int rowCount) {
+        return statements.computeIfAbsent(table.name() + ':' + rowCount, key -> {
+            String placeholders = "(" + "?, ".repeat(table.columns().size() - 1) + "?)";
+            StringBuilder sql = new StringBuilder("INSERT INTO ")
+                .append(table.tableName())
+                .append(" (")
+                .append(table.columnList())
+                .append(") VALUES ");
+            for (int i = 0; i < rowCount; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(placeholders);
+            }
+            return sql.toString();
+        });
+    }
+}
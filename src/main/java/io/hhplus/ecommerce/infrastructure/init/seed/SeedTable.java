@@ -0,0 +1,49 @@
+package io.hhplus.ecommerce.infrastructure.init.seed;
+
+import java.util.List;
+
+/**
+ * 시드 대상 테이블과 적재 컬럼 순서
+ * <p>
+ * BulkDataSeeder가 만드는 행(Object[])은 여기 정의된 컬럼 순서를 따른다.
+ * 자식 테이블(user_coupons, cart_items, order_items)은 id를 AUTO_INCREMENT에 맡긴다.
+ */
+public enum SeedTable {
+
+    USERS("users", List.of("id", "email", "username", "balance", "version", "created_at", "updated_at")),
+    BALANCE_SNAPSHOTS("balance_snapshots", List.of("user_id", "balance", "last_ledger_id", "snapshot_at")),
+    PRODUCTS("products", List.of(
+        "id", "product_code", "name", "description", "price", "category", "stock", "version", "created_at", "updated_at"
+    )),
+    COUPONS("coupons", List.of(
+        "id", "coupon_code", "name", "discount_rate", "total_quantity", "issued_quantity", "start_date", "end_date", "version"
+    )),
+    USER_COUPONS("user_coupons", List.of("user_id", "coupon_id", "status", "issued_at", "used_at", "expires_at")),
+    CARTS("carts", List.of("id", "user_id", "created_at", "updated_at")),
+    CART_ITEMS("cart_items", List.of("cart_id", "product_id", "quantity", "version", "created_at")),
+    ORDERS("orders", List.of(
+        "id", "order_number", "user_id", "subtotal_amount", "discount_amount", "total_amount",
+        "status", "paid_at", "version", "created_at"
+    )),
+    ORDER_ITEMS("order_items", List.of("order_id", "product_id", "quantity", "unit_price", "subtotal"));
+
+    private final String tableName;
+    private final List<String> columns;
+
+    SeedTable(String tableName, List<String> columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public String columnList() {
+        return String.join(", ", columns);
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.ecommerce.infrastructure.init.seed;
+
+import java.util.List;
+
+/**
+ * 시드 행 적재 방식
+ * <p>
+ * - insert: 다중 행 INSERT (기본 설정의 MySQL이면 어디서나 동작)
+ * - load-data: CSV 스트리밍 + LOAD DATA LOCAL INFILE (가장 빠름, local_infile 허용 필요)
+ * <p>
+ * 구현체는 여러 스레드에서 동시에 호출되므로 상태를 갖지 않아야 한다.
+ */
+public interface SeedWriter {
+
+    /**
+     * @return seed.writer 설정값
+     */
+    String mode();
+
+    /**
+     * @param rows SeedTable#columns 순서의 값 배열 목록 (청크 단위)
+     */
+    void write(SeedTable table, List<Object[]> rows);
+}
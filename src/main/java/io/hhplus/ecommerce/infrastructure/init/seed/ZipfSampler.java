@@ -0,0 +1,48 @@
+package io.hhplus.ecommerce.infrastructure.init.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 샘플러 (상품 인기도 편중)
+ * <p>
+ * 순위 k(0부터)가 뽑힐 확률 ∝ 1 / (k + 1)^exponent.
+ * 실제 커머스 트래픽처럼 소수 상품에 주문이 몰리도록 해야 핫 로우 락 경합/캐시 적중률을 현실적으로 재현할 수 있다.
+ * <p>
+ * 누적 분포(CDF)를 한 번 계산해 두고 이진 탐색으로 샘플링한다 (O(log n), 스레드 안전).
+ */
+public class ZipfSampler {
+
+    private final double[] cdf;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다. size: " + size);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent는 0 이상이어야 합니다. exponent: " + exponent);
+        }
+        cdf = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < size; k++) {
+            cdf[k] /= sum;
+        }
+    }
+
+    /**
+     * @return 0 ~ size-1 순위 (0이 가장 인기)
+     */
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cdf.length - 1);
+    }
+
+    public int size() {
+        return cdf.length;
+    }
+}
@@ -1,5 +1,7 @@
 package io.hhplus.ecommerce.infrastructure.kafka.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +11,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
@@ -19,9 +22,23 @@ import org.springframework.util.backoff.FixedBackOff;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Kafka 컨슈머 설정
+ * <p>
+ * 리스너(컨슈머 그룹)별로 동시성과 fetch 크기를 따로 조정한다 (data-platform / coupon-issuer 독립 확장).
+ * - kafka.consumers.order-events.*: order-completed 배치 리스너 (처리량 우선: 큰 배치, fetch 대기 허용)
+ * - kafka.consumers.coupon-issue.*: 쿠폰 발급 리스너 (지연 우선: 작은 배치)
+ * <p>
+ * MicrometerConsumerListener로 클라이언트 메트릭을 노출한다.
+ * - kafka_consumer_fetch_manager_records_lag{topic, partition}: 컨슈머 랙
+ * - kafka_consumer_fetch_manager_records_consumed_rate{topic}: 토픽별 소비율
+ */
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConsumerConfig {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -31,6 +48,30 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.listener.auto-startup:true}")
     private boolean autoStartup;
 
+    @Value("${kafka.consumers.order-events.concurrency:3}")
+    private int orderEventsConcurrency = 3;
+
+    @Value("${kafka.consumers.order-events.max-poll-records:500}")
+    private int orderEventsMaxPollRecords = 500;
+
+    @Value("${kafka.consumers.order-events.fetch-min-bytes:1}")
+    private int orderEventsFetchMinBytes = 1;
+
+    @Value("${kafka.consumers.order-events.fetch-max-wait-ms:500}")
+    private int orderEventsFetchMaxWaitMs = 500;
+
+    @Value("${kafka.consumers.coupon-issue.concurrency:3}")
+    private int couponIssueConcurrency = 3;
+
+    @Value("${kafka.consumers.coupon-issue.max-poll-records:500}")
+    private int couponIssueMaxPollRecords = 500;
+
+    @Value("${kafka.consumers.coupon-issue.fetch-min-bytes:1}")
+    private int couponIssueFetchMinBytes = 1;
+
+    @Value("${kafka.consumers.coupon-issue.fetch-max-wait-ms:500}")
+    private int couponIssueFetchMaxWaitMs = 500;
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
@@ -44,7 +85,8 @@ public class KafkaConsumerConfig {
         config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "io.hhplus.ecommerce.infrastructure.kafka.message.OrderCompletedMessage");
         config.put(JsonDeserializer.TYPE_MAPPINGS, "orderCompletedMessage:io.hhplus.ecommerce.infrastructure.kafka.message.OrderCompletedMessage");
-        return new DefaultKafkaConsumerFactory<>(config);
+        putFetchConfig(config, orderEventsMaxPollRecords, orderEventsFetchMinBytes, orderEventsFetchMaxWaitMs);
+        return withMetrics(new DefaultKafkaConsumerFactory<>(config));
     }
 
     @Bean
@@ -53,11 +95,34 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
-        factory.setConcurrency(3);
+        factory.setConcurrency(orderEventsConcurrency);
         factory.setAutoStartup(autoStartup);
         return factory;
     }
 
+    /**
+     * order-completed 배치 리스너
+     * - poll 결과(max-poll-records)를 한 번에 받아 KeyOrderedBatchProcessor로 키 단위 병렬 처리
+     * - MANUAL ack: 리스너가 배치 끝에 한 번 ack → 다음 poll 전에 offset 일괄 커밋
+     * - 리스너가 BatchListenerFailedException으로 실패 위치를 알리면 그 레코드부터 재전달,
+     *   재시도 소진 시 해당 레코드를 order-completed.DLT로 보내고 나머지를 이어서 처리
+     *   (처리된 레코드는 멱등성 키로 걸러짐)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> orderEventBatchKafkaListenerContainerFactory(
+        KafkaTemplate<String, Object> kafkaTemplate
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(orderEventsConcurrency);
+        factory.setAutoStartup(autoStartup);
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
+        return factory;
+    }
+
     @Bean
     public ConsumerFactory<String, Object> couponIssueConsumerFactory() {
         Map<String, Object> config = new HashMap<>();
@@ -75,7 +140,8 @@ public class KafkaConsumerConfig {
             JsonDeserializer.VALUE_DEFAULT_TYPE,
             "io.hhplus.ecommerce.infrastructure.kafka.message.CouponIssueRequestedMessage"
         );
-        return new DefaultKafkaConsumerFactory<>(config);
+        putFetchConfig(config, couponIssueMaxPollRecords, couponIssueFetchMinBytes, couponIssueFetchMaxWaitMs);
+        return withMetrics(new DefaultKafkaConsumerFactory<>(config));
     }
 
     @Bean
@@ -86,17 +152,28 @@ public class KafkaConsumerConfig {
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(couponIssueConsumerFactory());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
-        factory.setConcurrency(3);
+        factory.setConcurrency(couponIssueConcurrency);
         factory.setAutoStartup(autoStartup);
-        factory.setCommonErrorHandler(couponIssueErrorHandler(kafkaTemplate));
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
         return factory;
     }
 
-    private DefaultErrorHandler couponIssueErrorHandler(KafkaTemplate<String, Object> kafkaTemplate) {
+    private DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<String, Object> kafkaTemplate) {
         DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
             kafkaTemplate,
             (record, ex) -> new org.apache.kafka.common.TopicPartition(record.topic() + ".DLT", record.partition())
         );
         return new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 3L));
     }
+
+    private void putFetchConfig(Map<String, Object> config, int maxPollRecords, int fetchMinBytes, int fetchMaxWaitMs) {
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+    }
+
+    private DefaultKafkaConsumerFactory<String, Object> withMetrics(DefaultKafkaConsumerFactory<String, Object> factory) {
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
 }
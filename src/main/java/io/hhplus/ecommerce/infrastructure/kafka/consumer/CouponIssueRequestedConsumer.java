@@ -3,8 +3,10 @@ package io.hhplus.ecommerce.infrastructure.kafka.consumer;
 import io.hhplus.ecommerce.application.usecase.coupon.IssueCouponActualService;
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.coupon.UserCoupon;
 import io.hhplus.ecommerce.infrastructure.kafka.message.CouponIssueRequestedMessage;
 import io.hhplus.ecommerce.infrastructure.redis.CouponIssueReservationStore;
+import io.hhplus.ecommerce.infrastructure.redis.UserCouponReadModelStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -25,6 +27,7 @@ public class CouponIssueRequestedConsumer {
 
     private final IssueCouponActualService issueCouponActualService;
     private final CouponIssueReservationStore couponIssueReservationStore;
+    private final UserCouponReadModelStore userCouponReadModelStore;
 
     @KafkaListener(
         topics = "coupon-issue-requested",
@@ -40,20 +43,23 @@ public class CouponIssueRequestedConsumer {
             message.couponId(), message.userId(), message.requestId(), partition);
 
         try {
-            issueCouponActualService.issueActual(message.couponId(), message.userId());
+            UserCoupon userCoupon = issueCouponActualService.issueActual(message.couponId(), message.userId());
             couponIssueReservationStore.confirmIssued(message.couponId(), message.userId(), ISSUED_TTL);
+            userCouponReadModelStore.markIssued(userCoupon);
             ack.acknowledge();
 
         } catch (BusinessException e) {
             // 비즈니스 실패는 재시도하지 않고 종료/보상
             if (e.getErrorCode() == ErrorCode.COUPON_SOLD_OUT) {
                 couponIssueReservationStore.cancelReservation(message.couponId(), message.userId());
+                userCouponReadModelStore.markFailed(message.userId(), message.couponId());
                 ack.acknowledge();
                 return;
             }
             if (e.getErrorCode() == ErrorCode.ALREADY_ISSUED_COUPON) {
                 // 멱등 케이스: 이미 발급된 경우 remaining을 복구하면 중복 보상이 될 수 있으므로 issued 확정 처리
                 couponIssueReservationStore.confirmIssued(message.couponId(), message.userId(), ISSUED_TTL);
+                userCouponReadModelStore.invalidate(message.userId());
                 ack.acknowledge();
                 return;
             }
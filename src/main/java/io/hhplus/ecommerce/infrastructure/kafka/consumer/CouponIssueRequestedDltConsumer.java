@@ -2,6 +2,7 @@ package io.hhplus.ecommerce.infrastructure.kafka.consumer;
 
 import io.hhplus.ecommerce.infrastructure.kafka.message.CouponIssueRequestedMessage;
 import io.hhplus.ecommerce.infrastructure.redis.CouponIssueReservationStore;
+import io.hhplus.ecommerce.infrastructure.redis.UserCouponReadModelStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
 public class CouponIssueRequestedDltConsumer {
 
     private final CouponIssueReservationStore couponIssueReservationStore;
+    private final UserCouponReadModelStore userCouponReadModelStore;
 
     @KafkaListener(
         topics = "coupon-issue-requested.DLT",
@@ -32,6 +34,7 @@ public class CouponIssueRequestedDltConsumer {
             message.couponId(), message.userId(), message.requestId(), partition);
 
         boolean compensated = couponIssueReservationStore.compensateReservation(message.couponId(), message.userId());
+        userCouponReadModelStore.markFailed(message.userId(), message.couponId());
         log.warn("DLT compensation done: couponId={}, userId={}, compensated={}",
             message.couponId(), message.userId(), compensated);
 
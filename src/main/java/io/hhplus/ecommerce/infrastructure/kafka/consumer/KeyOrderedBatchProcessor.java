@@ -0,0 +1,159 @@
+package io.hhplus.ecommerce.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 파티션 내 병렬 + 키 순서 보장 배치 처리기 (parallel-consumer의 KEY 순서 모드)
+ * <p>
+ * 기존: 레코드 리스너 → 파티션당 한 스레드가 레코드를 하나씩 처리 (파티션 수 = 최대 병렬도)
+ * 변경: 배치 리스너가 poll 결과를 넘기면
+ * - 같은 키(키가 없으면 같은 파티션)의 레코드는 offset 순서대로 한 작업에서 순차 처리
+ * - 서로 다른 키는 병렬 처리 (동시 작업 수: kafka.consumers.parallel.max-concurrency)
+ * - 모든 작업이 끝난 뒤 호출 측이 배치 전체를 한 번에 ack (offset 일괄 커밋)
+ * <p>
+ * 한 키에서 실패하면 그 키의 남은 레코드는 건너뛰고(순서 보장), 다른 키는 계속 처리한다.
+ * 실패/건너뛴 레코드를 반환하므로 호출 측은 성공한 레코드만 처리 완료로 표시하고,
+ * 가장 앞선 실패 위치로 BatchListenerFailedException을 던져 그 레코드부터 재전달(재시도 소진 시 DLT)시킨다.
+ * <p>
+ * 메트릭:
+ * - kafka_consumer_records_processed_total{topic, group, result}: 처리율 (rate로 조회)
+ * - kafka_consumer_batch_seconds{topic, group}: 배치 처리 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeyOrderedBatchProcessor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.consumers.parallel.max-concurrency:16}")
+    private int maxConcurrency = 16;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "kafka-keyed-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 레코드 키(없으면 파티션) 단위로 순서를 보장한다.
+     */
+    public <K, V> List<ConsumerRecord<K, V>> process(String group,
+                                                     List<ConsumerRecord<K, V>> records,
+                                                     Consumer<ConsumerRecord<K, V>> handler) {
+        return process(group, records, ConsumerRecord::key, handler);
+    }
+
+    /**
+     * @param group       컨슈머 그룹 (메트릭 태그)
+     * @param orderingKey 순서 보장 단위 (null이면 파티션 단위) - 키 없이 발행된 토픽은 값에서 꺼낸다
+     * @param handler     레코드 처리 (같은 순서 키 안에서는 offset 순서로 호출)
+     * @return 처리에 실패한 레코드 (실패한 키의 건너뛴 레코드 포함)
+     */
+    public <K, V> List<ConsumerRecord<K, V>> process(String group,
+                                                     List<ConsumerRecord<K, V>> records,
+                                                     Function<ConsumerRecord<K, V>, ?> orderingKey,
+                                                     Consumer<ConsumerRecord<K, V>> handler) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String topic = records.get(0).topic();
+
+        Map<String, List<ConsumerRecord<K, V>>> byKey = new LinkedHashMap<>();
+        for (ConsumerRecord<K, V> record : records) {
+            byKey.computeIfAbsent(groupKey(record, orderingKey.apply(record)), ignored -> new ArrayList<>()).add(record);
+        }
+
+        List<ConsumerRecord<K, V>> failed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(byKey.size());
+        for (List<ConsumerRecord<K, V>> keyed : byKey.values()) {
+            futures.add(CompletableFuture.runAsync(() -> processInOrder(group, keyed, handler, failed), executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            sample.stop(Timer.builder("kafka_consumer_batch_seconds")
+                .tag("topic", topic)
+                .tag("group", group)
+                .description("Kafka batch processing time (key-ordered parallel)")
+                .register(meterRegistry));
+        }
+        return failed;
+    }
+
+    private <K, V> void processInOrder(String group,
+                                       List<ConsumerRecord<K, V>> keyed,
+                                       Consumer<ConsumerRecord<K, V>> handler,
+                                       List<ConsumerRecord<K, V>> failed) {
+        for (int i = 0; i < keyed.size(); i++) {
+            ConsumerRecord<K, V> record = keyed.get(i);
+            try {
+                handler.accept(record);
+                count(record.topic(), group, "success");
+            } catch (RuntimeException e) {
+                log.error("Kafka record failed, skipping remaining {} records of the same key: topic={}, partition={}, offset={}, key={}",
+                    keyed.size() - i - 1, record.topic(), record.partition(), record.offset(), record.key(), e);
+                // 같은 키의 이후 레코드는 순서를 지키기 위해 처리하지 않음
+                List<ConsumerRecord<K, V>> remaining = keyed.subList(i, keyed.size());
+                failed.addAll(remaining);
+                remaining.forEach(skipped -> count(skipped.topic(), group, "failed"));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 순서 키가 없으면 파티션 단위로 순서 유지 (순서 단위를 알 수 없을 때의 Kafka 기본 보장)
+     */
+    private String groupKey(ConsumerRecord<?, ?> record, Object key) {
+        return key != null
+            ? "k:" + key
+            : "p:" + record.partition();
+    }
+
+    private void count(String topic, String group, String result) {
+        counters.computeIfAbsent(topic + ":" + group + ":" + result, ignored ->
+            Counter.builder("kafka_consumer_records_processed_total")
+                .tag("topic", topic)
+                .tag("group", group)
+                .tag("result", result)
+                .description("Kafka records processed by key-ordered batch processor")
+                .register(meterRegistry)
+        ).increment();
+    }
+}
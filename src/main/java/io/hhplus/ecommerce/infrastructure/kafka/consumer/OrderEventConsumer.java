@@ -1,68 +1,138 @@
 package io.hhplus.ecommerce.infrastructure.kafka.consumer;
 
 import io.hhplus.ecommerce.infrastructure.kafka.message.OrderCompletedMessage;
+import io.hhplus.ecommerce.infrastructure.redis.EventDeduplicationStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 주문 완료 이벤트 컨슈머 (data-platform)
+ * <p>
+ * poll 단위 배치 처리:
+ * 1. 배치 전체의 처리 완료 여부를 EventDeduplicationStore로 한 번에 확인 (메시지당 왕복 → 배치당 1회)
+ * 2. 처리되지 않은 레코드만 KeyOrderedBatchProcessor로 처리 (userId 단위 순서 보장, 사용자 간 병렬)
+ * 3. 핸들러가 성공한 레코드만 처리 완료로 기록 (finally → 일부 실패/Error에도 성공분은 기록)
+ * 4. 배치 전체 성공 시 ack 한 번 (offset 일괄 커밋)
+ * <p>
+ * 처리 완료 표시는 핸들러 성공 뒤에만 남으므로, 처리 중 프로세스가 죽어도 표시 없는 레코드는 재전달 시 다시 처리된다.
+ * (성공 직후 기록 전에 죽으면 한 번 더 처리될 수 있음 → at-least-once)
+ * 실패 레코드가 있으면 BatchListenerFailedException으로 가장 앞선 실패 위치를 알려 에러 핸들러가 그 레코드부터 재전달하고,
+ * 재시도를 모두 소진한 레코드는 DLT로 보낸다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderEventConsumer {
 
+    static final String GROUP_ID = "data-platform";
     private static final String PROCESSED_KEY_PREFIX = "kafka:processed:order:";
-    private static final Duration TTL = Duration.ofDays(7);
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final EventDeduplicationStore deduplicationStore;
+    private final KeyOrderedBatchProcessor batchProcessor;
 
     @KafkaListener(
         topics = "order-completed",
-        groupId = "data-platform"
+        groupId = GROUP_ID,
+        containerFactory = "orderEventBatchKafkaListenerContainerFactory"
     )
     public void consumeOrderCompleted(
-        @Payload OrderCompletedMessage message,
-        Acknowledgment ack,
-        @Header(KafkaHeaders.RECEIVED_PARTITION) int partition
+        List<ConsumerRecord<String, OrderCompletedMessage>> records,
+        Acknowledgment ack
     ) {
-        log.info("Kafka message received: orderId={}, userId={}, totalAmount={}, partition={}",
-            message.orderId(),
-            message.userId(),
-            message.totalAmount(),
-            partition
-        );
-
-        String key = PROCESSED_KEY_PREFIX + message.orderId();
+        List<ConsumerRecord<String, OrderCompletedMessage>> unprocessed = unprocessed(records);
+        log.info("Kafka batch received: records={}, new={}, duplicates={}",
+            records.size(), unprocessed.size(), records.size() - unprocessed.size());
 
-        // 멱등성 처리: Redis SETNX
-        Boolean isFirstProcessing = redisTemplate.opsForValue().setIfAbsent(key, "1", TTL);
+        Set<String> succeeded = ConcurrentHashMap.newKeySet();
+        List<ConsumerRecord<String, OrderCompletedMessage>> failed;
+        try {
+            failed = batchProcessor.process(
+                GROUP_ID,
+                unprocessed,
+                record -> record.key() != null ? record.key() : record.value().userId(),
+                record -> {
+                    processOrderCompletedEvent(record.value(), record.partition());
+                    succeeded.add(processedId(record.value()));
+                }
+            );
+        } finally {
+            markProcessed(succeeded);
+        }
 
-        if (Boolean.TRUE.equals(isFirstProcessing)) {
-            // 처음 처리: 비즈니스 로직 실행
-            processOrderCompletedEvent(message);
-            log.info("Kafka message processed: orderId={}, partition={}", message.orderId(), partition);
-        } else {
-            // 중복 처리: 즉시 ACK (재처리 방지)
-            log.info("Duplicate message ignored: orderId={}, partition={}", message.orderId(), partition);
+        if (!failed.isEmpty()) {
+            // 가장 앞선 실패 레코드부터 재전달 (앞쪽 성공분은 커밋, 뒤쪽 성공분은 처리 완료 표시로 걸러짐)
+            int failedIndex = failed.stream().mapToInt(records::indexOf).min().orElseThrow();
+            throw new BatchListenerFailedException(
+                "Order completed batch failed: " + failed.size() + " of " + records.size() + " records", failedIndex);
         }
 
-        // Manual ACK
+        // Manual ACK (배치 단위)
         ack.acknowledge();
     }
 
-    private void processOrderCompletedEvent(OrderCompletedMessage message) {
+    /**
+     * 멱등성 처리: 배치 전체의 처리 완료 여부를 한 번에 확인하고, 처리되지 않은 레코드만 반환
+     * (같은 배치 안에서 반복된 orderId는 첫 레코드만 처리)
+     */
+    private List<ConsumerRecord<String, OrderCompletedMessage>> unprocessed(
+        List<ConsumerRecord<String, OrderCompletedMessage>> records
+    ) {
+        List<Boolean> processed = deduplicationStore.containsAll(
+            PROCESSED_KEY_PREFIX,
+            records.stream().map(record -> processedId(record.value())).toList()
+        );
+
+        Set<String> seen = new HashSet<>();
+        List<ConsumerRecord<String, OrderCompletedMessage>> unprocessed = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, OrderCompletedMessage> record = records.get(i);
+            if (!processed.get(i) && seen.add(processedId(record.value()))) {
+                unprocessed.add(record);
+            } else {
+                // 중복 처리: 처리 없이 배치 ack에 포함 (재처리 방지)
+                log.info("Duplicate message ignored: orderId={}, partition={}", record.value().orderId(), record.partition());
+            }
+        }
+        return unprocessed;
+    }
+
+    /**
+     * 성공한 레코드만 처리 완료로 기록
+     * 기록 실패는 원래 예외를 가리지 않도록 로그만 남긴다 (해당 레코드는 재전달 시 한 번 더 처리될 수 있음)
+     */
+    private void markProcessed(Set<String> succeeded) {
+        if (succeeded.isEmpty()) {
+            return;
+        }
+        try {
+            deduplicationStore.claimAll(PROCESSED_KEY_PREFIX, List.copyOf(succeeded));
+        } catch (RuntimeException e) {
+            log.warn("Failed to mark order events processed: count={}", succeeded.size(), e);
+        }
+    }
+
+    private String processedId(OrderCompletedMessage message) {
+        return String.valueOf(message.orderId());
+    }
+
+    void processOrderCompletedEvent(OrderCompletedMessage message, int partition) {
         // TODO: A6에서 실제 비즈니스 로직 구현 (데이터 플랫폼 전송 등)
-        log.debug("Processing order completed event: orderId={}, userId={}, totalAmount={}",
+        log.debug("Processing order completed event: orderId={}, userId={}, totalAmount={}, partition={}",
             message.orderId(),
             message.userId(),
-            message.totalAmount()
+            message.totalAmount(),
+            partition
         );
     }
 }
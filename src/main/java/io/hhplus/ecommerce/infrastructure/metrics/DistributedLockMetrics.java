@@ -0,0 +1,139 @@
+package io.hhplus.ecommerce.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산락 경합 메트릭 (DistributedLockAspect에서 호출)
+ *
+ * 태그 lock은 락 이름 템플릿(@DistributedLock#name)만 사용한다. 전체 키는 카디널리티가 무한하므로
+ * 메트릭 대신 HotKeySketch(Top-K)로만 추적하고 /actuator/lockhotkeys로 노출한다.
+ *
+ * 메트릭:
+ * - distributed_lock_wait_seconds{lock, result}: tryLock 대기 시간 (result = acquired/timeout/interrupted)
+ * - distributed_lock_held_seconds{lock}: 락 보유 시간
+ * - distributed_lock_failures{lock, reason}: 획득 실패 수 (timeout = DUPLICATE_REQUEST 응답)
+ * - distributed_lock_lease_warnings{lock, level}: 보유 시간이 임대 시간에 근접(near)/초과(expired)
+ *
+ * 보유 시간이 leaseTime × lease-warn-ratio 이상이면 구조화 경고 로그를 남긴다.
+ * 임대 시간을 넘기면 Redisson이 락을 이미 해제했으므로 다른 요청과 임계 구역이 겹쳤을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLockMetrics {
+
+    public enum Result {
+        ACQUIRED,
+        TIMEOUT,
+        INTERRUPTED;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> heldTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${lock.metrics.hot-keys.capacity:100}")
+    private int hotKeyCapacity = 100;
+
+    @Value("${lock.metrics.lease-warn-ratio:0.8}")
+    private double leaseWarnRatio = 0.8;
+
+    private HotKeySketch hotKeys;
+
+    @PostConstruct
+    void init() {
+        hotKeys = new HotKeySketch(hotKeyCapacity);
+    }
+
+    /**
+     * tryLock 결과 기록 (대기 시간 + 실패 카운트 + 핫키)
+     */
+    public void recordAcquisition(String lockName, String lockKey, long waitNanos, Result result) {
+        waitTimer(lockName, result).record(waitNanos, TimeUnit.NANOSECONDS);
+        if (result != Result.ACQUIRED) {
+            counter("distributed_lock_failures", lockName, "reason", result.tag(), "Distributed lock acquisition failures")
+                .increment();
+        }
+        hotKeys.offer(lockName, lockKey, result != Result.ACQUIRED);
+    }
+
+    /**
+     * 락 보유 시간 기록 + 임대 시간 근접/초과 경고
+     *
+     * @param leaseNanos 임대 시간 (0 이하 = Redisson watchdog 자동 연장, 경고 생략)
+     */
+    public void recordHeld(String lockName, String lockKey, long heldNanos, long leaseNanos) {
+        heldTimer(lockName).record(heldNanos, TimeUnit.NANOSECONDS);
+        if (leaseNanos <= 0) {
+            return;
+        }
+
+        double ratio = (double) heldNanos / leaseNanos;
+        if (ratio >= 1.0) {
+            counter("distributed_lock_lease_warnings", lockName, "level", "expired", "Lock held close to or beyond lease")
+                .increment();
+            log.error("락 임대 시간 초과: lock={}, key={}, heldMs={}, leaseMs={}, ratio={}",
+                lockName, lockKey, toMillis(heldNanos), toMillis(leaseNanos), String.format("%.2f", ratio));
+        } else if (ratio >= leaseWarnRatio) {
+            counter("distributed_lock_lease_warnings", lockName, "level", "near", "Lock held close to or beyond lease")
+                .increment();
+            log.warn("락 보유 시간이 임대 시간에 근접: lock={}, key={}, heldMs={}, leaseMs={}, ratio={}",
+                lockName, lockKey, toMillis(heldNanos), toMillis(leaseNanos), String.format("%.2f", ratio));
+        }
+    }
+
+    public HotKeySketch hotKeys() {
+        return hotKeys;
+    }
+
+    private Timer waitTimer(String lockName, Result result) {
+        return waitTimers.computeIfAbsent(lockName + ':' + result.tag(), key -> Timer.builder("distributed_lock_wait_seconds")
+            .tag("lock", lockName)
+            .tag("result", result.tag())
+            .description("Distributed lock tryLock wait time")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry));
+    }
+
+    private Timer heldTimer(String lockName) {
+        return heldTimers.computeIfAbsent(lockName, key -> Timer.builder("distributed_lock_held_seconds")
+            .tag("lock", lockName)
+            .description("Distributed lock hold time")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofMinutes(2))
+            .register(meterRegistry));
+    }
+
+    private Counter counter(String name, String lockName, String tagKey, String tagValue, String description) {
+        return counters.computeIfAbsent(name + ':' + lockName + ':' + tagValue, key -> Counter.builder(name)
+            .tag("lock", lockName)
+            .tag(tagKey, tagValue)
+            .description(description)
+            .register(meterRegistry));
+    }
+
+    private long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,93 @@
+package io.hhplus.ecommerce.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top-K 핫키 추정 (Space-Saving 알고리즘)
+ *
+ * 락 키 전체를 메트릭 태그로 쓰면 카디널리티가 폭증하므로, 고정 크기(capacity)의 카운터만 유지하며
+ * 가장 자주 등장한 키를 근사한다.
+ * - 추적 중인 키: 카운트 증가
+ * - 빈 슬롯 있음: 새 키를 카운트 1로 추가
+ * - 가득 참: 카운트가 가장 작은 키를 밀어내고 (최솟값 + 1)로 대체, 최솟값은 오차(error)로 기록
+ *
+ * 보장: 실제 빈도 > 전체 관측 수 / capacity 인 키는 반드시 결과에 포함되며,
+ * 실제 빈도는 [count - error, count] 범위에 있다.
+ *
+ * offer는 O(capacity)이지만 capacity가 작고(기본 100) 호출 지점이 Redis 왕복이 있는 락 획득이라 무시할 수준이다.
+ */
+public class HotKeySketch {
+
+    private final int capacity;
+    private final Map<String, Slot> slots;
+    private long total;
+
+    public HotKeySketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다. capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void offer(String name, String key, boolean failed) {
+        total++;
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            if (slots.size() < capacity) {
+                slot = new Slot(name, 0);
+            } else {
+                Map.Entry<String, Slot> min = slots.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().count))
+                    .orElseThrow();
+                slots.remove(min.getKey());
+                slot = new Slot(name, min.getValue().count);
+            }
+            slots.put(key, slot);
+        }
+        slot.count++;
+        if (failed) {
+            slot.failures++;
+        }
+    }
+
+    /**
+     * 카운트 내림차순 상위 limit개
+     */
+    public synchronized List<HotKey> top(int limit) {
+        List<HotKey> result = new ArrayList<>(slots.size());
+        slots.forEach((key, slot) -> result.add(new HotKey(slot.name, key, slot.count, slot.error, slot.failures)));
+        result.sort(Comparator.comparingLong(HotKey::count).reversed());
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    public synchronized long total() {
+        return total;
+    }
+
+    /**
+     * @param count    추정 빈도 (상한)
+     * @param error    추정 오차 (count - error가 실제 빈도의 하한)
+     * @param failures 추적 시작 이후 획득 실패 수
+     */
+    public record HotKey(String lock, String key, long count, long error, long failures) {
+    }
+
+    private static final class Slot {
+
+        private final String name;
+        private final long error;
+        private long count;
+        private long failures;
+
+        private Slot(String name, long error) {
+            this.name = name;
+            this.error = error;
+            this.count = error;
+        }
+    }
+}
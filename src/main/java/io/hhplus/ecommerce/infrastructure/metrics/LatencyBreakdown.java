@@ -0,0 +1,207 @@
+package io.hhplus.ecommerce.infrastructure.metrics;
+
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문/결제 핫패스 구간별 지연 측정
+ * <p>
+ * 전체 처리 시간(order_duration_seconds 등)만으로는 느린 요청이 락 대기, 멱등성 INSERT,
+ * 상품 조회, 재고 잠금, PG 호출, 커밋 중 어디에서 시간을 썼는지 알 수 없으므로 구간별로 나눠 기록한다.
+ * <p>
+ * 메트릭 (System.nanoTime 기준):
+ * - hot_path_phase_seconds{flow, phase}: 완료된 구간 Timer (Prometheus 히스토그램 버킷 포함)
+ * - hot_path_phase_active_seconds{flow, phase}: 진행 중인 구간 LongTaskTimer (멈춘 락/PG 호출 탐지)
+ * <p>
+ * 커밋/이벤트 디스패치는 트랜잭션 동기화로 측정한다 (timeCommit).
+ * - commit: beforeCommit → afterCommit (flush + COMMIT 왕복)
+ * - event-dispatch: 첫 afterCommit → 마지막 afterCompletion
+ *   (AFTER_COMMIT @TransactionalEventListener는 afterCompletion에서 실행되므로 리스너 실행/비동기 제출 시간이 포함됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class LatencyBreakdown {
+
+    public static final String FLOW_ORDER = "order";
+    public static final String FLOW_PAYMENT = "payment";
+
+    public enum Phase {
+        LOCK_WAIT("lock-wait"),
+        LOCK_HELD("lock-held"),
+        IDEMPOTENCY("idempotency"),
+        PRODUCT_LOAD("product-load"),
+        STOCK_LOCK("stock-lock"),
+        PG_CALL("pg-call"),
+        COMMIT("commit"),
+        EVENT_DISPATCH("event-dispatch");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongTaskTimer> activeTimers = new ConcurrentHashMap<>();
+
+    /**
+     * 구간 실행 + 기록 (진행 중에는 LongTaskTimer에도 잡힘)
+     */
+    public <T> T time(String flow, Phase phase, Supplier<T> supplier) {
+        LongTaskTimer.Sample active = activeTimer(flow, phase).start();
+        long startNanos = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(flow, phase, startNanos);
+            active.stop();
+        }
+    }
+
+    public void time(String flow, Phase phase, Runnable runnable) {
+        time(flow, phase, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * 진행 중 구간 시작 (구간이 메서드 경계를 넘을 때 사용, 반드시 close)
+     */
+    public ActivePhase start(String flow, Phase phase) {
+        return new ActivePhase(flow, phase, activeTimer(flow, phase).start(), System.nanoTime());
+    }
+
+    /**
+     * @param startNanos System.nanoTime()으로 잡은 시작 시각
+     */
+    public void record(String flow, Phase phase, long startNanos) {
+        timer(flow, phase).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋/이벤트 디스패치 구간 측정 등록 (트랜잭션 밖이면 무시)
+     */
+    public void timeCommit(String flow) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new CommitPhaseSynchronization(flow));
+    }
+
+    private Timer timer(String flow, Phase phase) {
+        return timers.computeIfAbsent(flow + ':' + phase.tag(), key -> Timer.builder("hot_path_phase_seconds")
+            .tag("flow", flow)
+            .tag("phase", phase.tag())
+            .description("Hot path latency by phase")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry));
+    }
+
+    private LongTaskTimer activeTimer(String flow, Phase phase) {
+        return activeTimers.computeIfAbsent(flow + ':' + phase.tag(), key -> LongTaskTimer.builder("hot_path_phase_active_seconds")
+            .tag("flow", flow)
+            .tag("phase", phase.tag())
+            .description("Hot path phases currently in progress")
+            .register(meterRegistry));
+    }
+
+    public final class ActivePhase implements AutoCloseable {
+
+        private final String flow;
+        private final Phase phase;
+        private final LongTaskTimer.Sample active;
+        private final long startNanos;
+
+        private ActivePhase(String flow, Phase phase, LongTaskTimer.Sample active, long startNanos) {
+            this.flow = flow;
+            this.phase = phase;
+            this.active = active;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            record(flow, phase, startNanos);
+            active.stop();
+        }
+    }
+
+    /**
+     * 가장 먼저 beforeCommit/afterCommit이 호출되도록 최우선 순위로 등록 (commit 구간 + event-dispatch 시작)
+     */
+    private final class CommitPhaseSynchronization implements TransactionSynchronization, Ordered {
+
+        private final String flow;
+        private long beforeCommitNanos;
+        private long afterCommitNanos;
+
+        private CommitPhaseSynchronization(String flow) {
+            this.flow = flow;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            beforeCommitNanos = System.nanoTime();
+            // 트랜잭션 중 등록된 리스너 동기화(기본 LOWEST_PRECEDENCE)보다 뒤에 정렬되도록 이 시점에 등록
+            TransactionSynchronizationManager.registerSynchronization(new EventDispatchEndSynchronization(this));
+        }
+
+        @Override
+        public void afterCommit() {
+            afterCommitNanos = System.nanoTime();
+            if (beforeCommitNanos != 0) {
+                record(flow, Phase.COMMIT, beforeCommitNanos);
+            }
+        }
+    }
+
+    /**
+     * 가장 마지막에 afterCompletion이 호출되도록 최하위 순위로 등록 (event-dispatch 끝)
+     */
+    private final class EventDispatchEndSynchronization implements TransactionSynchronization, Ordered {
+
+        private final CommitPhaseSynchronization commitPhase;
+
+        private EventDispatchEndSynchronization(CommitPhaseSynchronization commitPhase) {
+            this.commitPhase = commitPhase;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED && commitPhase.afterCommitNanos != 0) {
+                record(commitPhase.flow, Phase.EVENT_DISPATCH, commitPhase.afterCommitNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.ecommerce.infrastructure.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 분산락 핫키 조회 (GET /actuator/lockhotkeys?limit=20)
+ *
+ * 부하 테스트 중 어떤 키(사용자/쿠폰/멱등성 키)에 락 경합이 몰리는지 확인한다.
+ * - 조회 전용 (집계 초기화는 노출하지 않음, 재기동 시 초기화)
+ * - 키에는 사용자 ID/멱등성 키가 들어가므로 SHA-256 앞 16자리로만 노출
+ *   (특정 키 확인이 필요하면 같은 방식으로 해시해 비교)
+ */
+@Component
+@Endpoint(id = "lockhotkeys")
+@RequiredArgsConstructor
+public class LockHotKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int HASH_HEX_LENGTH = 16;
+
+    private final DistributedLockMetrics lockMetrics;
+
+    @ReadOperation
+    public LockHotKeysResponse hotKeys(@Nullable Integer limit) {
+        HotKeySketch sketch = lockMetrics.hotKeys();
+        int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        List<MaskedHotKey> keys = sketch.top(size).stream()
+            .map(hotKey -> new MaskedHotKey(
+                hotKey.lock(), hash(hotKey.key()), hotKey.count(), hotKey.error(), hotKey.failures()))
+            .toList();
+        return new LockHotKeysResponse(sketch.total(), keys);
+    }
+
+    static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, HASH_HEX_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * @param totalAcquisitions 집계 이후 전체 락 획득 시도 수
+     */
+    public record LockHotKeysResponse(long totalAcquisitions, List<MaskedHotKey> keys) {
+    }
+
+    /**
+     * HotKeySketch.HotKey에서 키만 해시로 바꾼 응답
+     */
+    public record MaskedHotKey(String lock, String keyHash, long count, long error, long failures) {
+    }
+}
@@ -16,6 +16,9 @@ import java.util.concurrent.TimeUnit;
  * - stock_errors_total: 재고 부족 에러 카운터
  * - coupon_issue_total: 쿠폰 발급 성공/실패 카운터
  * - payment_total: 결제 성공/실패 카운터
+ *
+ * 처리 시간은 System.nanoTime 기준 (벽시계 보정에 영향받지 않음)
+ * 구간별 지연은 LatencyBreakdown(hot_path_phase_seconds) 참고
  */
 @Component
 public class MetricsCollector {
@@ -58,6 +61,7 @@ public class MetricsCollector {
         this.orderDurationTimer = Timer.builder("order_duration_seconds")
                 .description("Order processing duration")
                 .publishPercentiles(0.5, 0.95, 0.99)  // P50, P95, P99
+                .publishPercentileHistogram()         // Prometheus histogram_quantile용 버킷
                 .register(meterRegistry);
 
         // 재고 메트릭 초기화
@@ -100,6 +104,7 @@ public class MetricsCollector {
         this.paymentDurationTimer = Timer.builder("payment_duration_seconds")
                 .description("Payment processing duration")
                 .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
                 .register(meterRegistry);
     }
 
@@ -115,9 +120,11 @@ public class MetricsCollector {
         orderFailureCounter.increment();
     }
 
-    public void recordOrderDuration(long startTimeMs) {
-        long duration = System.currentTimeMillis() - startTimeMs;
-        orderDurationTimer.record(duration, TimeUnit.MILLISECONDS);
+    /**
+     * @param startNanos System.nanoTime()으로 잡은 시작 시각
+     */
+    public void recordOrderDuration(long startNanos) {
+        orderDurationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 
     public <T> T recordOrderDuration(OrderOperation<T> operation) throws Exception {
@@ -170,9 +177,11 @@ public class MetricsCollector {
         paymentFailureCounter.increment();
     }
 
-    public void recordPaymentDuration(long startTimeMs) {
-        long duration = System.currentTimeMillis() - startTimeMs;
-        paymentDurationTimer.record(duration, TimeUnit.MILLISECONDS);
+    /**
+     * @param startNanos System.nanoTime()으로 잡은 시작 시각
+     */
+    public void recordPaymentDuration(long startNanos) {
+        paymentDurationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 
     public <T> T recordPaymentDuration(OrderOperation<T> operation) throws Exception {
@@ -6,8 +6,10 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -70,6 +72,25 @@ public interface JpaCartItemRepository extends JpaRepository<CartItem, Long>, Ca
     Optional<CartItem> findByCartIdAndProductId(@Param("cartId") Long cartId, @Param("productId") Long productId);
 
     @Override
+    @Query("""
+        select distinct c.userId from CartItem ci
+        join ci.cart c
+        where ci.product.id = :productId
+          and ci.quantity > :minQuantityExclusive
+          and ci.quantity <= :maxQuantityInclusive
+        """)
+    List<Long> findCartUserIdsByProductId(@Param("productId") Long productId,
+                                          @Param("minQuantityExclusive") int minQuantityExclusive,
+                                          @Param("maxQuantityInclusive") int maxQuantityInclusive);
+
+    /**
+     * 장바구니 아이템 일괄 삭제 (단일 DELETE 문)
+     * - 체크아웃 후 장바구니 비우기에 사용
+     * - 영속성 컨텍스트에 남은 CartItem과의 불일치를 막기 위해 실행 후 clear
+     */
+    @Override
+    @Transactional
+    @Modifying(clearAutomatically = true)
     @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId")
     void deleteByCartId(@Param("cartId") Long cartId);
 }
@@ -12,6 +12,8 @@ import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,6 +31,10 @@ public interface JpaCouponRepository extends JpaRepository<Coupon, Long>, Coupon
     @Override
     Optional<Coupon> findByCouponCode(String couponCode);
 
+    @Override
+    @Query("SELECT c FROM Coupon c WHERE c.startDate <= :until AND c.endDate >= :now")
+    List<Coupon> findLiveOrUpcoming(@Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
     /**
      * Pessimistic Write Lock (SELECT FOR UPDATE) with Timeout
      * <p>
@@ -1,5 +1,6 @@
 package io.hhplus.ecommerce.infrastructure.persistence.order;
 
+import io.hhplus.ecommerce.domain.order.OrderHistoryItemRow;
 import io.hhplus.ecommerce.domain.order.OrderItem;
 import io.hhplus.ecommerce.domain.order.OrderItemRepository;
 import org.springframework.context.annotation.Primary;
@@ -18,6 +19,18 @@ public interface JpaOrderItemRepository extends JpaRepository<OrderItem, Long>,
     @Query("SELECT oi FROM OrderItem oi WHERE oi.order.id = :orderId")
     List<OrderItem> findByOrderId(@Param("orderId") Long orderId);
 
+    @Override
+    @Query("""
+        select new io.hhplus.ecommerce.domain.order.OrderHistoryItemRow(
+            oi.order.id, p.id, p.name, oi.quantity, oi.unitPrice, oi.subtotal
+        )
+        from OrderItem oi
+        join oi.product p
+        where oi.order.id in :orderIds
+        order by oi.order.id, oi.id
+        """)
+    List<OrderHistoryItemRow> findHistoryItemsByOrderIds(@Param("orderIds") List<Long> orderIds);
+
     // JpaRepository에서 이미 제공하는 메서드들:
     // - findAll() : List<OrderItem>
     // - save(OrderItem orderItem) : OrderItem
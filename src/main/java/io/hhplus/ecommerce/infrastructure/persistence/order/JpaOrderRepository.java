@@ -1,13 +1,25 @@
 package io.hhplus.ecommerce.infrastructure.persistence.order;
 
 import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.order.OrderHistoryRow;
+import io.hhplus.ecommerce.domain.order.OrderPaymentContext;
 import io.hhplus.ecommerce.domain.order.OrderRepository;
+import io.hhplus.ecommerce.domain.order.OrderStatus;
+import io.hhplus.ecommerce.domain.user.UserBalance;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +41,18 @@ public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRep
     @Override
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    /**
+     * Pessimistic Write Lock (SELECT FOR UPDATE) with Timeout
+     * - 결제 시 같은 주문의 중복 결제 방지 (사용자 단위 분산락 대신 주문 행 단위로 직렬화)
+     */
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({
+        @QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")
+    })
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdWithLock(@Param("id") Long id);
+
     @Override
     @Query("SELECT o FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC")
     List<Order> findByUserId(@Param("userId") Long userId);
@@ -42,6 +66,64 @@ public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRep
         """)
     List<Order> findByUserIdWithItems(@Param("userId") Long userId);
 
+    @Override
+    default List<OrderHistoryRow> findHistoryPage(
+            Long userId,
+            OrderStatus status,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int limit) {
+        // 첫 페이지는 가장 큰 커서로 대체해 커서 유무와 관계없이 같은 쿼리를 사용
+        // (LocalDateTime.MAX는 MySQL DATETIME 범위를 넘으므로 9999-12-31 사용)
+        LocalDateTime createdAt = cursorCreatedAt != null ? cursorCreatedAt : LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        Long id = cursorId != null ? cursorId : Long.MAX_VALUE;
+        Pageable page = PageRequest.of(0, limit);
+
+        return status == null
+            ? findHistoryRows(userId, createdAt, id, page)
+            : findHistoryRowsByStatus(userId, status, createdAt, id, page);
+    }
+
+    /**
+     * 주문 내역 (전체 상태) - idx_user_created (user_id, created_at, +PK) 범위 스캔
+     */
+    @Query("""
+        select new io.hhplus.ecommerce.domain.order.OrderHistoryRow(
+            o.id, o.userId, o.orderNumber, o.subtotalAmount, o.discountAmount, o.totalAmount, o.status, o.createdAt
+        )
+        from Order o
+        where o.userId = :userId
+          and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+        order by o.createdAt desc, o.id desc
+        """)
+    List<OrderHistoryRow> findHistoryRows(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 주문 내역 (상태 필터) - 상태 조건을 SQL에서 적용 (idx_user_status / idx_user_created 중 옵티마이저 선택)
+     */
+    @Query("""
+        select new io.hhplus.ecommerce.domain.order.OrderHistoryRow(
+            o.id, o.userId, o.orderNumber, o.subtotalAmount, o.discountAmount, o.totalAmount, o.status, o.createdAt
+        )
+        from Order o
+        where o.userId = :userId
+          and o.status = :status
+          and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+        order by o.createdAt desc, o.id desc
+        """)
+    List<OrderHistoryRow> findHistoryRowsByStatus(
+        @Param("userId") Long userId,
+        @Param("status") OrderStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
     @Query("""
         select distinct o from Order o
         left join fetch o.orderItems oi
@@ -50,6 +132,56 @@ public interface JpaOrderRepository extends JpaRepository<Order, Long>, OrderRep
         """)
     Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
 
+    @Override
+    default Optional<OrderPaymentContext> findPaymentContextWithLock(Long id) {
+        List<Object[]> rows = findPaymentContextRows(id);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 주문 항목 수만큼 행이 나오지만 주문/잔액은 모든 행에서 같다
+        Object[] row = rows.get(0);
+        Order order = (Order) row[0];
+        UserBalance balance = row[1] == null
+            ? null
+            : new UserBalance(order.getUserId(), (Long) row[1], (Long) row[2]);
+        return Optional.of(new OrderPaymentContext(order, balance));
+    }
+
+    /**
+     * 결제 예약 조회 (주문 행 잠금 + 항목/상품/잔액 한 번에)
+     * - 기존: 주문 FOR UPDATE → 항목 조회 → 상품별 FOR UPDATE (1 + 1 + N회)
+     * - 변경: 1회 (이후 잔액/재고는 조건부 UPDATE로 차감)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({
+        @QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")
+    })
+    @Query("""
+        select o, u.balance, u.version from Order o
+        join fetch o.orderItems oi
+        join fetch oi.product p
+        left join User u on u.id = o.userId
+        where o.id = :orderId
+        """)
+    List<Object[]> findPaymentContextRows(@Param("orderId") Long orderId);
+
+    /**
+     * 결제 완료 조건부 UPDATE
+     * - 조회 없이 PENDING → COMPLETED 전이, @Version도 함께 증가
+     * - clearAutomatically: 같은 영속성 컨텍스트에 남은 주문 엔티티가 이전 버전으로 다시 flush되지 않도록 비움
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = io.hhplus.ecommerce.domain.order.OrderStatus.COMPLETED,
+            o.paidAt = :paidAt,
+            o.version = o.version + 1
+        WHERE o.id = :id AND o.status = io.hhplus.ecommerce.domain.order.OrderStatus.PENDING
+        """)
+    int markCompleted(@Param("id") Long id, @Param("paidAt") LocalDateTime paidAt);
+
     // JpaRepository에서 이미 제공하는 메서드들:
     // - delete(Order order) : void
     // - existsById(Long id) : boolean
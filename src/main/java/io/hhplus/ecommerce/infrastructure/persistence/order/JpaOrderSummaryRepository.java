@@ -0,0 +1,165 @@
+package io.hhplus.ecommerce.infrastructure.persistence.order;
+
+import io.hhplus.ecommerce.domain.order.OrderStatus;
+import io.hhplus.ecommerce.domain.order.OrderSummary;
+import io.hhplus.ecommerce.domain.order.OrderSummaryRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaOrderSummaryRepository extends JpaRepository<OrderSummary, Long>, OrderSummaryRepository {
+
+    @Override
+    default void upsertCreated(OrderSummary summary) {
+        upsertCreatedRow(
+            summary.getOrderId(), summary.getUserId(), summary.getOrderNumber(), summary.getStatus().name(),
+            summary.getSubtotalAmount(), summary.getDiscountAmount(), summary.getTotalAmount(),
+            summary.getItemsJson(), summary.getCreatedAt(), summary.getUpdatedAt()
+        );
+    }
+
+    @Override
+    default void upsertCompleted(OrderSummary summary) {
+        upsertCompletedRow(
+            summary.getOrderId(), summary.getUserId(), summary.getOrderNumber(),
+            summary.getSubtotalAmount(), summary.getDiscountAmount(), summary.getTotalAmount(),
+            summary.getItemsJson(), summary.getCreatedAt(), summary.getPaidAt(), summary.getUpdatedAt()
+        );
+    }
+
+    @Override
+    default Optional<OrderSummary> findByOrderId(Long orderId) {
+        return findById(orderId);
+    }
+
+    @Override
+    default List<OrderSummary> findPage(
+            Long userId,
+            OrderStatus status,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int limit) {
+        // 첫 페이지는 가장 큰 커서로 대체 (JpaOrderRepository.findHistoryPage와 동일)
+        LocalDateTime createdAt = cursorCreatedAt != null ? cursorCreatedAt : LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        Long id = cursorId != null ? cursorId : Long.MAX_VALUE;
+        Pageable page = PageRequest.of(0, limit);
+
+        return status == null
+            ? findPageRows(userId, createdAt, id, page)
+            : findPageRowsByStatus(userId, status, createdAt, id, page);
+    }
+
+    @Query("""
+        select s from OrderSummary s
+        where s.userId = :userId
+          and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.orderId < :id))
+        order by s.createdAt desc, s.orderId desc
+        """)
+    List<OrderSummary> findPageRows(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query("""
+        select s from OrderSummary s
+        where s.userId = :userId
+          and s.status = :status
+          and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.orderId < :id))
+        order by s.createdAt desc, s.orderId desc
+        """)
+    List<OrderSummary> findPageRowsByStatus(
+        @Param("userId") Long userId,
+        @Param("status") OrderStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 주문 생성 UPSERT
+     * - 결제 완료 이벤트가 먼저 반영된 경우 status/paid_at은 덮어쓰지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO order_summaries
+            (order_id, user_id, order_number, status, subtotal_amount, discount_amount, total_amount,
+             items_json, created_at, paid_at, updated_at)
+        VALUES
+            (:orderId, :userId, :orderNumber, :status, :subtotalAmount, :discountAmount, :totalAmount,
+             :itemsJson, :createdAt, NULL, :updatedAt)
+        ON DUPLICATE KEY UPDATE
+            order_number = VALUES(order_number),
+            subtotal_amount = VALUES(subtotal_amount),
+            discount_amount = VALUES(discount_amount),
+            total_amount = VALUES(total_amount),
+            items_json = VALUES(items_json),
+            created_at = VALUES(created_at),
+            updated_at = VALUES(updated_at)
+        """, nativeQuery = true)
+    int upsertCreatedRow(
+        @Param("orderId") Long orderId,
+        @Param("userId") Long userId,
+        @Param("orderNumber") String orderNumber,
+        @Param("status") String status,
+        @Param("subtotalAmount") Long subtotalAmount,
+        @Param("discountAmount") Long discountAmount,
+        @Param("totalAmount") Long totalAmount,
+        @Param("itemsJson") String itemsJson,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE order_summaries
+        SET status = 'COMPLETED', paid_at = :paidAt, updated_at = NOW(6)
+        WHERE order_id = :orderId
+        """, nativeQuery = true)
+    int markCompleted(@Param("orderId") Long orderId, @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * 결제 완료 UPSERT
+     * - 주문 생성 이벤트보다 먼저 도착한 경우 주문 전체 정보로 행을 만든다
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO order_summaries
+            (order_id, user_id, order_number, status, subtotal_amount, discount_amount, total_amount,
+             items_json, created_at, paid_at, updated_at)
+        VALUES
+            (:orderId, :userId, :orderNumber, 'COMPLETED', :subtotalAmount, :discountAmount, :totalAmount,
+             :itemsJson, :createdAt, :paidAt, :updatedAt)
+        ON DUPLICATE KEY UPDATE
+            status = 'COMPLETED',
+            paid_at = VALUES(paid_at),
+            updated_at = VALUES(updated_at)
+        """, nativeQuery = true)
+    int upsertCompletedRow(
+        @Param("orderId") Long orderId,
+        @Param("userId") Long userId,
+        @Param("orderNumber") String orderNumber,
+        @Param("subtotalAmount") Long subtotalAmount,
+        @Param("discountAmount") Long discountAmount,
+        @Param("totalAmount") Long totalAmount,
+        @Param("itemsJson") String itemsJson,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("paidAt") LocalDateTime paidAt,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+}
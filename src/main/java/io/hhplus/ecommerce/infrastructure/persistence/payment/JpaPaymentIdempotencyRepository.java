@@ -4,12 +4,17 @@ import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
 import io.hhplus.ecommerce.domain.payment.PaymentIdempotencyRepository;
 import jakarta.persistence.LockModeType;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -46,6 +51,65 @@ public interface JpaPaymentIdempotencyRepository
     @SuppressWarnings("unchecked")
     PaymentIdempotency save(PaymentIdempotency paymentIdempotency);
 
+    /**
+     * 결제 완료 조건부 UPDATE
+     * - 조회(merge) 없이 PROCESSING → COMPLETED 전이 + 응답 저장
+     */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE PaymentIdempotency p
+        SET p.status = io.hhplus.ecommerce.domain.payment.IdempotencyStatus.COMPLETED,
+            p.orderId = :orderId,
+            p.responsePayload = :responsePayload
+        WHERE p.id = :id AND p.status = io.hhplus.ecommerce.domain.payment.IdempotencyStatus.PROCESSING
+        """)
+    int markCompleted(
+        @Param("id") Long id,
+        @Param("orderId") Long orderId,
+        @Param("responsePayload") String responsePayload
+    );
+
+    /**
+     * 결제 실패 조건부 UPDATE (대사에서 완료 처리와 경합해도 한쪽만 성공)
+     */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE PaymentIdempotency p
+        SET p.status = io.hhplus.ecommerce.domain.payment.IdempotencyStatus.FAILED,
+            p.errorMessage = :errorMessage
+        WHERE p.id = :id AND p.status = io.hhplus.ecommerce.domain.payment.IdempotencyStatus.PROCESSING
+        """)
+    int markFailed(@Param("id") Long id, @Param("errorMessage") String errorMessage);
+
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE PaymentIdempotency p
+        SET p.orderId = :orderId
+        WHERE p.idempotencyKey = :idempotencyKey
+          AND p.status = io.hhplus.ecommerce.domain.payment.IdempotencyStatus.PROCESSING
+        """)
+    int assignOrder(@Param("idempotencyKey") String idempotencyKey, @Param("orderId") Long orderId);
+
+    @Override
+    default List<PaymentIdempotency> findStaleProcessing(LocalDateTime before, Long afterId, int limit) {
+        return findStaleProcessingPage(before, afterId, PageRequest.of(0, limit));
+    }
+
+    @Query("""
+        SELECT p FROM PaymentIdempotency p
+        WHERE p.status = io.hhplus.ecommerce.domain.payment.IdempotencyStatus.PROCESSING
+          AND p.createdAt < :before AND p.id > :afterId
+        ORDER BY p.id
+        """)
+    List<PaymentIdempotency> findStaleProcessingPage(
+        @Param("before") LocalDateTime before,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
     /**
      * 멱등성 키 개수 조회 (테스트용)
      * UNIQUE 제약조건으로 인해 최대 1개만 존재
@@ -3,13 +3,21 @@ package io.hhplus.ecommerce.infrastructure.persistence.product;
 import io.hhplus.ecommerce.domain.product.ProductRankingBackup;
 import io.hhplus.ecommerce.domain.product.ProductRankingBackupRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface JpaProductRankingBackupRepository extends JpaRepository<ProductRankingBackup, Long>, ProductRankingBackupRepository {
-    List<ProductRankingBackup> findByAggregatedDate(LocalDate date);
+
+    /**
+     * 순위 오름차순 (idx_ranking_backup_date_ranking 순서 그대로, filesort 없음)
+     */
+    @Override
+    @Query("SELECT b FROM ProductRankingBackup b WHERE b.aggregatedDate = :date ORDER BY b.ranking")
+    List<ProductRankingBackup> findByAggregatedDate(@Param("date") LocalDate date);
 
     @Transactional
     void deleteAllByAggregatedDate(LocalDate date);
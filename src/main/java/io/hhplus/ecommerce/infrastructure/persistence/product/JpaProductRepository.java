@@ -2,17 +2,20 @@ package io.hhplus.ecommerce.infrastructure.persistence.product;
 
 import io.hhplus.ecommerce.domain.product.Product;
 import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.domain.product.ProductStockProjection;
 import io.hhplus.ecommerce.domain.product.TopProductProjection;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,9 @@ public interface JpaProductRepository extends JpaRepository<Product, Long>, Prod
     @Override
     List<Product> findAll();
 
+    @Override
+    List<Product> findAllById(Iterable<Long> ids);
+
     @Override
     Optional<Product> findByProductCode(String productCode);
 
@@ -94,6 +100,24 @@ public interface JpaProductRepository extends JpaRepository<Product, Long>, Prod
     @Query("SELECT p FROM Product p WHERE p.stock > 0")
     List<Product> findAvailableProductsWithLockSkipLocked();
 
+    /**
+     * 재고 조건부 차감 (결제 예약 경로)
+     * - SELECT FOR UPDATE + 엔티티 dirty checking(조회 1 + UPDATE 1) 대신 UPDATE 1회
+     * - stock >= quantity 조건으로 음수 재고 불가, @Version도 함께 증가
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Product p
+        SET p.stock = p.stock - :quantity, p.version = p.version + 1, p.updatedAt = LOCAL DATETIME
+        WHERE p.id = :id AND p.stock >= :quantity
+        """)
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Override
+    @Query("SELECT p.id AS productId, p.stock AS stock FROM Product p WHERE p.id IN :ids")
+    List<ProductStockProjection> findStocksByIdIn(@Param("ids") Collection<Long> ids);
+
     // ============================================================
     // ⚠️ DEPRECATED: 실시간 집계 쿼리 (성능 이슈)
     // ============================================================
@@ -5,6 +5,7 @@ import io.hhplus.ecommerce.domain.user.ChargeBalanceIdempotencyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,4 +31,9 @@ public class ChargeBalanceIdempotencyRepositoryImpl implements ChargeBalanceIdem
     public ChargeBalanceIdempotency save(ChargeBalanceIdempotency chargeBalanceIdempotency) {
         return jpaRepository.save(chargeBalanceIdempotency);
     }
+
+    @Override
+    public List<ChargeBalanceIdempotency> saveAll(List<ChargeBalanceIdempotency> idempotencies) {
+        return jpaRepository.saveAll(idempotencies);
+    }
 }
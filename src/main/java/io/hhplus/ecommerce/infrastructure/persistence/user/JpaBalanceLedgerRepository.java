@@ -0,0 +1,36 @@
+package io.hhplus.ecommerce.infrastructure.persistence.user;
+
+import io.hhplus.ecommerce.domain.user.BalanceLedgerEntry;
+import io.hhplus.ecommerce.domain.user.BalanceLedgerRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaBalanceLedgerRepository extends JpaRepository<BalanceLedgerEntry, Long>, BalanceLedgerRepository {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    BalanceLedgerEntry save(BalanceLedgerEntry entry);
+
+    @Override
+    List<BalanceLedgerEntry> findByUserIdOrderByIdAsc(Long userId);
+
+    @Override
+    @Query("SELECT MAX(l.id) FROM BalanceLedgerEntry l WHERE l.id > :afterId AND l.createdAt < :before")
+    Optional<Long> findMaxIdCreatedBefore(@Param("afterId") Long afterId, @Param("before") LocalDateTime before);
+
+    @Override
+    @Query("SELECT DISTINCT l.userId FROM BalanceLedgerEntry l WHERE l.id > :afterId AND l.id <= :uptoId")
+    List<Long> findUserIdsBetween(@Param("afterId") Long afterId, @Param("uptoId") Long uptoId);
+
+    @Override
+    @Query("SELECT COALESCE(SUM(l.delta), 0) FROM BalanceLedgerEntry l " +
+           "WHERE l.userId = :userId AND l.id > :afterId AND l.id <= :uptoId")
+    long sumDeltaBetween(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("uptoId") Long uptoId);
+}
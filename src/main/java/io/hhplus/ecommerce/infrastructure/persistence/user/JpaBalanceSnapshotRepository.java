@@ -0,0 +1,23 @@
+package io.hhplus.ecommerce.infrastructure.persistence.user;
+
+import io.hhplus.ecommerce.domain.user.BalanceSnapshot;
+import io.hhplus.ecommerce.domain.user.BalanceSnapshotRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaBalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long>, BalanceSnapshotRepository {
+
+    @Override
+    Optional<BalanceSnapshot> findById(Long userId);
+
+    @Override
+    List<BalanceSnapshot> findAllById(Iterable<Long> userIds);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    BalanceSnapshot save(BalanceSnapshot snapshot);
+}
@@ -1,15 +1,20 @@
 package io.hhplus.ecommerce.infrastructure.persistence.user;
 
 import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserBalance;
 import io.hhplus.ecommerce.domain.user.UserRepository;
 import jakarta.persistence.LockModeType;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -27,6 +32,71 @@ public interface JpaUserRepository extends JpaRepository<User, Long>, UserReposi
     @Override
     Optional<User> findByEmail(String email);
 
+    @Override
+    boolean existsById(Long id);
+
+    @Override
+    default List<Long> findIdsAfter(Long afterId, int limit) {
+        return findIdPageAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 원자적 잔액 증가
+     * - 읽기-수정-쓰기 없이 DB가 행 잠금 안에서 계산 → Lost Update 불가
+     * - @Version도 함께 증가시켜 엔티티 기반 갱신과의 충돌을 감지 가능하게 유지
+     * - flushAutomatically: 같은 트랜잭션에서 먼저 변경한 엔티티(멱등성 키, 재고 등)를 UPDATE 전에 반영
+     */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE User u
+        SET u.balance = u.balance + :amount, u.version = u.version + 1, u.updatedAt = LOCAL DATETIME
+        WHERE u.id = :id
+        """)
+    int increaseBalance(@Param("id") Long id, @Param("amount") Long amount);
+
+    /**
+     * 원자적 잔액 차감 (잔액 부족 시 0건 갱신)
+     */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE User u
+        SET u.balance = u.balance - :amount, u.version = u.version + 1, u.updatedAt = LOCAL DATETIME
+        WHERE u.id = :id AND u.balance >= :amount
+        """)
+    int decreaseBalance(@Param("id") Long id, @Param("amount") Long amount);
+
+    /**
+     * 버전 조건부 잔액 차감 (결제 예약 경로)
+     * - 같은 버전이면 잔액이 읽은 값 그대로이므로 차감 후 잔액 = 읽은 잔액 - amount
+     * - clearAutomatically: 영속성 컨텍스트의 User가 이전 잔액으로 남지 않도록 비움
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE User u
+        SET u.balance = u.balance - :amount, u.version = u.version + 1, u.updatedAt = LOCAL DATETIME
+        WHERE u.id = :id AND u.version = :expectedVersion AND u.balance >= :amount
+        """)
+    int decreaseBalanceIfVersion(
+        @Param("id") Long id,
+        @Param("amount") Long amount,
+        @Param("expectedVersion") Long expectedVersion
+    );
+
+    @Override
+    @Query("SELECT u.balance FROM User u WHERE u.id = :id")
+    Optional<Long> findBalanceById(@Param("id") Long id);
+
+    @Override
+    @Query("SELECT new io.hhplus.ecommerce.domain.user.UserBalance(u.id, u.balance, u.version) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserBalance> findUserBalanceById(@Param("id") Long id);
+
     /**
      * Pessimistic Write Lock (SELECT FOR UPDATE)
      * - 잔액 업데이트 시 사용 (charge, deduct)
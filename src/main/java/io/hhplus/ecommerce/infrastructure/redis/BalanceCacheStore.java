@@ -0,0 +1,246 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import io.hhplus.ecommerce.domain.user.UserBalance;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 잔액 조회 캐시 (노드 로컬 near-cache + Redis Hash)
+ * <p>
+ * 충전/결제 직후 클라이언트가 반복 호출하는 잔액 조회를 DB 커넥션 없이 처리한다.
+ * <p>
+ * 구조: user:{userId}:balance → { balance, version }
+ * - version: users.version (잔액 UPDATE마다 +1)
+ * - 쓰기는 Lua 스크립트로 "저장된 version보다 클 때만" 반영 → 늦게 도착한 과거 값이 최신 값을 덮지 못함
+ * <p>
+ * 갱신 경로:
+ * - write-through: BalanceLedgerService 커밋 후 (BalanceCacheWriteThroughHandler)
+ * - fill: 캐시 미스 시 DB 조회 결과 적재 (같은 version 규칙 적용)
+ * <p>
+ * near-cache는 짧은 TTL로 유지하고, write-through 시 balance:updated 채널로 "userId:version"을 발행해
+ * 다른 노드의 더 오래된 로컬 항목을 제거한다. 발행이 유실되어도 near TTL 이후 Redis 값으로 수렴한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceCacheStore implements MessageListener {
+
+    public static final String CHANNEL = "balance:updated";
+
+    private static final String BALANCE_FIELD = "balance";
+    private static final String VERSION_FIELD = "version";
+
+    /**
+     * 버전 비교 후 쓰기
+     * KEYS[1]: user:{userId}:balance
+     * ARGV[1]: balance, ARGV[2]: version, ARGV[3]: TTL(초)
+     * 반환: 1(반영), 0(더 새롭거나 같은 버전이 이미 있음)
+     */
+    private static final DefaultRedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current and tonumber(current) >= tonumber(ARGV[2]) then
+              return 0
+            end
+
+            redis.call('HSET', KEYS[1], 'balance', ARGV[1], 'version', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+            return 1
+            """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ConcurrentMap<Long, NearEntry> nearCache = new ConcurrentHashMap<>();
+
+    @Value("${balance.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${balance.cache.ttl:PT10M}")
+    private Duration ttl = Duration.ofMinutes(10);
+
+    @Value("${balance.cache.near-ttl:PT5S}")
+    private Duration nearTtl = Duration.ofSeconds(5);
+
+    @Value("${balance.cache.near-max-size:100000}")
+    private int nearMaxSize = 100_000;
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * near-cache → Redis 순으로 조회
+     *
+     * @return 캐시에 없으면 empty (DB 조회 후 fill 필요)
+     */
+    public Optional<UserBalance> find(Long userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        NearEntry near = nearCache.get(userId);
+        if (near != null && !near.isExpired()) {
+            return Optional.of(near.balance());
+        }
+
+        try {
+            List<Object> values = redisTemplate.opsForHash()
+                .multiGet(key(userId), List.of(BALANCE_FIELD, VERSION_FIELD));
+            if (values.get(0) == null || values.get(1) == null) {
+                return Optional.empty();
+            }
+
+            UserBalance balance = new UserBalance(
+                userId,
+                Long.parseLong((String) values.get(0)),
+                Long.parseLong((String) values.get(1))
+            );
+            putNear(balance);
+            return Optional.of(balance);
+        } catch (Exception e) {
+            log.warn("Failed to read balance cache: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 커밋된 잔액 변경 반영 (다른 노드 near-cache 무효화 포함)
+     */
+    public void writeThrough(UserBalance balance) {
+        if (!enabled) {
+            return;
+        }
+
+        putNear(balance);
+        if (write(balance)) {
+            publish(balance);
+        }
+    }
+
+    /**
+     * 캐시 미스 시 DB 조회 결과 적재
+     */
+    public void fill(UserBalance balance) {
+        if (!enabled) {
+            return;
+        }
+
+        putNear(balance);
+        write(balance);
+    }
+
+    public void evict(Long userId) {
+        nearCache.remove(userId);
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("Failed to evict balance cache: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            log.warn("Invalid balance cache message: {}", body);
+            return;
+        }
+
+        try {
+            Long userId = Long.parseLong(body.substring(0, separator));
+            long version = Long.parseLong(body.substring(separator + 1));
+            // 받은 버전보다 오래된 로컬 항목만 제거 (자신이 발행한 메시지는 같은 버전이라 유지)
+            nearCache.computeIfPresent(userId, (id, entry) ->
+                entry.balance().version() < version ? null : entry);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid balance cache message: {}", body);
+        }
+    }
+
+    /**
+     * 만료된 near-cache 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${balance.cache.near-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        nearCache.values().removeIf(NearEntry::isExpired);
+    }
+
+    private boolean write(UserBalance balance) {
+        try {
+            Long result = redisTemplate.execute(
+                WRITE_SCRIPT,
+                List.of(key(balance.userId())),
+                String.valueOf(balance.balance()),
+                String.valueOf(balance.version()),
+                String.valueOf(ttl.toSeconds())
+            );
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("Failed to write balance cache: userId={}, error={}", balance.userId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 같은 규칙(더 높은 버전만)으로 near-cache 갱신, 최대 크기 초과 시 신규 사용자는 Redis에만 둔다
+     */
+    private void putNear(UserBalance balance) {
+        NearEntry candidate = new NearEntry(balance, System.nanoTime() + nearTtl.toNanos());
+        nearCache.compute(balance.userId(), (id, current) -> {
+            if (current == null) {
+                return nearCache.size() < nearMaxSize ? candidate : null;
+            }
+            if (!current.isExpired() && current.balance().version() > balance.version()) {
+                return current;
+            }
+            return candidate;
+        });
+    }
+
+    private void publish(UserBalance balance) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, balance.userId() + ":" + balance.version());
+        } catch (Exception e) {
+            log.warn("Failed to publish balance cache message: userId={}, error={}",
+                balance.userId(), e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return String.format("user:%d:balance", userId);
+    }
+
+    private record NearEntry(UserBalance balance, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.hhplus.ecommerce.infrastructure.redis;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
@@ -8,22 +10,74 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.util.List;
 
+/**
+ * 선착순 쿠폰 예약 저장소 (Redis Lua Script)
+ * <p>
+ * 기본 모드 (coupon.reservation.shards = 1):
+ * - coupon:{id}:remaining / issued / reservations 키 하나씩 사용
+ * - 한 쿠폰의 모든 요청이 동일 키(= Redis Cluster 동일 샤드)에 몰림
+ * <p>
+ * 샤딩 모드 (coupon.reservation.shards = K > 1):
+ * - 총 수량을 K개의 서브 카운터로 분할: coupon:{id:k}:remaining
+ * - 사용자는 userId 해시로 항상 같은 샤드(홈 샤드)에 배정 → 홈 샤드의 issued/reservation 키로 1인 1매 보장
+ * - 해시 태그 {id:k}로 샤드의 모든 키가 같은 슬롯에 위치 → 스크립트는 단일 슬롯에서 실행
+ * - 홈 샤드 소진 시 다른 샤드(공급 샤드)의 수량을 직접 1개 차감 (샤드 간 수량 이동 없음)
+ * - 수량은 각 샤드에서 원자적으로만 차감/복구되므로 합계가 총 수량을 넘지 않고, 중간 상태로 사라지지 않음
+ * - 순번: 샤드마다 겹치지 않는 구간 [앞 샤드 수량 합 + 1, + 샤드 수량]에서 배정 → 1..총 수량 범위
+ * <p>
+ * 매진 게이트:
+ * - SOLD_OUT 판정 시 CouponSoldOutGate에 매진 표시 → 이후 요청은 Redis 호출 없이 거절
+ * - 보상으로 수량이 복구되면 매진 표시 해제
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponIssueReservationStore {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final CouponSoldOutGate couponSoldOutGate;
+
+    /**
+     * 쿠폰별 수량 샤드 개수 (1이면 샤딩 비활성화)
+     */
+    @Value("${coupon.reservation.shards:1}")
+    private int shardCount = 1;
+
+    /**
+     * 샤드 예약 재시도 횟수 (모든 샤드 소진 판정 후에도 합계가 0이 아닐 때)
+     */
+    private static final int MAX_SHARD_PASSES = 3;
 
     public enum ReserveResult {
         RESERVED,
         SOLD_OUT,
         ALREADY_RESERVED,
-        ALREADY_ISSUED
+        ALREADY_ISSUED,
+        /**
+         * 샤딩 모드: 수량이 남아 있지만 보상과의 경합으로 재시도 횟수 안에 차감하지 못함 (재시도 가능)
+         */
+        BUSY
     }
 
+    /**
+     * @param remainingAfter 예약 후 남은 수량 (샤딩 모드에서는 해당 샤드 기준)
+     * @param sequence 선착순 순번 (예약 실패 시 -1)
+     */
     public record ReserveResponse(
         ReserveResult result,
-        long remainingAfter
+        long remainingAfter,
+        long sequence
+    ) {
+    }
+
+    /**
+     * 한 사용자의 예약에 사용되는 키 묶음
+     */
+    private record CouponKeys(
+        String remaining,
+        String issued,
+        String reservation,
+        String reservations
     ) {
     }
 
@@ -74,7 +128,8 @@ public class CouponIssueReservationStore {
             local userId = ARGV[1]
             local issuedTtlSeconds = tonumber(ARGV[2])
 
-            if redis.call('GET', reservationKey) ~= 'RESERVED' then
+            local reservation = redis.call('GET', reservationKey)
+            if not reservation or string.sub(reservation, 1, 8) ~= 'RESERVED' then
               return 0
             end
 
@@ -114,7 +169,8 @@ public class CouponIssueReservationStore {
 
             local userId = ARGV[1]
 
-            if redis.call('GET', reservationKey) ~= 'RESERVED' then
+            local reservation = redis.call('GET', reservationKey)
+            if not reservation or string.sub(reservation, 1, 8) ~= 'RESERVED' then
               return 0
             end
 
@@ -125,15 +181,144 @@ public class CouponIssueReservationStore {
         Long.class
     );
 
+    /**
+     * 홈 샤드 예약 스크립트 (단일 슬롯: coupon:{id:k}:*)
+     * - RESERVE_SCRIPT와 동일한 판정
+     * - 홈 샤드 소진 시: 사용자 예약 키를 PENDING으로 선점하고 -1 반환 (공급 샤드 차감 후 확정)
+     * - 반환: 남은 수량 또는 음수 결과 코드
+     */
+    private static final DefaultRedisScript<Long> SHARD_RESERVE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local remainingKey = KEYS[1]
+            local issuedSetKey = KEYS[2]
+            local reservationKey = KEYS[3]
+            local reservationSetKey = KEYS[4]
+
+            local userId = ARGV[1]
+            local shardQuantity = tonumber(ARGV[2])
+            local reservationTtlSeconds = tonumber(ARGV[3])
+
+            if redis.call('SISMEMBER', issuedSetKey, userId) == 1 then
+              return -4
+            end
+
+            if redis.call('EXISTS', reservationKey) == 1 then
+              return -3
+            end
+
+            local remaining = redis.call('GET', remainingKey)
+            if remaining == false then
+              redis.call('SET', remainingKey, shardQuantity)
+              remaining = tostring(shardQuantity)
+            end
+
+            if tonumber(remaining) <= 0 then
+              redis.call('SET', reservationKey, 'PENDING', 'EX', reservationTtlSeconds)
+              return -1
+            end
+
+            local newRemaining = redis.call('DECR', remainingKey)
+            redis.call('SET', reservationKey, 'RESERVED', 'EX', reservationTtlSeconds)
+            redis.call('SADD', reservationSetKey, userId)
+            redis.call('EXPIRE', reservationSetKey, reservationTtlSeconds)
+            return newRemaining
+            """,
+        Long.class
+    );
+
+    /**
+     * 공급 샤드 차감 스크립트 (단일 슬롯, 원자적 1개 차감)
+     * - 반환: 차감 후 남은 수량, 비어 있으면 -1
+     */
+    private static final DefaultRedisScript<Long> SHARD_TAKE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local remainingKey = KEYS[1]
+            local shardQuantity = tonumber(ARGV[1])
+
+            local remaining = redis.call('GET', remainingKey)
+            if remaining == false then
+              redis.call('SET', remainingKey, shardQuantity)
+              remaining = tostring(shardQuantity)
+            end
+
+            if tonumber(remaining) <= 0 then
+              return -1
+            end
+            return redis.call('DECR', remainingKey)
+            """,
+        Long.class
+    );
+
+    /**
+     * 홈 샤드 예약 확정/해제 스크립트 (공급 샤드 차감 결과 반영)
+     * - ARGV[2] >= 0: PENDING → RESERVED:{공급 샤드} (차감 성공), 선점이 이미 사라졌으면 0
+     * - ARGV[2] < 0: PENDING 선점 해제 (모든 샤드 소진)
+     */
+    private static final DefaultRedisScript<Long> SHARD_SETTLE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local reservationKey = KEYS[1]
+            local reservationSetKey = KEYS[2]
+
+            local userId = ARGV[1]
+            local sourceShard = tonumber(ARGV[2])
+            local reservationTtlSeconds = tonumber(ARGV[3])
+
+            if redis.call('GET', reservationKey) ~= 'PENDING' then
+              return 0
+            end
+
+            if sourceShard < 0 then
+              redis.call('DEL', reservationKey)
+              return 1
+            end
+
+            redis.call('SET', reservationKey, 'RESERVED:' .. sourceShard, 'EX', reservationTtlSeconds)
+            redis.call('SADD', reservationSetKey, userId)
+            redis.call('EXPIRE', reservationSetKey, reservationTtlSeconds)
+            return 1
+            """,
+        Long.class
+    );
+
+    /**
+     * 샤드 보상 스크립트 (홈 샤드)
+     * - 홈 샤드에서 차감한 예약: 홈 샤드 수량 복구 후 1
+     * - 공급 샤드에서 차감한 예약: 예약만 해제하고 2 + 공급 샤드 (호출자가 공급 샤드 수량 복구)
+     */
+    private static final DefaultRedisScript<Long> SHARD_COMPENSATE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local remainingKey = KEYS[1]
+            local reservationKey = KEYS[2]
+            local reservationSetKey = KEYS[3]
+
+            local userId = ARGV[1]
+
+            local reservation = redis.call('GET', reservationKey)
+            if not reservation or string.sub(reservation, 1, 8) ~= 'RESERVED' then
+              return 0
+            end
+
+            redis.call('DEL', reservationKey)
+            redis.call('SREM', reservationSetKey, userId)
+            if reservation == 'RESERVED' then
+              redis.call('INCR', remainingKey)
+              return 1
+            end
+            return 2 + tonumber(string.sub(reservation, 10))
+            """,
+        Long.class
+    );
+
     public ReserveResponse reserve(Long couponId, Long userId, long initialQuantity, Duration reservationTtl) {
-        String remainingKey = String.format("coupon:%d:remaining", couponId);
-        String issuedSetKey = String.format("coupon:%d:issued", couponId);
-        String reservationKey = String.format("coupon:%d:reservation:%d", couponId, userId);
-        String reservationSetKey = String.format("coupon:%d:reservations", couponId);
+        if (isSharded()) {
+            return reserveSharded(couponId, userId, initialQuantity, reservationTtl);
+        }
+
+        CouponKeys keys = keysFor(couponId, userId);
 
         Long result = redisTemplate.execute(
             RESERVE_SCRIPT,
-            List.of(remainingKey, issuedSetKey, reservationKey, reservationSetKey),
+            List.of(keys.remaining(), keys.issued(), keys.reservation(), keys.reservations()),
             String.valueOf(userId),
             String.valueOf(initialQuantity),
             String.valueOf(reservationTtl.toSeconds())
@@ -143,26 +328,22 @@ public class CouponIssueReservationStore {
             throw new IllegalStateException("Redis script execution returned null");
         }
 
-        if (result == -1L) {
-            return new ReserveResponse(ReserveResult.SOLD_OUT, 0);
-        }
-        if (result == -3L) {
-            return new ReserveResponse(ReserveResult.ALREADY_RESERVED, -1);
-        }
-        if (result == -4L) {
-            return new ReserveResponse(ReserveResult.ALREADY_ISSUED, -1);
+        ReserveResponse rejected = toRejectedResponse(result);
+        if (rejected != null) {
+            if (rejected.result() == ReserveResult.SOLD_OUT) {
+                couponSoldOutGate.markSoldOut(couponId, () -> remainingOf(couponId, initialQuantity) <= 0);
+            }
+            return rejected;
         }
-        return new ReserveResponse(ReserveResult.RESERVED, result);
+        return new ReserveResponse(ReserveResult.RESERVED, result, initialQuantity - result);
     }
 
     public boolean confirmIssued(Long couponId, Long userId, Duration issuedTtl) {
-        String issuedSetKey = String.format("coupon:%d:issued", couponId);
-        String reservationKey = String.format("coupon:%d:reservation:%d", couponId, userId);
-        String reservationSetKey = String.format("coupon:%d:reservations", couponId);
+        CouponKeys keys = keysFor(couponId, userId);
 
         Long result = redisTemplate.execute(
             CONFIRM_SCRIPT,
-            List.of(issuedSetKey, reservationKey, reservationSetKey),
+            List.of(keys.issued(), keys.reservation(), keys.reservations()),
             String.valueOf(userId),
             String.valueOf(issuedTtl.toSeconds())
         );
@@ -170,27 +351,262 @@ public class CouponIssueReservationStore {
     }
 
     public boolean compensateReservation(Long couponId, Long userId) {
-        String remainingKey = String.format("coupon:%d:remaining", couponId);
-        String reservationKey = String.format("coupon:%d:reservation:%d", couponId, userId);
-        String reservationSetKey = String.format("coupon:%d:reservations", couponId);
+        CouponKeys keys = keysFor(couponId, userId);
 
         Long result = redisTemplate.execute(
-            COMPENSATE_SCRIPT,
-            List.of(remainingKey, reservationKey, reservationSetKey),
+            isSharded() ? SHARD_COMPENSATE_SCRIPT : COMPENSATE_SCRIPT,
+            List.of(keys.remaining(), keys.reservation(), keys.reservations()),
             String.valueOf(userId)
         );
-        return result != null && result == 1L;
+
+        if (result != null && result >= 2L) {
+            // 공급 샤드에서 차감한 예약 → 그 샤드로 수량 복구 (샤드별 순번 구간 유지)
+            redisTemplate.opsForValue().increment(shardKey(couponId, (int) (result - 2), "remaining"));
+        }
+        boolean compensated = result != null && result >= 1L;
+        if (compensated) {
+            // 수량이 복구되었으므로 매진 표시 해제
+            couponSoldOutGate.clear(couponId);
+        }
+        return compensated;
+    }
+
+    /**
+     * 발급 완료 사용자 기록 (예약 없이 발급된 경우, 샤딩 모드에서는 홈 샤드의 issued 키)
+     */
+    public void markIssued(Long couponId, Long userId) {
+        redisTemplate.opsForSet().add(keysFor(couponId, userId).issued(), String.valueOf(userId));
     }
 
     public boolean cancelReservation(Long couponId, Long userId) {
-        String reservationKey = String.format("coupon:%d:reservation:%d", couponId, userId);
-        String reservationSetKey = String.format("coupon:%d:reservations", couponId);
+        CouponKeys keys = keysFor(couponId, userId);
 
         Long result = redisTemplate.execute(
             CANCEL_SCRIPT,
-            List.of(reservationKey, reservationSetKey),
+            List.of(keys.reservation(), keys.reservations()),
             String.valueOf(userId)
         );
         return result != null && result == 1L;
     }
+
+    // ====================================
+    // Sharded Inventory
+    // ====================================
+
+    /**
+     * 샤드 예약
+     * <p>
+     * 1. 홈 샤드에서 예약 시도 (중복 확인 + 차감이 한 스크립트)
+     * 2. 홈 샤드가 비었으면 예약 키를 PENDING으로 선점한 상태에서 다른 샤드를 돌며 1개 차감 (샤드마다 원자적)
+     * 3. 차감에 성공한 샤드를 예약에 기록 (RESERVED:{샤드}), 보상 시 그 샤드로 복구
+     * 4. 모든 샤드가 비었으면 선점 해제 후, 샤드 합계가 0일 때만 SOLD_OUT
+     *    (그 사이 보상으로 복구된 수량이 있으면 다시 시도, 재시도를 다 써도 수량이 남아 있으면 BUSY)
+     * <p>
+     * 2~3에서 Redis 오류가 나면 PENDING 선점을 해제하고 예약에 기록되지 못한 차감분을 반환한 뒤 예외를 전파한다
+     * (선점을 남기면 선점 TTL 동안 ALREADY_RESERVED).
+     * 2와 3 사이에 프로세스가 죽으면 차감된 1개가 예약 없이 남는다 (초과 발급 방향이 아니라 미발급 방향, 최대 1개).
+     */
+    private ReserveResponse reserveSharded(Long couponId, Long userId, long initialQuantity, Duration reservationTtl) {
+        int home = shardOf(userId);
+        CouponKeys keys = keysFor(couponId, userId);
+
+        for (int pass = 0; pass < MAX_SHARD_PASSES; pass++) {
+            Long result = redisTemplate.execute(
+                SHARD_RESERVE_SCRIPT,
+                List.of(keys.remaining(), keys.issued(), keys.reservation(), keys.reservations()),
+                String.valueOf(userId),
+                String.valueOf(shardQuantity(initialQuantity, home)),
+                String.valueOf(reservationTtl.toSeconds())
+            );
+
+            if (result == null) {
+                throw new IllegalStateException("Redis script execution returned null");
+            }
+            if (result >= 0) {
+                return new ReserveResponse(ReserveResult.RESERVED, result, sequenceOf(initialQuantity, home, result));
+            }
+            if (result != -1L) {
+                return toRejectedResponse(result);
+            }
+
+            // 홈 샤드 소진 (예약 키 PENDING 선점) → 다른 샤드에서 차감
+            ReserveResponse spilled = reserveFromOtherShard(couponId, userId, home, initialQuantity, keys, reservationTtl);
+            if (spilled != null) {
+                return spilled;
+            }
+            if (totalRemaining(couponId, initialQuantity) <= 0) {
+                couponSoldOutGate.markSoldOut(couponId, () -> totalRemaining(couponId, initialQuantity) <= 0);
+                return new ReserveResponse(ReserveResult.SOLD_OUT, 0, -1);
+            }
+        }
+
+        // 보상과 경합이 계속되는 경우: 수량이 남아 있으므로 매진이 아니라 재시도 안내
+        return new ReserveResponse(ReserveResult.BUSY, 0, -1);
+    }
+
+    /**
+     * @return 예약 응답, 모든 샤드가 비어 있으면 null (PENDING 선점 해제됨)
+     */
+    private ReserveResponse reserveFromOtherShard(Long couponId, Long userId, int home, long initialQuantity,
+                                                  CouponKeys keys, Duration reservationTtl) {
+        int takenShard = -1;
+        try {
+            for (int offset = 1; offset < shardCount; offset++) {
+                int source = (home + offset) % shardCount;
+
+                Long remainingAfter = redisTemplate.execute(
+                    SHARD_TAKE_SCRIPT,
+                    List.of(shardKey(couponId, source, "remaining")),
+                    String.valueOf(shardQuantity(initialQuantity, source))
+                );
+                if (remainingAfter == null || remainingAfter < 0) {
+                    continue;
+                }
+                takenShard = source;
+
+                Long settled = settle(keys, userId, source, reservationTtl);
+                if (settled == null || settled != 1L) {
+                    // 선점이 TTL로 사라짐 → 차감한 수량은 catch에서 반환
+                    throw new IllegalStateException("Coupon reservation claim expired: couponId=" + couponId + ", userId=" + userId);
+                }
+                log.debug("Coupon reserved from other shard: couponId={}, home={}, source={}", couponId, home, source);
+                return new ReserveResponse(ReserveResult.RESERVED, remainingAfter, sequenceOf(initialQuantity, source, remainingAfter));
+            }
+
+            settle(keys, userId, -1, reservationTtl);
+            return null;
+        } catch (RuntimeException e) {
+            releaseClaim(couponId, userId, keys, takenShard, reservationTtl);
+            throw e;
+        }
+    }
+
+    /**
+     * 공급 샤드 차감/확정 중 실패 시 정리 (best-effort, 호출자는 예외를 받으므로 예약을 남기지 않음)
+     * - PENDING 선점 해제 (남겨두면 선점 TTL 동안 ALREADY_RESERVED)
+     * - 확정 응답만 유실되어 RESERVED:{샤드}로 기록됐으면 보상으로 예약 해제 + 수량 복구
+     * - 확정되지 않은 차감분은 그 샤드로 반환
+     */
+    private void releaseClaim(Long couponId, Long userId, CouponKeys keys, int takenShard, Duration reservationTtl) {
+        try {
+            settle(keys, userId, -1, reservationTtl);
+            if (takenShard < 0) {
+                return;
+            }
+            if (("RESERVED:" + takenShard).equals(redisTemplate.opsForValue().get(keys.reservation()))) {
+                compensateReservation(couponId, userId);
+            } else {
+                redisTemplate.opsForValue().increment(shardKey(couponId, takenShard, "remaining"));
+            }
+        } catch (RuntimeException releaseError) {
+            log.error("Failed to release coupon reservation claim: couponId={}, userId={}", couponId, userId, releaseError);
+        }
+    }
+
+    private Long settle(CouponKeys keys, Long userId, int sourceShard, Duration reservationTtl) {
+        return redisTemplate.execute(
+            SHARD_SETTLE_SCRIPT,
+            List.of(keys.reservation(), keys.reservations()),
+            String.valueOf(userId),
+            String.valueOf(sourceShard),
+            String.valueOf(reservationTtl.toSeconds())
+        );
+    }
+
+    /**
+     * 남은 수량 (초기화 전이면 초기 수량, 샤딩 모드에서는 전체 샤드 합)
+     */
+    long remainingOf(Long couponId, long initialQuantity) {
+        if (isSharded()) {
+            return totalRemaining(couponId, initialQuantity);
+        }
+        String remaining = redisTemplate.opsForValue().get(keysFor(couponId, 0L).remaining());
+        return remaining == null ? initialQuantity : Long.parseLong(remaining);
+    }
+
+    /**
+     * 전체 샤드 남은 수량 합 (초기화 전 샤드는 초기 수량으로 계산)
+     */
+    private long totalRemaining(Long couponId, long initialQuantity) {
+        // 샤드 키는 슬롯이 서로 달라 MGET 대신 개별 조회
+        long total = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            String remaining = redisTemplate.opsForValue().get(shardKey(couponId, shard, "remaining"));
+            total += Math.max(0, remaining == null ? shardQuantity(initialQuantity, shard) : Long.parseLong(remaining));
+        }
+        return total;
+    }
+
+    /**
+     * 선착순 순번: 샤드 구간 시작 + 샤드 내 차감 수
+     * - 수량은 차감한 샤드로만 복구되므로 샤드 남은 수량은 샤드 수량을 넘지 않음 → 1..총 수량
+     * - 단일 모드와 마찬가지로 보상으로 복구된 번호는 다시 배정될 수 있다
+     */
+    private long sequenceOf(long totalQuantity, int shard, long remainingAfter) {
+        long start = 0;
+        for (int i = 0; i < shard; i++) {
+            start += shardQuantity(totalQuantity, i);
+        }
+        return start + shardQuantity(totalQuantity, shard) - remainingAfter;
+    }
+
+    private boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * userId → 샤드 번호 (같은 사용자는 항상 같은 샤드)
+     */
+    private int shardOf(Long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(mixed ^ (mixed >>> 32), (long) shardCount);
+    }
+
+    /**
+     * 샤드별 초기 수량 (총 수량을 균등 분할, 나머지는 앞 샤드부터 1개씩)
+     */
+    private long shardQuantity(long totalQuantity, int shard) {
+        long base = totalQuantity / shardCount;
+        return base + (shard < totalQuantity % shardCount ? 1 : 0);
+    }
+
+    private CouponKeys keysFor(Long couponId, Long userId) {
+        if (!isSharded()) {
+            return new CouponKeys(
+                String.format("coupon:%d:remaining", couponId),
+                String.format("coupon:%d:issued", couponId),
+                String.format("coupon:%d:reservation:%d", couponId, userId),
+                String.format("coupon:%d:reservations", couponId)
+            );
+        }
+
+        int shard = shardOf(userId);
+        return new CouponKeys(
+            shardKey(couponId, shard, "remaining"),
+            shardKey(couponId, shard, "issued"),
+            shardKey(couponId, shard, "reservation:" + userId),
+            shardKey(couponId, shard, "reservations")
+        );
+    }
+
+    /**
+     * 샤드 키: coupon:{couponId:shard}:suffix
+     * - 해시 태그에 샤드 번호까지 포함해야 샤드마다 다른 슬롯으로 분산된다
+     */
+    private String shardKey(Long couponId, int shard, String suffix) {
+        return String.format("coupon:{%d:%d}:%s", couponId, shard, suffix);
+    }
+
+    private ReserveResponse toRejectedResponse(long code) {
+        if (code == -1L) {
+            return new ReserveResponse(ReserveResult.SOLD_OUT, 0, -1);
+        }
+        if (code == -3L) {
+            return new ReserveResponse(ReserveResult.ALREADY_RESERVED, -1, -1);
+        }
+        if (code == -4L) {
+            return new ReserveResponse(ReserveResult.ALREADY_ISSUED, -1, -1);
+        }
+        return null;
+    }
 }
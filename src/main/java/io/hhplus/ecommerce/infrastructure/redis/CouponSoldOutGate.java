@@ -0,0 +1,163 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 쿠폰 매진 게이트 (노드 로컬 플래그 + Redis Pub/Sub 전파)
+ * <p>
+ * 선착순 이벤트 트래픽의 대부분은 매진 이후에 도착한다.
+ * 매진된 쿠폰 요청은 Redis/MySQL을 거치지 않고 메모리 조회만으로 즉시 거절한다.
+ * <p>
+ * - 설정: 예약 스크립트가 SOLD_OUT 반환 시 (CouponIssueReservationStore)
+ * - 해제: 보상(compensateReservation)으로 수량이 복구된 경우
+ * - 전파: coupon:sold-out 채널로 "couponId:1"(매진) / "couponId:0"(해제) 메시지 발행
+ * <p>
+ * 게이트는 최적화일 뿐이며, 정합성은 여전히 Redis 스크립트가 보장한다.
+ * 발행 실패 시 다른 노드는 자신의 스크립트 결과로 플래그를 설정한다.
+ * <p>
+ * 매진 표시와 해제의 경합 (A: SOLD_OUT 판정 → B: 보상 + 해제 → A: 매진 표시)
+ * - 매진 표시 발행 후 남은 수량을 다시 읽어 복구되었으면 해제 → 해제가 매진 표시에 덮이지 않음
+ * - 플래그는 TTL 이후 만료 → 메시지 유실 시에도 다음 요청이 Redis에서 다시 판정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponSoldOutGate implements MessageListener {
+
+    public static final String CHANNEL = "coupon:sold-out";
+
+    private static final String SOLD_OUT = "1";
+    private static final String AVAILABLE = "0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // couponId → 플래그 만료 시각 (System.nanoTime 기준)
+    private final Map<Long, Long> soldOutUntil = new ConcurrentHashMap<>();
+
+    /**
+     * 게이트 활성화 여부 (테스트에서는 컨텍스트 간 쿠폰 ID 재사용으로 인한 오염을 막기 위해 비활성화)
+     */
+    @Value("${coupon.sold-out-gate.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 로컬 매진 플래그 유지 시간
+     */
+    @Value("${coupon.sold-out-gate.ttl:PT10S}")
+    private Duration ttl = Duration.ofSeconds(10);
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    public boolean isSoldOut(Long couponId) {
+        if (!enabled) {
+            return false;
+        }
+        Long until = soldOutUntil.get(couponId);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until >= 0) {
+            soldOutUntil.remove(couponId, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param stillSoldOut 발행 후 재확인 (Redis 남은 수량이 0 이하인지)
+     */
+    public void markSoldOut(Long couponId, BooleanSupplier stillSoldOut) {
+        if (!enabled) {
+            return;
+        }
+        // 이미 매진 표시된 쿠폰은 재발행하지 않음 (매진 직후 몰리는 SOLD_OUT 응답마다 발행 방지)
+        if (!flag(couponId)) {
+            return;
+        }
+        log.info("Coupon marked as sold out: couponId={}", couponId);
+        publish(couponId, SOLD_OUT);
+
+        // SOLD_OUT 판정과 발행 사이에 다른 노드의 보상(복구 + 해제)이 끼어들었으면 방금 발행이 해제를 덮어씀
+        // 발행 이후에 읽은 수량이 남아 있으면 해제를 다시 발행 (같은 연결의 메시지 순서대로 해제가 마지막에 도착)
+        if (!stillSoldOut.getAsBoolean()) {
+            log.info("Coupon restocked while marking sold out: couponId={}", couponId);
+            clear(couponId);
+        }
+    }
+
+    public void clear(Long couponId) {
+        if (!enabled) {
+            return;
+        }
+        // 다른 노드에만 플래그가 있을 수 있으므로 로컬 상태와 무관하게 발행
+        soldOutUntil.remove(couponId);
+        log.info("Coupon sold-out flag cleared: couponId={}", couponId);
+        publish(couponId, AVAILABLE);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Invalid sold-out gate message: {}", body);
+            return;
+        }
+
+        try {
+            Long couponId = Long.parseLong(body.substring(0, separator));
+            if (SOLD_OUT.equals(body.substring(separator + 1))) {
+                soldOutUntil.put(couponId, System.nanoTime() + ttl.toNanos());
+            } else {
+                soldOutUntil.remove(couponId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid sold-out gate message: {}", body);
+        }
+    }
+
+    /**
+     * @return 새로 표시했으면 true (없거나 만료된 플래그), 유효한 플래그가 이미 있으면 false
+     */
+    private boolean flag(Long couponId) {
+        long now = System.nanoTime();
+        long until = now + ttl.toNanos();
+        Long previous = soldOutUntil.get(couponId);
+        if (previous != null && previous - now > 0) {
+            return false;
+        }
+        return previous == null
+            ? soldOutUntil.putIfAbsent(couponId, until) == null
+            : soldOutUntil.replace(couponId, previous, until);
+    }
+
+    private void publish(Long couponId, String state) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, couponId + ":" + state);
+        } catch (Exception e) {
+            log.warn("Failed to publish sold-out gate message: couponId={}, state={}, error={}",
+                couponId, state, e.getMessage());
+        }
+    }
+}
@@ -42,6 +42,17 @@ public @interface DistributedLock {
      */
     String key();
 
+    /**
+     * 락 이름 템플릿 (메트릭 태그용)
+     *
+     * 락 키 전체는 사용자/쿠폰 ID 등이 포함돼 카디널리티가 무한하므로 메트릭에는 이 이름만 사용합니다.
+     * 비어 있으면 "클래스명.메서드명"을 사용합니다.
+     * 예시: "order:create", "coupon:issue"
+     *
+     * @return 락 이름
+     */
+    String name() default "";
+
     /**
      * 락 획득을 위한 대기 시간 (기본 10초)
      *
@@ -2,6 +2,8 @@ package io.hhplus.ecommerce.infrastructure.redis;
 
 import io.hhplus.ecommerce.common.exception.BusinessException;
 import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.infrastructure.metrics.DistributedLockMetrics;
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -32,6 +34,14 @@ import java.lang.reflect.Method;
  * - tryLock() 호출 시 락을 획득하지 못하면 Redis Subscribe로 대기
  * - 락 해제 시 Redis Publish로 대기 중인 스레드에 알림
  * - Spin Lock 방식보다 CPU 효율적
+ *
+ * 지연 측정 (LatencyBreakdown, flow = 락 키의 첫 구간 e.g. "order:create:idem:..." → order):
+ * - lock-wait: tryLock 대기 시간 (획득 실패 포함)
+ * - lock-held: 락 보유 시간 (대상 메서드 실행 전체)
+ *
+ * 경합 메트릭 (DistributedLockMetrics, 태그 = 락 이름 템플릿):
+ * - 대기/보유 시간 히스토그램, 획득 실패 카운터, 임대 시간 근접 경고
+ * - 전체 키는 Top-K 핫키로만 집계 (/actuator/lockhotkeys)
  */
 @Slf4j
 @Aspect
@@ -40,6 +50,8 @@ import java.lang.reflect.Method;
 public class DistributedLockAspect {
 
     private final RedissonClient redissonClient;
+    private final LatencyBreakdown latencyBreakdown;
+    private final DistributedLockMetrics lockMetrics;
     private final ExpressionParser parser = new SpelExpressionParser();
 
     /**
@@ -55,14 +67,25 @@ public class DistributedLockAspect {
         String lockKey = parseLockKey(distributedLock.key(), signature, joinPoint.getArgs());
 
         RLock lock = redissonClient.getLock(lockKey);
+        String flow = flowOf(lockKey);
+        String lockName = lockNameOf(distributedLock, method);
 
         try {
             // 락 획득 시도
-            boolean isLocked = lock.tryLock(
-                distributedLock.waitTime(),
-                distributedLock.leaseTime(),
-                distributedLock.timeUnit()
-            );
+            long waitStartNanos = System.nanoTime();
+            DistributedLockMetrics.Result result = DistributedLockMetrics.Result.INTERRUPTED;
+            boolean isLocked;
+            try {
+                isLocked = lock.tryLock(
+                    distributedLock.waitTime(),
+                    distributedLock.leaseTime(),
+                    distributedLock.timeUnit()
+                );
+                result = isLocked ? DistributedLockMetrics.Result.ACQUIRED : DistributedLockMetrics.Result.TIMEOUT;
+            } finally {
+                latencyBreakdown.record(flow, LatencyBreakdown.Phase.LOCK_WAIT, waitStartNanos);
+                lockMetrics.recordAcquisition(lockName, lockKey, System.nanoTime() - waitStartNanos, result);
+            }
 
             if (!isLocked) {
                 log.warn("락 획득 실패: key={}, waitTime={}{}, leaseTime={}{}",
@@ -85,7 +108,17 @@ public class DistributedLockAspect {
             );
 
             // 비즈니스 로직 실행
-            return joinPoint.proceed();
+            long heldStartNanos = System.nanoTime();
+            try (LatencyBreakdown.ActivePhase ignored = latencyBreakdown.start(flow, LatencyBreakdown.Phase.LOCK_HELD)) {
+                return joinPoint.proceed();
+            } finally {
+                lockMetrics.recordHeld(
+                    lockName,
+                    lockKey,
+                    System.nanoTime() - heldStartNanos,
+                    distributedLock.timeUnit().toNanos(distributedLock.leaseTime())
+                );
+            }
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -99,6 +132,27 @@ public class DistributedLockAspect {
         }
     }
 
+    /**
+     * 메트릭 태그용 락 이름 (미지정 시 클래스명.메서드명)
+     */
+    private String lockNameOf(DistributedLock distributedLock, Method method) {
+        if (!distributedLock.name().isBlank()) {
+            return distributedLock.name();
+        }
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    /**
+     * 메트릭 태그용 락 분류 (키의 첫 구간만 사용해 카디널리티 제한)
+     */
+    private String flowOf(String lockKey) {
+        if (lockKey == null) {
+            return "unknown";
+        }
+        int separatorIndex = lockKey.indexOf(':');
+        return separatorIndex > 0 ? lockKey.substring(0, separatorIndex) : lockKey;
+    }
+
     /**
      * SpEL 표현식 파싱
      *
@@ -0,0 +1,358 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 처리 완료 이벤트 중복 제거 저장소
+ * <p>
+ * keys 모드 (event.dedup.backend = keys, 기본값):
+ * - 이벤트마다 {namespace}{id} 문자열 키를 SET NX EX로 기록 (7일 TTL)
+ * - 이벤트 수만큼 키가 생김 (키당 수십~100바이트 오버헤드)
+ * <p>
+ * bitmap 모드 (event.dedup.backend = bitmap):
+ * - id 끝의 숫자(예: order-123 → 123)를 비트 오프셋으로, 그 앞부분(order-)을 스코프로 사용해 일 단위 비트맵에 기록
+ *   키: event:dedup:{namespace}:[{스코프}:]{yyyyMMdd}:{오프셋 >> 20} (청크당 2^20비트 = 128KB, 그날 닿은 청크만 할당)
+ *   스코프가 키에 들어가므로 order-12 / refund-12, a-1-2 / a-12 처럼 숫자만 같은 id는 서로 다른 비트맵에 기록된다
+ * - 보관 기간(retention-days)만큼의 일 버킷을 확인하고 오늘 버킷에만 기록, 버킷은 TTL로 자동 삭제 (회전)
+ * - 비트 하나가 id 하나에 정확히 대응하므로 false positive가 없다 (keys 모드와 같은 의미)
+ * - 확인/기록을 Lua 스크립트 하나로 처리 → 배치 전체가 1회 왕복, 자정 경계에서도 원자적
+ * - 숫자로 끝나지 않거나 숫자가 0으로 시작하는 id(예: order-007)는 keys 모드로 처리
+ * <p>
+ * 모든 id가 숫자인 주문 이벤트는 일 처리량과 무관하게 그날 닿은 id 범위만큼만 메모리를 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventDeduplicationStore {
+
+    private static final String BITMAP_KEY_PREFIX = "event:dedup:";
+    private static final int CHUNK_BITS = 20;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final byte[] PROCESSED_VALUE = "1".getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * keys | bitmap
+     */
+    @Value("${event.dedup.backend:keys}")
+    private String backend = "keys";
+
+    @Value("${event.dedup.retention-days:7}")
+    private int retentionDays = 7;
+
+    /**
+     * KEYS: id별 retentionDays개 버킷 (오늘 버킷 먼저)
+     * ARGV[1]: retentionDays, ARGV[2]: 버킷 TTL(초), ARGV[3..]: id별 비트 오프셋
+     * 반환: id별 0(처음) / 1(중복)
+     */
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+        """
+            local days = tonumber(ARGV[1])
+            local ttl = tonumber(ARGV[2])
+            local result = {}
+
+            for i = 3, #ARGV do
+                local offset = tonumber(ARGV[i])
+                local base = (i - 3) * days
+                local seen = 0
+                for d = 2, days do
+                    if redis.call('GETBIT', KEYS[base + d], offset) == 1 then
+                        seen = 1
+                        break
+                    end
+                end
+                if seen == 0 then
+                    seen = redis.call('SETBIT', KEYS[base + 1], offset, 1)
+                    if seen == 0 and redis.call('TTL', KEYS[base + 1]) < 0 then
+                        redis.call('EXPIRE', KEYS[base + 1], ttl)
+                    end
+                end
+                result[#result + 1] = seen
+            end
+
+            return result
+            """,
+        List.class
+    );
+
+    /**
+     * KEYS/ARGV는 CLAIM_SCRIPT와 같음 (ARGV[2] 미사용), 반환: id별 0(없음) / 1(처리됨)
+     */
+    private static final DefaultRedisScript<List> CONTAINS_SCRIPT = new DefaultRedisScript<>(
+        """
+            local days = tonumber(ARGV[1])
+            local result = {}
+
+            for i = 3, #ARGV do
+                local offset = tonumber(ARGV[i])
+                local base = (i - 3) * days
+                local seen = 0
+                for d = 1, days do
+                    if redis.call('GETBIT', KEYS[base + d], offset) == 1 then
+                        seen = 1
+                        break
+                    end
+                end
+                result[#result + 1] = seen
+            end
+
+            return result
+            """,
+        List.class
+    );
+
+    /**
+     * KEYS/ARGV는 CLAIM_SCRIPT와 같음 (ARGV[2] 미사용), 존재하는 버킷에서만 비트를 지운다
+     * (없는 버킷에 SETBIT하면 TTL 없는 키가 생긴다)
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        """
+            local days = tonumber(ARGV[1])
+
+            for i = 3, #ARGV do
+                local offset = tonumber(ARGV[i])
+                local base = (i - 3) * days
+                for d = 1, days do
+                    if redis.call('EXISTS', KEYS[base + d]) == 1 then
+                        redis.call('SETBIT', KEYS[base + d], offset, 0)
+                    end
+                end
+            end
+
+            return #ARGV - 2
+            """,
+        Long.class
+    );
+
+    /**
+     * 처리 완료로 선점 (원자적)
+     *
+     * @param namespace 키 접두사 (예: "event:processed:PaymentCompleted:")
+     * @return id별 최초 처리 여부 (ids와 같은 순서)
+     */
+    public List<Boolean> claimAll(String namespace, List<String> ids) {
+        return claimAll(namespace, ids, LocalDate.now());
+    }
+
+    List<Boolean> claimAll(String namespace, List<String> ids, LocalDate today) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (!isBitmap()) {
+            return claimKeys(namespace, ids);
+        }
+
+        Boolean[] claimed = new Boolean[ids.size()];
+        Partition partition = partition(ids);
+        if (!partition.numericIndexes.isEmpty()) {
+            List<?> results = executeBitmap(CLAIM_SCRIPT, namespace, partition.bits, today);
+            for (int i = 0; i < partition.numericIndexes.size(); i++) {
+                claimed[partition.numericIndexes.get(i)] = toLong(results.get(i)) == 0L;
+            }
+        }
+        if (!partition.otherIndexes.isEmpty()) {
+            List<Boolean> results = claimKeys(namespace, partition.select(ids, partition.otherIndexes));
+            for (int i = 0; i < partition.otherIndexes.size(); i++) {
+                claimed[partition.otherIndexes.get(i)] = results.get(i);
+            }
+        }
+        return Arrays.asList(claimed);
+    }
+
+    /**
+     * 처리 완료 여부 일괄 확인 (선점하지 않음, 배치당 1회 왕복)
+     *
+     * @return id별 처리 완료 여부 (ids와 같은 순서)
+     */
+    public List<Boolean> containsAll(String namespace, List<String> ids) {
+        return containsAll(namespace, ids, LocalDate.now());
+    }
+
+    List<Boolean> containsAll(String namespace, List<String> ids, LocalDate today) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (!isBitmap()) {
+            return containsKeys(namespace, ids);
+        }
+
+        Boolean[] processed = new Boolean[ids.size()];
+        Partition partition = partition(ids);
+        if (!partition.numericIndexes.isEmpty()) {
+            List<?> results = executeBitmap(CONTAINS_SCRIPT, namespace, partition.bits, today);
+            for (int i = 0; i < partition.numericIndexes.size(); i++) {
+                processed[partition.numericIndexes.get(i)] = toLong(results.get(i)) == 1L;
+            }
+        }
+        if (!partition.otherIndexes.isEmpty()) {
+            List<Boolean> results = containsKeys(namespace, partition.select(ids, partition.otherIndexes));
+            for (int i = 0; i < partition.otherIndexes.size(); i++) {
+                processed[partition.otherIndexes.get(i)] = results.get(i);
+            }
+        }
+        return Arrays.asList(processed);
+    }
+
+    /**
+     * 처리 완료 여부 확인 (선점하지 않음)
+     */
+    public boolean contains(String namespace, String id) {
+        return contains(namespace, id, LocalDate.now());
+    }
+
+    boolean contains(String namespace, String id, LocalDate today) {
+        BitPosition bit = isBitmap() ? bitOf(id) : null;
+        if (bit == null) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(namespace + id));
+        }
+        List<?> results = executeBitmap(CONTAINS_SCRIPT, namespace, List.of(bit), today);
+        return toLong(results.get(0)) == 1L;
+    }
+
+    /**
+     * 선점 해제 (처리 실패 시 재처리 허용, 테스트 초기화)
+     */
+    public void releaseAll(String namespace, List<String> ids) {
+        releaseAll(namespace, ids, LocalDate.now());
+    }
+
+    void releaseAll(String namespace, List<String> ids, LocalDate today) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!isBitmap()) {
+            redisTemplate.delete(ids.stream().map(id -> namespace + id).toList());
+            return;
+        }
+        Partition partition = partition(ids);
+        if (!partition.numericIndexes.isEmpty()) {
+            executeBitmap(RELEASE_SCRIPT, namespace, partition.bits, today);
+        }
+        if (!partition.otherIndexes.isEmpty()) {
+            redisTemplate.delete(partition.select(ids, partition.otherIndexes).stream().map(id -> namespace + id).toList());
+        }
+    }
+
+    private boolean isBitmap() {
+        return "bitmap".equalsIgnoreCase(backend);
+    }
+
+    /**
+     * keys 모드: 배치 전체를 SET NX EX 파이프라인 한 번으로 기록
+     */
+    private List<Boolean> claimKeys(String namespace, List<String> ids) {
+        Expiration expiration = Expiration.from(Duration.ofDays(retentionDays));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(id -> connection.stringCommands().set(
+                (namespace + id).getBytes(StandardCharsets.UTF_8),
+                PROCESSED_VALUE,
+                expiration,
+                SetOption.ifAbsent()
+            ));
+            return null;
+        });
+        return results.stream().map(Boolean.TRUE::equals).toList();
+    }
+
+    /**
+     * keys 모드: MGET 한 번으로 확인
+     */
+    private List<Boolean> containsKeys(String namespace, List<String> ids) {
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> namespace + id).toList());
+        if (values == null) {
+            return ids.stream().map(id -> false).toList();
+        }
+        return values.stream().map(value -> value != null).toList();
+    }
+
+    private <T> T executeBitmap(DefaultRedisScript<T> script, String namespace, List<BitPosition> bits, LocalDate today) {
+        List<String> keys = new ArrayList<>(bits.size() * retentionDays);
+        List<String> args = new ArrayList<>(bits.size() + 2);
+        args.add(String.valueOf(retentionDays));
+        args.add(String.valueOf(Duration.ofDays(retentionDays + 1L).toSeconds()));
+        for (BitPosition bit : bits) {
+            for (int d = 0; d < retentionDays; d++) {
+                keys.add(bucketKey(namespace, bit.scope(), today.minusDays(d), bit.offset()));
+            }
+            args.add(String.valueOf(bit.offset() & CHUNK_MASK));
+        }
+        return redisTemplate.execute(script, keys, args.toArray());
+    }
+
+    /**
+     * 형식: event:dedup:{namespace}:[{scope}:]{yyyyMMdd}:{chunk} (숫자만으로 된 id는 스코프 없음)
+     * 해시 태그 {namespace}로 한 네임스페이스의 버킷이 같은 슬롯에 위치 → 스크립트는 단일 슬롯에서 실행
+     * 스코프는 숫자로 끝나지 않으므로 뒤의 {yyyyMMdd}:{chunk}와 경계가 겹치지 않는다
+     */
+    static String bucketKey(String namespace, String scope, LocalDate day, long offset) {
+        String tag = namespace.endsWith(":") ? namespace.substring(0, namespace.length() - 1) : namespace;
+        String scoped = scope.isEmpty() ? "" : scope + ":";
+        return BITMAP_KEY_PREFIX + "{" + tag + "}:" + scoped + day.format(BUCKET_FORMAT) + ":" + (offset >>> CHUNK_BITS);
+    }
+
+    /**
+     * id를 끝의 숫자(오프셋)와 그 앞부분(스코프)으로 분리 (예: "order-123" → order- / 123, "123" → "" / 123)
+     * 숫자가 없거나 0으로 시작하면(order-007은 order-7과 같은 비트가 되므로) null
+     */
+    static BitPosition bitOf(String id) {
+        int start = id.length();
+        while (start > 0 && Character.isDigit(id.charAt(start - 1))) {
+            start--;
+        }
+        int digits = id.length() - start;
+        // long 범위를 넘지 않는 18자리까지만 비트맵 대상
+        if (digits == 0 || digits > 18 || (digits > 1 && id.charAt(start) == '0')) {
+            return null;
+        }
+        return new BitPosition(id.substring(0, start), Long.parseLong(id.substring(start)));
+    }
+
+    record BitPosition(String scope, long offset) {
+    }
+
+    private Partition partition(List<String> ids) {
+        Partition partition = new Partition();
+        for (int i = 0; i < ids.size(); i++) {
+            BitPosition bit = bitOf(ids.get(i));
+            if (bit != null) {
+                partition.numericIndexes.add(i);
+                partition.bits.add(bit);
+            } else {
+                partition.otherIndexes.add(i);
+            }
+        }
+        return partition;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    private static class Partition {
+        private final List<Integer> numericIndexes = new ArrayList<>();
+        private final List<BitPosition> bits = new ArrayList<>();
+        private final List<Integer> otherIndexes = new ArrayList<>();
+
+        private List<String> select(List<String> ids, List<Integer> indexes) {
+            return indexes.stream().map(ids::get).toList();
+        }
+    }
+}
@@ -2,24 +2,23 @@ package io.hhplus.ecommerce.infrastructure.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.util.List;
 
 /**
  * 이벤트 멱등성 보장 서비스
  *
  * 목적:
  * - 동일한 이벤트가 여러 번 처리되는 것을 방지
- * - Redis Set을 사용하여 처리된 이벤트 ID 기록
+ * - 처리된 이벤트 ID는 EventDeduplicationStore에 기록 (event.dedup.backend: keys | bitmap)
  *
  * 사용 방법:
  * 1. 이벤트 처리 전에 isProcessed() 체크
  * 2. 처리 완료 후 markAsProcessed() 호출
  *
  * TTL:
- * - 처리된 이벤트 ID는 7일 후 자동 삭제
+ * - 처리된 이벤트 ID는 7일 후 자동 삭제 (event.dedup.retention-days)
  * - 메모리 효율성과 충분한 멱등성 기간 보장
  */
 @Service
@@ -27,10 +26,9 @@ import java.time.Duration;
 @Slf4j
 public class EventIdempotencyService {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final EventDeduplicationStore deduplicationStore;
 
     private static final String KEY_PREFIX = "event:processed:";
-    private static final long TTL_DAYS = 7;
 
     /**
      * 이벤트가 이미 처리되었는지 확인
@@ -40,10 +38,7 @@ public class EventIdempotencyService {
      * @return 이미 처리되었으면 true, 아니면 false
      */
     public boolean isProcessed(String eventType, String eventId) {
-        String key = buildKey(eventType, eventId);
-        Boolean exists = redisTemplate.hasKey(key);
-
-        if (Boolean.TRUE.equals(exists)) {
+        if (deduplicationStore.contains(namespace(eventType), eventId)) {
             log.debug("이벤트 중복 처리 감지: type={}, id={}", eventType, eventId);
             return true;
         }
@@ -59,13 +54,10 @@ public class EventIdempotencyService {
      * @return 최초 처리이면 true, 이미 처리되었으면 false
      */
     public boolean markAsProcessed(String eventType, String eventId) {
-        String key = buildKey(eventType, eventId);
-
         // SET NX (존재하지 않을 때만 설정)
-        Boolean success = redisTemplate.opsForValue()
-            .setIfAbsent(key, "1", Duration.ofDays(TTL_DAYS));
+        boolean success = deduplicationStore.claimAll(namespace(eventType), List.of(eventId)).get(0);
 
-        if (Boolean.TRUE.equals(success)) {
+        if (success) {
             log.debug("이벤트 처리 기록: type={}, id={}", eventType, eventId);
             return true;
         } else {
@@ -81,17 +73,16 @@ public class EventIdempotencyService {
      * @param eventId 이벤트 고유 ID
      */
     public void remove(String eventType, String eventId) {
-        String key = buildKey(eventType, eventId);
-        redisTemplate.delete(key);
+        deduplicationStore.releaseAll(namespace(eventType), List.of(eventId));
     }
 
     /**
-     * Redis 키 생성
+     * Redis 키 접두사
      *
-     * 형식: event:processed:{eventType}:{eventId}
+     * 형식: event:processed:{eventType}:{eventId} (keys 모드)
      * 예: event:processed:PaymentCompleted:order-123
      */
-    private String buildKey(String eventType, String eventId) {
-        return KEY_PREFIX + eventType + ":" + eventId;
+    private String namespace(String eventType) {
+        return KEY_PREFIX + eventType + ":";
     }
 }
@@ -0,0 +1,203 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ecommerce.application.coupon.dto.UserCouponResponse;
+import io.hhplus.ecommerce.domain.coupon.UserCoupon;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 쿠폰 읽기 모델 (Redis Hash)
+ * <p>
+ * 쿠폰 이벤트 직후 사용자들이 "발급됐는지" 폴링하는 조회를 MySQL 대신 Redis에서 처리한다.
+ * <p>
+ * 구조: user:{userId}:coupons
+ * - coupon:{couponId} → UserCouponResponse JSON (PENDING / FAILED / 발급 후 CouponStatus)
+ * - _loaded → MySQL 기준 발급 목록이 모두 적재되었는지 표시 (없으면 조회 시 MySQL 폴백 후 적재)
+ * <p>
+ * 상태 전이:
+ * - 예약 성공 → PENDING (ReserveCouponUseCase)
+ * - 발급 확정 → AVAILABLE 등 (CouponIssueRequestedConsumer / CouponReservedEventListener)
+ * - 발급 실패/보상 → FAILED
+ * <p>
+ * 읽기 모델 갱신 실패는 예약/발급 흐름을 막지 않는다 (다음 조회가 MySQL로 폴백).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCouponReadModelStore {
+
+    private static final String LOADED_FIELD = "_loaded";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${coupon.read-model.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${coupon.read-model.ttl:P1D}")
+    private Duration ttl = Duration.ofDays(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 적재 완료된 읽기 모델 조회
+     *
+     * @return 적재되지 않았으면 empty (MySQL 폴백 필요)
+     */
+    public Optional<List<UserCouponResponse>> find(Long userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            Map<String, String> entries = hash().entries(key(userId));
+            if (!entries.containsKey(LOADED_FIELD)) {
+                return Optional.empty();
+            }
+
+            List<UserCouponResponse> coupons = new ArrayList<>(entries.size());
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                if (!LOADED_FIELD.equals(entry.getKey())) {
+                    coupons.add(read(entry.getValue()));
+                }
+            }
+            return Optional.of(coupons);
+        } catch (Exception e) {
+            log.warn("Failed to read user coupon read model: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * MySQL 발급 목록 적재
+     * - 아직 MySQL에 없는 PENDING/FAILED 항목은 유지, 같은 쿠폰은 MySQL 값으로 덮어씀
+     */
+    public void load(Long userId, List<UserCouponResponse> issuedCoupons) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Map<String, String> fields = new HashMap<>();
+            for (UserCouponResponse coupon : issuedCoupons) {
+                fields.put(field(coupon.couponId()), write(coupon));
+            }
+            fields.put(LOADED_FIELD, "1");
+
+            hash().putAll(key(userId), fields);
+            redisTemplate.expire(key(userId), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to load user coupon read model: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    public void markPending(Long userId, UserCouponResponse pending) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            hash().put(key(userId), field(pending.couponId()), write(pending));
+            redisTemplate.expire(key(userId), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to mark coupon pending: userId={}, couponId={}, error={}",
+                userId, pending.couponId(), e.getMessage());
+        }
+    }
+
+    /**
+     * PENDING 항목을 발급 결과로 승격
+     * - PENDING 항목이 없으면(만료/유실) 쿠폰명 등을 알 수 없으므로 적재 표시를 지워 다음 조회에서 MySQL로 재적재
+     */
+    public void markIssued(UserCoupon userCoupon) {
+        if (!enabled) {
+            return;
+        }
+
+        Long userId = userCoupon.getUserId();
+        try {
+            String current = hash().get(key(userId), field(userCoupon.getCouponId()));
+            if (current == null) {
+                invalidate(userId);
+                return;
+            }
+
+            hash().put(key(userId), field(userCoupon.getCouponId()), write(read(current).issued(userCoupon)));
+        } catch (Exception e) {
+            log.warn("Failed to mark coupon issued: userId={}, couponId={}, error={}",
+                userId, userCoupon.getCouponId(), e.getMessage());
+            invalidate(userId);
+        }
+    }
+
+    public void markFailed(Long userId, Long couponId) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            String current = hash().get(key(userId), field(couponId));
+            if (current == null) {
+                return;
+            }
+
+            UserCouponResponse coupon = read(current);
+            if (UserCouponResponse.STATUS_PENDING.equals(coupon.status())) {
+                hash().put(key(userId), field(couponId), write(coupon.failed()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to mark coupon failed: userId={}, couponId={}, error={}",
+                userId, couponId, e.getMessage());
+        }
+    }
+
+    /**
+     * 적재 표시 제거 → 다음 조회에서 MySQL 재적재 (쿠폰 사용/만료 등 발급 후 상태 변경 시 호출)
+     */
+    public void invalidate(Long userId) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            hash().delete(key(userId), LOADED_FIELD);
+        } catch (Exception e) {
+            log.warn("Failed to invalidate user coupon read model: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String key(Long userId) {
+        return String.format("user:%d:coupons", userId);
+    }
+
+    private String field(Long couponId) {
+        return "coupon:" + couponId;
+    }
+
+    private String write(UserCouponResponse coupon) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(coupon);
+    }
+
+    private UserCouponResponse read(String json) throws JsonProcessingException {
+        return objectMapper.readValue(json, UserCouponResponse.class);
+    }
+}
@@ -2,6 +2,7 @@ package io.hhplus.ecommerce.presentation.api.cart;
 
 import io.hhplus.ecommerce.application.cart.dto.*;
 import io.hhplus.ecommerce.application.usecase.cart.AddToCartUseCase;
+import io.hhplus.ecommerce.application.usecase.cart.CheckoutCartUseCase;
 import io.hhplus.ecommerce.application.usecase.cart.GetCartUseCase;
 import io.hhplus.ecommerce.application.usecase.cart.RemoveFromCartUseCase;
 import io.hhplus.ecommerce.application.usecase.cart.UpdateCartItemUseCase;
@@ -22,6 +23,7 @@ public class CartController {
     private final GetCartUseCase getCartUseCase;
     private final UpdateCartItemUseCase updateCartItemUseCase;
     private final RemoveFromCartUseCase removeFromCartUseCase;
+    private final CheckoutCartUseCase checkoutCartUseCase;
 
     @PostMapping("/items")
     public ResponseEntity<CartResponse> addItem(
@@ -56,4 +58,25 @@ public class CartController {
         removeFromCartUseCase.execute(request);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 장바구니 체크아웃 API (장바구니 → 주문 생성 → 선택적 결제)
+     */
+    @PostMapping("/{userId}/checkout")
+    public ResponseEntity<CheckoutCartResponse> checkout(
+        @PathVariable Long userId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestBody(required = false) CheckoutCartRequest request
+    ) {
+        CheckoutCartRequest checkoutRequest = request != null
+            ? request
+            : new CheckoutCartRequest(null, false, null, null);
+        if (checkoutRequest.idempotencyKey() == null && idempotencyKey != null) {
+            checkoutRequest = checkoutRequest.withIdempotencyKey(idempotencyKey);
+        }
+        CheckoutCartResponse response = checkoutCartUseCase.execute(userId, checkoutRequest);
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(response);
+    }
 }
@@ -4,6 +4,7 @@ import io.hhplus.ecommerce.application.facade.CreateOrderFacade;
 import io.hhplus.ecommerce.application.facade.OrderFacade;
 import io.hhplus.ecommerce.application.facade.OrderPaymentFacade;
 import io.hhplus.ecommerce.application.order.dto.*;
+import io.hhplus.ecommerce.application.usecase.order.GetOrderUseCase;
 import io.hhplus.ecommerce.application.usecase.order.GetOrdersUseCase;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class OrderController {
 
     // 조회 플로우: UseCase 직접 주입
     private final GetOrdersUseCase getOrdersUseCase;
+    private final GetOrderUseCase getOrderUseCase;
 
     // 동시성 제어가 필요한 플로우: Facade 사용 (낙관적 락 재시도)
     private final CreateOrderFacade createOrderFacade;  // 주문 생성 (재고 차감)
@@ -28,12 +30,30 @@ public class OrderController {
     // 복잡한 플로우: Facade 사용
     private final OrderFacade orderFacade;  // 주문 생성 + 결제 한번에
 
+    /**
+     * 주문 내역 API (커서 기반 페이지, 최신순)
+     * - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+     */
     @GetMapping
     public ResponseEntity<OrderListResponse> getOrders(
             @RequestParam Long userId,
-            @RequestParam(required = false) String status
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        OrderListResponse response = getOrdersUseCase.execute(userId, status, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주문 상세 API (본인 주문만 조회 가능)
+     */
+    @GetMapping("/{orderId}")
+    public ResponseEntity<CreateOrderResponse> getOrder(
+            @PathVariable Long orderId,
+            @RequestParam Long userId
     ) {
-        OrderListResponse response = getOrdersUseCase.execute(userId, status);
+        CreateOrderResponse response = getOrderUseCase.execute(orderId, userId);
         return ResponseEntity.ok(response);
     }
 
@@ -84,6 +84,12 @@ public class GlobalExceptionHandler {
                     HttpStatus.BAD_REQUEST;
             case PAYMENT_FAILED ->
                     HttpStatus.PAYMENT_REQUIRED;
+            case PG_UNAVAILABLE ->
+                    HttpStatus.SERVICE_UNAVAILABLE;
+            case PG_OUTCOME_UNKNOWN ->
+                    HttpStatus.GATEWAY_TIMEOUT;
+            case COUPON_RESERVATION_BUSY ->
+                    HttpStatus.TOO_MANY_REQUESTS;
             default ->
                     HttpStatus.INTERNAL_SERVER_ERROR;
         };
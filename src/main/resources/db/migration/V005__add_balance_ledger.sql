@@ -0,0 +1,36 @@
+-- ============================================================
+-- Append-only balance ledger + periodic snapshots
+-- ============================================================
+-- balance_ledger: 잔액 변경 1건당 1행 INSERT (수정/삭제 없음)
+-- balance_snapshots: 사용자별 체크포인트 (last_ledger_id까지 반영한 잔액)
+-- users.balance는 원장을 누적한 스냅샷으로 유지되며 조회 API가 사용한다.
+
+CREATE TABLE IF NOT EXISTS balance_ledger (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    delta           BIGINT       NOT NULL,
+    reason          VARCHAR(20)  NOT NULL,
+    order_id        BIGINT       NULL,
+    idempotency_key VARCHAR(100) NULL,
+    balance_after   BIGINT       NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_user_id_id
+ON balance_ledger(user_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_order_id
+ON balance_ledger(order_id);
+
+CREATE TABLE IF NOT EXISTS balance_snapshots (
+    user_id        BIGINT      NOT NULL,
+    balance        BIGINT      NOT NULL,
+    last_ledger_id BIGINT      NOT NULL,
+    snapshot_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+-- 원장 도입 이전 잔액을 기준 스냅샷으로 적재 (이후 변경은 원장 꼬리로 합산)
+INSERT IGNORE INTO balance_snapshots (user_id, balance, last_ledger_id, snapshot_at)
+SELECT id, balance, 0, NOW(6) FROM users;
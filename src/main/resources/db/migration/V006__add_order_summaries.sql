@@ -0,0 +1,42 @@
+-- ============================================================
+-- Order summary read model (order_summaries)
+-- ============================================================
+-- 주문 1건 = 1행. 주문 항목은 구매 시점 상품명/단가를 JSON 배열로 보관한다.
+-- 목록: (user_id, created_at, order_id) 인덱스 범위 스캔 / 상세: PK 조회 (조인 없음)
+-- 이후 변경은 OrderSummaryProjector가 OrderCreatedEvent / PaymentCompletedEvent로 UPSERT한다.
+
+CREATE TABLE IF NOT EXISTS order_summaries (
+    order_id        BIGINT      NOT NULL,
+    user_id         BIGINT      NOT NULL,
+    order_number    VARCHAR(30) NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    subtotal_amount BIGINT      NOT NULL,
+    discount_amount BIGINT      NOT NULL,
+    total_amount    BIGINT      NOT NULL,
+    items_json      TEXT        NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    paid_at         DATETIME(6) NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_summary_user_created
+ON order_summaries(user_id, created_at, order_id);
+
+-- 기존 주문 적재 (상품명은 적재 시점 값)
+INSERT IGNORE INTO order_summaries
+    (order_id, user_id, order_number, status, subtotal_amount, discount_amount, total_amount,
+     items_json, created_at, paid_at, updated_at)
+SELECT o.id, o.user_id, o.order_number, o.status, o.subtotal_amount, o.discount_amount, o.total_amount,
+       COALESCE(JSON_ARRAYAGG(JSON_OBJECT(
+           'productId', oi.product_id,
+           'productName', p.name,
+           'quantity', oi.quantity,
+           'unitPrice', oi.unit_price,
+           'subtotal', oi.subtotal
+       )), JSON_ARRAY()),
+       o.created_at, o.paid_at, NOW(6)
+FROM orders o
+JOIN order_items oi ON oi.order_id = o.id
+JOIN products p ON p.id = oi.product_id
+GROUP BY o.id;
@@ -0,0 +1,8 @@
+-- ============================================================
+-- One coupon per user: (user_id, coupon_id) unique index
+-- ============================================================
+-- existsByUserIdAndCouponId는 쿠폰 할인 주문/쿠폰 발급마다 호출된다.
+-- 유니크 인덱스 단건 조회(const)로 판정하고, 중복 발급도 DB에서 막는다.
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_coupon
+ON user_coupons(user_id, coupon_id);
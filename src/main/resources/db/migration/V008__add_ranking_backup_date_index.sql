@@ -0,0 +1,8 @@
+-- ============================================================
+-- Ranking backup lookup by date (Redis 장애 시 폴백 조회)
+-- ============================================================
+-- 용도: WHERE aggregated_date = ? ORDER BY ranking
+--       DELETE ... WHERE aggregated_date = ? (백업 스케줄러의 재적재)
+
+CREATE INDEX IF NOT EXISTS idx_ranking_backup_date_ranking
+ON product_ranking_backup(aggregated_date, ranking);
@@ -0,0 +1,8 @@
+-- ============================================================
+-- Failed event retry scan
+-- ============================================================
+-- 용도: WHERE status = 'PENDING' AND next_retry_at <= ? ORDER BY next_retry_at LIMIT ?
+-- status 단일 인덱스로는 PENDING 전체를 읽고 정렬해야 하므로 (status, next_retry_at) 범위 스캔으로 대체
+
+CREATE INDEX IF NOT EXISTS idx_failed_events_status_next_retry
+ON failed_events(status, next_retry_at);
@@ -0,0 +1,115 @@
+package io.hhplus.ecommerce.application.coupon;
+
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.coupon.Coupon;
+import io.hhplus.ecommerce.domain.coupon.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CouponMetadataCache 단위 테스트
+ *
+ * 목적:
+ * - 캐시 히트 시 DB 조회가 없는지 검증
+ * - 오래된 버전의 스냅샷이 최신 스냅샷을 덮어쓰지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponMetadataCacheTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private CouponMetadataCache cache;
+
+    @Test
+    @DisplayName("최초 조회만 DB를 읽고 이후에는 캐시에서 반환한다")
+    void loadOnceThenHit() throws Exception {
+        // given
+        Coupon coupon = coupon(1L, 100, 3L);
+        given(couponRepository.findByIdOrThrow(1L)).willReturn(coupon);
+
+        // when
+        CouponMetadata first = cache.get(1L);
+        CouponMetadata second = cache.get(1L);
+
+        // then
+        assertThat(first.totalQuantity()).isEqualTo(100);
+        assertThat(second).isSameAs(first);
+        verify(couponRepository, times(1)).findByIdOrThrow(1L);
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 더 크거나 같은 버전의 스냅샷만 반영한다")
+    void refreshKeepsNewerVersion() throws Exception {
+        // given - 버전 5 적재
+        given(couponRepository.findByIdOrThrow(1L)).willReturn(coupon(1L, 200, 5L));
+        cache.get(1L);
+
+        // when - 더 오래된 버전(3) 스냅샷이 갱신으로 들어옴
+        given(couponRepository.findLiveOrUpcoming(any(), any())).willReturn(List.of(coupon(1L, 100, 3L)));
+        cache.refreshLiveCoupons();
+
+        // then
+        assertThat(cache.get(1L).totalQuantity()).isEqualTo(200);
+
+        // when - 더 새로운 버전(7)
+        given(couponRepository.findLiveOrUpcoming(any(), any())).willReturn(List.of(coupon(1L, 300, 7L)));
+        cache.refreshLiveCoupons();
+
+        // then
+        assertThat(cache.get(1L).totalQuantity()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 캐시하지 않고 INVALID_COUPON 예외를 전파한다")
+    void missingCoupon() {
+        given(couponRepository.findByIdOrThrow(99L))
+            .willThrow(new BusinessException(ErrorCode.INVALID_COUPON, "쿠폰을 찾을 수 없습니다. couponId: 99"));
+
+        assertThatThrownBy(() -> cache.get(99L))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_COUPON);
+        assertThatThrownBy(() -> cache.get(99L))
+            .isInstanceOf(BusinessException.class);
+
+        verify(couponRepository, times(2)).findByIdOrThrow(99L);
+    }
+
+    private Coupon coupon(Long id, int totalQuantity, Long version) throws Exception {
+        Coupon coupon = Coupon.create(
+            "COUP-" + id,
+            "캐시 테스트 쿠폰",
+            10,
+            totalQuantity,
+            LocalDateTime.now().minusHours(1),
+            LocalDateTime.now().plusDays(1)
+        );
+
+        // Reflection으로 ID/버전 설정 (단위 테스트용)
+        java.lang.reflect.Field idField = Coupon.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(coupon, id);
+
+        java.lang.reflect.Field versionField = Coupon.class.getDeclaredField("version");
+        versionField.setAccessible(true);
+        versionField.set(coupon, version);
+
+        return coupon;
+    }
+}
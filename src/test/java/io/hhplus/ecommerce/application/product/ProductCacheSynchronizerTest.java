@@ -0,0 +1,110 @@
+package io.hhplus.ecommerce.application.product;
+
+import io.hhplus.ecommerce.application.product.dto.ProductResponse;
+import io.hhplus.ecommerce.application.usecase.product.GetProductUseCase;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 상품 변경 이벤트 → 캐시 부분 갱신 통합 테스트
+ *
+ * 검증:
+ * - 엔티티 재고 변경(save)이 커밋 후 재고 캐시에 반영
+ * - 커밋 전에는 재고 캐시가 바뀌지 않음 (롤백된 변경은 반영 안 됨)
+ * - 상품 상세 응답의 재고는 정적 캐시가 아닌 재고 캐시 값
+ */
+@SpringBootTest(properties = {
+    "product.cache-sync.enabled=true",
+    "product.stock-cache.enabled=true"
+})
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class ProductCacheSynchronizerTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockCache productStockCache;
+
+    @Autowired
+    private ProductCacheSynchronizer productCacheSynchronizer;
+
+    @Autowired
+    private GetProductUseCase getProductUseCase;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        String code = "P-" + UUID.randomUUID().toString().substring(0, 8);
+        Product product = productRepository.save(Product.create(code, "캐시 상품", "설명", 10_000L, "전자제품", 10));
+        productId = product.getId();
+        // 컨텍스트마다 상품 ID가 재사용되므로 이전 테스트의 재고 키 제거
+        redisTemplate.delete("product:" + productId + ":stock");
+    }
+
+    @Test
+    @DisplayName("재고 변경이 커밋되면 재고 캐시가 새 값으로 갱신된다")
+    void stockChangeUpdatesStockCache() {
+        // given - 재고 캐시 적재
+        assertThat(productStockCache.getStocks(List.of(productId))).containsEntry(productId, 10);
+
+        // when - 엔티티 재고 차감 + save (ProductChangedEvent 발행)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Product product = productRepository.findByIdOrThrow(productId);
+            product.decreaseStock(3);
+            productRepository.save(product);
+        });
+        productCacheSynchronizer.flush();
+
+        // then
+        await().atMost(Duration.ofSeconds(3))
+            .untilAsserted(() -> assertThat(productStockCache.peek(productId)).isEqualTo(7));
+        ProductResponse response = getProductUseCase.execute(productId);
+        assertThat(response.stock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("롤백된 재고 변경은 재고 캐시에 반영되지 않는다")
+    void rolledBackChangeIsIgnored() {
+        // given
+        assertThat(productStockCache.getStocks(List.of(productId))).containsEntry(productId, 10);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Product product = productRepository.findByIdOrThrow(productId);
+            product.decreaseStock(5);
+            productRepository.save(product);
+            status.setRollbackOnly();
+        });
+        productCacheSynchronizer.flush();
+
+        // then
+        assertThat(productStockCache.peek(productId)).isEqualTo(10);
+    }
+}
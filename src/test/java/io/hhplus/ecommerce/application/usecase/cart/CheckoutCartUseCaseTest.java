@@ -0,0 +1,225 @@
+package io.hhplus.ecommerce.application.usecase.cart;
+
+import io.hhplus.ecommerce.application.cart.dto.AddCartItemRequest;
+import io.hhplus.ecommerce.application.cart.dto.CheckoutCartRequest;
+import io.hhplus.ecommerce.application.cart.dto.CheckoutCartResponse;
+import io.hhplus.ecommerce.application.usecase.order.PaymentEventPublisher;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.cart.Cart;
+import io.hhplus.ecommerce.domain.cart.CartItemRepository;
+import io.hhplus.ecommerce.domain.cart.CartRepository;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.cart.JpaCartItemRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.cart.JpaCartRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderIdempotencyRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderItemRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.product.JpaProductRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.user.JpaUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * CheckoutCartUseCase 통합 테스트
+ *
+ * 목적: 장바구니 → 주문 생성 → (선택) 결제 → 장바구니 비우기 흐름 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class CheckoutCartUseCaseTest {
+
+    @Autowired
+    private CheckoutCartUseCase checkoutCartUseCase;
+
+    @Autowired
+    private AddToCartUseCase addToCartUseCase;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JpaCartRepository jpaCartRepository;
+
+    @Autowired
+    private JpaCartItemRepository jpaCartItemRepository;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaOrderItemRepository jpaOrderItemRepository;
+
+    @Autowired
+    private JpaOrderRepository jpaOrderRepository;
+
+    @Autowired
+    private JpaOrderIdempotencyRepository jpaOrderIdempotencyRepository;
+
+    @MockitoBean  // 결제 완료 이벤트 리스너 실행 스킵
+    private PaymentEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        jpaOrderItemRepository.deleteAll();
+        jpaOrderRepository.deleteAll();
+        jpaCartItemRepository.deleteAll();
+        jpaCartRepository.deleteAll();
+        jpaProductRepository.deleteAll();
+        jpaUserRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주문만 생성 - 장바구니 상품으로 PENDING 주문 생성 후 장바구니 비움")
+    void shouldCreateOrderAndClearCart() {
+        // given
+        User user = userRepository.save(User.create("checkout@test.com", "checkout-user"));
+        Product product1 = productRepository.save(Product.create("CO-P001", "상품1", "설명", 10_000L, "전자기기", 100));
+        Product product2 = productRepository.save(Product.create("CO-P002", "상품2", "설명", 5_000L, "전자기기", 100));
+        addToCartUseCase.execute(new AddCartItemRequest(user.getId(), product1.getId(), 2));
+        addToCartUseCase.execute(new AddCartItemRequest(user.getId(), product2.getId(), 3));
+
+        // when
+        CheckoutCartResponse response = checkoutCartUseCase.execute(
+            user.getId(), new CheckoutCartRequest(null, false, 35_000L, null));
+
+        // then
+        assertThat(response.order().status()).isEqualTo("PENDING");
+        assertThat(response.order().items()).hasSize(2);
+        assertThat(response.order().totalAmount()).isEqualTo(35_000L);
+        assertThat(response.payment()).isNull();
+
+        Cart cart = cartRepository.findByUserId(user.getId()).orElseThrow();
+        assertThat(cartItemRepository.findByCartId(cart.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 + 결제 - 잔액/재고 차감 후 COMPLETED")
+    void shouldCreateOrderAndPay() {
+        // given
+        User user = User.create("checkout-pay@test.com", "checkout-user");
+        user.charge(100_000L);
+        userRepository.save(user);
+        Product product = productRepository.save(Product.create("CO-P003", "상품3", "설명", 10_000L, "전자기기", 10));
+        addToCartUseCase.execute(new AddCartItemRequest(user.getId(), product.getId(), 3));
+
+        // when
+        CheckoutCartResponse response = checkoutCartUseCase.execute(
+            user.getId(), new CheckoutCartRequest(null, true, null, null));
+
+        // then
+        assertThat(response.payment()).isNotNull();
+        assertThat(response.payment().status()).isEqualTo("SUCCESS");
+        assertThat(response.payment().remainingBalance()).isEqualTo(70_000L);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("빈 장바구니 - 체크아웃 실패")
+    void shouldFailWhenCartIsEmpty() {
+        // given
+        User user = userRepository.save(User.create("checkout-empty@test.com", "checkout-user"));
+        cartRepository.save(Cart.create(user));
+
+        // when & then
+        assertThatThrownBy(() -> checkoutCartUseCase.execute(
+            user.getId(), new CheckoutCartRequest(null, false, null, null)))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CART_ITEM_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("가격 변동 - 확인 금액과 현재 금액이 다르면 주문을 만들지 않음")
+    void shouldFailWhenPriceChanged() {
+        // given
+        User user = userRepository.save(User.create("checkout-price@test.com", "checkout-user"));
+        Product product = productRepository.save(Product.create("CO-P004", "상품4", "설명", 10_000L, "전자기기", 10));
+        addToCartUseCase.execute(new AddCartItemRequest(user.getId(), product.getId(), 1));
+
+        // when & then
+        assertThatThrownBy(() -> checkoutCartUseCase.execute(
+            user.getId(), new CheckoutCartRequest(null, false, 9_000L, null)))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+
+        assertThat(jpaOrderRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 장바구니 비우기도 같은 트랜잭션으로 롤백되어 장바구니 유지")
+    void shouldKeepCartWhenOrderCreationFails() {
+        // given
+        User user = userRepository.save(User.create("checkout-rollback@test.com", "checkout-user"));
+        Product product = productRepository.save(Product.create("CO-P006", "상품6", "설명", 10_000L, "전자기기", 10));
+        addToCartUseCase.execute(new AddCartItemRequest(user.getId(), product.getId(), 1));
+
+        // when: 존재하지 않는 쿠폰 → 주문 생성 단계에서 실패
+        assertThatThrownBy(() -> checkoutCartUseCase.execute(
+            user.getId(), new CheckoutCartRequest(999_999L, false, null, null)))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_COUPON);
+
+        // then
+        assertThat(jpaOrderRepository.count()).isZero();
+        Cart cart = cartRepository.findByUserId(user.getId()).orElseThrow();
+        assertThat(cartItemRepository.findByCartId(cart.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 재시도 - 주문/결제를 다시 만들지 않고 기존 결과 반환")
+    void shouldReturnSameOrderWhenRetriedWithSameKey() {
+        // given
+        User user = User.create("checkout-retry@test.com", "checkout-user");
+        user.charge(100_000L);
+        userRepository.save(user);
+        Product product = productRepository.save(Product.create("CO-P005", "상품5", "설명", 10_000L, "전자기기", 10));
+        addToCartUseCase.execute(new AddCartItemRequest(user.getId(), product.getId(), 2));
+        CheckoutCartRequest request = new CheckoutCartRequest(null, true, null, "retry-key-1");
+
+        CheckoutCartResponse first = checkoutCartUseCase.execute(user.getId(), request);
+        // 주문 멱등성 COMPLETED 처리는 커밋 후 비동기
+        await().atMost(Duration.ofSeconds(5)).until(() -> jpaOrderIdempotencyRepository
+            .findByIdempotencyKey("CHECKOUT_" + user.getId() + "_retry-key-1")
+            .map(idempotency -> idempotency.isCompleted())
+            .orElse(false));
+
+        // when: 응답을 받지 못한 클라이언트의 재시도
+        CheckoutCartResponse retried = checkoutCartUseCase.execute(user.getId(), request);
+
+        // then
+        assertThat(retried.order().orderId()).isEqualTo(first.order().orderId());
+        assertThat(retried.payment().status()).isEqualTo("SUCCESS");
+        assertThat(jpaOrderRepository.count()).isEqualTo(1);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(8);
+        assertThat(userRepository.findByIdOrThrow(user.getId()).getBalance()).isEqualTo(80_000L);
+    }
+}
@@ -0,0 +1,179 @@
+package io.hhplus.ecommerce.application.usecase.coupon;
+
+import io.hhplus.ecommerce.application.coupon.dto.IssueCouponRequest;
+import io.hhplus.ecommerce.application.coupon.dto.UserCouponListResponse;
+import io.hhplus.ecommerce.application.coupon.dto.UserCouponResponse;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.coupon.Coupon;
+import io.hhplus.ecommerce.domain.coupon.CouponRepository;
+import io.hhplus.ecommerce.domain.coupon.UserCoupon;
+import io.hhplus.ecommerce.domain.coupon.UserCouponRepository;
+import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.coupon.JpaCouponRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.coupon.JpaUserCouponRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.user.JpaUserRepository;
+import io.hhplus.ecommerce.infrastructure.redis.UserCouponReadModelStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 쿠폰 Redis 읽기 모델 통합 테스트
+ *
+ * 검증:
+ * - 최초 조회 시 MySQL에서 적재, 이후 조회는 MySQL 없이 Redis에서 응답
+ * - 선착순 예약 → PENDING → 발급 완료로 상태 전이
+ * - 발급 실패 시 FAILED 표시
+ * - 예약 없이 동기 발급된 쿠폰도 커밋 후 읽기 모델/Redis 발급자에 반영
+ */
+@SpringBootTest(properties = "coupon.read-model.enabled=true")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class GetUserCouponsReadModelTest {
+
+    @Autowired
+    private GetUserCouponsUseCase getUserCouponsUseCase;
+
+    @Autowired
+    private ReserveCouponUseCase reserveCouponUseCase;
+
+    @Autowired
+    private IssueCouponUseCase issueCouponUseCase;
+
+    @Autowired
+    private UserCouponReadModelStore userCouponReadModelStore;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JpaCouponRepository jpaCouponRepository;
+
+    @Autowired
+    private JpaUserCouponRepository jpaUserCouponRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        jpaUserCouponRepository.deleteAll();
+        jpaCouponRepository.deleteAll();
+        jpaUserRepository.deleteAll();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        userId = userRepository.save(User.create("reader@test.com", "reader")).getId();
+    }
+
+    @Test
+    @DisplayName("한 번 적재된 목록은 MySQL이 비어도 Redis에서 응답한다")
+    void servedFromReadModelAfterLoad() {
+        // given
+        Coupon coupon = couponRepository.save(createCoupon("COUP-READ-1", 10));
+        userCouponRepository.save(UserCoupon.create(userId, coupon.getId(), LocalDateTime.now().plusDays(7)));
+
+        // when - 최초 조회 (MySQL → 적재)
+        UserCouponListResponse first = getUserCouponsUseCase.execute(userId, null);
+
+        // MySQL 데이터를 지워도
+        jpaUserCouponRepository.deleteAll();
+        UserCouponListResponse second = getUserCouponsUseCase.execute(userId, null);
+
+        // then
+        assertThat(first.totalCount()).isEqualTo(1);
+        assertThat(second.totalCount()).isEqualTo(1);
+        assertThat(second.coupons().get(0).status()).isEqualTo("AVAILABLE");
+        assertThat(second.coupons().get(0).couponName()).isEqualTo("읽기 모델 쿠폰");
+    }
+
+    @Test
+    @DisplayName("선착순 예약 후 발급이 완료되면 읽기 모델이 발급 결과로 갱신된다")
+    void pendingBecomesIssued() {
+        // given - 조회로 읽기 모델 적재 (빈 목록)
+        Coupon coupon = couponRepository.save(createCoupon("COUP-READ-2", 10));
+        assertThat(getUserCouponsUseCase.execute(userId, null).totalCount()).isZero();
+
+        // when - 예약 (테스트 프로필은 이벤트 모드라 발급까지 동기 처리)
+        reserveCouponUseCase.execute(coupon.getId(), userId);
+
+        // then
+        UserCouponListResponse response = getUserCouponsUseCase.execute(userId, null);
+        assertThat(response.totalCount()).isEqualTo(1);
+
+        UserCouponResponse issued = response.coupons().get(0);
+        assertThat(issued.status()).isEqualTo("AVAILABLE");
+        assertThat(issued.userCouponId()).isNotNull();
+        assertThat(issued.couponName()).isEqualTo("읽기 모델 쿠폰");
+    }
+
+    @Test
+    @DisplayName("동기 발급 후 커밋되면 읽기 모델이 다시 적재되고 Redis 발급자에 기록된다")
+    void syncIssueRefreshesReadModel() {
+        // given - 조회로 읽기 모델 적재 (빈 목록)
+        Coupon coupon = couponRepository.save(createCoupon("COUP-READ-3", 10));
+        assertThat(getUserCouponsUseCase.execute(userId, null).totalCount()).isZero();
+
+        // when
+        issueCouponUseCase.execute(coupon.getId(), new IssueCouponRequest(userId));
+
+        // then - 빈 목록 스냅샷이 아니라 발급된 쿠폰이 보임
+        UserCouponListResponse response = getUserCouponsUseCase.execute(userId, null);
+        assertThat(response.totalCount()).isEqualTo(1);
+        assertThat(response.coupons().get(0).status()).isEqualTo("AVAILABLE");
+        assertThat(redisTemplate.opsForSet().isMember("coupon:" + coupon.getId() + ":issued", String.valueOf(userId)))
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("발급 대기 중 실패하면 FAILED로 표시되고 상태 필터로 조회된다")
+    void pendingBecomesFailed() {
+        // given
+        assertThat(getUserCouponsUseCase.execute(userId, null).totalCount()).isZero();
+        userCouponReadModelStore.markPending(userId, UserCouponResponse.pending(
+            999L, "대기 쿠폰", 5, LocalDateTime.now().plusDays(1)
+        ));
+
+        assertThat(getUserCouponsUseCase.execute(userId, "pending").totalCount()).isEqualTo(1);
+
+        // when
+        userCouponReadModelStore.markFailed(userId, 999L);
+
+        // then
+        UserCouponListResponse failed = getUserCouponsUseCase.execute(userId, "FAILED");
+        assertThat(failed.totalCount()).isEqualTo(1);
+        assertThat(failed.coupons().get(0).couponId()).isEqualTo(999L);
+        assertThat(getUserCouponsUseCase.execute(userId, "PENDING").totalCount()).isZero();
+    }
+
+    private Coupon createCoupon(String code, int quantity) {
+        return Coupon.create(
+            code,
+            "읽기 모델 쿠폰",
+            10,
+            quantity,
+            LocalDateTime.now().minusHours(1),
+            LocalDateTime.now().plusDays(7)
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import io.hhplus.ecommerce.application.order.dto.CreateOrderRequest;
+import io.hhplus.ecommerce.application.order.dto.CreateOrderResponse;
+import io.hhplus.ecommerce.application.order.dto.OrderItemRequest;
+import io.hhplus.ecommerce.application.order.dto.OrderListResponse;
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.order.OrderStatus;
+import io.hhplus.ecommerce.domain.order.OrderSummaryRepository;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 주문 요약 읽기 모델 통합 테스트
+ *
+ * 검증:
+ * - 주문 생성 커밋 후 order_summaries에 구매 시점 상품명/단가가 반영되고 목록/상세가 읽기 모델에서 응답
+ * - 결제 완료 후 요약 상태가 COMPLETED로 전이
+ * - 주문 생성 반영 전에 결제 완료가 먼저 도착해도 주문 테이블에서 재구성
+ * - 다른 사용자의 주문 상세는 읽기 모델/주문 테이블 어느 경로든 조회 불가
+ */
+@SpringBootTest(properties = "order.read-model.enabled=true")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class OrderSummaryReadModelTest {
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ProcessPaymentUseCase processPaymentUseCase;
+
+    @Autowired
+    private GetOrdersUseCase getOrdersUseCase;
+
+    @Autowired
+    private GetOrderUseCase getOrderUseCase;
+
+    @Autowired
+    private OrderSummaryService orderSummaryService;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private JpaOrderSummaryRepository jpaOrderSummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long userId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = User.create("summary-" + suffix + "@test.com", "요약유저");
+        user.charge(1_000_000L);
+        userId = userRepository.save(user).getId();
+
+        productId = productRepository.save(
+            Product.create("SUM-" + suffix, "요약상품", "설명", 15_000L, "전자제품", 100)
+        ).getId();
+    }
+
+    @Test
+    @DisplayName("주문 생성/결제 완료 이벤트가 요약 행으로 반영되고 조회는 읽기 모델에서 응답한다")
+    void projectsCreatedAndCompleted() {
+        // given - 주문 생성
+        CreateOrderResponse created = createOrderUseCase.execute(new CreateOrderRequest(
+            userId,
+            List.of(new OrderItemRequest(productId, 2)),
+            null,
+            "ORDER_" + UUID.randomUUID()
+        ));
+
+        // then - 비동기 반영 후 목록/상세 조회
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> orderSummaryRepository.findByOrderId(created.orderId()).isPresent());
+
+        OrderListResponse list = getOrdersUseCase.execute(userId, null);
+        assertThat(list.orders()).hasSize(1);
+        assertThat(list.orders().get(0).items()).singleElement().satisfies(item -> {
+            assertThat(item.productName()).isEqualTo("요약상품");
+            assertThat(item.unitPrice()).isEqualTo(15_000L);
+            assertThat(item.quantity()).isEqualTo(2);
+        });
+        assertThat(getOrderUseCase.execute(created.orderId(), userId).status()).isEqualTo(OrderStatus.PENDING.name());
+
+        // when - 결제 완료
+        processPaymentUseCase.execute(created.orderId(), new PaymentRequest(userId, "PAYMENT-" + UUID.randomUUID()));
+
+        // then - 요약 상태 전이 (상태 필터도 읽기 모델에서 처리)
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> OrderStatus.COMPLETED.name().equals(getOrderUseCase.execute(created.orderId(), userId).status()));
+        assertThat(getOrdersUseCase.execute(userId, "COMPLETED").orders())
+            .extracting(CreateOrderResponse::orderId)
+            .containsExactly(created.orderId());
+        assertThat(getOrdersUseCase.execute(userId, "PENDING").orders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요약 행이 없을 때 결제 완료가 먼저 도착하면 주문 테이블에서 재구성한다")
+    void rebuildsWhenCompletedArrivesFirst() {
+        // given - 주문 생성 반영 전 요약 행 삭제 (반영 지연/유실 상황)
+        CreateOrderResponse created = createOrderUseCase.execute(new CreateOrderRequest(
+            userId,
+            List.of(new OrderItemRequest(productId, 1)),
+            null,
+            "ORDER_" + UUID.randomUUID()
+        ));
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> orderSummaryRepository.findByOrderId(created.orderId()).isPresent());
+        jpaOrderSummaryRepository.deleteById(created.orderId());
+
+        // when
+        orderSummaryService.projectCompleted(created.orderId(), LocalDateTime.now());
+
+        // then
+        CreateOrderResponse summary = orderSummaryRepository.findByOrderId(created.orderId())
+            .map(orderSummaryService::toResponse)
+            .orElseThrow();
+        assertThat(summary.status()).isEqualTo(OrderStatus.COMPLETED.name());
+        assertThat(summary.items()).singleElement()
+            .satisfies(item -> assertThat(item.productName()).isEqualTo("요약상품"));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 주문 상세 조회는 ORDER_NOT_FOUND로 거절한다")
+    void rejectsOrderOfAnotherUser() {
+        // given
+        CreateOrderResponse created = createOrderUseCase.execute(new CreateOrderRequest(
+            userId,
+            List.of(new OrderItemRequest(productId, 1)),
+            null,
+            "ORDER_" + UUID.randomUUID()
+        ));
+        Long otherUserId = userId + 1_000_000L;
+
+        // when & then - 생성 직후 (요약 반영 전이면 주문 테이블 경로)
+        assertThatThrownBy(() -> getOrderUseCase.execute(created.orderId(), otherUserId))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_NOT_FOUND);
+
+        // when & then - 요약 반영 후 (읽기 모델 경로)
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> orderSummaryRepository.findByOrderId(created.orderId()).isPresent());
+        assertThatThrownBy(() -> getOrderUseCase.execute(created.orderId(), otherUserId))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_NOT_FOUND);
+        assertThat(getOrderUseCase.execute(created.orderId(), userId).orderId()).isEqualTo(created.orderId());
+    }
+}
@@ -0,0 +1,183 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import io.hhplus.ecommerce.application.order.dto.PaymentResponse;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.order.OrderItem;
+import io.hhplus.ecommerce.domain.order.OrderItemRepository;
+import io.hhplus.ecommerce.domain.order.OrderRepository;
+import io.hhplus.ecommerce.domain.order.OrderStatus;
+import io.hhplus.ecommerce.domain.payment.IdempotencyStatus;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotencyRepository;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.external.PGResponse;
+import io.hhplus.ecommerce.infrastructure.external.PGService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 결제 대사 통합 테스트
+ *
+ * 목적:
+ * - PG 승인 결과 불명(PG_OUTCOME_UNKNOWN)으로 PROCESSING에 남은 결제가 대사로 최종 상태에 도달하는지 검증
+ * - 승인 확인 → 주문 완료 + 같은 키 재요청은 완료 응답
+ * - 승인 없음 → 잔액/재고 복구 + 같은 키로 재시도 가능(FAILED)
+ * - 상태 조회 실패 → PROCESSING 유지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("PaymentReconciliationService 통합 테스트")
+class PaymentReconciliationServiceTest {
+
+    private static final long INITIAL_BALANCE = 100_000L;
+    private static final int INITIAL_STOCK = 10;
+
+    @Autowired
+    private PaymentReconciliationService reconciliationService;
+
+    @Autowired
+    private ProcessPaymentUseCase processPaymentUseCase;
+
+    @Autowired
+    private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @MockitoBean
+    private PGService pgService;
+
+    private User user;
+    private Product product;
+    private Order order;
+    private PaymentRequest request;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User created = User.create("recon-" + suffix + "@example.com", "대사유저");
+        created.charge(INITIAL_BALANCE);
+        user = userRepository.save(created);
+        product = productRepository.save(
+            Product.create("RECON-" + suffix, "대사상품", "설명", 10_000L, "전자제품", INITIAL_STOCK)
+        );
+        order = orderRepository.save(Order.create("RECON-ORDER-" + suffix, user, 30_000L, 0L));
+        orderItemRepository.save(OrderItem.create(order, product, 3, 10_000L));
+        request = new PaymentRequest(user.getId(), "RECON-" + suffix);
+
+        // 승인 요청 타임아웃 + 상태 조회 실패 → 결과 불명
+        given(pgService.charge(request))
+            .willThrow(new BusinessException(ErrorCode.PG_OUTCOME_UNKNOWN, "승인 여부 확인 실패"));
+        assertThatThrownBy(() -> processPaymentUseCase.execute(order.getId(), request))
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PG_OUTCOME_UNKNOWN);
+
+        PaymentIdempotency processing = idempotency();
+        assertThat(processing.getStatus()).isEqualTo(IdempotencyStatus.PROCESSING);
+        assertThat(processing.getOrderId()).isEqualTo(order.getId());
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE - 30_000L);
+    }
+
+    @Test
+    @DisplayName("PG 승인이 확인되면 주문을 완료하고 같은 키 재요청에 완료 응답을 돌려준다")
+    void approvedCharge_isCompleted() {
+        // given
+        given(pgService.getPaymentStatus(request.idempotencyKey())).willReturn(PGResponse.success("TX-RECON"));
+
+        // when
+        reconciliationService.reconcile(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(idempotency().getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+        assertThat(orderRepository.findByIdOrThrow(order.getId()).getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE - 30_000L);
+
+        PaymentResponse replayed = processPaymentUseCase.execute(order.getId(), request);
+        assertThat(replayed.paidAmount()).isEqualTo(30_000L);
+    }
+
+    @Test
+    @DisplayName("PG 승인 내역이 없으면 잔액/재고를 복구하고 멱등성 키를 FAILED로 확정한다")
+    void missingCharge_isCompensated() {
+        // given
+        given(pgService.getPaymentStatus(request.idempotencyKey())).willReturn(PGResponse.failure("승인 내역 없음"));
+
+        // when
+        reconciliationService.reconcile(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(idempotency().getStatus()).isEqualTo(IdempotencyStatus.FAILED);
+        assertThat(orderRepository.findByIdOrThrow(order.getId()).getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(INITIAL_STOCK);
+
+        // 한 번 확정된 키는 다음 실행에서 다시 보상하지 않음
+        reconciliationService.reconcile(LocalDateTime.now().plusSeconds(1));
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE);
+    }
+
+    @Test
+    @DisplayName("상태 조회가 실패하면 PROCESSING으로 남겨 다음 실행에서 다시 확인한다")
+    void statusLookupFailure_staysProcessing() {
+        // given
+        given(pgService.getPaymentStatus(request.idempotencyKey()))
+            .willThrow(new BusinessException(ErrorCode.PG_UNAVAILABLE, "PG 장애"));
+
+        // when
+        reconciliationService.reconcile(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(idempotency().getStatus()).isEqualTo(IdempotencyStatus.PROCESSING);
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE - 30_000L);
+    }
+
+    @Test
+    @DisplayName("stale-after 이전에 생성된 결제만 대상으로 한다")
+    void recentPayment_isNotReconciled() {
+        // given
+        given(pgService.getPaymentStatus(request.idempotencyKey())).willReturn(PGResponse.failure("승인 내역 없음"));
+
+        // when
+        reconciliationService.reconcile(LocalDateTime.now().minusMinutes(1));
+
+        // then
+        assertThat(idempotency().getStatus()).isEqualTo(IdempotencyStatus.PROCESSING);
+    }
+
+    private PaymentIdempotency idempotency() {
+        return paymentIdempotencyRepository.findByIdempotencyKeyOrThrow(request.idempotencyKey());
+    }
+
+    private long balance() {
+        return userRepository.findBalanceById(user.getId()).orElseThrow();
+    }
+}
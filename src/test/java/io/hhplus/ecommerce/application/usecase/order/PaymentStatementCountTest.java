@@ -0,0 +1,154 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import io.hhplus.ecommerce.application.order.dto.PaymentResponse;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.order.OrderItem;
+import io.hhplus.ecommerce.domain.order.OrderRepository;
+import io.hhplus.ecommerce.domain.order.OrderStatus;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotencyRepository;
+import io.hhplus.ecommerce.domain.product.Product;
+import io.hhplus.ecommerce.domain.product.ProductRepository;
+import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 1건당 SQL 수 비교 테스트
+ *
+ * 검증:
+ * - 기존 흐름(멱등성 키 생성 → 예약 → 완료 → 멱등성 키 완료, 트랜잭션 4회) 대비
+ *   단일 예약 흐름(예약 → 완료, 트랜잭션 2회)의 SQL 수가 절반 이하인지
+ * - 줄어든 흐름에서도 잔액/재고/주문 상태/멱등성 키가 모두 반영되는지
+ *
+ * 측정: Hibernate Statistics의 prepareStatementCount (각 흐름 직전에 초기화)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class PaymentStatementCountTest {
+
+    @Autowired
+    private ProcessPaymentUseCase processPaymentUseCase;
+
+    @Autowired
+    private PaymentTransactionService transactionService;
+
+    @Autowired
+    private PaymentIdempotencyService idempotencyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean  // 결제 완료 이벤트 리스너의 쿼리가 측정에 섞이지 않도록 스킵
+    private PaymentEventPublisher eventPublisher;
+
+    private Statistics statistics;
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User created = User.create("stmt-" + suffix + "@test.com", "측정유저");
+        created.charge(1_000_000L);
+        user = userRepository.save(created);
+
+        product = productRepository.save(
+            Product.create("STMT-" + suffix, "측정상품", "설명", 10_000L, "전자제품", 100)
+        );
+    }
+
+    @Test
+    @DisplayName("단일 예약 흐름은 기존 흐름 대비 결제 1건당 SQL 수가 절반 이하다")
+    void reservationRoundTripHalvesStatements() {
+        // given
+        Order legacyOrder = createOrder(3);
+        Order order = createOrder(3);
+
+        // when - 기존 흐름
+        PaymentRequest legacyRequest = new PaymentRequest(user.getId(), "PAYMENT-" + UUID.randomUUID());
+        statistics.clear();
+        PaymentIdempotencyService.PaymentIdempotencyResult idempotencyResult = idempotencyService.getOrCreate(legacyRequest);
+        transactionService.reservePayment(legacyOrder.getId(), legacyRequest);
+        PaymentResponse legacyResponse = transactionService.updatePaymentSuccessAndCreateResponse(
+            legacyOrder.getId(), user.getId(), "TX-LEGACY"
+        );
+        idempotencyService.saveCompletion(idempotencyResult.getIdempotency(), legacyOrder.getId(), legacyResponse);
+        long legacyStatements = statistics.getPrepareStatementCount();
+
+        // when - 단일 예약 흐름
+        PaymentRequest request = new PaymentRequest(user.getId(), "PAYMENT-" + UUID.randomUUID());
+        statistics.clear();
+        PaymentResponse response = processPaymentUseCase.execute(order.getId(), request);
+        long statements = statistics.getPrepareStatementCount();
+
+        // then - SQL 수 절반 이하
+        assertThat(statements).isPositive();
+        assertThat(statements * 2).isLessThanOrEqualTo(legacyStatements);
+
+        // then - 상태 반영 (두 결제 모두 30,000원, 상품 3개)
+        assertThat(response.remainingBalance()).isEqualTo(1_000_000L - 60_000L);
+        assertThat(userRepository.findBalanceById(user.getId())).contains(1_000_000L - 60_000L);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(100 - 6);
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(paymentIdempotencyRepository.findByIdempotencyKey(request.idempotencyKey()))
+            .hasValueSatisfying(idempotency -> {
+                assertThat(idempotency.isCompleted()).isTrue();
+                assertThat(idempotency.getOrderId()).isEqualTo(order.getId());
+            });
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 다시 요청하면 기존 흐름으로 완료된 응답을 반환한다")
+    void duplicateKeyReturnsCompletedResponse() {
+        // given
+        Order order = createOrder(1);
+        PaymentRequest request = new PaymentRequest(user.getId(), "PAYMENT-" + UUID.randomUUID());
+        PaymentResponse first = processPaymentUseCase.execute(order.getId(), request);
+
+        // when
+        PaymentResponse second = processPaymentUseCase.execute(order.getId(), request);
+
+        // then - 재차감 없음
+        assertThat(second.orderId()).isEqualTo(first.orderId());
+        assertThat(second.remainingBalance()).isEqualTo(first.remainingBalance());
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(100 - 1);
+    }
+
+    private Order createOrder(int quantity) {
+        String orderNumber = "STMT-" + UUID.randomUUID().toString().substring(0, 20);
+        Order order = Order.create(orderNumber, user, 10_000L * quantity, 0L);
+        OrderItem.create(order, product, quantity, 10_000L);
+        return orderRepository.save(order);  // orderItems는 cascade로 함께 저장
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.ecommerce.application.usecase.order;
+
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.domain.order.Order;
+import io.hhplus.ecommerce.domain.payment.PaymentIdempotency;
+import io.hhplus.ecommerce.infrastructure.external.PGService;
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown;
+import io.hhplus.ecommerce.infrastructure.metrics.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ProcessPaymentUseCase 단위 테스트
+ *
+ * 목적:
+ * - PG 승인 결과를 알 수 없는 경우 보상/실패 처리 없이 PROCESSING으로 남기는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessPaymentUseCaseTest {
+
+    private static final Long ORDER_ID = 10L;
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private PaymentTransactionService transactionService;
+
+    @Mock
+    private PaymentIdempotencyService idempotencyService;
+
+    @Mock
+    private PGService pgService;
+
+    @Mock
+    private MetricsCollector metricsCollector;
+
+    @Mock
+    private LatencyBreakdown latencyBreakdown;
+
+    @InjectMocks
+    private ProcessPaymentUseCase processPaymentUseCase;
+
+    @BeforeEach
+    void setUp() {
+        given(latencyBreakdown.time(any(), eq(LatencyBreakdown.Phase.PG_CALL), any(Supplier.class)))
+            .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+    }
+
+    @Test
+    @DisplayName("PG 승인 결과 불명이면 보상하지 않고 멱등성 키를 PROCESSING으로 남긴다")
+    void outcomeUnknown_leavesProcessingWithoutCompensation() {
+        // given
+        PaymentRequest request = new PaymentRequest(USER_ID, "PAY-UNKNOWN");
+        PaymentIdempotency idempotency = PaymentIdempotency.create(request.idempotencyKey(), USER_ID);
+        given(transactionService.reserveWithIdempotency(ORDER_ID, request))
+            .willReturn(new PaymentReservation(mock(Order.class), idempotency, 0L));
+        given(pgService.charge(request))
+            .willThrow(new BusinessException(ErrorCode.PG_OUTCOME_UNKNOWN, "승인 여부 확인 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> processPaymentUseCase.execute(ORDER_ID, request))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PG_OUTCOME_UNKNOWN);
+
+        verify(transactionService, never()).compensatePayment(anyLong(), anyLong());
+        verify(idempotencyService, never()).saveFailure(any(), any());
+        assertThat(idempotency.isProcessing()).isTrue();
+    }
+
+    @Test
+    @DisplayName("PG 장애(PG_UNAVAILABLE)는 기존대로 보상한다")
+    void pgUnavailable_compensates() {
+        // given
+        PaymentRequest request = new PaymentRequest(USER_ID, "PAY-UNAVAILABLE");
+        PaymentIdempotency idempotency = PaymentIdempotency.create(request.idempotencyKey(), USER_ID);
+        given(transactionService.reserveWithIdempotency(ORDER_ID, request))
+            .willReturn(new PaymentReservation(mock(Order.class), idempotency, 0L));
+        given(pgService.charge(request))
+            .willThrow(new BusinessException(ErrorCode.PG_UNAVAILABLE, "서킷 OPEN"));
+
+        // when & then
+        assertThatThrownBy(() -> processPaymentUseCase.execute(ORDER_ID, request))
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PG_UNAVAILABLE);
+
+        verify(transactionService).compensatePayment(ORDER_ID, USER_ID);
+        verify(idempotencyService).saveFailure(eq(idempotency), any());
+    }
+}
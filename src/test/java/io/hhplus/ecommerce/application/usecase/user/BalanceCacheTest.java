@@ -0,0 +1,124 @@
+package io.hhplus.ecommerce.application.usecase.user;
+
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserBalance;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.user.JpaUserRepository;
+import io.hhplus.ecommerce.infrastructure.redis.BalanceCacheStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 잔액 조회 캐시 통합 테스트
+ *
+ * 검증:
+ * - 잔액 변경 커밋 후 캐시에 write-through 되어 조회가 DB 없이 응답
+ * - 더 낮은 버전의 쓰기는 최신 값을 덮어쓰지 못함
+ * - 캐시 미스 시 DB 조회 후 적재
+ */
+@SpringBootTest(properties = "balance.cache.enabled=true")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class BalanceCacheTest {
+
+    @Autowired
+    private GetBalanceUseCase getBalanceUseCase;
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private BalanceCacheStore balanceCacheStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        jpaUserRepository.deleteAll();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        userId = userRepository.save(User.create("cache@test.com", "cache-user")).getId();
+    }
+
+    @Test
+    @DisplayName("충전/차감 커밋 후 캐시에 반영되어 DB 행이 없어도 최신 잔액을 응답한다")
+    void writeThroughAfterCommit() {
+        // when
+        balanceLedgerService.charge(userId, 10_000L, null);
+        balanceLedgerService.deduct(userId, 3_000L, 1L);
+
+        // DB 행을 지워도
+        jpaUserRepository.deleteById(userId);
+
+        // then
+        assertThat(getBalanceUseCase.execute(userId).balance()).isEqualTo(7_000L);
+        assertThat(redisTemplate.opsForHash().get("user:" + userId + ":balance", "balance")).isEqualTo("7000");
+    }
+
+    @Test
+    @DisplayName("실패한 차감은 캐시를 바꾸지 않는다")
+    void rolledBackChangeIsNotCached() {
+        // given
+        balanceLedgerService.charge(userId, 1_000L, null);
+
+        // when
+        assertThatThrownBy(() -> balanceLedgerService.deduct(userId, 5_000L, 1L))
+            .isInstanceOf(BusinessException.class);
+
+        // then
+        assertThat(balanceCacheStore.find(userId))
+            .hasValueSatisfying(balance -> assertThat(balance.balance()).isEqualTo(1_000L));
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 낮은 버전의 쓰기는 최신 값을 덮어쓰지 못한다")
+    void staleWriteIsIgnored() {
+        // given
+        balanceLedgerService.charge(userId, 5_000L, null);
+        UserBalance latest = balanceCacheStore.find(userId).orElseThrow();
+
+        // when - 이전 버전 값이 뒤늦게 반영 시도
+        balanceCacheStore.writeThrough(new UserBalance(userId, 0L, latest.version() - 1));
+        balanceCacheStore.fill(new UserBalance(userId, 0L, latest.version() - 1));
+
+        // then - near-cache, Redis 모두 최신 값 유지
+        assertThat(balanceCacheStore.find(userId)).contains(latest);
+        assertThat(redisTemplate.opsForHash().get("user:" + userId + ":balance", "version"))
+            .isEqualTo(String.valueOf(latest.version()));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 DB에서 조회하고 캐시에 적재한다")
+    void cacheMissLoadsFromDb() {
+        // given
+        assertThat(balanceCacheStore.find(userId)).isEmpty();
+
+        // when
+        long balance = getBalanceUseCase.execute(userId).balance();
+
+        // then
+        assertThat(balance).isZero();
+        assertThat(balanceCacheStore.find(userId))
+            .hasValueSatisfying(cached -> assertThat(cached.balance()).isZero());
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.ecommerce.application.usecase.user;
+
+import io.hhplus.ecommerce.application.user.dto.ChargeBalanceRequest;
+import io.hhplus.ecommerce.application.user.dto.ChargeBalanceResponse;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceChargeCombinerTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ChargeBalanceBatchService chargeBalanceBatchService;
+
+    @InjectMocks
+    private BalanceChargeCombiner balanceChargeCombiner;
+
+    @Test
+    @DisplayName("첫 요청이 처리되는 동안 쌓인 요청은 다음 combiner가 한 묶음으로 처리한다")
+    void queuedChargesAreCombined() throws Exception {
+        // given - 첫 묶음 처리를 붙잡아 두고 나머지 요청을 대기열에 쌓음
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        given(chargeBalanceBatchService.charge(eq(USER_ID), anyList())).willAnswer(invocation -> {
+            List<ChargeBalanceRequest> requests = invocation.getArgument(1);
+            batchSizes.add(requests.size());
+            if (batchSizes.size() == 1) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            }
+            return responses(requests);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        Future<ChargeBalanceResponse> first = executor.submit(() -> balanceChargeCombiner.charge(USER_ID, request("key-0")));
+        firstBatchStarted.await(5, TimeUnit.SECONDS);
+
+        List<Future<ChargeBalanceResponse>> queued = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            String key = "key-" + i;
+            queued.add(executor.submit(() -> balanceChargeCombiner.charge(USER_ID, request(key))));
+        }
+        Thread.sleep(200);  // 대기열 적재 대기
+
+        // when
+        releaseFirstBatch.countDown();
+
+        // then - 각 요청은 자기 응답을 받음
+        assertThat(first.get(5, TimeUnit.SECONDS).chargedAmount()).isEqualTo(1_000L);
+        for (Future<ChargeBalanceResponse> future : queued) {
+            assertThat(future.get(5, TimeUnit.SECONDS).chargedAmount()).isEqualTo(1_000L);
+        }
+        executor.shutdown();
+
+        // 9건의 대기 요청은 1묶음으로 처리
+        assertThat(batchSizes).containsExactly(1, 9);
+    }
+
+    @Test
+    @DisplayName("묶음이 실패하면 개별 재처리하여 실패한 요청만 예외를 받는다")
+    void failedBatchIsRetriedIndividually() throws Exception {
+        // given - "bad" 요청이 포함되면 실패
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        Map<String, Boolean> started = new ConcurrentHashMap<>();
+
+        given(chargeBalanceBatchService.charge(eq(USER_ID), anyList())).willAnswer(invocation -> {
+            List<ChargeBalanceRequest> requests = invocation.getArgument(1);
+            if (started.putIfAbsent("first", true) == null) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            }
+            if (requests.stream().anyMatch(request -> request.idempotencyKey().equals("bad"))) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다.");
+            }
+            return responses(requests);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Future<ChargeBalanceResponse> first = executor.submit(() -> balanceChargeCombiner.charge(USER_ID, request("key-0")));
+        firstBatchStarted.await(5, TimeUnit.SECONDS);
+
+        Future<ChargeBalanceResponse> good1 = executor.submit(() -> balanceChargeCombiner.charge(USER_ID, request("good-1")));
+        Future<ChargeBalanceResponse> bad = executor.submit(() -> balanceChargeCombiner.charge(USER_ID, request("bad")));
+        Future<ChargeBalanceResponse> good2 = executor.submit(() -> balanceChargeCombiner.charge(USER_ID, request("good-2")));
+        Thread.sleep(200);
+
+        // when
+        releaseFirstBatch.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(good1.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(good2.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(bad).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(java.util.concurrent.ExecutionException.class)
+            .withCauseInstanceOf(BusinessException.class);
+        executor.shutdown();
+    }
+
+    private ChargeBalanceRequest request(String idempotencyKey) {
+        return new ChargeBalanceRequest(1_000L, idempotencyKey);
+    }
+
+    private List<ChargeBalanceResponse> responses(List<ChargeBalanceRequest> requests) {
+        return requests.stream()
+            .map(request -> ChargeBalanceResponse.of(USER_ID, 0L, request.amount(), LocalDateTime.now()))
+            .toList();
+    }
+}
@@ -0,0 +1,207 @@
+package io.hhplus.ecommerce.application.usecase.user;
+
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.domain.user.BalanceChangeReason;
+import io.hhplus.ecommerce.domain.user.BalanceLedgerEntry;
+import io.hhplus.ecommerce.domain.user.BalanceLedgerRepository;
+import io.hhplus.ecommerce.domain.user.User;
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.user.JpaBalanceLedgerRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.user.JpaBalanceSnapshotRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.user.JpaUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BalanceLedgerService 통합 테스트
+ *
+ * 검증:
+ * - 락/재시도 없이 동시 충전이 모두 반영되는지 (Lost Update 없음)
+ * - 조건부 차감이 잔액을 음수로 만들지 않는지
+ * - 성공한 변경마다 원장이 한 줄씩 쌓이고, 스냅샷 + 꼬리 합계가 users.balance와 일치하는지
+ */
+@SpringBootTest(properties = "balance.snapshot.safety-lag=PT0S")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class BalanceLedgerServiceTest {
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private BalanceSnapshotService balanceSnapshotService;
+
+    @Autowired
+    private BalanceLedgerRepository balanceLedgerRepository;
+
+    @Autowired
+    private JpaBalanceLedgerRepository jpaBalanceLedgerRepository;
+
+    @Autowired
+    private JpaBalanceSnapshotRepository jpaBalanceSnapshotRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        jpaBalanceLedgerRepository.deleteAll();
+        jpaBalanceSnapshotRepository.deleteAll();
+        jpaUserRepository.deleteAll();
+        userId = userRepository.save(User.create("ledger@test.com", "ledger-user")).getId();
+    }
+
+    @Test
+    @DisplayName("같은 사용자에 대한 동시 충전 100건이 모두 반영된다")
+    void concurrentChargesAreNotLost() throws InterruptedException {
+        // given
+        int threadCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger failures = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    balanceLedgerService.charge(userId, 1_000L, null);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(failures.get()).isZero();
+        assertThat(userRepository.findBalanceById(userId)).contains(100_000L);
+    }
+
+    @Test
+    @DisplayName("동시 차감은 잔액 범위 안에서만 성공하고 나머지는 잔액 부족으로 실패한다")
+    void concurrentDeductionsNeverOverdraw() throws InterruptedException {
+        // given - 잔액 10,000원, 3,000원씩 20건 동시 차감 → 3건만 성공
+        balanceLedgerService.charge(userId, 10_000L, null);
+
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    balanceLedgerService.deduct(userId, 3_000L, 1L);
+                    successes.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_BALANCE) {
+                        insufficient.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(successes.get()).isEqualTo(3);
+        assertThat(insufficient.get()).isEqualTo(17);
+        assertThat(userRepository.findBalanceById(userId)).contains(1_000L);
+        // 충전 1건 + 성공한 차감 3건만 원장에 남음 (실패한 차감은 롤백)
+        assertThat(balanceLedgerRepository.findByUserIdOrderByIdAsc(userId)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("충전/차감 결과로 변경 후 잔액을 반환한다")
+    void returnsNewBalance() {
+        assertThat(balanceLedgerService.charge(userId, 5_000L, "key-1")).isEqualTo(5_000L);
+        assertThat(balanceLedgerService.deduct(userId, 2_000L, 1L)).isEqualTo(3_000L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 USER_NOT_FOUND")
+    void unknownUser() {
+        assertThatThrownBy(() -> balanceLedgerService.charge(99_999L, 1_000L, null))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+
+        assertThatThrownBy(() -> balanceLedgerService.deduct(99_999L, 1_000L, 1L))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("충전/결제/환불이 사유와 함께 원장에 순서대로 기록된다")
+    void appendsLedgerEntries() {
+        // when
+        balanceLedgerService.charge(userId, 10_000L, "charge-key");
+        balanceLedgerService.deduct(userId, 7_000L, 100L);
+        balanceLedgerService.refund(userId, 7_000L, 100L);
+
+        // then
+        List<BalanceLedgerEntry> entries = balanceLedgerRepository.findByUserIdOrderByIdAsc(userId);
+        assertThat(entries).extracting(BalanceLedgerEntry::getReason)
+            .containsExactly(BalanceChangeReason.CHARGE, BalanceChangeReason.PAYMENT, BalanceChangeReason.REFUND);
+        assertThat(entries).extracting(BalanceLedgerEntry::getDelta)
+            .containsExactly(10_000L, -7_000L, 7_000L);
+        assertThat(entries).extracting(BalanceLedgerEntry::getBalanceAfter)
+            .containsExactly(10_000L, 3_000L, 10_000L);
+        assertThat(entries.get(0).getIdempotencyKey()).isEqualTo("charge-key");
+        assertThat(entries.get(1).getOrderId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 꼬리 원장을 더한 재계산 잔액이 users.balance와 일치한다")
+    void reconstructedBalanceMatchesSnapshotPlusTail() {
+        // given - 스냅샷 이전 변경
+        balanceLedgerService.charge(userId, 10_000L, null);
+        balanceLedgerService.deduct(userId, 4_000L, 1L);
+        long covered = balanceSnapshotService.takeSnapshots(0L);
+
+        // when - 스냅샷 이후 변경 (꼬리)
+        balanceLedgerService.charge(userId, 2_500L, null);
+
+        // then
+        assertThat(jpaBalanceSnapshotRepository.findById(userId))
+            .hasValueSatisfying(snapshot -> {
+                assertThat(snapshot.getBalance()).isEqualTo(6_000L);
+                assertThat(snapshot.getLastLedgerId()).isEqualTo(covered);
+            });
+        assertThat(balanceSnapshotService.reconstructBalance(userId))
+            .isEqualTo(userRepository.findBalanceById(userId).orElseThrow())
+            .isEqualTo(8_500L);
+
+        // 같은 구간으로 재실행해도 중복 반영되지 않음
+        balanceSnapshotService.takeSnapshots(0L);
+        assertThat(balanceSnapshotService.reconstructBalance(userId)).isEqualTo(8_500L);
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.ecommerce.application.user;
+
+import io.hhplus.ecommerce.domain.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * UserIdMembership 단위 테스트
+ *
+ * 목적:
+ * - 비트맵 적재 후 DB 조회 없이 존재 여부를 판정하는지 검증
+ * - 비트맵 미스 시 DB 확인 후 등록되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class UserIdMembershipTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserIdMembership membership;
+
+    @Test
+    @DisplayName("키셋 페이지 단위로 적재한 사용자는 DB 조회 없이 판정한다")
+    void preloadThenContains() {
+        // given - 10,000건(청크 크기) + 2건
+        List<Long> firstChunk = LongStream.rangeClosed(1, 10_000).boxed().toList();
+        given(userRepository.findIdsAfter(0L, 10_000)).willReturn(firstChunk);
+        given(userRepository.findIdsAfter(10_000L, 10_000)).willReturn(List.of(70_000L, 70_001L));
+
+        // when
+        membership.preload();
+
+        // then - 페이지 경계(65,536)를 넘는 ID 포함
+        assertThat(membership.exists(1L)).isTrue();
+        assertThat(membership.exists(10_000L)).isTrue();
+        assertThat(membership.exists(70_001L)).isTrue();
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("비트맵에 없으면 DB로 확인하고, 존재하면 이후에는 비트맵에서 판정한다")
+    void fallbackToDatabase() {
+        // given
+        given(userRepository.existsById(42L)).willReturn(true);
+        given(userRepository.existsById(99_999L)).willReturn(false);
+
+        // when & then
+        assertThat(membership.exists(42L)).isTrue();
+        assertThat(membership.exists(42L)).isTrue();
+        assertThat(membership.exists(99_999L)).isFalse();
+
+        verify(userRepository, times(1)).existsById(42L);
+        assertThat(membership.contains(99_999L)).isFalse();
+    }
+}
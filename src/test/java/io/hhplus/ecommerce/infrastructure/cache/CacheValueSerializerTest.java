@@ -0,0 +1,98 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import io.hhplus.ecommerce.application.product.dto.ProductListResponse;
+import io.hhplus.ecommerce.application.product.dto.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CacheValueSerializer 단위 테스트
+ *
+ * 목적:
+ * - Smile 코덱 왕복 (압축/비압축)
+ * - 스키마 버전/코덱이 다르거나 헤더가 없는 엔트리는 예외 없이 미스(null) 처리
+ * - json ↔ smile 코덱 전환 중 상대 코덱으로 쓴 엔트리는 양방향 모두 미스 처리
+ */
+class CacheValueSerializerTest {
+
+    private final ProductResponse product = new ProductResponse(1L, "노트북", "고성능 노트북", 1_500_000L, 10, "전자제품");
+
+    @Test
+    @DisplayName("임계값 미만은 압축 없이, 이상은 LZ4로 압축해 같은 값으로 복원한다")
+    void roundTrip() {
+        // given
+        CacheValueSerializer serializer = new CacheValueSerializer(new SmileCacheCodec(ProductListResponse.class), 1, 1024);
+        ProductListResponse small = ProductListResponse.of(new ArrayList<>(List.of(product)));
+        ProductListResponse large = ProductListResponse.of(products(500));
+
+        // when
+        byte[] smallBytes = serializer.serialize(small);
+        byte[] largeBytes = serializer.serialize(large);
+
+        // then
+        assertThat(smallBytes[2] & CacheValueSerializer.FLAG_LZ4).isZero();
+        assertThat(largeBytes[2] & CacheValueSerializer.FLAG_LZ4).isEqualTo(CacheValueSerializer.FLAG_LZ4);
+        assertThat(serializer.deserialize(smallBytes)).isEqualTo(small);
+        assertThat(serializer.deserialize(largeBytes)).isEqualTo(large);
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다른 엔트리는 미스로 처리한다")
+    void schemaMismatchIsMiss() {
+        // given
+        CacheValueSerializer v1 = new CacheValueSerializer(new SmileCacheCodec(ProductResponse.class), 1, 1024);
+        CacheValueSerializer v2 = new CacheValueSerializer(new SmileCacheCodec(ProductResponse.class), 2, 1024);
+
+        // when
+        byte[] written = v1.serialize(product);
+
+        // then
+        assertThat(v2.deserialize(written)).isNull();
+        assertThat(v1.deserialize(written)).isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 기존 JSON 엔트리는 미스로 처리한다")
+    void legacyJsonIsMiss() {
+        // given
+        CacheValueSerializer serializer = new CacheValueSerializer(new SmileCacheCodec(ProductResponse.class), 1, 1024);
+        byte[] legacy = "{\"@class\":\"ProductResponse\",\"productId\":1}".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(serializer.deserialize(legacy)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("코덱 전환 중: smile로 쓴 엔트리를 json 코덱이, json으로 쓴 엔트리를 smile 코덱이 읽으면 미스")
+    void crossCodecIsMiss() {
+        // given
+        CacheValueSerializer smile = new CacheValueSerializer(new SmileCacheCodec(ProductResponse.class), 1, 1024);
+        JsonCacheValueSerializer json = new JsonCacheValueSerializer(new GenericJackson2JsonRedisSerializer());
+
+        // when
+        byte[] writtenBySmile = smile.serialize(product);
+        byte[] writtenByJson = json.serialize(product);
+
+        // then
+        assertThat(json.deserialize(writtenBySmile)).isNull();
+        assertThat(smile.deserialize(writtenByJson)).isNull();
+        assertThat(json.deserialize(writtenByJson)).isEqualTo(product);
+        assertThat(smile.deserialize(writtenBySmile)).isEqualTo(product);
+    }
+
+    private List<ProductResponse> products(int count) {
+        List<ProductResponse> products = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            products.add(new ProductResponse(i, "상품 " + i, "상품 설명 " + i, 10_000L * i, 100, "카테고리" + (i % 5)));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.ecommerce.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RefreshAheadCache / CacheRefreshAhead 단위 테스트
+ *
+ * 목적:
+ * - 히트 시 기존 값을 바로 반환하고, 만료 직전 구간에서만 재계산하는지 검증
+ * - 리스를 얻은 노드만 재계산하는지 검증
+ * - window 밖의 히트는 노드 로컬 기억으로 PTTL 조회를 생략하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshAheadCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCache target = new ConcurrentMapCache("product");
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // 재계산을 호출 스레드에서 바로 실행
+        CacheRefreshAhead refreshAhead = new CacheRefreshAhead(redisTemplate, Runnable::run, meterRegistry);
+        cache = new RefreshAheadCache(target, "product::", TTL, refreshAhead);
+        target.put(1L, "stale");
+    }
+
+    @Test
+    @DisplayName("만료까지 여유가 있으면 재계산하지 않고, 다음 히트는 PTTL 조회도 생략한다")
+    void skipsWhenFarFromExpiry() {
+        // given - 남은 TTL 9분 (window = 2분)
+        when(redisTemplate.getExpire("product::1", TimeUnit.MILLISECONDS)).thenReturn(Duration.ofMinutes(9).toMillis());
+
+        // when
+        String first = cache.get(1L, this::load);
+        String second = cache.get(1L, this::load);
+
+        // then
+        assertThat(first).isEqualTo("stale");
+        assertThat(second).isEqualTo("stale");
+        assertThat(loads).hasValue(0);
+        verify(redisTemplate, times(1)).getExpire("product::1", TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("만료 직전 히트는 기존 값을 반환하고, 리스를 얻으면 백그라운드에서 값을 갱신한다")
+    void refreshesNearExpiry() {
+        // given - 남은 TTL 30초
+        when(redisTemplate.getExpire("product::1", TimeUnit.MILLISECONDS)).thenReturn(30_000L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("cache:refresh-lease:product::1"), anyString(), any(Duration.class)))
+            .thenReturn(true);
+
+        // when
+        String served = cache.get(1L, this::load);
+
+        // then
+        assertThat(served).isEqualTo("stale");
+        assertThat(loads).hasValue(1);
+        assertThat(target.get(1L).get()).isEqualTo("fresh-1");
+        assertThat(meterRegistry.get("cache_refresh_ahead_total")
+            .tag("cache", "product").tag("result", "refreshed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 가지고 있으면 재계산하지 않는다")
+    void skipsWhenLeaseBusy() {
+        // given
+        when(redisTemplate.getExpire("product::1", TimeUnit.MILLISECONDS)).thenReturn(30_000L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("cache:refresh-lease:product::1"), anyString(), any(Duration.class)))
+            .thenReturn(false);
+
+        // when
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        // then - 두 번째 히트는 리스 만료 전까지 Redis 확인 없이 통과
+        assertThat(loads).hasValue(0);
+        assertThat(target.get(1L).get()).isEqualTo("stale");
+        verify(redisTemplate, times(1)).getExpire("product::1", TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("캐시 미스는 원래 로더로 적재한다")
+    void loadsOnMiss() {
+        // when
+        String loaded = cache.get(2L, this::load);
+
+        // then
+        assertThat(loaded).isEqualTo("fresh-1");
+        assertThat(target.get(2L).get()).isEqualTo("fresh-1");
+    }
+
+    private String load() {
+        return "fresh-" + loads.incrementAndGet();
+    }
+}
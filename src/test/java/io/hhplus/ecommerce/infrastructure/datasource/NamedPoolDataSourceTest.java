@@ -0,0 +1,128 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 용도별 커넥션 풀 분리 테스트
+ *
+ * - 풀 선택은 db_pool_route_total{pool} 증가량으로 확인
+ * - queryTimeout은 SELECT SLEEP()이 타임아웃으로 취소되는지로 확인
+ */
+@SpringBootTest(properties = {
+    "datasource.pools.enabled=true",
+    "datasource.pools.names=side,read,batch",
+    "datasource.pools.side.maximum-pool-size=2",
+    "datasource.pools.side.minimum-idle=1",
+    "datasource.pools.read.maximum-pool-size=2",
+    "datasource.pools.read.minimum-idle=1",
+    "datasource.pools.batch.maximum-pool-size=2",
+    "datasource.pools.batch.minimum-idle=1"
+})
+@ActiveProfiles("test")
+@Import({TestContainersConfig.class, NamedPoolDataSourceTest.PooledQueriesConfig.class})
+@DisplayName("NamedPoolDataSource 테스트")
+class NamedPoolDataSourceTest {
+
+    @TestConfiguration
+    static class PooledQueriesConfig {
+        @Bean
+        PooledQueries pooledQueries(JdbcTemplate jdbcTemplate) {
+            return new PooledQueries(jdbcTemplate);
+        }
+    }
+
+    static class PooledQueries {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        PooledQueries(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Transactional
+        public int write() {
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        }
+
+        @Transactional(readOnly = true)
+        public int read() {
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        }
+
+        @ConnectionPool("batch")
+        @Transactional
+        public int batch() {
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        }
+
+        @ConnectionPool(value = "side", queryTimeoutSeconds = 1)
+        @Transactional
+        public int slow() {
+            return jdbcTemplate.queryForObject("SELECT SLEEP(5)", Integer.class);
+        }
+    }
+
+    @Autowired
+    private PooledQueries pooledQueries;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("지정이 없으면 쓰기는 primary, 읽기 전용은 read 풀을 사용한다")
+    void routesByDefaultRules() {
+        // given
+        double primaryBefore = routed(NamedPoolDataSource.PRIMARY);
+        double readBefore = routed(NamedPoolDataSource.READ);
+
+        // when
+        pooledQueries.write();
+        pooledQueries.read();
+
+        // then
+        assertThat(routed(NamedPoolDataSource.PRIMARY)).isEqualTo(primaryBefore + 1);
+        assertThat(routed(NamedPoolDataSource.READ)).isEqualTo(readBefore + 1);
+    }
+
+    @Test
+    @DisplayName("@ConnectionPool로 지정한 풀을 사용한다")
+    void routesToAnnotatedPool() {
+        // given
+        double before = routed("batch");
+
+        // when
+        pooledQueries.batch();
+
+        // then
+        assertThat(routed("batch")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("queryTimeout을 넘긴 쿼리는 취소된다")
+    void appliesQueryTimeout() {
+        // when & then
+        assertThatThrownBy(() -> pooledQueries.slow())
+            .isInstanceOf(DataAccessException.class);
+    }
+
+    private double routed(String pool) {
+        Counter counter = meterRegistry.find("db_pool_route_total").tag("pool", pool).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
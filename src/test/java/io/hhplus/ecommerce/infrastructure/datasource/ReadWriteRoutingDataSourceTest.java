@@ -0,0 +1,119 @@
+package io.hhplus.ecommerce.infrastructure.datasource;
+
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 라우팅 테스트
+ *
+ * MySQL 컨테이너 2개 (TestContainersConfig의 primary + 레플리카 역할 컨테이너)
+ * - 복제는 구성하지 않고 @@server_uuid로 어느 인스턴스에 연결됐는지만 확인
+ * - 라우팅 확인 테스트는 lag-check를 끄고, 폴백 확인은 ReplicaLagMonitor를 직접 생성
+ */
+@SpringBootTest(properties = {
+    "datasource.routing.enabled=true",
+    "datasource.routing.lag-check.enabled=false",
+    "datasource.routing.replicas[0].maximum-pool-size=5",
+    "datasource.routing.replicas[0].minimum-idle=1"
+})
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    static final MySQLContainer<?> replica = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+        .withDatabaseName("test_ecommerce")
+        .withUsername("test")
+        .withPassword("test");
+
+    static {
+        replica.start();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.routing.replicas[0].url", replica::getJdbcUrl);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.end();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 primary로 간다")
+    void routesByTransactionReadOnly() {
+        // when
+        String readOnlyServer = inTransaction(true);
+        String readWriteServer = inTransaction(false);
+
+        // then
+        assertThat(readOnlyServer).isEqualTo(serverUuid(replica));
+        assertThat(readWriteServer).isNotEqualTo(readOnlyServer);
+    }
+
+    @Test
+    @DisplayName("요청 안에서 primary를 쓴 뒤의 읽기는 primary로 고정된다 (read-your-writes)")
+    void pinsPrimaryAfterWriteInRequest() {
+        // given
+        DataSourceRoutingContext.begin(false);
+        String primaryServer = inTransaction(false);
+
+        // when
+        String readAfterWrite = inTransaction(true);
+
+        // then
+        assertThat(DataSourceRoutingContext.wrote()).isTrue();
+        assertThat(readAfterWrite).isEqualTo(primaryServer);
+    }
+
+    @Test
+    @DisplayName("복제 상태를 확인할 수 없는 레플리카는 읽기 대상에서 제외된다")
+    void lagMonitorExcludesNonReplicatingReplica() {
+        // given: 복제가 구성되지 않은 인스턴스 (SHOW REPLICA STATUS 결과 없음)
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            replica.getJdbcUrl(), "root", replica.getPassword());
+
+        // when
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(Map.of("replica-0", dataSource), 2, true, new SimpleMeterRegistry());
+
+        // then
+        assertThat(monitor.healthyReplicas()).isEmpty();
+    }
+
+    private String inTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_uuid", String.class));
+    }
+
+    private String serverUuid(MySQLContainer<?> container) {
+        return new JdbcTemplate(new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword()))
+            .queryForObject("SELECT @@server_uuid", String.class);
+    }
+}
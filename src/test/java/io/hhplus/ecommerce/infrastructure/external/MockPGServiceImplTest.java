@@ -0,0 +1,48 @@
+package io.hhplus.ecommerce.infrastructure.external;
+
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MockPGServiceImpl 승인 기록 보관 테스트")
+class MockPGServiceImplTest {
+
+    @Test
+    @DisplayName("승인 기록은 상한을 넘으면 오래된 것부터 제거된다")
+    void approvals_areBoundedBySize() {
+        // given
+        MockPGServiceImpl pgService = new MockPGServiceImpl();
+        ReflectionTestUtils.setField(pgService, "approvalMaxSize", 2);
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            pgService.charge(new PaymentRequest(1L, "PAY-" + i));
+        }
+
+        // then
+        assertThat(pgService.getPaymentStatus("PAY-1").isSuccess()).isFalse();
+        assertThat(pgService.getPaymentStatus("PAY-2").isSuccess()).isTrue();
+        assertThat(pgService.getPaymentStatus("PAY-3").isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 승인 기록은 조회되지 않고 다음 승인 시 제거된다")
+    void approvals_expireAfterRetention() {
+        // given
+        MockPGServiceImpl pgService = new MockPGServiceImpl();
+        ReflectionTestUtils.setField(pgService, "approvalRetention", Duration.ZERO);
+
+        // when
+        pgService.charge(new PaymentRequest(1L, "PAY-1"));
+        pgService.charge(new PaymentRequest(1L, "PAY-2"));
+
+        // then
+        assertThat(pgService.getPaymentStatus("PAY-1").isSuccess()).isFalse();
+        assertThat(pgService.getPaymentStatus("PAY-2").isSuccess()).isFalse();
+    }
+}
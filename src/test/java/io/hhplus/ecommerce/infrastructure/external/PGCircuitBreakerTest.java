@@ -0,0 +1,94 @@
+package io.hhplus.ecommerce.infrastructure.external;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PGCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<PGCircuitBreaker.State> transitions = new ArrayList<>();
+    private PGCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        // 윈도우 10건, 최소 4건, 실패율 50%, OPEN 10초, 시험 호출 2건
+        circuitBreaker = new PGCircuitBreaker(10, 4, 50.0, Duration.ofSeconds(10), 2, clock::get, transitions::add);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 이후 실패율이 임계치에 도달하면 OPEN되고 호출을 거절한다")
+    void opensAtFailureRateThreshold() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(PGCircuitBreaker.State.CLOSED);  // 3건 < 최소 4건
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(PGCircuitBreaker.State.OPEN);   // 3/4 = 75%
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 윈도우에서 밀려나 실패율에 반영되지 않는다")
+    void slidingWindowForgetsOldOutcomes() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onSuccess();
+        }
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.onSuccess();
+        }
+
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(PGCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 HALF_OPEN에서 정해진 수만큼 시험 호출하고, 모두 성공하면 CLOSED")
+    void halfOpenClosesAfterSuccessfulTrials() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();  // 시험 호출 2건까지만
+        assertThat(circuitBreaker.getState()).isEqualTo(PGCircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(PGCircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly(
+            PGCircuitBreaker.State.OPEN, PGCircuitBreaker.State.HALF_OPEN, PGCircuitBreaker.State.CLOSED
+        );
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void halfOpenReopensOnFailure() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(PGCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(PGCircuitBreaker.State.OPEN);
+    }
+}
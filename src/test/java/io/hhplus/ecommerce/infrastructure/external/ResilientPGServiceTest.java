@@ -0,0 +1,215 @@
+package io.hhplus.ecommerce.infrastructure.external;
+
+import io.hhplus.ecommerce.application.order.dto.PaymentRequest;
+import io.hhplus.ecommerce.common.exception.BusinessException;
+import io.hhplus.ecommerce.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientPGServiceTest {
+
+    private final StubPGService delegate = new StubPGService();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResilientPGService resilientPGService;
+
+    @BeforeEach
+    void setUp() {
+        resilientPGService = new ResilientPGService(delegate, meterRegistry);
+        ReflectionTestUtils.setField(resilientPGService, "maxConcurrentCalls", 2);
+        ReflectionTestUtils.setField(resilientPGService, "maxWait", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(resilientPGService, "chargeTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(resilientPGService, "statusTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(resilientPGService, "slidingWindowSize", 10);
+        ReflectionTestUtils.setField(resilientPGService, "minimumCalls", 4);
+        ReflectionTestUtils.setField(resilientPGService, "openWait", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(resilientPGService, "hedgeDelay", Duration.ofMillis(50));
+        resilientPGService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilientPGService.shutdown();
+    }
+
+    @Test
+    @DisplayName("PG 오류가 누적되면 서킷이 열리고 이후 요청은 PG 호출 없이 즉시 PG_UNAVAILABLE")
+    void failuresOpenCircuit() {
+        // given
+        delegate.charge = request -> {
+            throw new IllegalStateException("PG 5xx");
+        };
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> resilientPGService.charge(request("key-error")))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        // when & then
+        assertThat(resilientPGService.getCircuitState()).isEqualTo(PGCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> resilientPGService.charge(request("key-open")))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PG_UNAVAILABLE);
+        assertThat(delegate.chargeCalls.get()).isEqualTo(4);
+        assertThat(meterRegistry.get("pg_calls_total").tag("outcome", "rejected_circuit").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("pg_circuit_state").tag("state", "open").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("승인 거절 응답은 PG 정상 동작이므로 서킷을 열지 않는다")
+    void declinesKeepCircuitClosed() {
+        delegate.charge = request -> PGResponse.failure("한도 초과");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(resilientPGService.charge(request("key-" + i)).isSuccess()).isFalse();
+        }
+
+        assertThat(resilientPGService.getCircuitState()).isEqualTo(PGCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 대기하지 않고 거절된다")
+    void bulkheadRejectsBeyondLimit() throws Exception {
+        // given - 2건이 PG 응답을 기다리는 중
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        delegate.charge = request -> {
+            started.countDown();
+            await(release);
+            return PGResponse.success("TX-" + request.idempotencyKey());
+        };
+        ReflectionTestUtils.setField(resilientPGService, "chargeTimeout", Duration.ofSeconds(5));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<PGResponse> first = executor.submit(() -> resilientPGService.charge(request("key-1")));
+        Future<PGResponse> second = executor.submit(() -> resilientPGService.charge(request("key-2")));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> resilientPGService.charge(request("key-3")))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PG_UNAVAILABLE);
+        assertThat(meterRegistry.get("pg_bulkhead_in_flight").gauge().value()).isEqualTo(2.0);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("승인 응답이 타임아웃되면 상태 조회로 승인 여부를 확정한다")
+    void timedOutChargeResolvedByStatusQuery() {
+        // given - 승인은 됐지만 응답이 늦음
+        delegate.charge = request -> {
+            sleep(1_000);
+            return PGResponse.success("TX-LATE");
+        };
+        delegate.status = key -> PGResponse.success("TX-LATE");
+
+        // when
+        PGResponse response = resilientPGService.charge(request("key-timeout"));
+
+        // then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getTransactionId()).isEqualTo("TX-LATE");
+        assertThat(meterRegistry.get("pg_calls_total").tag("outcome", "timeout").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("승인 타임아웃 후 상태 조회도 실패하면 실패가 아니라 결과 불명(PG_OUTCOME_UNKNOWN)으로 알린다")
+    void timedOutChargeWithFailedStatusQueryIsOutcomeUnknown() {
+        // given - 승인 응답이 늦고, 상태 조회는 오류
+        delegate.charge = request -> {
+            sleep(1_000);
+            return PGResponse.success("TX-LATE");
+        };
+        delegate.status = key -> {
+            throw new IllegalStateException("PG 5xx");
+        };
+
+        // when & then
+        assertThatThrownBy(() -> resilientPGService.charge(request("key-unknown")))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PG_OUTCOME_UNKNOWN);
+        assertThat(meterRegistry.get("pg_calls_total").tag("outcome", "outcome_unknown").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상태 조회가 헤지 지연 안에 오지 않으면 한 번 더 보내 먼저 온 응답을 사용한다")
+    void hedgedStatusQueryUsesFirstResponse() {
+        // given - 첫 조회만 느림
+        AtomicInteger attempt = new AtomicInteger();
+        delegate.status = key -> {
+            if (attempt.incrementAndGet() == 1) {
+                sleep(800);
+                return PGResponse.success("TX-SLOW");
+            }
+            return PGResponse.success("TX-FAST");
+        };
+
+        // when
+        long startedAt = System.nanoTime();
+        PGResponse response = resilientPGService.getPaymentStatus("key-status");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(response.getTransactionId()).isEqualTo("TX-FAST");
+        assertThat(elapsedMillis).isLessThan(800);
+        assertThat(meterRegistry.get("pg_hedged_requests_total").counter().count()).isEqualTo(1.0);
+    }
+
+    private PaymentRequest request(String idempotencyKey) {
+        return new PaymentRequest(1L, idempotencyKey);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class StubPGService implements PGService {
+
+        private final AtomicInteger chargeCalls = new AtomicInteger();
+        private volatile Function<PaymentRequest, PGResponse> charge = request -> PGResponse.success("TX");
+        private volatile Function<String, PGResponse> status = key -> PGResponse.failure("승인 내역 없음");
+
+        @Override
+        public PGResponse charge(PaymentRequest request) {
+            chargeCalls.incrementAndGet();
+            return charge.apply(request);
+        }
+
+        @Override
+        public PGResponse getPaymentStatus(String idempotencyKey) {
+            return status.apply(idempotencyKey);
+        }
+    }
+}
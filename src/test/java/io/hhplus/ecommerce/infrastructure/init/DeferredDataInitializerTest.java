@@ -0,0 +1,83 @@
+package io.hhplus.ecommerce.infrastructure.init;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class DeferredDataInitializerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeferredDataInitializer initializer = new DeferredDataInitializer(meterRegistry);
+    private final DataInitHealthIndicator healthIndicator = new DataInitHealthIndicator(initializer);
+
+    @AfterEach
+    void tearDown() {
+        initializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("지연 작업이 끝날 때까지 readiness는 OUT_OF_SERVICE, 끝나면 UP + 준비 시간 기록")
+    void gatesReadinessUntilTasksComplete() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        initializer.submit("slow-seed", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        initializer.onApplicationReady();
+
+        // then - 러너는 바로 반환, 작업 진행 중
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(meterRegistry.find("startup_time_to_ready_seconds").gauge()).isNull();
+
+        // when
+        release.countDown();
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> healthIndicator.health().getStatus().equals(Status.UP));
+        assertThat(meterRegistry.get("startup_time_to_ready_seconds").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("startup_data_init_seconds")
+            .tag("task", "slow-seed").tag("result", "completed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 끝난 것으로 보고 readiness를 막지 않는다")
+    void failedTaskDoesNotBlockReadiness() {
+        initializer.submit("broken-seed", () -> {
+            throw new IllegalStateException("seed failure");
+        });
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> healthIndicator.health().getStatus().equals(Status.UP));
+        assertThat(initializer.tasks()).containsEntry("broken-seed", DeferredDataInitializer.TaskState.FAILED);
+    }
+
+    @Test
+    @DisplayName("지연 모드를 끄면 호출 스레드에서 바로 실행하고 예외를 전파한다")
+    void runsInlineWhenNotDeferred() {
+        ReflectionTestUtils.setField(initializer, "deferred", false);
+        String caller = Thread.currentThread().getName();
+        String[] executedOn = new String[1];
+
+        initializer.submit("inline", () -> executedOn[0] = Thread.currentThread().getName());
+
+        assertThat(executedOn[0]).isEqualTo(caller);
+        assertThatThrownBy(() -> initializer.submit("inline-broken", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
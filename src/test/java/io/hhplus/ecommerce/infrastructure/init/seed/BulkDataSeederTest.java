@@ -0,0 +1,128 @@
+package io.hhplus.ecommerce.infrastructure.init.seed;
+
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 시드 생성기 통합 테스트 (다중 행 INSERT 경로, 소규모)
+ *
+ * 검증:
+ * - 청크 경계/병렬 적재 후 설정한 건수가 정확히 적재
+ * - 주문 금액 = 항목 소계 합, 주문마다 항목 1개 이상
+ * - 상품 인기도 편중 (1위 상품이 가장 많이 주문됨)
+ * - 잔액 스냅샷/주문 요약 읽기 모델 동반 적재
+ *
+ * LOAD DATA 경로는 서버 local_infile 설정이 필요해 테스트 컨테이너에서는 검증하지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class BulkDataSeederTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MultiRowInsertSeedWriter insertWriter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkDataSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        seeder = new BulkDataSeeder(jdbcTemplate, List.of(insertWriter), meterRegistry, null);
+        ReflectionTestUtils.setField(seeder, "parallelism", 2);
+        ReflectionTestUtils.setField(seeder, "chunkSize", 37);  // 청크 경계가 건수와 맞지 않도록
+        ReflectionTestUtils.setField(seeder, "users", 60L);
+        ReflectionTestUtils.setField(seeder, "products", 30L);
+        ReflectionTestUtils.setField(seeder, "coupons", 3L);
+        ReflectionTestUtils.setField(seeder, "userCoupons", 100L);
+        ReflectionTestUtils.setField(seeder, "carts", 20L);
+        ReflectionTestUtils.setField(seeder, "orders", 300L);
+    }
+
+    @Test
+    @DisplayName("설정한 규모만큼 부모-자식 순서로 적재하고 주문 요약까지 반영한다")
+    void seedsConfiguredCardinalities() {
+        // given
+        long userBase = maxId("users");
+        long productBase = maxId("products");
+        long couponBase = maxId("coupons");
+        long cartBase = maxId("carts");
+        long orderBase = maxId("orders");
+
+        // when
+        seeder.seed();
+
+        // then - 건수
+        assertThat(count("SELECT COUNT(*) FROM users WHERE id > ?", userBase)).isEqualTo(60);
+        assertThat(count("SELECT COUNT(*) FROM balance_snapshots WHERE user_id > ?", userBase)).isEqualTo(60);
+        assertThat(count("SELECT COUNT(*) FROM products WHERE id > ?", productBase)).isEqualTo(30);
+        assertThat(count("SELECT COUNT(*) FROM user_coupons WHERE coupon_id > ?", couponBase)).isEqualTo(100);
+        assertThat(count("SELECT COUNT(*) FROM carts WHERE id > ?", cartBase)).isEqualTo(20);
+        assertThat(count("SELECT COUNT(*) FROM orders WHERE id > ?", orderBase)).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM order_summaries WHERE order_id > ?", orderBase)).isEqualTo(300);
+
+        // 쿠폰 발급 수량 = 발급 행 수 (60 + 40 + 0)
+        assertThat(count("SELECT SUM(issued_quantity) FROM coupons WHERE id > ?", couponBase)).isEqualTo(100);
+
+        // 주문 금액 정합성
+        assertThat(count("""
+            SELECT COUNT(*) FROM orders o
+            WHERE o.id > ?
+              AND (o.subtotal_amount <> (SELECT COALESCE(SUM(oi.subtotal), 0) FROM order_items oi WHERE oi.order_id = o.id)
+                   OR o.total_amount <> o.subtotal_amount - o.discount_amount)
+            """, orderBase)).isZero();
+
+        // 상품 인기도 편중: 1위(가장 작은 ID) 상품이 가장 많이 주문됨
+        Long topProductId = jdbcTemplate.queryForObject("""
+            SELECT oi.product_id FROM order_items oi
+            WHERE oi.order_id > ?
+            GROUP BY oi.product_id
+            ORDER BY COUNT(*) DESC
+            LIMIT 1
+            """, Long.class, orderBase);
+        assertThat(topProductId).isEqualTo(productBase + 1);
+
+        assertThat(meterRegistry.get("seed_rows_written").tag("table", "orders").counter().count()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("가격은 상품 순번으로 결정되어 주문 항목 단가와 상품 가격이 일치한다")
+    void unitPriceMatchesProductPrice() {
+        long productBase = maxId("products");
+        long orderBase = maxId("orders");
+
+        seeder.seed();
+
+        assertThat(count("""
+            SELECT COUNT(*) FROM order_items oi
+            JOIN products p ON p.id = oi.product_id
+            WHERE oi.order_id > ? AND oi.unit_price <> p.price
+            """, orderBase)).isZero();
+        assertThat(BulkDataSeeder.priceOf(0)).isEqualTo(
+            jdbcTemplate.queryForObject("SELECT price FROM products WHERE id = ?", Long.class, productBase + 1));
+    }
+
+    private long maxId(String table) {
+        return count("SELECT COALESCE(MAX(id), 0) FROM " + table);
+    }
+
+    private long count(String sql, Object... args) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return value != null ? value : 0L;
+    }
+}
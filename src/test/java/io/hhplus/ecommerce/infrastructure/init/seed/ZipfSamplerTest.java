@@ -0,0 +1,66 @@
+package io.hhplus.ecommerce.infrastructure.init.seed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("상위 순위일수록 더 자주 뽑히고, 순위 비율은 1/k^s를 따른다")
+    void skewedTowardsTopRanks() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(1_000, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] hits = new int[1_000];
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            hits[sampler.sample(random)]++;
+        }
+
+        // then - P(0) / P(1) = 2 (s = 1)
+        assertThat(hits[0]).isGreaterThan(hits[1]).isGreaterThan(hits[10]).isGreaterThan(hits[999]);
+        assertThat((double) hits[0] / hits[1]).isBetween(1.8, 2.2);
+    }
+
+    @Test
+    @DisplayName("exponent 0이면 균등 분포, 결과는 항상 범위 안")
+    void uniformWhenExponentZero() {
+        ZipfSampler sampler = new ZipfSampler(10, 0);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] hits = new int[10];
+
+        for (int i = 0; i < 100_000; i++) {
+            int rank = sampler.sample(random);
+            assertThat(rank).isBetween(0, 9);
+            hits[rank]++;
+        }
+
+        for (int hit : hits) {
+            assertThat(hit).isBetween(9_000, 11_000);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 순서로 샘플링된다 (재현 가능한 시드 데이터)")
+    void deterministicWithSameSeed() {
+        ZipfSampler sampler = new ZipfSampler(100, 1.1);
+        SplittableRandom first = new SplittableRandom(1);
+        SplittableRandom second = new SplittableRandom(1);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sampler.sample(first)).isEqualTo(sampler.sample(second));
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfSampler(10, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.ecommerce.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KeyOrderedBatchProcessor 단위 테스트
+ *
+ * 목적:
+ * - 같은 키는 offset 순서대로, 다른 키는 병렬로 처리
+ * - 실패한 키의 이후 레코드는 건너뛰고 실패 목록으로 반환 (다른 키는 계속 처리)
+ */
+class KeyOrderedBatchProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KeyOrderedBatchProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new KeyOrderedBatchProcessor(meterRegistry);
+        processor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키의 레코드는 offset 순서대로 처리된다")
+    void preservesOrderPerKey() {
+        // given: 키 3개가 한 파티션에 섞여 있음
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (long offset = 0; offset < 300; offset++) {
+            records.add(new ConsumerRecord<>("order-completed", 0, offset, "user-" + (offset % 3), "v" + offset));
+        }
+        Map<String, List<Long>> processed = new ConcurrentHashMap<>();
+
+        // when
+        List<ConsumerRecord<String, String>> failed = processor.process("data-platform", records, record ->
+            processed.computeIfAbsent(record.key(), ignored -> new CopyOnWriteArrayList<>()).add(record.offset()));
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(processed).hasSize(3);
+        processed.values().forEach(offsets -> assertThat(offsets).isSorted().hasSize(100));
+        assertThat(meterRegistry.get("kafka_consumer_records_processed_total")
+            .tag("result", "success").counter().count()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("실패한 키의 이후 레코드는 건너뛰고 다른 키는 계속 처리한다")
+    void skipsRemainingRecordsOfFailedKey() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(
+            new ConsumerRecord<>("order-completed", 0, 0L, "a", "ok"),
+            new ConsumerRecord<>("order-completed", 0, 1L, "b", "fail"),
+            new ConsumerRecord<>("order-completed", 0, 2L, "a", "ok"),
+            new ConsumerRecord<>("order-completed", 0, 3L, "b", "ok")
+        );
+        List<Long> processed = new CopyOnWriteArrayList<>();
+
+        // when
+        List<ConsumerRecord<String, String>> failed = processor.process("data-platform", records, record -> {
+            if (record.value().equals("fail")) {
+                throw new IllegalStateException("boom");
+            }
+            processed.add(record.offset());
+        });
+
+        // then
+        assertThat(processed).containsExactlyInAnyOrder(0L, 2L);
+        assertThat(failed).extracting(ConsumerRecord::offset).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("순서 키가 없으면 파티션 단위로 순서를 지킨다")
+    void fallsBackToPartitionWhenKeyMissing() {
+        // given
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (long offset = 0; offset < 100; offset++) {
+            records.add(new ConsumerRecord<>("order-completed", (int) (offset % 2), offset, null, "v" + offset));
+        }
+        Map<Integer, List<Long>> processed = new ConcurrentHashMap<>();
+
+        // when
+        processor.process("data-platform", records, record ->
+            processed.computeIfAbsent(record.partition(), ignored -> new CopyOnWriteArrayList<>()).add(record.offset()));
+
+        // then
+        assertThat(processed).hasSize(2);
+        processed.values().forEach(offsets -> assertThat(offsets).isSorted().hasSize(50));
+    }
+}
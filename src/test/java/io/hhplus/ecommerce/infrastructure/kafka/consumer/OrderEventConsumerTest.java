@@ -1,19 +1,27 @@
 package io.hhplus.ecommerce.infrastructure.kafka.consumer;
 
 import io.hhplus.ecommerce.infrastructure.kafka.message.OrderCompletedMessage;
+import io.hhplus.ecommerce.infrastructure.redis.EventDeduplicationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -22,104 +30,123 @@ import static org.mockito.Mockito.*;
 class OrderEventConsumerTest {
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
+    private EventDeduplicationStore deduplicationStore;
 
     @Mock
     private Acknowledgment acknowledgment;
 
+    private KeyOrderedBatchProcessor batchProcessor;
     private OrderEventConsumer orderEventConsumer;
 
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        orderEventConsumer = new OrderEventConsumer(redisTemplate);
+        batchProcessor = new KeyOrderedBatchProcessor(new SimpleMeterRegistry());
+        batchProcessor.init();
+        orderEventConsumer = new OrderEventConsumer(deduplicationStore, batchProcessor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchProcessor.shutdown();
     }
 
     @Test
-    @DisplayName("새 메시지를 처음 처리하면 비즈니스 로직 실행 후 ACK")
-    void consumeNewMessage() {
+    @DisplayName("새 메시지를 처음 처리하면 비즈니스 로직 실행 후 배치 단위로 ACK")
+    void consumeNewMessages() {
         // given
-        OrderCompletedMessage message = new OrderCompletedMessage(
-            1L,
-            100L,
-            50000L,
-            LocalDateTime.now()
+        List<ConsumerRecord<String, OrderCompletedMessage>> records = List.of(
+            record(0, 0L, 1L, 100L),
+            record(0, 1L, 2L, 200L)
         );
-        int partition = 0;
 
-        // Redis SETNX 성공 (처음 처리)
-        when(valueOperations.setIfAbsent(
-            eq("kafka:processed:order:1"),
-            eq("1"),
-            any(Duration.class)
-        )).thenReturn(true);
+        // 처음 처리
+        when(deduplicationStore.containsAll(eq("kafka:processed:order:"), eq(List.of("1", "2")))).thenReturn(List.of(false, false));
 
         // when
-        orderEventConsumer.consumeOrderCompleted(message, acknowledgment, partition);
+        orderEventConsumer.consumeOrderCompleted(records, acknowledgment);
 
-        // then
-        verify(valueOperations, times(1)).setIfAbsent(
-            eq("kafka:processed:order:1"),
-            eq("1"),
-            eq(Duration.ofDays(7))
-        );
+        // then: 배치당 확인 1회, 처리 완료 기록 1회, ACK 1회
+        verify(deduplicationStore, times(1)).containsAll(anyString(), anyList());
+        verify(deduplicationStore, times(1)).claimAll(eq("kafka:processed:order:"), argThat(ids -> Set.copyOf(ids).equals(Set.of("1", "2"))));
         verify(acknowledgment, times(1)).acknowledge();
     }
 
     @Test
-    @DisplayName("중복 메시지는 비즈니스 로직 실행하지 않고 즉시 ACK")
+    @DisplayName("중복 메시지는 비즈니스 로직 실행하지 않고 배치와 함께 ACK")
     void consumeDuplicateMessage() {
         // given
-        OrderCompletedMessage message = new OrderCompletedMessage(
-            2L,
-            200L,
-            100000L,
-            LocalDateTime.now()
+        List<ConsumerRecord<String, OrderCompletedMessage>> records = List.of(
+            record(1, 0L, 2L, 200L),
+            record(1, 1L, 3L, 300L)
         );
-        int partition = 1;
 
-        // Redis SETNX 실패 (이미 처리됨)
-        when(valueOperations.setIfAbsent(
-            eq("kafka:processed:order:2"),
-            eq("1"),
-            any(Duration.class)
-        )).thenReturn(false);
+        // 첫 레코드는 이미 처리됨
+        when(deduplicationStore.containsAll(eq("kafka:processed:order:"), eq(List.of("2", "3")))).thenReturn(List.of(true, false));
 
         // when
-        orderEventConsumer.consumeOrderCompleted(message, acknowledgment, partition);
+        orderEventConsumer.consumeOrderCompleted(records, acknowledgment);
 
-        // then
-        verify(valueOperations, times(1)).setIfAbsent(
-            eq("kafka:processed:order:2"),
-            eq("1"),
-            eq(Duration.ofDays(7))
-        );
-        // 중복 메시지도 ACK는 해야 함 (재처리 방지)
+        // then: 중복 메시지도 ACK는 해야 함 (재처리 방지), 새로 처리한 레코드만 기록
         verify(acknowledgment, times(1)).acknowledge();
+        verify(deduplicationStore, times(1)).claimAll("kafka:processed:order:", List.of("3"));
     }
 
     @Test
-    @DisplayName("메시지 수신 시 로깅을 위한 메타데이터 확인")
-    void consumeMessageWithMetadata() {
-        // given
-        OrderCompletedMessage message = new OrderCompletedMessage(
-            3L,
-            300L,
-            150000L,
-            LocalDateTime.now()
+    @DisplayName("핸들러가 실패한 레코드는 처리 완료로 기록되지 않고 재전달 시 다시 처리된다")
+    void failedRecordIsRedelivered() {
+        // given: orderId=2 처리가 첫 시도에서만 실패
+        List<Long> handled = new CopyOnWriteArrayList<>();
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        OrderEventConsumer consumer = new OrderEventConsumer(deduplicationStore, batchProcessor) {
+            @Override
+            void processOrderCompletedEvent(OrderCompletedMessage message, int partition) {
+                if (message.orderId() == 2L && failOnce.getAndSet(false)) {
+                    throw new IllegalStateException("data platform unavailable");
+                }
+                handled.add(message.orderId());
+            }
+        };
+        List<ConsumerRecord<String, OrderCompletedMessage>> records = List.of(
+            record(0, 0L, 1L, 100L),
+            record(0, 1L, 2L, 200L)
         );
-        int partition = 2;
+        when(deduplicationStore.containsAll(eq("kafka:processed:order:"), eq(List.of("1", "2"))))
+            .thenReturn(List.of(false, false))
+            .thenReturn(List.of(true, false));
+
+        // when: 첫 전달 실패 → 실패 위치(1)를 알리고 ack하지 않음
+        assertThatThrownBy(() -> consumer.consumeOrderCompleted(records, acknowledgment))
+            .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
 
-        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
-            .thenReturn(true);
+        // then: 성공한 orderId=1만 기록, 실패한 orderId=2는 기록되지 않음
+        verify(deduplicationStore).claimAll("kafka:processed:order:", List.of("1"));
+        verify(acknowledgment, never()).acknowledge();
+
+        // when: 에러 핸들러의 재전달
+        consumer.consumeOrderCompleted(records, acknowledgment);
+
+        // then: orderId=2만 다시 처리되고 기록된 뒤 ACK
+        assertThat(handled).containsExactly(1L, 2L);
+        verify(deduplicationStore).claimAll("kafka:processed:order:", List.of("2"));
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("빈 배치도 ACK")
+    void consumeEmptyBatch() {
+        // given
+        when(deduplicationStore.containsAll(anyString(), anyList())).thenReturn(List.of());
 
         // when
-        orderEventConsumer.consumeOrderCompleted(message, acknowledgment, partition);
+        orderEventConsumer.consumeOrderCompleted(List.of(), acknowledgment);
 
         // then
         verify(acknowledgment, times(1)).acknowledge();
+        verify(deduplicationStore, never()).claimAll(anyString(), anyList());
+    }
+
+    private ConsumerRecord<String, OrderCompletedMessage> record(int partition, long offset, long orderId, long userId) {
+        OrderCompletedMessage message = new OrderCompletedMessage(orderId, userId, 50000L, LocalDateTime.now());
+        return new ConsumerRecord<>("order-completed", partition, offset, null, message);
     }
 }
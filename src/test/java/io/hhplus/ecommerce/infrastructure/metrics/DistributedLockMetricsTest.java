@@ -0,0 +1,80 @@
+package io.hhplus.ecommerce.infrastructure.metrics;
+
+import io.hhplus.ecommerce.infrastructure.metrics.DistributedLockMetrics.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistributedLockMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DistributedLockMetrics lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        lockMetrics = new DistributedLockMetrics(meterRegistry);
+        ReflectionTestUtils.setField(lockMetrics, "hotKeyCapacity", 3);
+        lockMetrics.init();
+    }
+
+    @Test
+    @DisplayName("대기 시간은 락 이름/결과로 태깅되고, 실패만 실패 카운터에 집계된다")
+    void recordsWaitAndFailures() {
+        // when
+        lockMetrics.recordAcquisition("order:create", "order:create:user:1", TimeUnit.MILLISECONDS.toNanos(5), Result.ACQUIRED);
+        lockMetrics.recordAcquisition("order:create", "order:create:user:1", TimeUnit.SECONDS.toNanos(10), Result.TIMEOUT);
+
+        // then - 전체 키는 태그로 쓰지 않음
+        assertThat(meterRegistry.get("distributed_lock_wait_seconds")
+            .tag("lock", "order:create").tag("result", "acquired").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("distributed_lock_wait_seconds")
+            .tag("lock", "order:create").tag("result", "timeout").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("distributed_lock_failures")
+            .tag("lock", "order:create").tag("reason", "timeout").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("distributed_lock_wait_seconds").tagKeys("key").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보유 시간이 임대 시간에 근접하면 near, 넘기면 expired 경고가 집계된다")
+    void leaseWarnings() {
+        long lease = TimeUnit.SECONDS.toNanos(10);
+
+        lockMetrics.recordHeld("coupon:issue", "coupon:issue:1", TimeUnit.SECONDS.toNanos(1), lease);
+        lockMetrics.recordHeld("coupon:issue", "coupon:issue:1", TimeUnit.SECONDS.toNanos(9), lease);
+        lockMetrics.recordHeld("coupon:issue", "coupon:issue:1", TimeUnit.SECONDS.toNanos(11), lease);
+
+        assertThat(meterRegistry.get("distributed_lock_held_seconds")
+            .tag("lock", "coupon:issue").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("distributed_lock_lease_warnings")
+            .tag("lock", "coupon:issue").tag("level", "near").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("distributed_lock_lease_warnings")
+            .tag("lock", "coupon:issue").tag("level", "expired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("핫키 스케치는 용량을 넘는 키가 들어와도 가장 빈번한 키를 유지한다")
+    void hotKeysKeepHeavyHitters() {
+        // given - 용량 3, hot 키가 대부분
+        for (int i = 0; i < 50; i++) {
+            lockMetrics.recordAcquisition("coupon:issue", "coupon:issue:hot", 0, i % 5 == 0 ? Result.TIMEOUT : Result.ACQUIRED);
+            lockMetrics.recordAcquisition("coupon:issue", "coupon:issue:cold-" + i, 0, Result.ACQUIRED);
+        }
+
+        // when
+        HotKeySketch.HotKey top = lockMetrics.hotKeys().top(1).get(0);
+
+        // then
+        assertThat(lockMetrics.hotKeys().total()).isEqualTo(100);
+        assertThat(lockMetrics.hotKeys().top(10)).hasSize(3);
+        assertThat(top.key()).isEqualTo("coupon:issue:hot");
+        assertThat(top.lock()).isEqualTo("coupon:issue");
+        assertThat(top.count()).isEqualTo(50);
+        assertThat(top.failures()).isEqualTo(10);
+    }
+}
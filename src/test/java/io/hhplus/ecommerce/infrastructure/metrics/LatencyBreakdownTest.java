@@ -0,0 +1,204 @@
+package io.hhplus.ecommerce.infrastructure.metrics;
+
+import io.hhplus.ecommerce.infrastructure.metrics.LatencyBreakdown.Phase;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyBreakdownTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LatencyBreakdown latencyBreakdown = new LatencyBreakdown(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("구간 실행 중에는 진행 중 타이머에 잡히고, 끝나면 flow/phase 태그로 기록된다")
+    void timesPhase() {
+        // when
+        String result = latencyBreakdown.time(LatencyBreakdown.FLOW_ORDER, Phase.PRODUCT_LOAD, () -> {
+            assertThat(activeTimer(LatencyBreakdown.FLOW_ORDER, Phase.PRODUCT_LOAD).activeTasks()).isEqualTo(1);
+            return "loaded";
+        });
+
+        // then
+        assertThat(result).isEqualTo("loaded");
+        assertThat(timer(LatencyBreakdown.FLOW_ORDER, Phase.PRODUCT_LOAD).count()).isEqualTo(1);
+        assertThat(activeTimer(LatencyBreakdown.FLOW_ORDER, Phase.PRODUCT_LOAD).activeTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("구간에서 예외가 나도 소요 시간은 기록되고 예외는 그대로 전파된다")
+    void recordsOnFailure() {
+        assertThatThrownBy(() -> latencyBreakdown.time(LatencyBreakdown.FLOW_PAYMENT, Phase.PG_CALL, () -> {
+            throw new IllegalStateException("PG 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer(LatencyBreakdown.FLOW_PAYMENT, Phase.PG_CALL).count()).isEqualTo(1);
+        assertThat(activeTimer(LatencyBreakdown.FLOW_PAYMENT, Phase.PG_CALL).activeTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("start()로 연 구간은 close 시점까지의 시간이 기록된다")
+    void activePhase() throws InterruptedException {
+        try (LatencyBreakdown.ActivePhase ignored = latencyBreakdown.start(LatencyBreakdown.FLOW_ORDER, Phase.LOCK_HELD)) {
+            Thread.sleep(20);
+        }
+
+        Timer timer = timer(LatencyBreakdown.FLOW_ORDER, Phase.LOCK_HELD);
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("커밋 동기화: beforeCommit~afterCommit은 commit, afterCommit~afterCompletion은 event-dispatch")
+    void timesCommitAndEventDispatch() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        latencyBreakdown.timeCommit(LatencyBreakdown.FLOW_PAYMENT);
+
+        // when - 트랜잭션 매니저처럼 단계마다 그 시점의 동기화 목록으로 콜백 호출
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(timer(LatencyBreakdown.FLOW_PAYMENT, Phase.COMMIT).count()).isEqualTo(1);
+        assertThat(timer(LatencyBreakdown.FLOW_PAYMENT, Phase.EVENT_DISPATCH).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("event-dispatch는 AFTER_COMMIT 리스너 실행 시간을 포함한다")
+    void eventDispatchIncludesAfterCommitListener() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ListenerConfig.class)) {
+            // given
+            LatencyBreakdown breakdown = context.getBean(LatencyBreakdown.class);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            // when - 트랜잭션 안에서 측정 등록 후 이벤트 발행, 커밋 후 리스너가 50ms 소요
+            transactionTemplate.executeWithoutResult(status -> {
+                breakdown.timeCommit(LatencyBreakdown.FLOW_ORDER);
+                context.publishEvent(new SlowEvent());
+            });
+
+            // then
+            Timer eventDispatch = context.getBean(SimpleMeterRegistry.class).get("hot_path_phase_seconds")
+                .tag("flow", LatencyBreakdown.FLOW_ORDER)
+                .tag("phase", Phase.EVENT_DISPATCH.tag())
+                .timer();
+            assertThat(context.getBean(SlowListener.class).handled).isTrue();
+            assertThat(eventDispatch.count()).isEqualTo(1);
+            assertThat(eventDispatch.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(SlowListener.SLEEP_MS);
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 커밋 측정을 등록하지 않는다")
+    void ignoresCommitOutsideTransaction() {
+        latencyBreakdown.timeCommit(LatencyBreakdown.FLOW_ORDER);
+
+        assertThat(meterRegistry.find("hot_path_phase_seconds").timers()).isEmpty();
+    }
+
+    record SlowEvent() {
+    }
+
+    static class SlowListener {
+
+        static final long SLEEP_MS = 50;
+
+        volatile boolean handled;
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+        public void on(SlowEvent event) throws InterruptedException {
+            Thread.sleep(SLEEP_MS);
+            handled = true;
+        }
+    }
+
+    /**
+     * 실제 트랜잭션 동기화 순서를 쓰기 위한 최소 구성 (DB 없는 트랜잭션 매니저 + AFTER_COMMIT 리스너)
+     */
+    @Configuration
+    @EnableTransactionManagement
+    static class ListenerConfig {
+
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        LatencyBreakdown latencyBreakdown(SimpleMeterRegistry meterRegistry) {
+            return new LatencyBreakdown(meterRegistry);
+        }
+
+        @Bean
+        SlowListener slowListener() {
+            return new SlowListener();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+
+    private Timer timer(String flow, Phase phase) {
+        return meterRegistry.get("hot_path_phase_seconds")
+            .tag("flow", flow)
+            .tag("phase", phase.tag())
+            .timer();
+    }
+
+    private LongTaskTimer activeTimer(String flow, Phase phase) {
+        return meterRegistry.get("hot_path_phase_active_seconds")
+            .tag("flow", flow)
+            .tag("phase", phase.tag())
+            .longTaskTimer();
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.ecommerce.infrastructure.metrics;
+
+import io.hhplus.ecommerce.infrastructure.metrics.DistributedLockMetrics.Result;
+import io.hhplus.ecommerce.infrastructure.metrics.LockHotKeysEndpoint.LockHotKeysResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockHotKeysEndpointTest {
+
+    private DistributedLockMetrics lockMetrics;
+    private LockHotKeysEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        lockMetrics = new DistributedLockMetrics(new SimpleMeterRegistry());
+        lockMetrics.init();
+        endpoint = new LockHotKeysEndpoint(lockMetrics);
+    }
+
+    @Test
+    @DisplayName("핫키 응답은 락 이름만 그대로 두고 키는 해시로 노출한다")
+    void masksKeys() {
+        // given
+        lockMetrics.recordAcquisition("payment:idempotency", "payment:idempotency:PAY-secret-123", 0, Result.ACQUIRED);
+        lockMetrics.recordAcquisition("payment:idempotency", "payment:idempotency:PAY-secret-123", 0, Result.TIMEOUT);
+
+        // when
+        LockHotKeysResponse response = endpoint.hotKeys(null);
+
+        // then
+        assertThat(response.totalAcquisitions()).isEqualTo(2);
+        assertThat(response.keys()).singleElement().satisfies(hotKey -> {
+            assertThat(hotKey.lock()).isEqualTo("payment:idempotency");
+            assertThat(hotKey.keyHash())
+                .hasSize(16)
+                .doesNotContain("PAY-secret")
+                .isEqualTo(LockHotKeysEndpoint.hash("payment:idempotency:PAY-secret-123"));
+            assertThat(hotKey.count()).isEqualTo(2);
+            assertThat(hotKey.failures()).isEqualTo(1);
+        });
+    }
+}
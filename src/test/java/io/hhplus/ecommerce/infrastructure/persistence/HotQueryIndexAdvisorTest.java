@@ -0,0 +1,234 @@
+package io.hhplus.ecommerce.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.infrastructure.persistence.cart.JpaCartItemRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.coupon.JpaUserCouponRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.event.FailedEventJpaRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderItemRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.product.JpaProductRankingBackupRepository;
+import io.hhplus.ecommerce.infrastructure.persistence.user.JpaBalanceLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 쿼리 인덱스 어드바이저 테스트
+ *
+ * 실제 리포지토리 메서드를 실행하고, 그 커넥션이 보낸 SQL을
+ * performance_schema.events_statements_history에서 꺼내 EXPLAIN FORMAT=JSON으로 확인한다.
+ * - 실패 조건: 풀 스캔(access_type ALL), 풀 인덱스 스캔(index), filesort
+ * - 인덱스/쿼리 변경으로 접근 경로가 나빠지면 운영 전에 테스트에서 드러난다
+ *
+ * 스키마는 엔티티(@Table indexes) 기준 (테스트는 ddl-auto=create) → 마이그레이션과 엔티티 인덱스를 함께 유지해야 한다.
+ * 범위/정렬 쿼리 대상 테이블은 행을 채우고 ANALYZE TABLE 후 확인 (빈 테이블에서는 옵티마이저가 다른 계획을 고를 수 있음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("핫 쿼리 EXPLAIN 인덱스 어드바이저 테스트")
+class HotQueryIndexAdvisorTest {
+
+    private static final int SEED_ROWS = 1000;
+    private static final long SEED_ID_BASE = 900_000L;
+    private static final LocalDate SEED_DATE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private JpaUserCouponRepository userCouponRepository;
+
+    @Autowired
+    private JpaCartItemRepository cartItemRepository;
+
+    @Autowired
+    private JpaOrderItemRepository orderItemRepository;
+
+    @Autowired
+    private JpaProductRankingBackupRepository rankingBackupRepository;
+
+    @Autowired
+    private FailedEventJpaRepository failedEventRepository;
+
+    @Autowired
+    private JpaBalanceLedgerRepository balanceLedgerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    // performance_schema 조회/시드용 (root, 앱 계정은 performance_schema 권한 없음)
+    private JdbcTemplate admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = new JdbcTemplate(new DriverManagerDataSource(
+            environment.getRequiredProperty("spring.datasource.url"),
+            "root",
+            environment.getRequiredProperty("spring.datasource.password")));
+        admin.update("UPDATE performance_schema.setup_consumers SET ENABLED = 'YES' WHERE NAME = 'events_statements_history'");
+
+        seed("user_coupons (user_id, coupon_id, status, issued_at, expires_at)", """
+            SELECT ? + n, n % 20 + 1, 'AVAILABLE', NOW(), NOW() + INTERVAL 7 DAY FROM seq
+            """, SEED_ID_BASE);
+        seed("failed_events (event_type, event_id, payload, retry_count, status, created_at, updated_at, next_retry_at)", """
+            SELECT 'IndexAdvisor', CONCAT('seed-', n), '{}', 0,
+                   ELT(n % 4 + 1, 'PENDING', 'RETRYING', 'SUCCESS', 'FAILED'),
+                   NOW(), NOW(), NOW() - INTERVAL n MINUTE
+            FROM seq
+            """);
+        seed("product_ranking_backup (product_id, product_name, sales_count, ranking, aggregated_date)", """
+            SELECT ? + n, CONCAT('seed-', n), n, n % 100 + 1, ? + INTERVAL n % 10 DAY FROM seq
+            """, SEED_ID_BASE, SEED_DATE);
+        seed("balance_ledger (user_id, delta, reason, balance_after, created_at)", """
+            SELECT ? + n % 50, 1000, 'CHARGE', 1000, NOW() - INTERVAL n SECOND FROM seq
+            """, SEED_ID_BASE);
+        admin.execute("ANALYZE TABLE user_coupons, failed_events, product_ranking_backup, balance_ledger");
+    }
+
+    @AfterEach
+    void tearDown() {
+        admin.update("DELETE FROM user_coupons WHERE user_id > ?", SEED_ID_BASE);
+        admin.update("DELETE FROM failed_events WHERE event_type = 'IndexAdvisor'");
+        admin.update("DELETE FROM product_ranking_backup WHERE aggregated_date < '2000-02-01'");
+        admin.update("DELETE FROM balance_ledger WHERE user_id > ?", SEED_ID_BASE);
+    }
+
+    @Test
+    @DisplayName("existsByUserIdAndCouponId: (user_id, coupon_id) 유니크 인덱스로 판정한다")
+    void userCouponExists() {
+        JsonNode plan = explain("user_coupons",
+            () -> userCouponRepository.existsByUserIdAndCouponId(SEED_ID_BASE + 1, 2L));
+
+        assertThat(violations(plan)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findByCartIdAndProductId (FOR UPDATE): 풀 스캔 없이 잠근다")
+    void cartItemForUpdate() {
+        JsonNode plan = explain("cart_items",
+            () -> cartItemRepository.findByCartIdAndProductId(SEED_ID_BASE, SEED_ID_BASE));
+
+        assertThat(violations(plan)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("order_items findByOrderId: order_id 인덱스를 사용한다")
+    void orderItemsByOrderId() {
+        JsonNode plan = explain("order_items",
+            () -> orderItemRepository.findByOrderId(SEED_ID_BASE));
+
+        assertThat(violations(plan)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("랭킹 백업 findByAggregatedDate: 날짜 인덱스 순서로 읽어 filesort가 없다")
+    void rankingBackupByDate() {
+        JsonNode plan = explain("product_ranking_backup",
+            () -> rankingBackupRepository.findByAggregatedDate(SEED_DATE));
+
+        assertThat(violations(plan)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("failed_events 재시도 스캔: (status, next_retry_at) 범위 스캔, filesort가 없다")
+    void failedEventRetryScan() {
+        JsonNode plan = explain("failed_events",
+            () -> failedEventRepository.findRetryableEvents(LocalDateTime.now(), PageRequest.of(0, 100)));
+
+        assertThat(violations(plan)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잔액 스냅샷 상한 조회: 직전 스냅샷 이후 PK 범위만 읽는다")
+    void balanceLedgerSnapshotBound() {
+        Long afterId = admin.queryForObject("SELECT MAX(id) - 100 FROM balance_ledger", Long.class);
+
+        JsonNode plan = explain("balance_ledger",
+            () -> balanceLedgerRepository.findMaxIdCreatedBefore(afterId, LocalDateTime.now()));
+
+        assertThat(violations(plan)).isEmpty();
+    }
+
+    /**
+     * 리포지토리 호출이 실제로 보낸 SQL(바인딩 값 포함)을 같은 커넥션의 문장 이력에서 꺼내 EXPLAIN
+     */
+    private JsonNode explain(String table, Runnable query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        String sql = template.execute(status -> {
+            Long connectionId = jdbcTemplate.queryForObject("SELECT CONNECTION_ID()", Long.class);
+            query.run();
+            return admin.queryForObject("""
+                SELECT h.SQL_TEXT
+                FROM performance_schema.events_statements_history h
+                JOIN performance_schema.threads t ON t.THREAD_ID = h.THREAD_ID
+                WHERE t.PROCESSLIST_ID = ? AND h.SQL_TEXT LIKE ?
+                ORDER BY h.EVENT_ID DESC
+                LIMIT 1
+                """, String.class, connectionId, "select%" + table + "%");
+        });
+        assertThat(sql).as("captured SQL for %s", table).isNotNull().doesNotEndWith("...");
+
+        try {
+            return objectMapper.readTree(admin.queryForObject("EXPLAIN FORMAT=JSON " + sql, String.class));
+        } catch (Exception e) {
+            throw new IllegalStateException("EXPLAIN failed: " + sql, e);
+        }
+    }
+
+    /**
+     * @return 풀 스캔/풀 인덱스 스캔 테이블과 filesort 위치 목록
+     */
+    private List<String> violations(JsonNode plan) {
+        List<String> found = new ArrayList<>();
+        collect(plan, found);
+        return found;
+    }
+
+    private void collect(JsonNode node, List<String> found) {
+        if (node.isObject()) {
+            String accessType = node.path("access_type").asText("");
+            if ("ALL".equals(accessType) || "index".equals(accessType)) {
+                found.add(node.path("table_name").asText() + ": access_type=" + accessType);
+            }
+            if (node.path("using_filesort").asBoolean(false)) {
+                found.add("using_filesort");
+            }
+        }
+        node.forEach(child -> collect(child, found));
+    }
+
+    /**
+     * INSERT INTO {target} WITH RECURSIVE seq(1..SEED_ROWS) {select}
+     */
+    private void seed(String target, String select, Object... args) {
+        admin.update("INSERT INTO " + target + """
+             WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+            """.formatted(SEED_ROWS) + select, args);
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import io.hhplus.ecommerce.infrastructure.redis.CouponIssueReservationStore.ReserveResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * CouponSoldOutGate 실제 Redis 테스트
+ *
+ * 목적:
+ * - SOLD_OUT 판정 → (다른 노드) 보상 + 해제 → 늦은 매진 표시 순서에서 플래그가 남지 않는지 검증
+ * - 메시지는 자기 자신에게도 Pub/Sub으로 돌아오므로 수신 순서까지 포함해 확인
+ *
+ * 테스트 프로필은 게이트를 끄므로 이 컨텍스트에서만 활성화 (다른 컨텍스트와 겹치지 않는 쿠폰 ID 사용)
+ */
+@SpringBootTest(properties = "coupon.sold-out-gate.enabled=true")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("CouponSoldOutGate 통합 테스트")
+class CouponSoldOutGateIntegrationTest {
+
+    private static final Duration RESERVATION_TTL = Duration.ofSeconds(30);
+
+    @Autowired
+    private CouponIssueReservationStore couponReservationStore;
+
+    @Autowired
+    private CouponSoldOutGate couponSoldOutGate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("보상으로 해제된 뒤 도착한 늦은 매진 표시는 재확인으로 다시 해제된다")
+    void lateMarkAfterCompensation_isCleared() {
+        // given: 수량 1 → 사용자 1 예약으로 소진, 노드 A는 SOLD_OUT 판정까지 진행했다고 가정
+        Long couponId = 9_001L;
+        assertThat(couponReservationStore.reserve(couponId, 1L, 1, RESERVATION_TTL).result())
+            .isEqualTo(ReserveResult.RESERVED);
+
+        // when: 노드 B가 보상(수량 복구 + 해제)한 뒤 노드 A의 매진 표시가 도착
+        assertThat(couponReservationStore.compensateReservation(couponId, 1L)).isTrue();
+        couponSoldOutGate.markSoldOut(couponId, () -> couponReservationStore.remainingOf(couponId, 1) <= 0);
+
+        // then: 자기 자신에게 돌아오는 "1" → "0" 메시지까지 반영된 뒤에도 매진 아님
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(3))
+            .until(() -> !couponSoldOutGate.isSoldOut(couponId));
+        assertThat(couponReservationStore.reserve(couponId, 2L, 1, RESERVATION_TTL).result())
+            .isEqualTo(ReserveResult.RESERVED);
+    }
+
+    @Test
+    @DisplayName("예약/보상이 동시에 섞여도 수량이 남아 있으면 매진 플래그가 남지 않는다")
+    void concurrentReserveAndCompensate_flagFollowsRemaining() throws InterruptedException {
+        // given
+        Long couponId = 9_002L;
+        int quantity = 5;
+        int userCount = 40;
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(userCount);
+
+        // when: 예약에 성공한 사용자는 곧바로 보상 (결제 실패 시나리오)
+        for (long userId = 1; userId <= userCount; userId++) {
+            long uid = userId;
+            executor.submit(() -> {
+                try {
+                    var response = couponReservationStore.reserve(couponId, uid, quantity, RESERVATION_TTL);
+                    if (response.result() == ReserveResult.RESERVED) {
+                        couponReservationStore.compensateReservation(couponId, uid);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then: 모든 수량이 복구되었으므로 전파가 끝난 뒤 매진 플래그 없음
+        assertThat(couponReservationStore.remainingOf(couponId, quantity)).isEqualTo(quantity);
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(3))
+            .until(() -> !couponSoldOutGate.isSoldOut(couponId));
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CouponSoldOutGate 단위 테스트
+ *
+ * 목적:
+ * - 매진 표시/해제가 로컬 플래그에 반영되고 채널로 발행되는지 검증
+ * - 다른 노드의 메시지 수신 시 로컬 플래그 동기화 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponSoldOutGateTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @InjectMocks
+    private CouponSoldOutGate gate;
+
+    @Test
+    @DisplayName("매진 표시는 한 번만 발행되고, 해제 시 플래그가 지워진다")
+    void markAndClear() {
+        // when
+        gate.markSoldOut(1L, () -> true);
+        gate.markSoldOut(1L, () -> true);
+
+        // then
+        assertThat(gate.isSoldOut(1L)).isTrue();
+        assertThat(gate.isSoldOut(2L)).isFalse();
+        verify(redisTemplate, times(1)).convertAndSend(CouponSoldOutGate.CHANNEL, "1:1");
+
+        // when
+        gate.clear(1L);
+
+        // then
+        assertThat(gate.isSoldOut(1L)).isFalse();
+        verify(redisTemplate).convertAndSend(CouponSoldOutGate.CHANNEL, "1:0");
+    }
+
+    @Test
+    @DisplayName("발행 후 재확인에서 수량이 복구되어 있으면 매진 표시 직후 해제를 발행한다")
+    void markSoldOut_restockedMeanwhile_clears() {
+        // when
+        gate.markSoldOut(1L, () -> false);
+
+        // then
+        assertThat(gate.isSoldOut(1L)).isFalse();
+        var order = inOrder(redisTemplate);
+        order.verify(redisTemplate).convertAndSend(CouponSoldOutGate.CHANNEL, "1:1");
+        order.verify(redisTemplate).convertAndSend(CouponSoldOutGate.CHANNEL, "1:0");
+    }
+
+    @Test
+    @DisplayName("매진 플래그는 TTL이 지나면 만료되고, 다시 표시하면 재발행한다")
+    void flagExpires() {
+        // given
+        ReflectionTestUtils.setField(gate, "ttl", Duration.ZERO);
+
+        // when
+        gate.markSoldOut(1L, () -> true);
+        gate.onMessage(message("7:1"), null);
+
+        // then
+        assertThat(gate.isSoldOut(1L)).isFalse();
+        assertThat(gate.isSoldOut(7L)).isFalse();
+
+        // when
+        gate.markSoldOut(1L, () -> true);
+
+        // then
+        verify(redisTemplate, times(2)).convertAndSend(CouponSoldOutGate.CHANNEL, "1:1");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 발행한 매진/해제 메시지를 로컬 플래그에 반영한다")
+    void onMessage() {
+        // when
+        gate.onMessage(message("7:1"), null);
+
+        // then
+        assertThat(gate.isSoldOut(7L)).isTrue();
+
+        // when
+        gate.onMessage(message("7:0"), null);
+
+        // then
+        assertThat(gate.isSoldOut(7L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지는 무시한다")
+    void ignoreInvalidMessage() {
+        gate.onMessage(message("invalid"), null);
+        gate.onMessage(message("abc:1"), null);
+
+        assertThat(gate.isSoldOut(7L)).isFalse();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+            CouponSoldOutGate.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "event.dedup.backend=bitmap")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("EventDeduplicationStore 비트맵 모드 테스트")
+class EventDeduplicationStoreTest {
+
+    private static final String NAMESPACE = "event:processed:PaymentCompleted:";
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @Autowired
+    private EventDeduplicationStore deduplicationStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("배치 안의 중복과 이미 처리된 id를 정확히 구분한다")
+    void claimAll_distinguishesDuplicates() {
+        // given
+        deduplicationStore.claimAll(NAMESPACE, List.of("order-1"), TODAY);
+
+        // when
+        List<Boolean> claimed = deduplicationStore.claimAll(NAMESPACE, List.of("order-1", "order-2", "order-2", "order-3"), TODAY);
+
+        // then
+        assertThat(claimed).containsExactly(false, true, false, true);
+        assertThat(deduplicationStore.contains(NAMESPACE, "order-3", TODAY)).isTrue();
+        assertThat(deduplicationStore.contains(NAMESPACE, "order-4", TODAY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리 완료 여부 일괄 확인은 기록하지 않는다")
+    void containsAll_doesNotClaim() {
+        // given
+        deduplicationStore.claimAll(NAMESPACE, List.of("order-1", "retry-abc"), TODAY);
+
+        // when
+        List<Boolean> processed = deduplicationStore.containsAll(NAMESPACE, List.of("order-1", "order-2", "retry-abc", "retry-def"), TODAY);
+
+        // then
+        assertThat(processed).containsExactly(true, false, true, false);
+        assertThat(deduplicationStore.claimAll(NAMESPACE, List.of("order-2", "retry-def"), TODAY)).containsExactly(true, true);
+    }
+
+    @Test
+    @DisplayName("숫자 부분만 같은 id는 서로 다른 비트에 기록된다")
+    void claimAll_scopesBitsByPrefix() {
+        // given
+        deduplicationStore.claimAll(NAMESPACE, List.of("order-12", "a-1-2", "42", "order-7"), TODAY);
+
+        // when
+        List<Boolean> claimed = deduplicationStore.claimAll(NAMESPACE, List.of("refund-12", "a-12", "order-42", "order-007"), TODAY);
+
+        // then
+        assertThat(claimed).containsExactly(true, true, true, true);
+        assertThat(deduplicationStore.containsAll(NAMESPACE, List.of("order-12", "a-1-2", "42", "order-7"), TODAY))
+            .containsExactly(true, true, true, true);
+        assertThat(redisTemplate.hasKey(NAMESPACE + "order-007")).isTrue();
+    }
+
+    @Test
+    @DisplayName("보관 기간 안의 이전 일 버킷에 기록된 id는 중복, 보관 기간이 지나면 다시 처리")
+    void claimAll_checksPreviousBuckets() {
+        // given
+        deduplicationStore.claimAll(NAMESPACE, List.of("order-10"), TODAY.minusDays(6));
+
+        // when & then
+        assertThat(deduplicationStore.claimAll(NAMESPACE, List.of("order-10"), TODAY)).containsExactly(false);
+        assertThat(deduplicationStore.claimAll(NAMESPACE, List.of("order-10"), TODAY.plusDays(7))).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("일 버킷은 TTL로 회전되고 id 수와 무관하게 비트맵 키만 생긴다")
+    void claimAll_usesDailyBitmap() {
+        // when
+        deduplicationStore.claimAll(NAMESPACE, List.of("order-1", "order-2", "order-3"), TODAY);
+
+        // then
+        String bucket = EventDeduplicationStore.bucketKey(NAMESPACE, "order-", TODAY, 1L);
+        assertThat(redisTemplate.keys("event:*")).containsExactly(bucket);
+        assertThat(redisTemplate.getExpire(bucket)).isPositive();
+    }
+
+    @Test
+    @DisplayName("해제한 id는 다시 처리할 수 있고, 숫자가 아닌 id는 키 방식으로 처리한다")
+    void releaseAll_andNonNumericFallback() {
+        // given
+        deduplicationStore.claimAll(NAMESPACE, List.of("order-5", "retry-abc"), TODAY);
+
+        // when
+        deduplicationStore.releaseAll(NAMESPACE, List.of("order-5"), TODAY);
+
+        // then
+        assertThat(deduplicationStore.claimAll(NAMESPACE, List.of("order-5", "retry-abc"), TODAY)).containsExactly(true, false);
+        assertThat(redisTemplate.hasKey(NAMESPACE + "retry-abc")).isTrue();
+    }
+
+    @Test
+    @DisplayName("해제는 없는 버킷을 만들지 않는다 (TTL 없는 키 방지)")
+    void releaseAll_skipsMissingBuckets() {
+        // given: 오늘 버킷만 존재
+        deduplicationStore.claimAll(NAMESPACE, List.of("order-8"), TODAY);
+
+        // when
+        deduplicationStore.releaseAll(NAMESPACE, List.of("order-8", "order-9"), TODAY);
+
+        // then
+        String bucket = EventDeduplicationStore.bucketKey(NAMESPACE, "order-", TODAY, 8L);
+        assertThat(redisTemplate.keys("event:*")).containsExactly(bucket);
+        assertThat(redisTemplate.getExpire(bucket)).isPositive();
+    }
+}
@@ -0,0 +1,244 @@
+package io.hhplus.ecommerce.infrastructure.redis;
+
+import io.hhplus.ecommerce.config.TestContainersConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest(properties = "coupon.reservation.shards=4")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("CouponIssueReservationStore 샤딩 모드 테스트")
+class ShardedCouponIssueReservationStoreTest {
+
+    @Autowired
+    private CouponIssueReservationStore couponReservationStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private CouponSoldOutGate couponSoldOutGate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("동시 예약 시 총 수량만큼 정확히 예약 (샤드 소진 시 다른 샤드에서 차감)")
+    void reserve_concurrently_noOversell() throws InterruptedException {
+        Long couponId = 1L;
+        int totalQuantity = 10;
+        int userCount = 50;
+        Duration ttl = Duration.ofSeconds(30);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(userCount);
+        AtomicInteger reservedCount = new AtomicInteger();
+        Set<Long> sequences = ConcurrentHashMap.newKeySet();
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            long uid = userId;
+            executor.submit(() -> {
+                try {
+                    var response = couponReservationStore.reserve(couponId, uid, totalQuantity, ttl);
+                    if (response.result() == CouponIssueReservationStore.ReserveResult.RESERVED) {
+                        reservedCount.incrementAndGet();
+                        sequences.add(response.sequence());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // 초과 발급도, 수량이 남은 채 SOLD_OUT도 없음 / 순번은 1..총 수량에서 중복 없이
+        assertThat(reservedCount.get()).isEqualTo(totalQuantity);
+        assertThat(sequences).hasSize(totalQuantity).allSatisfy(sequence -> assertThat(sequence).isBetween(1L, (long) totalQuantity));
+    }
+
+    @Test
+    @DisplayName("한 샤드에 몰려도 다른 샤드 수량을 가져와 전량 예약")
+    void reserve_sequentially_drainsAllShards() {
+        Long couponId = 2L;
+        int totalQuantity = 8;
+        Duration ttl = Duration.ofSeconds(30);
+
+        List<CouponIssueReservationStore.ReserveResult> results = new ArrayList<>();
+        for (long userId = 1; userId <= totalQuantity + 1; userId++) {
+            results.add(couponReservationStore.reserve(couponId, userId, totalQuantity, ttl).result());
+        }
+
+        assertThat(results.subList(0, totalQuantity))
+            .containsOnly(CouponIssueReservationStore.ReserveResult.RESERVED);
+        assertThat(results.get(totalQuantity)).isEqualTo(CouponIssueReservationStore.ReserveResult.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("다른 샤드에서 차감한 예약을 보상하면 그 샤드로 수량이 돌아가 다시 예약 가능")
+    void compensate_spilledReservation_returnsToSourceShard() {
+        Long couponId = 4L;
+        int totalQuantity = 4;
+        Duration ttl = Duration.ofSeconds(30);
+
+        List<Long> reservedUsers = new ArrayList<>();
+        for (long userId = 1; reservedUsers.size() < totalQuantity; userId++) {
+            if (couponReservationStore.reserve(couponId, userId, totalQuantity, ttl).result()
+                == CouponIssueReservationStore.ReserveResult.RESERVED) {
+                reservedUsers.add(userId);
+            }
+        }
+        assertThat(couponReservationStore.reserve(couponId, 1000L, totalQuantity, ttl).result())
+            .isEqualTo(CouponIssueReservationStore.ReserveResult.SOLD_OUT);
+
+        // when: 모든 예약 보상
+        reservedUsers.forEach(userId -> assertThat(couponReservationStore.compensateReservation(couponId, userId)).isTrue());
+
+        // then: 샤드별 수량이 초기 수량으로 복구되고 다시 전량 예약 가능
+        for (int shard = 0; shard < 4; shard++) {
+            assertThat(redisTemplate.opsForValue().get("coupon:{" + couponId + ":" + shard + "}:remaining")).isEqualTo("1");
+        }
+        Set<Long> sequences = new HashSet<>();
+        for (long userId = 2000; userId < 2000 + totalQuantity; userId++) {
+            var response = couponReservationStore.reserve(couponId, userId, totalQuantity, ttl);
+            assertThat(response.result()).isEqualTo(CouponIssueReservationStore.ReserveResult.RESERVED);
+            sequences.add(response.sequence());
+        }
+        assertThat(sequences).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("다른 샤드 차감 중 Redis 오류가 나면 PENDING 선점을 해제해 재시도할 수 있다")
+    void reserve_otherShardFailure_releasesPendingClaim() {
+        // given: 모든 샤드 소진 + 공급 샤드 차감 스크립트 실패
+        Long couponId = 6L;
+        int totalQuantity = 4;
+        Duration ttl = Duration.ofSeconds(30);
+        setShardRemaining(couponId, "0");
+
+        RedisTemplate<String, String> failingTemplate = spy(redisTemplate);
+        doThrow(new RedisSystemException("take failed", null))
+            .when(failingTemplate).execute(any(RedisScript.class), argThat(keys -> keys.size() == 1), any(Object[].class));
+
+        // when
+        assertThatThrownBy(() -> shardedStore(failingTemplate).reserve(couponId, 1L, totalQuantity, ttl))
+            .isInstanceOf(RedisSystemException.class);
+
+        // then: 선점이 남지 않아 수량이 생기면 같은 사용자가 바로 예약 가능
+        assertThat(redisTemplate.keys("coupon:{" + couponId + ":*}:reservation:*")).isEmpty();
+        setShardRemaining(couponId, "1");
+        assertThat(couponReservationStore.reserve(couponId, 1L, totalQuantity, ttl).result())
+            .isEqualTo(CouponIssueReservationStore.ReserveResult.RESERVED);
+    }
+
+    @Test
+    @DisplayName("수량이 남아 있는데 재시도 안에 차감하지 못하면 매진이 아니라 BUSY")
+    void reserve_stockRemainsAfterPasses_returnsBusy() {
+        // given: 홈 샤드만 소진, 공급 샤드 차감은 보상 경합으로 계속 실패하는 상황
+        Long couponId = 7L;
+        int totalQuantity = 4;
+        Duration ttl = Duration.ofSeconds(30);
+        Long userId = 1L;
+        setShardRemaining(couponId, "0");
+        redisTemplate.opsForValue().set("coupon:{" + couponId + ":" + (homeShardOf(userId) + 1) % 4 + "}:remaining", "1");
+
+        RedisTemplate<String, String> racingTemplate = spy(redisTemplate);
+        doReturn(-1L)
+            .when(racingTemplate).execute(any(RedisScript.class), argThat(keys -> keys.size() == 1), any(Object[].class));
+
+        // when
+        var response = shardedStore(racingTemplate).reserve(couponId, userId, totalQuantity, ttl);
+
+        // then
+        assertThat(response.result()).isEqualTo(CouponIssueReservationStore.ReserveResult.BUSY);
+        assertThat(couponSoldOutGate.isSoldOut(couponId)).isFalse();
+        assertThat(redisTemplate.keys("coupon:{" + couponId + ":*}:reservation:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약 없이 발급 기록(markIssued)한 사용자는 샤딩 모드에서도 중복 예약 차단")
+    void markIssued_usesHomeShardIssuedKey() {
+        Long couponId = 5L;
+
+        couponReservationStore.markIssued(couponId, 7L);
+
+        assertThat(couponReservationStore.reserve(couponId, 7L, 10, Duration.ofSeconds(30)).result())
+            .isEqualTo(CouponIssueReservationStore.ReserveResult.ALREADY_ISSUED);
+    }
+
+    @Test
+    @DisplayName("1인 1매 보장 - 중복 예약/발급 차단, 보상 후 재예약 가능")
+    void reserve_onePerUser_and_compensate() {
+        Long couponId = 3L;
+        Duration ttl = Duration.ofSeconds(30);
+
+        var r1 = couponReservationStore.reserve(couponId, 101L, 1, ttl);
+        var r2 = couponReservationStore.reserve(couponId, 101L, 1, ttl);
+        var r3 = couponReservationStore.reserve(couponId, 102L, 1, ttl);
+
+        assertThat(r1.result()).isEqualTo(CouponIssueReservationStore.ReserveResult.RESERVED);
+        assertThat(r2.result()).isEqualTo(CouponIssueReservationStore.ReserveResult.ALREADY_RESERVED);
+        assertThat(r3.result()).isEqualTo(CouponIssueReservationStore.ReserveResult.SOLD_OUT);
+
+        assertThat(couponReservationStore.compensateReservation(couponId, 101L)).isTrue();
+
+        var r4 = couponReservationStore.reserve(couponId, 102L, 1, ttl);
+        assertThat(r4.result()).isEqualTo(CouponIssueReservationStore.ReserveResult.RESERVED);
+
+        assertThat(couponReservationStore.confirmIssued(couponId, 102L, Duration.ofDays(7))).isTrue();
+        var r5 = couponReservationStore.reserve(couponId, 102L, 1, ttl);
+        assertThat(r5.result()).isEqualTo(CouponIssueReservationStore.ReserveResult.ALREADY_ISSUED);
+    }
+
+    private CouponIssueReservationStore shardedStore(RedisTemplate<String, String> template) {
+        CouponIssueReservationStore store = new CouponIssueReservationStore(template, couponSoldOutGate);
+        ReflectionTestUtils.setField(store, "shardCount", 4);
+        return store;
+    }
+
+    private void setShardRemaining(Long couponId, String remaining) {
+        for (int shard = 0; shard < 4; shard++) {
+            redisTemplate.opsForValue().set("coupon:{" + couponId + ":" + shard + "}:remaining", remaining);
+        }
+    }
+
+    /**
+     * 사용자의 홈 샤드 번호 (샤드당 1개인 별도 쿠폰에 예약하면 순번 = 홈 샤드 + 1)
+     */
+    private int homeShardOf(Long userId) {
+        long sequence = couponReservationStore.reserve(999L, userId, 4, Duration.ofSeconds(30)).sequence();
+        return (int) sequence - 1;
+    }
+}
@@ -0,0 +1,92 @@
+package io.hhplus.ecommerce.performance;
+
+import io.hhplus.ecommerce.application.product.dto.ProductListResponse;
+import io.hhplus.ecommerce.application.product.dto.ProductResponse;
+import io.hhplus.ecommerce.infrastructure.cache.CacheValueSerializer;
+import io.hhplus.ecommerce.infrastructure.cache.SmileCacheCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 값 코덱 비교 (크기, 직렬화/역직렬화 시간)
+ *
+ * 대상: products 캐시 값 (ProductListResponse, 상품 2,000개)
+ * - json: 현재 기본값 (GenericJackson2JsonRedisSerializer, @class 포함)
+ * - smile: 타입 고정 Smile + 헤더 (압축 없음)
+ * - smile+lz4: 1KB 이상 LZ4 압축
+ *
+ * 측정: 워밍업 후 반복 평균 (JIT 영향을 줄이기 위한 간이 측정, 절대값보다 비율을 본다)
+ */
+class CacheCodecBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheCodecBenchmarkTest.class);
+
+    private static final int PRODUCT_COUNT = 2_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Test
+    @DisplayName("Smile(+LZ4)은 JSON보다 작고 같은 값으로 복원된다")
+    void compareCodecs() {
+        ProductListResponse value = ProductListResponse.of(products());
+
+        Map<String, RedisSerializer<Object>> codecs = new LinkedHashMap<>();
+        codecs.put("json", new GenericJackson2JsonRedisSerializer());
+        codecs.put("smile", new CacheValueSerializer(new SmileCacheCodec(ProductListResponse.class), 1, 0));
+        codecs.put("smile+lz4", new CacheValueSerializer(new SmileCacheCodec(ProductListResponse.class), 1, 1024));
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        log.info(String.format("%-10s %12s %14s %14s", "codec", "bytes", "encode(us)", "decode(us)"));
+        codecs.forEach((name, serializer) -> {
+            byte[] bytes = serializer.serialize(value);
+            assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+
+            for (int i = 0; i < WARMUP; i++) {
+                serializer.deserialize(serializer.serialize(value));
+            }
+            long encodeNanos = 0;
+            long decodeNanos = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                byte[] encoded = serializer.serialize(value);
+                long afterEncode = System.nanoTime();
+                serializer.deserialize(encoded);
+                decodeNanos += System.nanoTime() - afterEncode;
+                encodeNanos += afterEncode - start;
+            }
+
+            sizes.put(name, bytes.length);
+            log.info(String.format("%-10s %12d %14.1f %14.1f", name, bytes.length,
+                encodeNanos / 1_000.0 / ITERATIONS, decodeNanos / 1_000.0 / ITERATIONS));
+        });
+
+        assertThat(sizes.get("smile")).isLessThan(sizes.get("json"));
+        assertThat(sizes.get("smile+lz4")).isLessThan(sizes.get("smile"));
+    }
+
+    private List<ProductResponse> products() {
+        List<ProductResponse> products = new ArrayList<>();
+        for (long i = 1; i <= PRODUCT_COUNT; i++) {
+            products.add(new ProductResponse(
+                i,
+                "상품 " + i,
+                "상품 " + i + " 상세 설명입니다. 배송/교환/반품 안내를 확인하세요.",
+                1_000L * (i % 500 + 1),
+                (int) (i % 100),
+                "카테고리" + (i % 10)
+            ));
+        }
+        return products;
+    }
+}
@@ -326,4 +326,56 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.orders.length()").value(1))
                 .andExpect(jsonPath("$.orders[0].status").value("COMPLETED"));
     }
+
+    @Test
+    @DisplayName("주문 목록 조회 API - 커서 페이지네이션")
+    void getOrders_커서페이지() throws Exception {
+        // Given: 주문 3개 생성
+        for (int i = 0; i < 3; i++) {
+            CreateOrderRequest request = new CreateOrderRequest(
+                testUserId,
+                List.of(new OrderItemRequest(testProductId, 1)),
+                null,
+                "ORDER_" + UUID.randomUUID()
+            );
+            mockMvc.perform(post("/api/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When: 첫 페이지 (2건)
+        String firstPage = mockMvc.perform(get("/api/orders")
+                        .param("userId", testUserId.toString())
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(2))
+                .andExpect(jsonPath("$.orders[0].items[0].productName").value("테스트상품"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+        Long lastOrderIdOfFirstPage = objectMapper.readTree(firstPage).get("orders").get(1).get("orderId").asLong();
+
+        // Then: 다음 페이지는 남은 1건 (첫 페이지 마지막 주문보다 오래된 주문)
+        String secondPage = mockMvc.perform(get("/api/orders")
+                        .param("userId", testUserId.toString())
+                        .param("size", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        Long remainingOrderId = objectMapper.readTree(secondPage).get("orders").get(0).get("orderId").asLong();
+        assertThat(remainingOrderId).isLessThan(lastOrderIdOfFirstPage);
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회 API - 잘못된 커서는 400")
+    void getOrders_잘못된커서() throws Exception {
+        mockMvc.perform(get("/api/orders")
+                        .param("userId", testUserId.toString())
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
 }